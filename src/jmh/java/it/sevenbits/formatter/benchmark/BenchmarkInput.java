@@ -0,0 +1,100 @@
+package it.sevenbits.formatter.benchmark;
+
+import it.sevenbits.formatter.corpus.CorpusProfile;
+import it.sevenbits.formatter.corpus.SourceGenerator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JMH state that holds generated benchmark input of every {@link InputSize} and {@link CorpusProfile} in all forms
+ * that are needed by benchmarks: decoded text, UTF-8 bytes viewed as ISO-8859-1 text and temporary file.
+ * <p>
+ * Only {@link CorpusProfile#BALANCED} profile is benchmarked by default, other profiles can be selected
+ * with {@code -p profile=...} JMH option.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkInput {
+    private static final long SEED = 0x7B175L;
+
+    @Param
+    private InputSize inputSize;
+
+    @Param({"BALANCED"})
+    private CorpusProfile profile;
+
+    private String text;
+    private String byteText;
+    private long byteCount;
+    private Path file;
+
+    /**
+     * Method that generates input and writes it to temporary file once per trial.
+     *
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        text = new SourceGenerator(SEED, profile.getTokenMix()).generate(inputSize.getLength());
+
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        byteText = new String(bytes, StandardCharsets.ISO_8859_1);
+        byteCount = bytes.length;
+        file = Files.createTempFile("formatter-benchmark", ".java");
+        Files.write(file, bytes);
+    }
+
+    /**
+     * Method that deletes temporary file once per trial.
+     *
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Method that returns generated input text.
+     *
+     * @return Generated input text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Method that returns UTF-8 bytes of generated input viewed as ISO-8859-1 text (input of byte pipeline).
+     *
+     * @return UTF-8 bytes of generated input viewed as ISO-8859-1 text.
+     */
+    public String getByteText() {
+        return byteText;
+    }
+
+    /**
+     * Method that returns count of UTF-8 bytes of generated input.
+     *
+     * @return Count of UTF-8 bytes of generated input.
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Method that returns path to temporary file that contains generated input in UTF-8.
+     *
+     * @return {@link Path} instance that presents temporary input file.
+     */
+    public Path getFile() {
+        return file;
+    }
+}
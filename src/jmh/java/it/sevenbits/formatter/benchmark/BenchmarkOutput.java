@@ -0,0 +1,48 @@
+package it.sevenbits.formatter.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JMH state that holds temporary output file of benchmark thread.
+ */
+@State(Scope.Thread)
+public class BenchmarkOutput {
+    private Path file;
+
+    /**
+     * Method that creates temporary output file once per trial.
+     *
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("formatter-benchmark", ".out");
+    }
+
+    /**
+     * Method that deletes temporary output file once per trial.
+     *
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Method that returns path to temporary output file.
+     *
+     * @return {@link Path} instance that presents temporary output file.
+     */
+    public Path getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,169 @@
+package it.sevenbits.formatter.benchmark;
+
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.formatter.SimpleFormatter;
+import it.sevenbits.formatter.formatter.fsm.FSMFormatter;
+import it.sevenbits.formatter.formatter.fsm.ParallelFSMFormatter;
+import it.sevenbits.formatter.io.reader.ByteFileReader;
+import it.sevenbits.formatter.io.reader.FileReader;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.ByteFileWriter;
+import it.sevenbits.formatter.io.writer.FileWriter;
+import it.sevenbits.formatter.io.writer.StringWriter;
+import it.sevenbits.formatter.lexer.factory.PipelinedLexerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link IFormatter} implementations in memory and end to end over files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatterBenchmark {
+    private final IFormatter fsmFormatter = new FSMFormatter();
+    private final IFormatter pipelinedFsmFormatter = new FSMFormatter(new PipelinedLexerFactory());
+    private final IFormatter parallelFsmFormatter = new ParallelFSMFormatter();
+    private final IFormatter simpleFormatter = new SimpleFormatter();
+
+    /**
+     * Benchmark of {@link FSMFormatter} from {@link StringReader} to {@link StringWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Formatted output.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public StringWriter fsmFormatter(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes
+    ) throws FormatterException {
+        final StringWriter writer = new StringWriter();
+        fsmFormatter.format(new StringReader(input.getText()), writer);
+        processedBytes.add(input.getByteCount());
+        return writer;
+    }
+
+    /**
+     * Benchmark of {@link FSMFormatter} with {@link PipelinedLexerFactory} from {@link StringReader}
+     * to {@link StringWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Formatted output.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public StringWriter pipelinedFsmFormatter(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes
+    ) throws FormatterException {
+        final StringWriter writer = new StringWriter();
+        pipelinedFsmFormatter.format(new StringReader(input.getText()), writer);
+        processedBytes.add(input.getByteCount());
+        return writer;
+    }
+
+    /**
+     * Benchmark of {@link ParallelFSMFormatter} from {@link StringReader} to {@link StringWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Formatted output.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public StringWriter parallelFsmFormatter(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes
+    ) throws FormatterException {
+        final StringWriter writer = new StringWriter();
+        parallelFsmFormatter.format(new StringReader(input.getText()), writer);
+        processedBytes.add(input.getByteCount());
+        return writer;
+    }
+
+    /**
+     * Benchmark of {@link SimpleFormatter} from {@link StringReader} to {@link StringWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Formatted output.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public StringWriter simpleFormatter(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes
+    ) throws FormatterException {
+        final StringWriter writer = new StringWriter();
+        simpleFormatter.format(new StringReader(input.getText()), writer);
+        processedBytes.add(input.getByteCount());
+        return writer;
+    }
+
+    /**
+     * Benchmark of {@link FSMFormatter} from {@link FileReader} to {@link FileWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param output         Benchmark output.
+     * @param processedBytes Counter of processed bytes.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     * @throws IOException        Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fsmFormatterFiles(
+            final BenchmarkInput input,
+            final BenchmarkOutput output,
+            final ProcessedBytes processedBytes
+    ) throws FormatterException, IOException {
+        try (
+                FileReader reader = new FileReader(input.getFile());
+                FileWriter writer = new FileWriter(output.getFile())
+        ) {
+            fsmFormatter.format(reader, writer);
+        }
+
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link FSMFormatter} from {@link ByteFileReader} to {@link ByteFileWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param output         Benchmark output.
+     * @param processedBytes Counter of processed bytes.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     * @throws IOException        Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fsmFormatterByteFiles(
+            final BenchmarkInput input,
+            final BenchmarkOutput output,
+            final ProcessedBytes processedBytes
+    ) throws FormatterException, IOException {
+        try (
+                ByteFileReader reader = new ByteFileReader(input.getFile());
+                ByteFileWriter writer = new ByteFileWriter(output.getFile())
+        ) {
+            fsmFormatter.format(reader, writer);
+        }
+
+        processedBytes.add(input.getByteCount());
+    }
+}
@@ -0,0 +1,41 @@
+package it.sevenbits.formatter.benchmark;
+
+/**
+ * Enumeration of sizes of generated benchmark inputs.
+ */
+public enum InputSize {
+    /**
+     * Small input (1 KiB) that fits typical single class.
+     */
+    SMALL(1 << 10),
+
+    /**
+     * Medium input (64 KiB) that fits large source file.
+     */
+    MEDIUM(1 << 16),
+
+    /**
+     * Very large input (16 MiB) that exceeds all internal buffers of readers, writers and lexers by far.
+     */
+    LARGE(1 << 24);
+
+    private final int length;
+
+    /**
+     * Enumeration constructor that initializes {@link #length} with passed value.
+     *
+     * @param length Approximate length of generated input in characters.
+     */
+    InputSize(final int length) {
+        this.length = length;
+    }
+
+    /**
+     * Method that returns approximate length of generated input in characters.
+     *
+     * @return Approximate length of generated input in characters.
+     */
+    public int getLength() {
+        return length;
+    }
+}
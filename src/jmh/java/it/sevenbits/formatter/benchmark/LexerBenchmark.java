@@ -0,0 +1,261 @@
+package it.sevenbits.formatter.benchmark;
+
+import it.sevenbits.formatter.io.reader.IReader;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.ITokenCursor;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.SimpleLexer;
+import it.sevenbits.formatter.lexer.fsm.ByteFSMLexer;
+import it.sevenbits.formatter.lexer.fsm.FSMLexer;
+import it.sevenbits.formatter.lexer.fsm.command.factory.CommandFactory;
+import it.sevenbits.formatter.lexer.fsm.state.CharacterClasses;
+import it.sevenbits.formatter.lexer.fsm.state.DelimiterScanners;
+import it.sevenbits.formatter.lexer.fsm.state.IStateTransitions;
+import it.sevenbits.formatter.lexer.fsm.state.State;
+import it.sevenbits.formatter.lexer.fsm.state.StateTransitions;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ILexer} implementations that read all tokens of input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LexerBenchmark {
+    private static final IStateTransitions PER_CHARACTER_STATE_TRANSITIONS = new PerCharacterStateTransitions();
+    private static final IStateTransitions SCALAR_SCAN_STATE_TRANSITIONS = new StateTransitions(CharacterClasses::of, false);
+    private static final CommandFactory COMMAND_FACTORY = new CommandFactory();
+
+    /**
+     * Benchmark of {@link FSMLexer} over decoded input.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @param blackhole      JMH blackhole that consumes tokens.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fsmLexer(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes,
+            final Blackhole blackhole
+    ) throws LexerException {
+        readAllTokens(new FSMLexer(new StringReader(input.getText())), blackhole);
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link FSMLexer} over decoded input that reads reusable tokens with lexeme views
+     * (see {@link ILexer#readTokenView()}), so lexemes are not copied.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @param blackhole      JMH blackhole that consumes lexeme views.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fsmLexerTokenViews(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes,
+            final Blackhole blackhole
+    ) throws LexerException {
+        final ILexer lexer = new FSMLexer(new StringReader(input.getText()));
+
+        while (lexer.hasMoreTokens()) {
+            blackhole.consume(lexer.readTokenView().getLexemeView().length());
+        }
+
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link FSMLexer} over decoded input that is pulled as {@link ITokenCursor},
+     * so neither tokens nor lexemes are allocated.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @param blackhole      JMH blackhole that consumes token kinds and lexeme lengths.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fsmLexerCursor(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes,
+            final Blackhole blackhole
+    ) throws LexerException {
+        final ITokenCursor cursor = new FSMLexer(new StringReader(input.getText()));
+
+        while (cursor.advance()) {
+            blackhole.consume(cursor.getKind());
+            blackhole.consume(cursor.getLexemeView().length());
+        }
+
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link FSMLexer} over decoded input with disabled skipping of absorbed characters,
+     * so every character passes through transition lookup and command dispatch (baseline for {@link #fsmLexer}).
+     * <p>
+     * Difference is most visible with {@code MINIFIED} and {@code LONG_COMMENTS_AND_LITERALS} corpus profiles.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @param blackhole      JMH blackhole that consumes tokens.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fsmLexerPerCharacter(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes,
+            final Blackhole blackhole
+    ) throws LexerException {
+        readAllTokens(new PerCharacterFSMLexer(new StringReader(input.getText())), blackhole);
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link FSMLexer} over decoded input that skips absorbed characters one by one
+     * even if vector scanning is available (baseline for {@link #fsmLexer}, which uses vector scanning
+     * if {@link DelimiterScanners#isVectorScanningAvailable()} returns true).
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @param blackhole      JMH blackhole that consumes tokens.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fsmLexerScalarScan(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes,
+            final Blackhole blackhole
+    ) throws LexerException {
+        readAllTokens(new ScalarScanFSMLexer(new StringReader(input.getText())), blackhole);
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link ByteFSMLexer} over UTF-8 bytes of input.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @param blackhole      JMH blackhole that consumes tokens.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void byteFsmLexer(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes,
+            final Blackhole blackhole
+    ) throws LexerException {
+        readAllTokens(new ByteFSMLexer(new StringReader(input.getByteText())), blackhole);
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link SimpleLexer} over decoded input.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @param blackhole      JMH blackhole that consumes tokens.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void simpleLexer(
+            final BenchmarkInput input,
+            final ProcessedBytes processedBytes,
+            final Blackhole blackhole
+    ) throws LexerException {
+        readAllTokens(new SimpleLexer(new StringReader(input.getText())), blackhole);
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Private static method that reads all tokens from passed {@link ILexer} instance.
+     *
+     * @param lexer     {@link ILexer} instance to read tokens from.
+     * @param blackhole JMH blackhole that consumes tokens.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    private static void readAllTokens(final ILexer lexer, final Blackhole blackhole) throws LexerException {
+        while (lexer.hasMoreTokens()) {
+            blackhole.consume(lexer.readToken());
+        }
+    }
+
+    /**
+     * {@link FSMLexer} subclass that processes every character separately.
+     */
+    private static final class PerCharacterFSMLexer extends FSMLexer {
+        /**
+         * Class constructor that uses FSM transitions without skipping of absorbed characters.
+         *
+         * @param reader {@link IReader} instance that provides data input process.
+         * @throws LexerException Exception that can be thrown during the method work.
+         */
+        PerCharacterFSMLexer(final IReader reader) throws LexerException {
+            super(reader, PER_CHARACTER_STATE_TRANSITIONS, COMMAND_FACTORY);
+        }
+    }
+
+    /**
+     * {@link FSMLexer} subclass that skips absorbed characters without vector scanning.
+     */
+    private static final class ScalarScanFSMLexer extends FSMLexer {
+        /**
+         * Class constructor that uses FSM transitions with scalar skipping of absorbed characters.
+         *
+         * @param reader {@link IReader} instance that provides data input process.
+         * @throws LexerException Exception that can be thrown during the method work.
+         */
+        ScalarScanFSMLexer(final IReader reader) throws LexerException {
+            super(reader, SCALAR_SCAN_STATE_TRANSITIONS, COMMAND_FACTORY);
+        }
+    }
+
+    /**
+     * {@link IStateTransitions} interface implementation that delegates to {@link StateTransitions} instance
+     * but never skips absorbed characters.
+     */
+    private static final class PerCharacterStateTransitions implements IStateTransitions {
+        private final IStateTransitions stateTransitions = new StateTransitions(CharacterClasses::of, false);
+
+        @Override
+        public State nextState(final State currentState, final char character) {
+            return stateTransitions.nextState(currentState, character);
+        }
+
+        @Override
+        public State getStartState() {
+            return stateTransitions.getStartState();
+        }
+
+        @Override
+        public State getEndState() {
+            return stateTransitions.getEndState();
+        }
+
+        @Override
+        public TokenKind getTokenKind(final State acceptingState, final char firstCharacter) {
+            return stateTransitions.getTokenKind(acceptingState, firstCharacter);
+        }
+
+        @Override
+        public int skipAbsorbed(final State currentState, final char[] characters, final int from, final int to) {
+            return from;
+        }
+    }
+}
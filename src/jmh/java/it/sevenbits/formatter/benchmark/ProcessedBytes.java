@@ -0,0 +1,43 @@
+package it.sevenbits.formatter.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH auxiliary counter that counts processed input bytes, so throughput is reported in bytes per second
+ * next to operations per second.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ProcessedBytes {
+    private long bytes;
+
+    /**
+     * Method that resets counter before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        bytes = 0;
+    }
+
+    /**
+     * Method that returns count of processed bytes (JMH reports it as rate).
+     *
+     * @return Count of processed bytes.
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Method that adds passed count to count of processed bytes.
+     *
+     * @param count Count of bytes processed by single benchmark operation.
+     */
+    void add(final long count) {
+        bytes += count;
+    }
+}
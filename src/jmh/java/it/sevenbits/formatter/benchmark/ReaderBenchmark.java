@@ -0,0 +1,130 @@
+package it.sevenbits.formatter.benchmark;
+
+import it.sevenbits.formatter.io.reader.ByteFileReader;
+import it.sevenbits.formatter.io.reader.FileReader;
+import it.sevenbits.formatter.io.reader.IReader;
+import it.sevenbits.formatter.io.reader.MappedFileReader;
+import it.sevenbits.formatter.io.reader.ReaderException;
+import it.sevenbits.formatter.io.reader.StringReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link IReader} implementations that read the whole input in bulk, like lexers do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReaderBenchmark {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    /**
+     * Benchmark of {@link StringReader}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Checksum of read characters.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public long stringReader(final BenchmarkInput input, final ProcessedBytes processedBytes) throws ReaderException {
+        final long checksum = readAll(new StringReader(input.getText()));
+        processedBytes.add(input.getByteCount());
+        return checksum;
+    }
+
+    /**
+     * Benchmark of {@link FileReader}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Checksum of read characters.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public long fileReader(final BenchmarkInput input, final ProcessedBytes processedBytes) throws ReaderException {
+        final long checksum;
+
+        try (FileReader reader = new FileReader(input.getFile())) {
+            checksum = readAll(reader);
+        }
+
+        processedBytes.add(input.getByteCount());
+        return checksum;
+    }
+
+    /**
+     * Benchmark of {@link MappedFileReader}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Checksum of read characters.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public long mappedFileReader(final BenchmarkInput input, final ProcessedBytes processedBytes) throws ReaderException {
+        final long checksum;
+
+        try (MappedFileReader reader = new MappedFileReader(input.getFile())) {
+            checksum = readAll(reader);
+        }
+
+        processedBytes.add(input.getByteCount());
+        return checksum;
+    }
+
+    /**
+     * Benchmark of {@link ByteFileReader}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Checksum of read bytes.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public long byteFileReader(final BenchmarkInput input, final ProcessedBytes processedBytes) throws ReaderException {
+        final long checksum;
+
+        try (ByteFileReader reader = new ByteFileReader(input.getFile())) {
+            checksum = readAll(reader);
+        }
+
+        processedBytes.add(input.getByteCount());
+        return checksum;
+    }
+
+    /**
+     * Private method that reads all characters from passed {@link IReader} instance in bulk.
+     * <p>
+     * The first character of every read portion is summed up, so reads can not be eliminated by JIT compiler.
+     *
+     * @param reader {@link IReader} instance to read characters from.
+     * @return Checksum of read characters.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    private long readAll(final IReader reader) throws ReaderException {
+        long checksum = 0;
+        int count = reader.read(buffer, 0, buffer.length);
+
+        while (count != -1) {
+            checksum += buffer[0] + count;
+            count = reader.read(buffer, 0, buffer.length);
+        }
+
+        return checksum;
+    }
+}
@@ -0,0 +1,141 @@
+package it.sevenbits.formatter.benchmark;
+
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.ByteFileWriter;
+import it.sevenbits.formatter.io.writer.FileWriter;
+import it.sevenbits.formatter.io.writer.IWriter;
+import it.sevenbits.formatter.io.writer.StringWriter;
+import it.sevenbits.formatter.io.writer.WriterException;
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.fsm.ByteFSMLexer;
+import it.sevenbits.formatter.lexer.fsm.FSMLexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link IWriter} implementations that write lexemes of all input tokens, like formatters do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriterBenchmark {
+    private List<String> lexemes;
+    private List<String> byteLexemes;
+
+    /**
+     * Method that splits input into lexemes once per trial, so benchmarks measure writing only.
+     *
+     * @param input Benchmark input.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Setup(Level.Trial)
+    public void setUp(final BenchmarkInput input) throws LexerException {
+        lexemes = readAllLexemes(new FSMLexer(new StringReader(input.getText())));
+        byteLexemes = readAllLexemes(new ByteFSMLexer(new StringReader(input.getByteText())));
+    }
+
+    /**
+     * Benchmark of {@link StringWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param processedBytes Counter of processed bytes.
+     * @return Written output.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public StringWriter stringWriter(final BenchmarkInput input, final ProcessedBytes processedBytes) throws WriterException {
+        final StringWriter writer = new StringWriter();
+        writeAll(lexemes, writer);
+        processedBytes.add(input.getByteCount());
+        return writer;
+    }
+
+    /**
+     * Benchmark of {@link FileWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param output         Benchmark output.
+     * @param processedBytes Counter of processed bytes.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void fileWriter(
+            final BenchmarkInput input,
+            final BenchmarkOutput output,
+            final ProcessedBytes processedBytes
+    ) throws WriterException {
+        try (FileWriter writer = new FileWriter(output.getFile())) {
+            writeAll(lexemes, writer);
+        }
+
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Benchmark of {@link ByteFileWriter}.
+     *
+     * @param input          Benchmark input.
+     * @param output         Benchmark output.
+     * @param processedBytes Counter of processed bytes.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Benchmark
+    public void byteFileWriter(
+            final BenchmarkInput input,
+            final BenchmarkOutput output,
+            final ProcessedBytes processedBytes
+    ) throws WriterException {
+        try (ByteFileWriter writer = new ByteFileWriter(output.getFile())) {
+            writeAll(byteLexemes, writer);
+        }
+
+        processedBytes.add(input.getByteCount());
+    }
+
+    /**
+     * Private static method that reads lexemes of all tokens from passed {@link ILexer} instance.
+     *
+     * @param lexer {@link ILexer} instance to read tokens from.
+     * @return {@link List} instance that contains lexemes of all tokens.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    private static List<String> readAllLexemes(final ILexer lexer) throws LexerException {
+        final List<String> result = new ArrayList<>();
+
+        while (lexer.hasMoreTokens()) {
+            result.add(lexer.readToken().getLexeme());
+        }
+
+        return result;
+    }
+
+    /**
+     * Private static method that writes all passed lexemes to passed {@link IWriter} instance.
+     *
+     * @param lexemesToWrite {@link List} instance that contains lexemes to be written.
+     * @param writer         {@link IWriter} instance to write lexemes to.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private static void writeAll(final List<String> lexemesToWrite, final IWriter writer) throws WriterException {
+        for (final String lexeme : lexemesToWrite) {
+            writer.write(lexeme);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * This package contains JMH benchmarks for lexers, formatters, readers and writers as well as shared benchmark states.
+ * <p>
+ * Every benchmark runs over small, medium and very large inputs (see {@link InputSize}) that are generated by
+ * seeded corpus generator from test fixtures (see {@link it.sevenbits.formatter.corpus.SourceGenerator}) and reports
+ * throughput in operations per second and in bytes per second (see {@link ProcessedBytes}). Allocated bytes
+ * per operation are reported by the GC profiler that is enabled in the build script.
+ *
+ * @author hu553in
+ */
+package it.sevenbits.formatter.benchmark;
@@ -1,20 +1,70 @@
 package it.sevenbits.formatter;
 
+import it.sevenbits.formatter.batch.BatchFormatter;
+import it.sevenbits.formatter.batch.BatchFormatterException;
+import it.sevenbits.formatter.batch.BatchSummary;
+import it.sevenbits.formatter.batch.CheckSummary;
+import it.sevenbits.formatter.batch.IBatchFormatter;
+import it.sevenbits.formatter.cache.FormatCache;
+import it.sevenbits.formatter.cache.FormatCacheException;
+import it.sevenbits.formatter.cache.FormatterFingerprint;
+import it.sevenbits.formatter.daemon.DaemonException;
+import it.sevenbits.formatter.daemon.FormatterDaemon;
+import it.sevenbits.formatter.daemon.IFormatterDaemon;
 import it.sevenbits.formatter.formatter.FormatterException;
 import it.sevenbits.formatter.formatter.IFormatter;
 import it.sevenbits.formatter.formatter.fsm.FSMFormatter;
+import it.sevenbits.formatter.formatter.fsm.ParallelFSMFormatter;
+import it.sevenbits.formatter.io.reader.ByteFileReader;
 import it.sevenbits.formatter.io.reader.FileReader;
 import it.sevenbits.formatter.io.reader.ReaderException;
+import it.sevenbits.formatter.io.writer.ByteFileWriter;
 import it.sevenbits.formatter.io.writer.FileWriter;
+import it.sevenbits.formatter.io.writer.ReplacingFileWriter;
 import it.sevenbits.formatter.io.writer.WriterException;
+import it.sevenbits.formatter.lexer.factory.PipelinedLexerFactory;
+import it.sevenbits.formatter.server.FormatterServer;
+import it.sevenbits.formatter.server.FormatterServerException;
+import it.sevenbits.formatter.server.IFormatterServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
 /**
  * Main class of application.
  */
 public final class Main {
     private static final Logger LOGGER = LoggerFactory.getLogger(Main.class);
+    private static final String BATCH_OPTION = "--batch";
+    private static final String OUTPUT_OPTION = "--output";
+    private static final String CACHE_OPTION = "--cache";
+    private static final String BYTES_OPTION = "--bytes";
+    private static final String PIPELINED_OPTION = "--pipelined";
+    private static final String PARALLEL_OPTION = "--parallel";
+    private static final String CHECK_OPTION = "--check";
+    private static final String IF_CHANGED_OPTION = "--if-changed";
+    private static final String DAEMON_OPTION = "--daemon";
+    private static final String SERVER_OPTION = "--server";
+    private static final int SUCCESS_EXIT_CODE = 0;
+    private static final int MISMATCH_EXIT_CODE = 1;
+    private static final int FAILURE_EXIT_CODE = 2;
+    private static final int OPTION_MODE_ARGS_COUNT = 3;
+    private static final Map<String, ToIntFunction<String[]>> OPTION_MODES = Map.of(
+            BATCH_OPTION, Main::formatBatch,
+            CHECK_OPTION, Main::check,
+            SERVER_OPTION, Main::runServer,
+            DAEMON_OPTION, Main::runDaemon,
+            IF_CHANGED_OPTION, Main::formatIfChanged,
+            BYTES_OPTION, Main::formatBytes,
+            PIPELINED_OPTION, args -> formatWithOption(args, new FSMFormatter(new PipelinedLexerFactory())),
+            PARALLEL_OPTION, args -> formatWithOption(args, new ParallelFSMFormatter())
+    );
 
     /**
      * A private constructor created to exclude the possibility of creating instances of this class.
@@ -24,13 +74,52 @@ public final class Main {
 
     /**
      * Main entry point of application.
+     * <p>
+     * Mode of application is selected by the first command-line arg (see {@link #OPTION_MODES}):
+     * <ul>
+     * <li>single file mode: "IN OUT" - formats input file to output file;</li>
+     * <li>single file byte mode: "--bytes IN OUT" - formats input file to output file
+     * without decoding and encoding of UTF-8 (output is the same as in single file mode);</li>
+     * <li>single file pipelined mode: "--pipelined IN OUT" - formats input file to output file
+     * while lexer runs on a separate thread (output is the same as in single file mode);</li>
+     * <li>single file parallel mode: "--parallel IN OUT" - formats chunks of input file on all available processors
+     * (output is the same as in single file mode);</li>
+     * <li>single file write-if-changed mode: "--if-changed IN OUT" - formats input file to temporary file
+     * which atomically replaces output file only if their contents differ (output is the same as in single file mode);</li>
+     * <li>batch mode: "--batch [--output DIR] [--cache FILE] PATH..." - formats all Java source files found
+     * using passed files, directories and glob patterns in place or to mirrored output tree rooted at DIR;
+     * if cache FILE is passed, files which are known to be formatted already are skipped;</li>
+     * <li>check mode: "--check PATH..." - checks that all Java source files found using passed files, directories
+     * and glob patterns are formatted already without writing anything;</li>
+     * <li>daemon mode: "--daemon SOCKET" - serves requests of {@link it.sevenbits.formatter.daemon.DaemonClient}
+     * over Unix domain socket SOCKET until it is stopped;</li>
+     * <li>server mode: "--server PORT" - serves HTTP requests "POST /format" (formats request body to response body)
+     * and "GET /metrics" on port PORT until application is stopped.</li>
+     * </ul>
+     * Application exits with code 0 on success, with code 1 if check mode finds files that are not formatted
+     * and with code 2 if args are incorrect or some files can not be formatted or checked.
      *
      * @param args Command-line arguments.
      */
     public static void main(final String[] args) {
+        final ToIntFunction<String[]> mode = args.length > 0 ? OPTION_MODES.get(args[0]) : null;
+        final int exitCode = mode != null ? mode.applyAsInt(args) : formatFile(args);
+
+        if (exitCode != SUCCESS_EXIT_CODE) {
+            System.exit(exitCode);
+        }
+    }
+
+    /**
+     * Private method that performs formatting of single file in default mode.
+     *
+     * @param args Command-line arguments (input file path and output file path).
+     * @return Exit code of application.
+     */
+    private static int formatFile(final String[] args) {
         if (args.length != 2) {
             LOGGER.error("Incorrect number of command-line args (expected 2: input file path, output file path)");
-            return;
+            return FAILURE_EXIT_CODE;
         }
 
         final IFormatter formatter = new FSMFormatter();
@@ -40,8 +129,277 @@ public final class Main {
                 FileWriter writer = new FileWriter(args[1])
         ) {
             formatter.format(reader, writer);
+            return SUCCESS_EXIT_CODE;
         } catch (ReaderException | WriterException | FormatterException e) {
             LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Private method that performs formatting of single file in byte mode.
+     *
+     * @param args Command-line arguments (the first one is byte mode option).
+     * @return Exit code of application.
+     */
+    private static int formatBytes(final String[] args) {
+        if (args.length != OPTION_MODE_ARGS_COUNT) {
+            LOGGER.error("Incorrect command-line args (expected: --bytes IN OUT)");
+            return FAILURE_EXIT_CODE;
+        }
+
+        final IFormatter formatter = new FSMFormatter();
+
+        try (
+                ByteFileReader reader = new ByteFileReader(args[1]);
+                ByteFileWriter writer = new ByteFileWriter(args[2])
+        ) {
+            formatter.format(reader, writer);
+            return SUCCESS_EXIT_CODE;
+        } catch (ReaderException | WriterException | FormatterException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Private method that performs formatting of single file using passed formatter.
+     *
+     * @param args      Command-line arguments (the first one is mode option).
+     * @param formatter {@link IFormatter} instance that is selected by mode option.
+     * @return Exit code of application.
+     */
+    private static int formatWithOption(final String[] args, final IFormatter formatter) {
+        if (args.length != OPTION_MODE_ARGS_COUNT) {
+            LOGGER.error(String.format("Incorrect command-line args (expected: %s IN OUT)", args[0]));
+            return FAILURE_EXIT_CODE;
+        }
+
+        try (
+                FileReader reader = new FileReader(args[1]);
+                FileWriter writer = new FileWriter(args[2])
+        ) {
+            formatter.format(reader, writer);
+            return SUCCESS_EXIT_CODE;
+        } catch (ReaderException | WriterException | FormatterException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Private method that performs formatting of single file in write-if-changed mode.
+     *
+     * @param args Command-line arguments (the first one is write-if-changed mode option).
+     * @return Exit code of application.
+     */
+    private static int formatIfChanged(final String[] args) {
+        if (args.length != OPTION_MODE_ARGS_COUNT) {
+            LOGGER.error(String.format("Incorrect command-line args (expected: %s IN OUT)", args[0]));
+            return FAILURE_EXIT_CODE;
+        }
+
+        final IFormatter formatter = new FSMFormatter();
+
+        try {
+            final ReplacingFileWriter writer = new ReplacingFileWriter(args[2]);
+
+            try (FileReader reader = new FileReader(args[1])) {
+                formatter.format(reader, writer);
+            } catch (ReaderException | FormatterException e) {
+                writer.discard();
+                throw e;
+            }
+
+            writer.close();
+            return SUCCESS_EXIT_CODE;
+        } catch (ReaderException | WriterException | FormatterException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Private method that runs formatter daemon until it is stopped.
+     *
+     * @param args Command-line arguments (the first one is daemon mode option).
+     * @return Exit code of application.
+     */
+    private static int runDaemon(final String[] args) {
+        if (args.length != 2) {
+            LOGGER.error("Incorrect command-line args (expected: --daemon SOCKET)");
+            return FAILURE_EXIT_CODE;
+        }
+
+        final IFormatterDaemon daemon = new FormatterDaemon(Paths.get(args[1]));
+
+        try {
+            daemon.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(daemon::stop));
+            LOGGER.info("Daemon is listening on " + args[1]);
+            daemon.awaitStop();
+            return SUCCESS_EXIT_CODE;
+        } catch (DaemonException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Private method that runs HTTP formatting service until application is stopped.
+     *
+     * @param args Command-line arguments (the first one is server mode option).
+     * @return Exit code of application.
+     */
+    private static int runServer(final String[] args) {
+        if (args.length != 2) {
+            LOGGER.error("Incorrect command-line args (expected: --server PORT)");
+            return FAILURE_EXIT_CODE;
+        }
+
+        final IFormatterServer server;
+
+        try {
+            server = new FormatterServer(Integer.parseInt(args[1]));
+        } catch (NumberFormatException e) {
+            LOGGER.error("Incorrect port " + args[1]);
+            return FAILURE_EXIT_CODE;
+        }
+
+        try {
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            LOGGER.info("Server is listening on port " + server.getPort());
+            return SUCCESS_EXIT_CODE;
+        } catch (FormatterServerException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Private method that performs formatting in batch mode and then logs summary of run.
+     * <p>
+     * Exit code indicates failure if any file can not be formatted, even though other files are formatted.
+     *
+     * @param args Command-line arguments (the first one is batch mode option).
+     * @return Exit code of application.
+     */
+    private static int formatBatch(final String[] args) {
+        final List<String> inputPaths = new ArrayList<>();
+        Path outputDirectory = null;
+        Path cacheFile = null;
+        int argIndex = 1;
+
+        while (argIndex < args.length) {
+            if (OUTPUT_OPTION.equals(args[argIndex])) {
+                if (argIndex + 1 == args.length) {
+                    LOGGER.error("Missing output directory path after " + OUTPUT_OPTION);
+                    return FAILURE_EXIT_CODE;
+                }
+
+                outputDirectory = Paths.get(args[argIndex + 1]);
+                argIndex += 2;
+            } else if (CACHE_OPTION.equals(args[argIndex])) {
+                if (argIndex + 1 == args.length) {
+                    LOGGER.error("Missing cache file path after " + CACHE_OPTION);
+                    return FAILURE_EXIT_CODE;
+                }
+
+                cacheFile = Paths.get(args[argIndex + 1]);
+                argIndex += 2;
+            } else {
+                inputPaths.add(args[argIndex]);
+                argIndex++;
+            }
+        }
+
+        if (inputPaths.isEmpty()) {
+            LOGGER.error("Incorrect command-line args (expected: --batch [--output DIR] [--cache FILE] PATH...)");
+            return FAILURE_EXIT_CODE;
+        }
+
+        FormatCache formatCache = null;
+
+        if (cacheFile != null) {
+            try {
+                formatCache = new FormatCache(cacheFile, FormatterFingerprint.compute());
+            } catch (FormatCacheException e) {
+                LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+                return FAILURE_EXIT_CODE;
+            }
+        }
+
+        final IBatchFormatter batchFormatter = new BatchFormatter(
+                new FSMFormatter(),
+                Runtime.getRuntime().availableProcessors(),
+                formatCache
+        );
+
+        try {
+            final BatchSummary summary = batchFormatter.format(inputPaths, outputDirectory);
+
+            for (final String failure : summary.getFailures()) {
+                LOGGER.error(failure);
+            }
+
+            LOGGER.info(summary.toString());
+
+            if (formatCache != null) {
+                formatCache.save();
+            }
+
+            return summary.getFailedFileCount() > 0 ? FAILURE_EXIT_CODE : SUCCESS_EXIT_CODE;
+        } catch (BatchFormatterException | FormatCacheException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    /**
+     * Private method that performs checking whether files are formatted and then logs summary of run.
+     *
+     * @param args Command-line arguments (the first one is check mode option).
+     * @return Exit code of application.
+     */
+    private static int check(final String[] args) {
+        if (args.length < 2) {
+            LOGGER.error("Incorrect command-line args (expected: --check PATH...)");
+            return FAILURE_EXIT_CODE;
+        }
+
+        final List<String> inputPaths = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            inputPaths.add(args[i]);
+        }
+
+        final IBatchFormatter batchFormatter = new BatchFormatter(new FSMFormatter());
+
+        try {
+            final CheckSummary summary = batchFormatter.check(inputPaths);
+
+            for (final String mismatch : summary.getMismatches()) {
+                LOGGER.error(mismatch);
+            }
+
+            for (final String failure : summary.getFailures()) {
+                LOGGER.error(failure);
+            }
+
+            LOGGER.info(summary.toString());
+
+            if (summary.getFailedFileCount() > 0) {
+                return FAILURE_EXIT_CODE;
+            }
+
+            return summary.getMismatchedFileCount() > 0 ? MISMATCH_EXIT_CODE : SUCCESS_EXIT_CODE;
+        } catch (BatchFormatterException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return FAILURE_EXIT_CODE;
         }
     }
 }
@@ -0,0 +1,501 @@
+package it.sevenbits.formatter.batch;
+
+import it.sevenbits.formatter.cache.ContentHash;
+import it.sevenbits.formatter.cache.IFormatCache;
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.io.reader.FileReader;
+import it.sevenbits.formatter.io.reader.MappedFileReader;
+import it.sevenbits.formatter.io.reader.ReaderException;
+import it.sevenbits.formatter.io.writer.CheckWriter;
+import it.sevenbits.formatter.io.writer.MismatchException;
+import it.sevenbits.formatter.io.writer.ReplacingFileWriter;
+import it.sevenbits.formatter.io.writer.WriterException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link IBatchFormatter} interface implementation that formats Java source files on {@link ForkJoinPool} instance.
+ * <p>
+ * Input directories and glob patterns are walked in parallel. Then found files are sorted by size
+ * in descending order and each worker repeatedly takes the largest file that is not taken yet,
+ * so the longest jobs are started first and the total run time is close to the minimal one.
+ * <p>
+ * Passed {@link IFormatter} instance is shared between all workers, so it must be thread-safe.
+ * Each file is formatted by {@link ReplacingFileWriter} to a temporary file in the target directory which then
+ * replaces the target file only if their contents differ, so the file is never left half-written, in-place formatting
+ * does not overwrite the file being read and modification times of formatted files are not changed.
+ * Temporary files are forced to the storage device in groups of {@link #SYNC_GROUP_SIZE} files
+ * by {@link FileSyncGroup} instance before they replace target files, the last group is committed at the end of run,
+ * so a crash never leaves a target file (or a source file that is formatted in place) empty or truncated.
+ * <p>
+ * Files that are not smaller than {@link #MAPPED_READING_THRESHOLD} bytes are read with {@link MappedFileReader},
+ * other files are read with {@link FileReader} because mapping of small files costs more than it saves.
+ * Files that are formatted in place are always read with {@link FileReader}: mapping is released only
+ * by garbage collection, and a file that is still mapped can not be replaced on some platforms (e.g. Windows).
+ * <p>
+ * If {@link IFormatCache} instance is passed, file is skipped without lexing and formatting when cache knows
+ * the result of formatting of its content and the target file already has exactly this content
+ * (for in-place formatting it means that the file is formatted already). Results of formatted files
+ * are recorded to cache, but it is not saved by this class.
+ * <p>
+ * Files can also be checked without modification: formatted output is then compared with the file
+ * by {@link CheckWriter} instead of being written.
+ */
+public class BatchFormatter implements IBatchFormatter {
+    private static final String GLOB_CHARACTERS = "*?[{";
+    private static final String GLOB_SYNTAX = "glob:";
+    private static final long MAPPED_READING_THRESHOLD = 1L << 20;
+    private static final int SYNC_GROUP_SIZE = 64;
+
+    private final IFormatter formatter;
+    private final int parallelism;
+    private final IFormatCache formatCache;
+
+    /**
+     * Overload of constructor that initializes {@link #formatter} with passed {@link IFormatter} instance
+     * and {@link #parallelism} with count of available processors.
+     *
+     * @param formatter {@link IFormatter} instance that is shared between all workers.
+     */
+    public BatchFormatter(final IFormatter formatter) {
+        this(formatter, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Overload of constructor that initializes {@link #formatter} and {@link #parallelism} with passed values
+     * and does not use format cache.
+     *
+     * @param formatter   {@link IFormatter} instance that is shared between all workers.
+     * @param parallelism Count of worker threads.
+     */
+    public BatchFormatter(final IFormatter formatter, final int parallelism) {
+        this(formatter, parallelism, null);
+    }
+
+    /**
+     * Overload of constructor that initializes all private fields with passed values.
+     *
+     * @param formatter   {@link IFormatter} instance that is shared between all workers.
+     * @param parallelism Count of worker threads.
+     * @param formatCache {@link IFormatCache} instance that is shared between all workers or null.
+     */
+    public BatchFormatter(final IFormatter formatter, final int parallelism, final IFormatCache formatCache) {
+        this.formatter = formatter;
+        this.parallelism = Math.max(parallelism, 1);
+        this.formatCache = formatCache;
+    }
+
+    /**
+     * Method that performs formatting of all Java source files that are found using passed input paths.
+     * <p>
+     * Each input path is either a file, a directory (that is walked recursively)
+     * or a glob pattern (e.g. "src/**&#47;*.java"). Failures of single files do not stop the run,
+     * they are collected into returned {@link BatchSummary} instance.
+     *
+     * @param inputPaths      {@link List} of {@link String} instances that present input paths.
+     * @param outputDirectory {@link Path} instance that presents root of mirrored output tree
+     *                        or null if files must be formatted in place.
+     * @return {@link BatchSummary} instance that presents summary of run.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public BatchSummary format(final List<String> inputPaths, final Path outputDirectory) throws BatchFormatterException {
+        final long startNanos = System.nanoTime();
+        final AtomicInteger formattedFileCount = new AtomicInteger();
+        final AtomicInteger unchangedFileCount = new AtomicInteger();
+        final AtomicInteger skippedFileCount = new AtomicInteger();
+        final AtomicLong formattedByteCount = new AtomicLong();
+        final FileSyncGroup fileSyncGroup = new FileSyncGroup(SYNC_GROUP_SIZE);
+        final Queue<String> syncFailures = new ConcurrentLinkedQueue<>();
+
+        final List<String> failures;
+
+        try {
+            failures = processFiles(inputPaths, (sourceFile) -> {
+                final FileResult fileResult = formatFile(sourceFile, outputDirectory, fileSyncGroup, syncFailures);
+
+                if (fileResult == FileResult.SKIPPED) {
+                    skippedFileCount.incrementAndGet();
+                    return;
+                }
+
+                if (fileResult == FileResult.UNCHANGED) {
+                    unchangedFileCount.incrementAndGet();
+                }
+
+                formattedFileCount.incrementAndGet();
+                formattedByteCount.addAndGet(sourceFile.getSize());
+            });
+        } finally {
+            syncFailures.addAll(fileSyncGroup.flush());
+        }
+
+        failures.addAll(syncFailures);
+
+        return new BatchSummary(
+                formattedFileCount.get(),
+                unchangedFileCount.get(),
+                skippedFileCount.get(),
+                failures,
+                formattedByteCount.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+        );
+    }
+
+    /**
+     * Method that performs checking whether all Java source files that are found using passed input paths
+     * are formatted already.
+     * <p>
+     * Formatted output of each file is compared with the file itself by {@link CheckWriter} as it is produced,
+     * so nothing is written to the file system and checking of the file stops at the first mismatch.
+     * Format cache is not used by this method.
+     *
+     * @param inputPaths {@link List} of {@link String} instances that present input paths.
+     * @return {@link CheckSummary} instance that presents summary of run.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public CheckSummary check(final List<String> inputPaths) throws BatchFormatterException {
+        final long startNanos = System.nanoTime();
+        final AtomicInteger checkedFileCount = new AtomicInteger();
+        final Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+
+        final List<String> failures = processFiles(inputPaths, (sourceFile) -> {
+            final MismatchException mismatch = checkFile(sourceFile);
+
+            if (mismatch != null) {
+                mismatches.add(String.format("%s: %s", sourceFile.getPath(), mismatch.getMessage()));
+            }
+
+            checkedFileCount.incrementAndGet();
+        });
+
+        return new CheckSummary(
+                checkedFileCount.get(),
+                new ArrayList<>(mismatches),
+                failures,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+        );
+    }
+
+    /**
+     * Private method that collects all Java source files that are found using passed input paths and then
+     * performs passed action for each of them on {@link ForkJoinPool} instance, largest files first.
+     *
+     * @param inputPaths {@link List} of {@link String} instances that present input paths.
+     * @param fileAction {@link FileAction} instance that is performed for each found file.
+     * @return {@link List} of {@link String} instances that present descriptions of failures.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    private List<String> processFiles(
+            final List<String> inputPaths,
+            final FileAction fileAction
+    ) throws BatchFormatterException {
+        if (inputPaths == null || inputPaths.isEmpty()) {
+            throw new BatchFormatterException("No input paths passed");
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            final List<SourceFile> sourceFiles = collectSourceFiles(pool, inputPaths);
+            sourceFiles.sort(Comparator.comparingLong(SourceFile::getSize).reversed());
+
+            final AtomicInteger nextFileIndex = new AtomicInteger();
+            final Queue<String> failures = new ConcurrentLinkedQueue<>();
+            final List<ForkJoinTask<?>> workers = new ArrayList<>();
+
+            for (int i = 0; i < Math.min(parallelism, sourceFiles.size()); i++) {
+                workers.add(pool.submit(() -> {
+                    int fileIndex = nextFileIndex.getAndIncrement();
+
+                    while (fileIndex < sourceFiles.size()) {
+                        final SourceFile sourceFile = sourceFiles.get(fileIndex);
+
+                        try {
+                            fileAction.perform(sourceFile);
+                        } catch (FormatterException | IOException e) {
+                            failures.add(String.format(
+                                    "%s: %s - %s",
+                                    sourceFile.getPath(),
+                                    e.getClass().getSimpleName(),
+                                    e.getMessage()
+                            ));
+                        }
+
+                        fileIndex = nextFileIndex.getAndIncrement();
+                    }
+                }));
+            }
+
+            for (final ForkJoinTask<?> worker : workers) {
+                worker.join();
+            }
+
+            return new ArrayList<>(failures);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Private method that collects all Java source files that are found using passed input paths.
+     * <p>
+     * Files that are found several times (e.g. by overlapping patterns) are returned once.
+     *
+     * @param pool       {@link ForkJoinPool} instance that performs walking of directories.
+     * @param inputPaths {@link List} of {@link String} instances that present input paths.
+     * @return {@link List} of {@link SourceFile} instances that present found files.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    private List<SourceFile> collectSourceFiles(
+            final ForkJoinPool pool,
+            final List<String> inputPaths
+    ) throws BatchFormatterException {
+        final Map<Path, SourceFile> sourceFileForPath = new LinkedHashMap<>();
+
+        for (final String inputPath : inputPaths) {
+            for (final SourceFile sourceFile : collectSourceFiles(pool, inputPath)) {
+                sourceFileForPath.putIfAbsent(sourceFile.getPath().toAbsolutePath().normalize(), sourceFile);
+            }
+        }
+
+        return new ArrayList<>(sourceFileForPath.values());
+    }
+
+    /**
+     * Private method that collects all Java source files that are found using single input path.
+     *
+     * @param pool      {@link ForkJoinPool} instance that performs walking of directories.
+     * @param inputPath {@link String} instance that presents file, directory or glob pattern.
+     * @return {@link List} of {@link SourceFile} instances that present found files.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    private List<SourceFile> collectSourceFiles(
+            final ForkJoinPool pool,
+            final String inputPath
+    ) throws BatchFormatterException {
+        final Path root;
+        final PathMatcher pathMatcher;
+        int globStart = -1;
+
+        for (int i = 0; i < inputPath.length() && globStart == -1; i++) {
+            if (GLOB_CHARACTERS.indexOf(inputPath.charAt(i)) != -1) {
+                globStart = i;
+            }
+        }
+
+        if (globStart == -1) {
+            root = Paths.get(inputPath);
+            pathMatcher = null;
+        } else {
+            final int rootEnd = Math.max(
+                    inputPath.lastIndexOf('/', globStart),
+                    inputPath.lastIndexOf(File.separatorChar, globStart)
+            );
+
+            root = rootEnd == -1 ? Paths.get("") : Paths.get(inputPath.substring(0, rootEnd + 1));
+            pathMatcher = FileSystems.getDefault().getPathMatcher(GLOB_SYNTAX + inputPath);
+        }
+
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(
+                    root.toString().isEmpty() ? Paths.get(".") : root,
+                    BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS
+            );
+
+            if (attributes.isRegularFile()) {
+                final List<SourceFile> sourceFiles = new ArrayList<>();
+
+                if (CollectSourceFilesTask.isAccepted(root, pathMatcher)) {
+                    sourceFiles.add(new SourceFile(root, root.getFileName(), attributes.size()));
+                }
+
+                return sourceFiles;
+            }
+
+            return pool.invoke(new CollectSourceFilesTask(root, root, pathMatcher));
+        } catch (IOException e) {
+            throw new BatchFormatterException("Unable to read input path " + inputPath, e);
+        } catch (UncheckedIOException e) {
+            throw new BatchFormatterException("Unable to walk input path " + inputPath, e.getCause());
+        }
+    }
+
+    /**
+     * Private method that performs formatting of single file unless format cache shows that target file
+     * already contains the result of formatting.
+     * <p>
+     * Target file is replaced only if the result of formatting differs from its content. In this case
+     * prepared writer is added to passed {@link FileSyncGroup} instance that replaces the target file later.
+     *
+     * @param sourceFile      {@link SourceFile} instance that presents file to be formatted.
+     * @param outputDirectory {@link Path} instance that presents root of mirrored output tree
+     *                        or null if file must be formatted in place.
+     * @param fileSyncGroup   {@link FileSyncGroup} instance that forces and replaces target files.
+     * @param failures        {@link Queue} of {@link String} instances to which failures of replacing are added.
+     * @return {@link FileResult} instance that presents result of the method work.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     * @throws IOException        Exception that can be thrown during the method work
+     *                            (including {@link ReaderException} and {@link WriterException}).
+     */
+    private FileResult formatFile(
+            final SourceFile sourceFile,
+            final Path outputDirectory,
+            final FileSyncGroup fileSyncGroup,
+            final Queue<String> failures
+    ) throws FormatterException, IOException {
+        final Path targetPath = (
+                outputDirectory == null ? sourceFile.getPath() : outputDirectory.resolve(sourceFile.getRelativePath())
+        ).toAbsolutePath();
+
+        ContentHash inputHash = null;
+
+        if (formatCache != null) {
+            inputHash = ContentHash.of(sourceFile.getPath());
+            final ContentHash outputHash = formatCache.getOutputHash(inputHash);
+
+            if (outputHash != null) {
+                final ContentHash targetHash;
+
+                if (outputDirectory == null) {
+                    targetHash = inputHash;
+                } else {
+                    targetHash = Files.isRegularFile(targetPath) ? ContentHash.of(targetPath) : null;
+                }
+
+                if (outputHash.equals(targetHash)) {
+                    return FileResult.SKIPPED;
+                }
+            }
+        }
+
+        Files.createDirectories(targetPath.getParent());
+        final boolean replacesSource = Files.exists(targetPath) && Files.isSameFile(targetPath, sourceFile.getPath());
+        final ReplacingFileWriter writer = new ReplacingFileWriter(targetPath, false);
+
+        try {
+            if (!replacesSource && sourceFile.getSize() >= MAPPED_READING_THRESHOLD) {
+                try (MappedFileReader reader = new MappedFileReader(sourceFile.getPath())) {
+                    formatter.format(reader, writer);
+                }
+            } else {
+                try (FileReader reader = new FileReader(sourceFile.getPath())) {
+                    formatter.format(reader, writer);
+                }
+            }
+        } catch (FormatterException | IOException e) {
+            writer.discard();
+            throw e;
+        }
+
+        final boolean changed = writer.prepare();
+
+        if (formatCache != null) {
+            try {
+                formatCache.put(inputHash, ContentHash.of(changed ? writer.getTemporaryPath() : targetPath));
+            } catch (IOException e) {
+                writer.discard();
+                throw e;
+            }
+        }
+
+        if (!changed) {
+            return FileResult.UNCHANGED;
+        }
+
+        failures.addAll(fileSyncGroup.add(writer));
+        return FileResult.REPLACED;
+    }
+
+    /**
+     * Private method that performs checking whether single file is formatted already.
+     *
+     * @param sourceFile {@link SourceFile} instance that presents file to be checked.
+     * @return {@link MismatchException} instance that presents the first mismatch or null if file is formatted.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     * @throws IOException        Exception that can be thrown during the method work
+     *                            (including {@link ReaderException} and {@link WriterException}).
+     */
+    private MismatchException checkFile(final SourceFile sourceFile) throws FormatterException, IOException {
+        try (CheckWriter writer = new CheckWriter(sourceFile.getPath())) {
+            try {
+                if (sourceFile.getSize() >= MAPPED_READING_THRESHOLD) {
+                    try (MappedFileReader reader = new MappedFileReader(sourceFile.getPath())) {
+                        formatter.format(reader, writer);
+                    }
+                } else {
+                    try (FileReader reader = new FileReader(sourceFile.getPath())) {
+                        formatter.format(reader, writer);
+                    }
+                }
+            } catch (FormatterException e) {
+                if (writer.getMismatch() == null) {
+                    throw e;
+                }
+
+                return writer.getMismatch();
+            }
+        } catch (MismatchException e) {
+            return e;
+        }
+
+        return null;
+    }
+
+    /**
+     * Functional interface that declares an action that is performed by workers for each found file.
+     */
+    @FunctionalInterface
+    private interface FileAction {
+        /**
+         * Method that performs the action for passed file.
+         *
+         * @param sourceFile {@link SourceFile} instance that presents found file.
+         * @throws FormatterException Exception that can be thrown during the method work.
+         * @throws IOException        Exception that can be thrown during the method work.
+         */
+        void perform(SourceFile sourceFile) throws FormatterException, IOException;
+    }
+
+    /**
+     * Enumeration of results of formatting of single file.
+     */
+    private enum FileResult {
+        /**
+         * File is skipped because format cache shows that target file is formatted already.
+         */
+        SKIPPED,
+        /**
+         * File is formatted, but target file already has the same content, so it is left untouched.
+         */
+        UNCHANGED,
+        /**
+         * File is formatted and target file is replaced.
+         */
+        REPLACED
+    }
+}
@@ -0,0 +1,126 @@
+package it.sevenbits.formatter.batch;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class that presents summary of batch formatting run.
+ */
+public final class BatchSummary {
+    private final int formattedFileCount;
+    private final int unchangedFileCount;
+    private final int skippedFileCount;
+    private final List<String> failures;
+    private final long formattedByteCount;
+    private final long elapsedMillis;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param formattedFileCount Count of successfully formatted files.
+     * @param unchangedFileCount Count of formatted files which target files already have the formatted content
+     *                           and are left untouched.
+     * @param skippedFileCount   Count of files that are skipped because they are known to be formatted already.
+     * @param failures           {@link List} of {@link String} instances that present descriptions of failures.
+     * @param formattedByteCount Total size of successfully formatted files in bytes.
+     * @param elapsedMillis      Duration of run in milliseconds.
+     */
+    BatchSummary(
+            final int formattedFileCount,
+            final int unchangedFileCount,
+            final int skippedFileCount,
+            final List<String> failures,
+            final long formattedByteCount,
+            final long elapsedMillis
+    ) {
+        this.formattedFileCount = formattedFileCount;
+        this.unchangedFileCount = unchangedFileCount;
+        this.skippedFileCount = skippedFileCount;
+        this.failures = Collections.unmodifiableList(failures);
+        this.formattedByteCount = formattedByteCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Method that returns count of successfully formatted files.
+     *
+     * @return Count of successfully formatted files.
+     */
+    public int getFormattedFileCount() {
+        return formattedFileCount;
+    }
+
+    /**
+     * Method that returns count of formatted files which target files are left untouched
+     * because they already have the formatted content.
+     *
+     * @return Count of untouched files.
+     */
+    public int getUnchangedFileCount() {
+        return unchangedFileCount;
+    }
+
+    /**
+     * Method that returns count of files that are skipped because they are known to be formatted already.
+     *
+     * @return Count of skipped files.
+     */
+    public int getSkippedFileCount() {
+        return skippedFileCount;
+    }
+
+    /**
+     * Method that returns count of files that were not formatted because of failures.
+     *
+     * @return Count of failed files.
+     */
+    public int getFailedFileCount() {
+        return failures.size();
+    }
+
+    /**
+     * Method that returns descriptions of failures.
+     *
+     * @return Unmodifiable {@link List} of {@link String} instances that present descriptions of failures.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Method that returns total size of successfully formatted files in bytes.
+     *
+     * @return Total size of successfully formatted files in bytes.
+     */
+    public long getFormattedByteCount() {
+        return formattedByteCount;
+    }
+
+    /**
+     * Method that returns duration of run in milliseconds.
+     *
+     * @return Duration of run in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Method that returns human-readable presentation of summary.
+     *
+     * @return {@link String} instance that presents summary.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "Formatted %d file(s) (%d bytes, %d file(s) left untouched), skipped %d unchanged file(s), " +
+                        "failed %d file(s) in %d ms",
+                formattedFileCount,
+                formattedByteCount,
+                unchangedFileCount,
+                skippedFileCount,
+                failures.size(),
+                elapsedMillis
+        );
+    }
+}
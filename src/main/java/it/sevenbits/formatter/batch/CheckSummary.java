@@ -0,0 +1,114 @@
+package it.sevenbits.formatter.batch;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class that presents summary of batch checking run.
+ */
+public final class CheckSummary {
+    private final int checkedFileCount;
+    private final List<String> mismatches;
+    private final List<String> failures;
+    private final long elapsedMillis;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param checkedFileCount Count of successfully checked files (both formatted and not formatted ones).
+     * @param mismatches       {@link List} of {@link String} instances that present descriptions of files
+     *                         which are not formatted.
+     * @param failures         {@link List} of {@link String} instances that present descriptions of failures.
+     * @param elapsedMillis    Duration of run in milliseconds.
+     */
+    CheckSummary(
+            final int checkedFileCount,
+            final List<String> mismatches,
+            final List<String> failures,
+            final long elapsedMillis
+    ) {
+        this.checkedFileCount = checkedFileCount;
+        this.mismatches = Collections.unmodifiableList(mismatches);
+        this.failures = Collections.unmodifiableList(failures);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Method that returns count of successfully checked files.
+     *
+     * @return Count of files.
+     */
+    public int getCheckedFileCount() {
+        return checkedFileCount;
+    }
+
+    /**
+     * Method that returns count of files which are not formatted.
+     *
+     * @return Count of files.
+     */
+    public int getMismatchedFileCount() {
+        return mismatches.size();
+    }
+
+    /**
+     * Method that returns descriptions of files which are not formatted.
+     *
+     * @return Unmodifiable {@link List} of {@link String} instances.
+     */
+    public List<String> getMismatches() {
+        return mismatches;
+    }
+
+    /**
+     * Method that returns count of files which are failed to be checked.
+     *
+     * @return Count of files.
+     */
+    public int getFailedFileCount() {
+        return failures.size();
+    }
+
+    /**
+     * Method that returns descriptions of failures.
+     *
+     * @return Unmodifiable {@link List} of {@link String} instances.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Method that returns duration of run in milliseconds.
+     *
+     * @return Duration of run.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Method that reports whether all files are checked successfully and all of them are formatted.
+     *
+     * @return Boolean value that indicates result of the method work.
+     */
+    public boolean isPassed() {
+        return mismatches.isEmpty() && failures.isEmpty();
+    }
+
+    /**
+     * Method that returns {@link String} representation of summary.
+     *
+     * @return {@link String} instance.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "Checked %d file(s), %d file(s) are not formatted, failed %d file(s) in %d ms",
+                checkedFileCount,
+                mismatches.size(),
+                failures.size(),
+                elapsedMillis
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package it.sevenbits.formatter.batch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@link RecursiveTask} implementation that collects Java source files from directory.
+ * <p>
+ * Every subdirectory is walked by a separate forked task, so the whole tree is walked in parallel.
+ * Symbolic links are not followed.
+ */
+class CollectSourceFilesTask extends RecursiveTask<List<SourceFile>> {
+    private static final String JAVA_FILE_SUFFIX = ".java";
+
+    private final Path directory;
+    private final Path root;
+    private final PathMatcher pathMatcher;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param directory   {@link Path} instance that presents directory to be walked.
+     * @param root        {@link Path} instance that presents root of the whole walk.
+     * @param pathMatcher {@link PathMatcher} instance that filters found files or null if all files are accepted.
+     */
+    CollectSourceFilesTask(final Path directory, final Path root, final PathMatcher pathMatcher) {
+        this.directory = directory;
+        this.root = root;
+        this.pathMatcher = pathMatcher;
+    }
+
+    /**
+     * Method that reports whether file with passed path is a Java source file accepted by passed {@link PathMatcher}.
+     *
+     * @param path        {@link Path} instance that presents path to file.
+     * @param pathMatcher {@link PathMatcher} instance that filters files or null if all files are accepted.
+     * @return Boolean value that indicates the result of method work.
+     */
+    static boolean isAccepted(final Path path, final PathMatcher pathMatcher) {
+        final Path fileName = path.getFileName();
+
+        return fileName != null &&
+                fileName.toString().endsWith(JAVA_FILE_SUFFIX) &&
+                (pathMatcher == null || pathMatcher.matches(path));
+    }
+
+    /**
+     * Method that performs walking of {@link #directory} and returns all found Java source files.
+     *
+     * @return {@link List} of {@link SourceFile} instances that present found files.
+     */
+    @Override
+    protected List<SourceFile> compute() {
+        final List<SourceFile> sourceFiles = new ArrayList<>();
+        final List<CollectSourceFilesTask> subtasks = new ArrayList<>();
+
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+            for (final Path entry : directoryStream) {
+                final BasicFileAttributes attributes = Files.readAttributes(
+                        entry,
+                        BasicFileAttributes.class,
+                        LinkOption.NOFOLLOW_LINKS
+                );
+
+                if (attributes.isDirectory()) {
+                    final CollectSourceFilesTask subtask = new CollectSourceFilesTask(entry, root, pathMatcher);
+                    subtask.fork();
+                    subtasks.add(subtask);
+                } else if (attributes.isRegularFile() && isAccepted(entry, pathMatcher)) {
+                    sourceFiles.add(new SourceFile(entry, root.relativize(entry), attributes.size()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (final CollectSourceFilesTask subtask : subtasks) {
+            sourceFiles.addAll(subtask.join());
+        }
+
+        return sourceFiles;
+    }
+}
@@ -0,0 +1,154 @@
+package it.sevenbits.formatter.batch;
+
+import it.sevenbits.formatter.io.writer.ReplacingFileWriter;
+import it.sevenbits.formatter.io.writer.WriterException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class that forces files to the storage device in groups before they replace target files.
+ * <p>
+ * Prepared writers (see {@link ReplacingFileWriter#prepare()}) are collected until the group is full.
+ * Then all of their temporary files are forced one after another, after that each of them replaces its target file,
+ * and at last each of distinct parent directories of target files is forced (so renames become durable too).
+ * So a target file is never replaced with data that is not on the storage device yet, forcing of many files
+ * back to back lets file system commit them together, and each directory is forced once per group
+ * instead of once per file. Target files of writers added since the last group are not replaced
+ * until the next one, so {@link #flush()} method must be called at the end of run.
+ */
+class FileSyncGroup {
+    /**
+     * Flag that indicates whether directories can be forced. Windows does not allow to open a directory
+     * as a file channel (and makes renames durable without it), so directories are not forced there.
+     */
+    private static final boolean DIRECTORY_FORCING_SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private final int groupSize;
+    private List<ReplacingFileWriter> pendingWriters;
+
+    /**
+     * Class constructor that initializes {@link #groupSize} with passed value.
+     *
+     * @param groupSize Count of files which are forced together.
+     */
+    FileSyncGroup(final int groupSize) {
+        this.groupSize = Math.max(groupSize, 1);
+        this.pendingWriters = new ArrayList<>();
+    }
+
+    /**
+     * Method that adds passed prepared writer to the current group and commits the group if it is full.
+     *
+     * @param writer {@link ReplacingFileWriter} instance which temporary file is prepared for replacing.
+     * @return {@link List} of {@link String} instances that present descriptions of failures.
+     */
+    List<String> add(final ReplacingFileWriter writer) {
+        final List<ReplacingFileWriter> fullGroup;
+
+        synchronized (this) {
+            pendingWriters.add(writer);
+
+            if (pendingWriters.size() < groupSize) {
+                return new ArrayList<>();
+            }
+
+            fullGroup = pendingWriters;
+            pendingWriters = new ArrayList<>();
+        }
+
+        return commit(fullGroup);
+    }
+
+    /**
+     * Method that commits all writers of the current group.
+     *
+     * @return {@link List} of {@link String} instances that present descriptions of failures.
+     */
+    List<String> flush() {
+        final List<ReplacingFileWriter> group;
+
+        synchronized (this) {
+            group = pendingWriters;
+            pendingWriters = new ArrayList<>();
+        }
+
+        return commit(group);
+    }
+
+    /**
+     * Private method that forces temporary files of passed writers, replaces target files with them
+     * and then forces parent directories of target files (if platform supports it).
+     *
+     * @param writers {@link List} of {@link ReplacingFileWriter} instances which temporary files are prepared.
+     * @return {@link List} of {@link String} instances that present descriptions of failures.
+     */
+    private static List<String> commit(final List<ReplacingFileWriter> writers) {
+        final List<String> failures = new ArrayList<>();
+        final List<ReplacingFileWriter> forcedWriters = new ArrayList<>();
+        final Set<Path> directories = new LinkedHashSet<>();
+
+        for (final ReplacingFileWriter writer : writers) {
+            try (FileChannel channel = FileChannel.open(writer.getTemporaryPath(), StandardOpenOption.READ)) {
+                channel.force(true);
+                forcedWriters.add(writer);
+            } catch (IOException e) {
+                failures.add(describe(writer.getTargetPath(), e));
+                discard(writer, failures);
+            }
+        }
+
+        for (final ReplacingFileWriter writer : forcedWriters) {
+            try {
+                writer.replace();
+
+                if (DIRECTORY_FORCING_SUPPORTED) {
+                    directories.add(writer.getTargetPath().getParent());
+                }
+            } catch (WriterException e) {
+                failures.add(describe(writer.getTargetPath(), e));
+            }
+        }
+
+        for (final Path directory : directories) {
+            try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException e) {
+                failures.add(describe(directory, e));
+            }
+        }
+
+        return failures;
+    }
+
+    /**
+     * Private method that discards passed writer and records failure of discarding.
+     *
+     * @param writer   {@link ReplacingFileWriter} instance to be discarded.
+     * @param failures {@link List} of {@link String} instances to which failure is added.
+     */
+    private static void discard(final ReplacingFileWriter writer, final List<String> failures) {
+        try {
+            writer.discard();
+        } catch (WriterException e) {
+            failures.add(describe(writer.getTemporaryPath(), e));
+        }
+    }
+
+    /**
+     * Private method that returns description of failure.
+     *
+     * @param path      {@link Path} instance that presents failed file.
+     * @param exception {@link IOException} instance that presents failure.
+     * @return {@link String} instance that presents description of failure.
+     */
+    private static String describe(final Path path, final IOException exception) {
+        return String.format("%s: %s - %s", path, exception.getClass().getSimpleName(), exception.getMessage());
+    }
+}
@@ -0,0 +1,33 @@
+package it.sevenbits.formatter.batch;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Interface that declares a functionality for formatting of many Java source files per run.
+ */
+public interface IBatchFormatter {
+    /**
+     * Method that performs formatting of all Java source files that are found using passed input paths.
+     * <p>
+     * Each input path is either a file, a directory (that is walked recursively)
+     * or a glob pattern (e.g. "src/**&#47;*.java").
+     *
+     * @param inputPaths      {@link List} of {@link String} instances that present input paths.
+     * @param outputDirectory {@link Path} instance that presents root of mirrored output tree
+     *                        or null if files must be formatted in place.
+     * @return {@link BatchSummary} instance that presents summary of run.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    BatchSummary format(List<String> inputPaths, Path outputDirectory) throws BatchFormatterException;
+
+    /**
+     * Method that performs checking whether all Java source files that are found using passed input paths
+     * are formatted already. Files are not modified.
+     *
+     * @param inputPaths {@link List} of {@link String} instances that present input paths.
+     * @return {@link CheckSummary} instance that presents summary of run.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    CheckSummary check(List<String> inputPaths) throws BatchFormatterException;
+}
@@ -0,0 +1,52 @@
+package it.sevenbits.formatter.batch;
+
+import java.nio.file.Path;
+
+/**
+ * Class that presents Java source file found by batch formatter.
+ */
+class SourceFile {
+    private final Path path;
+    private final Path relativePath;
+    private final long size;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param path         {@link Path} instance that presents path to file.
+     * @param relativePath {@link Path} instance that presents path to file relative to the walked root.
+     * @param size         Size of file in bytes.
+     */
+    SourceFile(final Path path, final Path relativePath, final long size) {
+        this.path = path;
+        this.relativePath = relativePath;
+        this.size = size;
+    }
+
+    /**
+     * Method that returns path to file.
+     *
+     * @return {@link Path} instance that presents path to file.
+     */
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Method that returns path to file relative to the walked root, which is used for mirrored output tree.
+     *
+     * @return {@link Path} instance that presents path to file relative to the walked root.
+     */
+    Path getRelativePath() {
+        return relativePath;
+    }
+
+    /**
+     * Method that returns size of file in bytes.
+     *
+     * @return Size of file in bytes.
+     */
+    long getSize() {
+        return size;
+    }
+}
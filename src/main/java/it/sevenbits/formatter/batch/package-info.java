@@ -0,0 +1,9 @@
+/**
+ * This package contains interface that declares functionality for batch formatter as well as it's implementation.
+ * <p>
+ * Batch formatter walks passed directories and glob patterns in parallel, collects all Java source files
+ * and formats them on a work-stealing thread pool, largest files first.
+ *
+ * @author hu553in
+ */
+package it.sevenbits.formatter.batch;
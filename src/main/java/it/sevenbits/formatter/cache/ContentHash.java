@@ -0,0 +1,121 @@
+package it.sevenbits.formatter.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class that presents hash of content (64-bit hash value and content length in bytes).
+ * <p>
+ * Instances of this class are immutable and can be used as keys of hash maps.
+ */
+public final class ContentHash {
+    private static final int READ_BUFFER_LENGTH = 1 << 16;
+
+    private final long hash;
+    private final long length;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param hash   64-bit hash value.
+     * @param length Content length in bytes.
+     */
+    public ContentHash(final long hash, final long length) {
+        this.hash = hash;
+        this.length = length;
+    }
+
+    /**
+     * Static method that computes hash of passed bytes.
+     *
+     * @param bytes Content to hash.
+     * @return {@link ContentHash} instance.
+     */
+    public static ContentHash of(final byte[] bytes) {
+        final ContentHasher hasher = new ContentHasher();
+        hasher.update(bytes, 0, bytes.length);
+        return hasher.finish();
+    }
+
+    /**
+     * Static method that computes hash of content of file.
+     *
+     * @param path {@link Path} instance that presents file.
+     * @return {@link ContentHash} instance.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    public static ContentHash of(final Path path) throws IOException {
+        final ContentHasher hasher = new ContentHasher();
+        final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_LENGTH);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                hasher.update(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+        }
+
+        return hasher.finish();
+    }
+
+    /**
+     * Method that returns 64-bit hash value.
+     *
+     * @return 64-bit hash value.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Method that returns content length in bytes.
+     *
+     * @return Content length in bytes.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Method that compares this instance with passed object.
+     *
+     * @param object Object to compare with.
+     * @return Boolean value that indicates whether both hash value and length are equal.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof ContentHash)) {
+            return false;
+        }
+
+        final ContentHash other = (ContentHash) object;
+        return hash == other.hash && length == other.length;
+    }
+
+    /**
+     * Method that returns hash code of this instance.
+     *
+     * @return Hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    /**
+     * Method that returns string representation of this instance.
+     *
+     * @return String representation.
+     */
+    @Override
+    public String toString() {
+        return String.format("%016x:%d", hash, length);
+    }
+}
@@ -0,0 +1,129 @@
+package it.sevenbits.formatter.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Class that computes fast non-cryptographic 64-bit hash of content that is passed in portions of any size.
+ * <p>
+ * Content is consumed in little-endian 8-byte words with xxHash64-like rounds and final avalanche,
+ * so hashing speed is close to memory bandwidth. The hash is not suitable for security purposes,
+ * but probability of accidental collision is negligible for any realistic count of source files.
+ */
+public final class ContentHasher {
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+    private static final int WORD_LENGTH = Long.BYTES;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int ROUND_ROTATION = 31;
+    private static final int MERGE_ROTATION = 27;
+    private static final int AVALANCHE_SHIFT_1 = 33;
+    private static final int AVALANCHE_SHIFT_2 = 29;
+    private static final int AVALANCHE_SHIFT_3 = 32;
+
+    private long hash;
+    private long length;
+    private long pendingWord;
+    private int pendingByteCount;
+
+    /**
+     * Class constructor that initializes hasher state.
+     */
+    public ContentHasher() {
+        hash = PRIME_5;
+    }
+
+    /**
+     * Method that passes the next portion of content to hasher.
+     *
+     * @param bytes  Array that contains portion of content.
+     * @param offset Index of the first byte of portion.
+     * @param count  Count of bytes in portion.
+     */
+    public void update(final byte[] bytes, final int offset, final int count) {
+        final int end = offset + count;
+        int index = offset;
+
+        while (pendingByteCount > 0 && index < end) {
+            appendPendingByte(bytes[index]);
+            index++;
+        }
+
+        if (end - index >= WORD_LENGTH) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+            while (end - index >= WORD_LENGTH) {
+                mixWord(buffer.getLong(index));
+                index += WORD_LENGTH;
+            }
+        }
+
+        while (index < end) {
+            appendPendingByte(bytes[index]);
+            index++;
+        }
+
+        length += count;
+    }
+
+    /**
+     * Method that finishes hashing and returns the result. Hasher must not be used after this call.
+     *
+     * @return {@link ContentHash} instance.
+     */
+    public ContentHash finish() {
+        long result = hash;
+
+        if (pendingByteCount > 0) {
+            result ^= round(pendingWord);
+            result = Long.rotateLeft(result, MERGE_ROTATION) * PRIME_1 + PRIME_4;
+        }
+
+        result += length;
+        result ^= result >>> AVALANCHE_SHIFT_1;
+        result *= PRIME_2;
+        result ^= result >>> AVALANCHE_SHIFT_2;
+        result *= PRIME_3;
+        result ^= result >>> AVALANCHE_SHIFT_3;
+        return new ContentHash(result, length);
+    }
+
+    /**
+     * Private method that appends single byte to pending word and mixes the word in when it is full.
+     *
+     * @param value Byte to append.
+     */
+    private void appendPendingByte(final byte value) {
+        pendingWord |= (long) (value & BYTE_MASK) << (Byte.SIZE * pendingByteCount);
+        pendingByteCount++;
+
+        if (pendingByteCount == WORD_LENGTH) {
+            mixWord(pendingWord);
+            pendingWord = 0;
+            pendingByteCount = 0;
+        }
+    }
+
+    /**
+     * Private method that mixes single word into hash.
+     *
+     * @param word Word to mix in.
+     */
+    private void mixWord(final long word) {
+        hash ^= round(word);
+        hash = Long.rotateLeft(hash, MERGE_ROTATION) * PRIME_1 + PRIME_4;
+    }
+
+    /**
+     * Private static method that scrambles single word.
+     *
+     * @param word Word to scramble.
+     * @return Scrambled word.
+     */
+    private static long round(final long word) {
+        return Long.rotateLeft(word * PRIME_2, ROUND_ROTATION) * PRIME_1;
+    }
+}
@@ -0,0 +1,299 @@
+package it.sevenbits.formatter.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link IFormatCache} interface implementation that is kept in memory and persisted to a single binary file.
+ * <p>
+ * Entries are loaded once by constructor and then are read and written concurrently
+ * through {@link ConcurrentHashMap} instance. Every entry remembers the time of its last use
+ * that is taken from {@link #clock} (wall clock by default).
+ * <p>
+ * Cache file starts with formatter fingerprint (see {@link FormatterFingerprint}), and a file
+ * that was written by another formatter version (or that is damaged) is ignored, so changes of formatting rules
+ * never produce stale hits. {@link #save()} holds exclusive lock on a sibling lock file, merges entries
+ * that were saved by other processes meanwhile, evicts least recently used entries beyond {@link #maxEntryCount}
+ * and atomically replaces cache file, so concurrent runs never see a half-written cache.
+ */
+public class FormatCache implements IFormatCache {
+    private static final int DEFAULT_MAX_ENTRY_COUNT = 1 << 17;
+    private static final int MAGIC = 0x7B1FCAC4;
+    private static final int FORMAT_VERSION = 1;
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Path cacheFile;
+    private final long fingerprint;
+    private final int maxEntryCount;
+    private final LongSupplier clock;
+    private final Map<ContentHash, Entry> entries;
+
+    /**
+     * Overload of constructor that uses default maximal count of entries.
+     *
+     * @param cacheFile   {@link Path} instance that presents cache file.
+     * @param fingerprint Fingerprint of formatter version.
+     * @throws FormatCacheException Exception that can be thrown during the method work.
+     */
+    public FormatCache(final Path cacheFile, final long fingerprint) throws FormatCacheException {
+        this(cacheFile, fingerprint, DEFAULT_MAX_ENTRY_COUNT);
+    }
+
+    /**
+     * Overload of constructor that uses {@link System#currentTimeMillis()} method as a clock.
+     *
+     * @param cacheFile     {@link Path} instance that presents cache file.
+     * @param fingerprint   Fingerprint of formatter version.
+     * @param maxEntryCount Maximal count of entries that are kept in cache file.
+     * @throws FormatCacheException Exception that can be thrown during the method work.
+     */
+    public FormatCache(final Path cacheFile, final long fingerprint, final int maxEntryCount) throws FormatCacheException {
+        this(cacheFile, fingerprint, maxEntryCount, System::currentTimeMillis);
+    }
+
+    /**
+     * Class constructor that initializes all private fields and loads entries from cache file (if it exists).
+     *
+     * @param cacheFile     {@link Path} instance that presents cache file.
+     * @param fingerprint   Fingerprint of formatter version.
+     * @param maxEntryCount Maximal count of entries that are kept in cache file.
+     * @param clock         {@link LongSupplier} instance that returns current time in milliseconds since epoch
+     *                      (entries with greater time are considered more recently used).
+     * @throws FormatCacheException Exception that can be thrown during the method work.
+     */
+    public FormatCache(
+            final Path cacheFile,
+            final long fingerprint,
+            final int maxEntryCount,
+            final LongSupplier clock
+    ) throws FormatCacheException {
+        if (cacheFile == null) {
+            throw new FormatCacheException("Cache file path is null");
+        }
+
+        if (clock == null) {
+            throw new FormatCacheException("Clock is null");
+        }
+
+        this.cacheFile = cacheFile.toAbsolutePath();
+        this.fingerprint = fingerprint;
+        this.maxEntryCount = Math.max(maxEntryCount, 1);
+        this.clock = clock;
+        entries = new ConcurrentHashMap<>(readEntries());
+    }
+
+    /**
+     * Method that returns hash of formatted content for passed hash of input content
+     * and marks found entry as recently used.
+     *
+     * @param inputHash {@link ContentHash} instance that presents input content.
+     * @return {@link ContentHash} instance that presents formatted content or null if input is not cached.
+     */
+    @Override
+    public ContentHash getOutputHash(final ContentHash inputHash) {
+        final Entry entry = entries.get(inputHash);
+
+        if (entry == null) {
+            return null;
+        }
+
+        entry.lastUsedMillis = clock.getAsLong();
+        return entry.outputHash;
+    }
+
+    /**
+     * Method that records hash of formatted content for passed hash of input content.
+     *
+     * @param inputHash  {@link ContentHash} instance that presents input content.
+     * @param outputHash {@link ContentHash} instance that presents formatted content.
+     */
+    @Override
+    public void put(final ContentHash inputHash, final ContentHash outputHash) {
+        entries.put(inputHash, new Entry(outputHash, clock.getAsLong()));
+    }
+
+    /**
+     * Method that returns count of entries that are kept in memory.
+     *
+     * @return Count of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Method that merges entries with entries saved by other processes, evicts least recently used ones
+     * and atomically replaces cache file.
+     *
+     * @throws FormatCacheException Exception that can be thrown during the method work.
+     */
+    @Override
+    public synchronized void save() throws FormatCacheException {
+        final Path lockFile = cacheFile.resolveSibling(cacheFile.getFileName() + LOCK_FILE_SUFFIX);
+
+        try {
+            Files.createDirectories(cacheFile.getParent());
+
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                final FileLock lock = lockChannel.lock();
+
+                try {
+                    for (final Map.Entry<ContentHash, Entry> savedEntry : readEntries().entrySet()) {
+                        entries.merge(
+                                savedEntry.getKey(),
+                                savedEntry.getValue(),
+                                (current, saved) -> current.lastUsedMillis >= saved.lastUsedMillis ? current : saved
+                        );
+                    }
+
+                    final List<Map.Entry<ContentHash, Entry>> keptEntries = new ArrayList<>();
+
+                    for (final Map.Entry<ContentHash, Entry> entry : entries.entrySet()) {
+                        keptEntries.add(new AbstractMap.SimpleImmutableEntry<>(
+                                entry.getKey(),
+                                new Entry(entry.getValue().outputHash, entry.getValue().lastUsedMillis)
+                        ));
+                    }
+
+                    keptEntries.sort((first, second) -> Long.compare(
+                            second.getValue().lastUsedMillis,
+                            first.getValue().lastUsedMillis
+                    ));
+
+                    while (keptEntries.size() > maxEntryCount) {
+                        entries.remove(keptEntries.remove(keptEntries.size() - 1).getKey());
+                    }
+
+                    writeEntries(keptEntries);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new FormatCacheException("Unable to save format cache to " + cacheFile, e);
+        }
+    }
+
+    /**
+     * Private method that reads entries from cache file.
+     * <p>
+     * Missing file, file of another format or formatter version and truncated file give no entries.
+     *
+     * @return {@link Map} of read entries.
+     * @throws FormatCacheException Exception that can be thrown during the method work.
+     */
+    private Map<ContentHash, Entry> readEntries() throws FormatCacheException {
+        final Map<ContentHash, Entry> readEntries = new HashMap<>();
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || input.readLong() != fingerprint) {
+                return readEntries;
+            }
+
+            final int count = input.readInt();
+
+            if (count < 0) {
+                return readEntries;
+            }
+
+            for (int i = 0; i < count; i++) {
+                final ContentHash inputHash = new ContentHash(input.readLong(), input.readLong());
+                final ContentHash outputHash = new ContentHash(input.readLong(), input.readLong());
+                readEntries.put(inputHash, new Entry(outputHash, input.readLong()));
+            }
+
+            return readEntries;
+        } catch (NoSuchFileException e) {
+            return readEntries;
+        } catch (EOFException e) {
+            return new HashMap<>();
+        } catch (IOException e) {
+            throw new FormatCacheException("Unable to read format cache from " + cacheFile, e);
+        }
+    }
+
+    /**
+     * Private method that writes passed entries to temporary file and moves it to cache file.
+     *
+     * @param writtenEntries {@link List} of entries to write.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private void writeEntries(final List<Map.Entry<ContentHash, Entry>> writtenEntries) throws IOException {
+        final Path temporaryFile = Files.createTempFile(
+                cacheFile.getParent(),
+                cacheFile.getFileName().toString(),
+                TEMPORARY_FILE_SUFFIX
+        );
+
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile))
+            )) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(fingerprint);
+                output.writeInt(writtenEntries.size());
+
+                for (final Map.Entry<ContentHash, Entry> entry : writtenEntries) {
+                    output.writeLong(entry.getKey().getHash());
+                    output.writeLong(entry.getKey().getLength());
+                    output.writeLong(entry.getValue().outputHash.getHash());
+                    output.writeLong(entry.getValue().outputHash.getLength());
+                    output.writeLong(entry.getValue().lastUsedMillis);
+                }
+            }
+
+            try {
+                Files.move(
+                        temporaryFile,
+                        cacheFile,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE
+                );
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Class that presents single cache entry.
+     */
+    private static final class Entry {
+        private final ContentHash outputHash;
+        private volatile long lastUsedMillis;
+
+        /**
+         * Class constructor that initializes all private fields with passed values.
+         *
+         * @param outputHash     {@link ContentHash} instance that presents formatted content.
+         * @param lastUsedMillis Time of the last use of entry in milliseconds since epoch.
+         */
+        private Entry(final ContentHash outputHash, final long lastUsedMillis) {
+            this.outputHash = outputHash;
+            this.lastUsedMillis = lastUsedMillis;
+        }
+    }
+}
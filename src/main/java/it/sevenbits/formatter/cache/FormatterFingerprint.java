@@ -0,0 +1,162 @@
+package it.sevenbits.formatter.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Utility class that computes fingerprint of formatter version.
+ * <p>
+ * Fingerprint is a hash of names and bytecode of all classes of packages that produce cached content:
+ * formatter and lexer packages (so it covers their FSM tables, which are built by code of these classes),
+ * io package (decoding of read files and encoding of written ones), batch package (choice of readers and writers
+ * for files) and cache package itself (hashing of content). It is read from the application jar
+ * or classes directory, so any change of code that may change formatted content gives a new fingerprint,
+ * while changes of other parts of application (e.g. command-line interface) keep it.
+ */
+public final class FormatterFingerprint {
+    private static final String[] FINGERPRINTED_PACKAGE_PATHS = {
+            "it/sevenbits/formatter/batch/",
+            "it/sevenbits/formatter/cache/",
+            "it/sevenbits/formatter/formatter/",
+            "it/sevenbits/formatter/io/",
+            "it/sevenbits/formatter/lexer/"
+    };
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * A private constructor created to exclude the possibility of creating instances of this class.
+     */
+    private FormatterFingerprint() {
+    }
+
+    /**
+     * Static method that computes fingerprint of formatter version.
+     *
+     * @return 64-bit fingerprint.
+     * @throws FormatCacheException Exception that can be thrown during the method work.
+     */
+    public static long compute() throws FormatCacheException {
+        final CodeSource codeSource = FormatterFingerprint.class.getProtectionDomain().getCodeSource();
+
+        if (codeSource == null) {
+            throw new FormatCacheException("Unable to locate formatter classes");
+        }
+
+        try {
+            final Path location = Paths.get(codeSource.getLocation().toURI());
+            final TreeMap<String, byte[]> classFiles = Files.isDirectory(location)
+                    ? readClassDirectory(location)
+                    : readJarFile(location);
+
+            if (classFiles.isEmpty()) {
+                throw new FormatCacheException("No formatter classes found in " + location);
+            }
+
+            final ContentHasher hasher = new ContentHasher();
+
+            for (final Map.Entry<String, byte[]> classFile : classFiles.entrySet()) {
+                final byte[] name = classFile.getKey().getBytes(StandardCharsets.UTF_8);
+                hasher.update(name, 0, name.length);
+                hasher.update(classFile.getValue(), 0, classFile.getValue().length);
+            }
+
+            return hasher.finish().getHash();
+        } catch (IOException | URISyntaxException e) {
+            throw new FormatCacheException("Unable to read formatter classes", e);
+        }
+    }
+
+    /**
+     * Private static method that reads fingerprinted class files from classes directory.
+     *
+     * @param directory {@link Path} instance that presents classes directory.
+     * @return Sorted {@link TreeMap} of class file names and contents.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static TreeMap<String, byte[]> readClassDirectory(final Path directory) throws IOException {
+        final TreeMap<String, byte[]> classFiles = new TreeMap<>();
+
+        for (final String packagePath : FINGERPRINTED_PACKAGE_PATHS) {
+            final Path packageDirectory = directory.resolve(packagePath);
+
+            if (!Files.isDirectory(packageDirectory)) {
+                continue;
+            }
+
+            final List<Path> paths;
+
+            try (Stream<Path> walkedPaths = Files.walk(packageDirectory)) {
+                paths = walkedPaths
+                        .filter(path -> path.toString().endsWith(CLASS_FILE_SUFFIX))
+                        .collect(Collectors.toList());
+            }
+
+            for (final Path path : paths) {
+                classFiles.put(directory.relativize(path).toString().replace('\\', '/'), Files.readAllBytes(path));
+            }
+        }
+
+        return classFiles;
+    }
+
+    /**
+     * Private static method that reads fingerprinted class files from jar file.
+     *
+     * @param jarPath {@link Path} instance that presents jar file.
+     * @return Sorted {@link TreeMap} of class file names and contents.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static TreeMap<String, byte[]> readJarFile(final Path jarPath) throws IOException {
+        final TreeMap<String, byte[]> classFiles = new TreeMap<>();
+
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            final Enumeration<JarEntry> jarEntries = jarFile.entries();
+
+            while (jarEntries.hasMoreElements()) {
+                final JarEntry jarEntry = jarEntries.nextElement();
+
+                if (isFingerprinted(jarEntry.getName())) {
+                    try (InputStream input = jarFile.getInputStream(jarEntry)) {
+                        classFiles.put(jarEntry.getName(), input.readAllBytes());
+                    }
+                }
+            }
+        }
+
+        return classFiles;
+    }
+
+    /**
+     * Private static method that checks whether class file belongs to fingerprinted packages.
+     *
+     * @param name Name of class file relative to classes root.
+     * @return Boolean value that indicates the result of method work.
+     */
+    private static boolean isFingerprinted(final String name) {
+        if (!name.endsWith(CLASS_FILE_SUFFIX)) {
+            return false;
+        }
+
+        for (final String packagePath : FINGERPRINTED_PACKAGE_PATHS) {
+            if (name.startsWith(packagePath)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
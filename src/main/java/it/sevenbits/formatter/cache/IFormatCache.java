@@ -0,0 +1,32 @@
+package it.sevenbits.formatter.cache;
+
+/**
+ * Interface that declares a functionality of cache that maps hash of input content
+ * to hash of content that is produced by formatting of this input.
+ * <p>
+ * Implementations must be safe for concurrent use by several threads.
+ */
+public interface IFormatCache {
+    /**
+     * Method that returns hash of formatted content for passed hash of input content.
+     *
+     * @param inputHash {@link ContentHash} instance that presents input content.
+     * @return {@link ContentHash} instance that presents formatted content or null if input is not cached.
+     */
+    ContentHash getOutputHash(ContentHash inputHash);
+
+    /**
+     * Method that records hash of formatted content for passed hash of input content.
+     *
+     * @param inputHash  {@link ContentHash} instance that presents input content.
+     * @param outputHash {@link ContentHash} instance that presents formatted content.
+     */
+    void put(ContentHash inputHash, ContentHash outputHash);
+
+    /**
+     * Method that persists cache.
+     *
+     * @throws FormatCacheException Exception that can be thrown during the method work.
+     */
+    void save() throws FormatCacheException;
+}
@@ -0,0 +1,10 @@
+/**
+ * This package contains interface that declares functionality for persistent format cache as well as
+ * it's implementation, content hashing and formatter fingerprinting.
+ * <p>
+ * Format cache maps hash of input file content to hash of formatted content, so batch runs can skip files
+ * which are known to be formatted already without lexing and formatting them.
+ *
+ * @author hu553in
+ */
+package it.sevenbits.formatter.cache;
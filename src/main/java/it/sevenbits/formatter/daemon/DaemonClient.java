@@ -0,0 +1,117 @@
+package it.sevenbits.formatter.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Thin client of formatter daemon.
+ * <p>
+ * Client forwards its command-line args, working directory and (if the only arg is "-") standard input
+ * to the daemon, then prints output data to standard output, messages to standard error and exits with
+ * exit code returned by the daemon. The client does not load logging, lexer and formatter classes,
+ * so its startup is as short as JVM allows.
+ */
+public final class DaemonClient {
+    private static final String CONTENT_ARG = "-";
+
+    private final Path socketPath;
+
+    /**
+     * Class constructor that initializes {@link #socketPath} with passed value.
+     *
+     * @param socketPath {@link Path} instance that presents path to socket file of the daemon.
+     */
+    public DaemonClient(final Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    /**
+     * Method that sends passed request to the daemon and returns its response.
+     *
+     * @param request {@link DaemonRequest} instance to be sent.
+     * @return {@link DaemonResponse} instance that is returned by the daemon.
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    public DaemonResponse send(final DaemonRequest request) throws DaemonException {
+        try (SocketChannel channel = UnixSockets.openChannel()) {
+            channel.connect(UnixSockets.address(socketPath));
+
+            final DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DaemonProtocol.writeRequest(outputStream, request);
+
+            final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            return DaemonProtocol.readResponse(inputStream);
+        } catch (IOException e) {
+            throw new DaemonException("Unable to communicate with daemon on socket " + socketPath, e);
+        }
+    }
+
+    /**
+     * Entry point of the client.
+     * <p>
+     * The first arg is path to socket file of the daemon, other args are forwarded to the daemon
+     * (see {@link DaemonRequestHandler} for supported ones, "--stop" stops the daemon).
+     *
+     * @param args Command-line arguments.
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Method that performs the work of {@link #main(String[])} method using passed streams.
+     *
+     * @param args        Command-line arguments.
+     * @param inputStream {@link InputStream} instance that presents standard input.
+     * @param printStream {@link PrintStream} instance that presents standard output.
+     * @param errorStream {@link PrintStream} instance that presents standard error.
+     * @return Exit code.
+     */
+    static int run(
+            final String[] args,
+            final InputStream inputStream,
+            final PrintStream printStream,
+            final PrintStream errorStream
+    ) {
+        if (args.length < 2) {
+            errorStream.println("Incorrect command-line args (expected: SOCKET ARGS...)");
+            return DaemonResponse.FAILURE_EXIT_CODE;
+        }
+
+        final List<String> forwardedArgs = Arrays.asList(args).subList(1, args.length);
+
+        try {
+            final byte[] input;
+
+            if (forwardedArgs.size() == 1 && CONTENT_ARG.equals(forwardedArgs.get(0))) {
+                input = inputStream.readAllBytes();
+            } else {
+                input = new byte[0];
+            }
+
+            final DaemonResponse response = new DaemonClient(Paths.get(args[0])).send(
+                    new DaemonRequest(Paths.get("").toAbsolutePath().toString(), forwardedArgs, input)
+            );
+
+            printStream.write(response.getOutput());
+            printStream.flush();
+            errorStream.print(response.getMessages());
+            errorStream.flush();
+            return response.getExitCode();
+        } catch (IOException | DaemonException e) {
+            errorStream.println(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return DaemonResponse.FAILURE_EXIT_CODE;
+        }
+    }
+}
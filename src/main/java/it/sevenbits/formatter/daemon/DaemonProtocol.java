@@ -0,0 +1,190 @@
+package it.sevenbits.formatter.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class that performs framing of requests and responses of formatter daemon.
+ * <p>
+ * Every frame starts with {@link #MAGIC} and {@link #VERSION} numbers. Strings and byte arrays are written
+ * as their length followed by their content, strings are encoded with UTF-8. Request frame consists of
+ * working directory, count of args, args and input data. Response frame consists of exit code, output data
+ * and messages.
+ */
+final class DaemonProtocol {
+    private static final int MAGIC = 0x7B1FDAE7;
+    private static final int VERSION = 1;
+    private static final int MAX_LENGTH = 1 << 30;
+    private static final int MAX_ARG_COUNT = 1 << 16;
+
+    /**
+     * A private constructor created to exclude the possibility of creating instances of this class.
+     */
+    private DaemonProtocol() {
+    }
+
+    /**
+     * Method that writes request frame to passed stream and flushes it.
+     *
+     * @param outputStream {@link DataOutputStream} instance.
+     * @param request      {@link DaemonRequest} instance to be written.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    static void writeRequest(final DataOutputStream outputStream, final DaemonRequest request) throws IOException {
+        writeHeader(outputStream);
+        writeString(outputStream, request.getWorkingDirectory());
+        outputStream.writeInt(request.getArgs().size());
+
+        for (final String arg : request.getArgs()) {
+            writeString(outputStream, arg);
+        }
+
+        writeBytes(outputStream, request.getInput());
+        outputStream.flush();
+    }
+
+    /**
+     * Method that reads request frame from passed stream.
+     *
+     * @param inputStream {@link DataInputStream} instance.
+     * @return {@link DaemonRequest} instance that is read.
+     * @throws IOException     Exception that can be thrown during the method work.
+     * @throws DaemonException Exception that is thrown if frame is malformed.
+     */
+    static DaemonRequest readRequest(final DataInputStream inputStream) throws IOException, DaemonException {
+        readHeader(inputStream);
+        final String workingDirectory = readString(inputStream);
+        final int argCount = inputStream.readInt();
+
+        if (argCount < 0 || argCount > MAX_ARG_COUNT) {
+            throw new DaemonException("Invalid count of args in request frame");
+        }
+
+        final List<String> args = new ArrayList<>(argCount);
+
+        for (int i = 0; i < argCount; i++) {
+            args.add(readString(inputStream));
+        }
+
+        return new DaemonRequest(workingDirectory, args, readBytes(inputStream));
+    }
+
+    /**
+     * Method that writes response frame to passed stream and flushes it.
+     *
+     * @param outputStream {@link DataOutputStream} instance.
+     * @param response     {@link DaemonResponse} instance to be written.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    static void writeResponse(final DataOutputStream outputStream, final DaemonResponse response) throws IOException {
+        writeHeader(outputStream);
+        outputStream.writeInt(response.getExitCode());
+        writeBytes(outputStream, response.getOutput());
+        writeString(outputStream, response.getMessages());
+        outputStream.flush();
+    }
+
+    /**
+     * Method that reads response frame from passed stream.
+     *
+     * @param inputStream {@link DataInputStream} instance.
+     * @return {@link DaemonResponse} instance that is read.
+     * @throws IOException     Exception that can be thrown during the method work.
+     * @throws DaemonException Exception that is thrown if frame is malformed.
+     */
+    static DaemonResponse readResponse(final DataInputStream inputStream) throws IOException, DaemonException {
+        readHeader(inputStream);
+        final int exitCode = inputStream.readInt();
+        final byte[] output = readBytes(inputStream);
+        return new DaemonResponse(exitCode, output, readString(inputStream));
+    }
+
+    /**
+     * Private method that writes header of frame.
+     *
+     * @param outputStream {@link DataOutputStream} instance.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static void writeHeader(final DataOutputStream outputStream) throws IOException {
+        outputStream.writeInt(MAGIC);
+        outputStream.writeInt(VERSION);
+    }
+
+    /**
+     * Private method that reads header of frame and checks it.
+     *
+     * @param inputStream {@link DataInputStream} instance.
+     * @throws IOException     Exception that can be thrown during the method work.
+     * @throws DaemonException Exception that is thrown if header is not valid.
+     */
+    private static void readHeader(final DataInputStream inputStream) throws IOException, DaemonException {
+        if (inputStream.readInt() != MAGIC) {
+            throw new DaemonException("Invalid frame header");
+        }
+
+        final int version = inputStream.readInt();
+
+        if (version != VERSION) {
+            throw new DaemonException(String.format("Unsupported protocol version %d (expected %d)", version, VERSION));
+        }
+    }
+
+    /**
+     * Private method that writes byte array with its length.
+     *
+     * @param outputStream {@link DataOutputStream} instance.
+     * @param bytes        Byte array to be written.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static void writeBytes(final DataOutputStream outputStream, final byte[] bytes) throws IOException {
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    /**
+     * Private method that reads byte array with its length.
+     *
+     * @param inputStream {@link DataInputStream} instance.
+     * @return Byte array that is read.
+     * @throws IOException     Exception that can be thrown during the method work.
+     * @throws DaemonException Exception that is thrown if length is not valid.
+     */
+    private static byte[] readBytes(final DataInputStream inputStream) throws IOException, DaemonException {
+        final int length = inputStream.readInt();
+
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new DaemonException("Invalid length of data in frame");
+        }
+
+        final byte[] bytes = new byte[length];
+        inputStream.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Private method that writes UTF-8 encoded string with its length.
+     *
+     * @param outputStream {@link DataOutputStream} instance.
+     * @param string       {@link String} instance to be written.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static void writeString(final DataOutputStream outputStream, final String string) throws IOException {
+        writeBytes(outputStream, string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Private method that reads UTF-8 encoded string with its length.
+     *
+     * @param inputStream {@link DataInputStream} instance.
+     * @return {@link String} instance that is read.
+     * @throws IOException     Exception that can be thrown during the method work.
+     * @throws DaemonException Exception that is thrown if length is not valid.
+     */
+    private static String readString(final DataInputStream inputStream) throws IOException, DaemonException {
+        return new String(readBytes(inputStream), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,57 @@
+package it.sevenbits.formatter.daemon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class that presents request to formatter daemon.
+ * <p>
+ * Request carries command-line args of the client, its working directory (relative paths in args
+ * are resolved against it) and input data that is formatted when the only arg is "-".
+ */
+public final class DaemonRequest {
+    private final String workingDirectory;
+    private final List<String> args;
+    private final byte[] input;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param workingDirectory {@link String} instance that presents working directory of the client.
+     * @param args             {@link List} of {@link String} instances that present command-line args.
+     * @param input            UTF-8 encoded input data (may be empty).
+     */
+    public DaemonRequest(final String workingDirectory, final List<String> args, final byte[] input) {
+        this.workingDirectory = workingDirectory;
+        this.args = Collections.unmodifiableList(new ArrayList<>(args));
+        this.input = input;
+    }
+
+    /**
+     * Method that returns working directory of the client.
+     *
+     * @return {@link String} instance that presents working directory.
+     */
+    public String getWorkingDirectory() {
+        return workingDirectory;
+    }
+
+    /**
+     * Method that returns command-line args of the client.
+     *
+     * @return Unmodifiable {@link List} of {@link String} instances.
+     */
+    public List<String> getArgs() {
+        return args;
+    }
+
+    /**
+     * Method that returns input data.
+     *
+     * @return UTF-8 encoded input data.
+     */
+    public byte[] getInput() {
+        return input;
+    }
+}
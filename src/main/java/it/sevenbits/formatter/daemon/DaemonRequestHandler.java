@@ -0,0 +1,217 @@
+package it.sevenbits.formatter.daemon;
+
+import it.sevenbits.formatter.batch.BatchFormatterException;
+import it.sevenbits.formatter.batch.BatchSummary;
+import it.sevenbits.formatter.batch.CheckSummary;
+import it.sevenbits.formatter.batch.IBatchFormatter;
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.io.reader.FileReader;
+import it.sevenbits.formatter.io.reader.ReaderException;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.FileWriter;
+import it.sevenbits.formatter.io.writer.StringWriter;
+import it.sevenbits.formatter.io.writer.WriterException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that performs requests to formatter daemon.
+ * <p>
+ * Supported command-line args are:
+ * <ul>
+ * <li>"-" - formats input data of request and returns it as output data;</li>
+ * <li>"IN OUT" - formats input file to output file;</li>
+ * <li>"--batch [--output DIR] PATH..." - formats files as batch mode of application does;</li>
+ * <li>"--check PATH..." - checks files as check mode of application does.</li>
+ * </ul>
+ * Relative paths are resolved against working directory of request.
+ * Passed formatters are shared between all requests, so they must be thread-safe.
+ */
+class DaemonRequestHandler {
+    private static final String CONTENT_ARG = "-";
+    private static final String BATCH_OPTION = "--batch";
+    private static final String OUTPUT_OPTION = "--output";
+    private static final String CHECK_OPTION = "--check";
+    private static final byte[] NO_OUTPUT = new byte[0];
+
+    private final IFormatter formatter;
+    private final IBatchFormatter batchFormatter;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param formatter      {@link IFormatter} instance that formats single files and input data.
+     * @param batchFormatter {@link IBatchFormatter} instance that formats and checks many files.
+     */
+    DaemonRequestHandler(final IFormatter formatter, final IBatchFormatter batchFormatter) {
+        this.formatter = formatter;
+        this.batchFormatter = batchFormatter;
+    }
+
+    /**
+     * Method that performs passed request.
+     *
+     * @param request {@link DaemonRequest} instance to be performed.
+     * @return {@link DaemonResponse} instance that presents result of request.
+     */
+    DaemonResponse handle(final DaemonRequest request) {
+        final List<String> args = request.getArgs();
+        final Path workingDirectory = Paths.get(request.getWorkingDirectory());
+
+        try {
+            if (args.size() == 1 && CONTENT_ARG.equals(args.get(0))) {
+                return formatContent(request.getInput());
+            }
+
+            if (!args.isEmpty() && BATCH_OPTION.equals(args.get(0))) {
+                return formatBatch(args, workingDirectory);
+            }
+
+            if (!args.isEmpty() && CHECK_OPTION.equals(args.get(0))) {
+                return check(args, workingDirectory);
+            }
+
+            if (args.size() == 2) {
+                return formatFile(workingDirectory.resolve(args.get(0)), workingDirectory.resolve(args.get(1)));
+            }
+        } catch (ReaderException | WriterException | FormatterException | BatchFormatterException e) {
+            return failure(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+        }
+
+        return failure("Incorrect command-line args (expected: - | IN OUT | --batch [--output DIR] PATH... | --check PATH...)");
+    }
+
+    /**
+     * Private method that formats input data of request.
+     *
+     * @param input UTF-8 encoded input data.
+     * @return {@link DaemonResponse} instance that carries formatted data.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    private DaemonResponse formatContent(final byte[] input) throws FormatterException {
+        final StringWriter writer = new StringWriter();
+        formatter.format(new StringReader(new String(input, StandardCharsets.UTF_8)), writer);
+        return new DaemonResponse(DaemonResponse.SUCCESS_EXIT_CODE, writer.toString().getBytes(StandardCharsets.UTF_8), "");
+    }
+
+    /**
+     * Private method that formats input file to output file.
+     *
+     * @param inputPath  {@link Path} instance that presents input file.
+     * @param outputPath {@link Path} instance that presents output file.
+     * @return {@link DaemonResponse} instance that presents success.
+     * @throws ReaderException    Exception that can be thrown during the method work.
+     * @throws WriterException    Exception that can be thrown during the method work.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    private DaemonResponse formatFile(
+            final Path inputPath,
+            final Path outputPath
+    ) throws ReaderException, WriterException, FormatterException {
+        try (
+                FileReader reader = new FileReader(inputPath);
+                FileWriter writer = new FileWriter(outputPath)
+        ) {
+            formatter.format(reader, writer);
+        }
+
+        return new DaemonResponse(DaemonResponse.SUCCESS_EXIT_CODE, NO_OUTPUT, "");
+    }
+
+    /**
+     * Private method that formats files in batch mode.
+     *
+     * @param args             {@link List} of {@link String} instances that present command-line args.
+     * @param workingDirectory {@link Path} instance that presents working directory of request.
+     * @return {@link DaemonResponse} instance that carries failures and summary of run.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    private DaemonResponse formatBatch(
+            final List<String> args,
+            final Path workingDirectory
+    ) throws BatchFormatterException {
+        final List<String> inputPaths = new ArrayList<>();
+        Path outputDirectory = null;
+        int argIndex = 1;
+
+        while (argIndex < args.size()) {
+            if (OUTPUT_OPTION.equals(args.get(argIndex)) && argIndex + 1 < args.size()) {
+                outputDirectory = workingDirectory.resolve(args.get(argIndex + 1));
+                argIndex += 2;
+            } else {
+                inputPaths.add(workingDirectory.resolve(args.get(argIndex)).toString());
+                argIndex++;
+            }
+        }
+
+        final BatchSummary summary = batchFormatter.format(inputPaths, outputDirectory);
+        final StringBuilder messages = new StringBuilder();
+
+        for (final String failure : summary.getFailures()) {
+            messages.append(failure).append('\n');
+        }
+
+        messages.append(summary).append('\n');
+
+        return new DaemonResponse(
+                summary.getFailedFileCount() > 0 ? DaemonResponse.FAILURE_EXIT_CODE : DaemonResponse.SUCCESS_EXIT_CODE,
+                NO_OUTPUT,
+                messages.toString()
+        );
+    }
+
+    /**
+     * Private method that checks whether files are formatted.
+     *
+     * @param args             {@link List} of {@link String} instances that present command-line args.
+     * @param workingDirectory {@link Path} instance that presents working directory of request.
+     * @return {@link DaemonResponse} instance that carries mismatches, failures and summary of run.
+     * @throws BatchFormatterException Exception that can be thrown during the method work.
+     */
+    private DaemonResponse check(final List<String> args, final Path workingDirectory) throws BatchFormatterException {
+        final List<String> inputPaths = new ArrayList<>();
+
+        for (final String arg : args.subList(1, args.size())) {
+            inputPaths.add(workingDirectory.resolve(arg).toString());
+        }
+
+        final CheckSummary summary = batchFormatter.check(inputPaths);
+        final StringBuilder messages = new StringBuilder();
+
+        for (final String mismatch : summary.getMismatches()) {
+            messages.append(mismatch).append('\n');
+        }
+
+        for (final String failure : summary.getFailures()) {
+            messages.append(failure).append('\n');
+        }
+
+        messages.append(summary).append('\n');
+        final int exitCode;
+
+        if (summary.getFailedFileCount() > 0) {
+            exitCode = DaemonResponse.FAILURE_EXIT_CODE;
+        } else if (summary.getMismatchedFileCount() > 0) {
+            exitCode = DaemonResponse.MISMATCH_EXIT_CODE;
+        } else {
+            exitCode = DaemonResponse.SUCCESS_EXIT_CODE;
+        }
+
+        return new DaemonResponse(exitCode, NO_OUTPUT, messages.toString());
+    }
+
+    /**
+     * Private method that creates response of failed request.
+     *
+     * @param message {@link String} instance that describes failure.
+     * @return {@link DaemonResponse} instance.
+     */
+    private static DaemonResponse failure(final String message) {
+        return new DaemonResponse(DaemonResponse.FAILURE_EXIT_CODE, NO_OUTPUT, message + '\n');
+    }
+}
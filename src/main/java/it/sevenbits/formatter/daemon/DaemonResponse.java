@@ -0,0 +1,66 @@
+package it.sevenbits.formatter.daemon;
+
+/**
+ * Class that presents response of formatter daemon.
+ * <p>
+ * Response carries exit code of the client, output data (formatted input data) and messages
+ * which are printed to standard error stream by the client.
+ */
+public final class DaemonResponse {
+    /**
+     * Exit code of successful request.
+     */
+    public static final int SUCCESS_EXIT_CODE = 0;
+    /**
+     * Exit code of check request that found files which are not formatted.
+     */
+    public static final int MISMATCH_EXIT_CODE = 1;
+    /**
+     * Exit code of failed request.
+     */
+    public static final int FAILURE_EXIT_CODE = 2;
+
+    private final int exitCode;
+    private final byte[] output;
+    private final String messages;
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param exitCode Exit code of the client.
+     * @param output   UTF-8 encoded output data (may be empty).
+     * @param messages {@link String} instance that presents messages separated by newlines (may be empty).
+     */
+    public DaemonResponse(final int exitCode, final byte[] output, final String messages) {
+        this.exitCode = exitCode;
+        this.output = output;
+        this.messages = messages;
+    }
+
+    /**
+     * Method that returns exit code of the client.
+     *
+     * @return Exit code.
+     */
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    /**
+     * Method that returns output data.
+     *
+     * @return UTF-8 encoded output data.
+     */
+    public byte[] getOutput() {
+        return output;
+    }
+
+    /**
+     * Method that returns messages.
+     *
+     * @return {@link String} instance that presents messages separated by newlines.
+     */
+    public String getMessages() {
+        return messages;
+    }
+}
@@ -0,0 +1,252 @@
+package it.sevenbits.formatter.daemon;
+
+import it.sevenbits.formatter.batch.BatchFormatter;
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.formatter.fsm.FSMFormatter;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.StringWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link IFormatterDaemon} interface implementation that serves requests over a Unix domain socket.
+ * <p>
+ * Each client connection carries exactly one request frame and one response frame (see {@link DaemonProtocol}).
+ * Connections are accepted by a dedicated thread and served by a fixed thread pool that shares one
+ * {@link FSMFormatter} instance, so FSM tables are built once and stay warm between requests.
+ * Before binding of socket, the formatter is warmed up by formatting of a sample source
+ * {@link #WARM_UP_ITERATIONS} times, so hot paths are compiled by JIT before the first client comes.
+ * <p>
+ * Request with the only "--stop" arg stops the daemon. Stale socket file that is left by a crashed daemon
+ * is replaced, while socket file of a running daemon and path that is not a socket are reported
+ * with {@link DaemonException}.
+ */
+public class FormatterDaemon implements IFormatterDaemon {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FormatterDaemon.class);
+    private static final String STOP_ARG = "--stop";
+    private static final int WARM_UP_ITERATIONS = 2000;
+    private static final String WARM_UP_SOURCE = "package a;\n" +
+            "/* warm-up */ public class A extends B implements C {\n" +
+            "    private static final String S = \"s;{}\\\"\"; // comment\n" +
+            "    public int f(final int x) { if (x > 0) { for (int i = 0; i < x; i++) { g('}'); } } return x; }\n" +
+            "}\n";
+
+    private final Path socketPath;
+    private final int parallelism;
+    private final IFormatter formatter;
+    private final DaemonRequestHandler requestHandler;
+    private final CountDownLatch stopLatch;
+    private ServerSocketChannel serverChannel;
+    private ExecutorService executor;
+
+    /**
+     * Overload of constructor that initializes {@link #parallelism} with count of available processors.
+     *
+     * @param socketPath {@link Path} instance that presents path to socket file.
+     */
+    public FormatterDaemon(final Path socketPath) {
+        this(socketPath, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Overload of constructor that initializes all private fields with passed values.
+     *
+     * @param socketPath  {@link Path} instance that presents path to socket file.
+     * @param parallelism Count of threads that serve requests.
+     */
+    public FormatterDaemon(final Path socketPath, final int parallelism) {
+        this.socketPath = socketPath.toAbsolutePath();
+        this.parallelism = Math.max(parallelism, 1);
+        this.formatter = new FSMFormatter();
+        this.requestHandler = new DaemonRequestHandler(formatter, new BatchFormatter(formatter, this.parallelism));
+        this.stopLatch = new CountDownLatch(1);
+    }
+
+    /**
+     * Method that starts daemon: binds its socket, warms formatter up and starts serving requests
+     * in background.
+     *
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    @Override
+    public synchronized void start() throws DaemonException {
+        if (serverChannel != null) {
+            throw new DaemonException("Daemon is started already");
+        }
+
+        warmUp();
+        removeStaleSocket();
+        serverChannel = UnixSockets.openServerChannel();
+
+        try {
+            serverChannel.bind(UnixSockets.address(socketPath));
+        } catch (IOException | DaemonException e) {
+            closeServerChannel();
+            throw new DaemonException("Unable to bind socket " + socketPath, e);
+        }
+
+        executor = Executors.newFixedThreadPool(parallelism);
+        final Thread acceptThread = new Thread(this::acceptConnections, "formatter-daemon-accept");
+        acceptThread.start();
+    }
+
+    /**
+     * Method that stops daemon: stops accepting of requests and releases its socket.
+     * Requests that are being served are completed.
+     */
+    @Override
+    public synchronized void stop() {
+        if (serverChannel == null || !serverChannel.isOpen()) {
+            return;
+        }
+
+        closeServerChannel();
+    }
+
+    /**
+     * Method that blocks current thread until daemon is stopped.
+     *
+     * @throws InterruptedException Exception that is thrown if current thread is interrupted while waiting.
+     */
+    @Override
+    public void awaitStop() throws InterruptedException {
+        stopLatch.await();
+    }
+
+    /**
+     * Private method that deletes socket file if no daemon is listening on it.
+     * <p>
+     * Path is deleted only if it is a socket itself (symbolic links are not followed), so a regular file
+     * that is passed as socket path by mistake is never deleted.
+     *
+     * @throws DaemonException Exception that is thrown if path is not a socket or another daemon is listening on it.
+     */
+    private void removeStaleSocket() throws DaemonException {
+        if (!Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+
+        final BasicFileAttributes attributes;
+
+        try {
+            attributes = Files.readAttributes(socketPath, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            throw new DaemonException("Unable to read attributes of " + socketPath, e);
+        }
+
+        if (!attributes.isOther()) {
+            throw new DaemonException("Path " + socketPath + " exists and is not a socket");
+        }
+
+        try (SocketChannel channel = UnixSockets.openChannel()) {
+            channel.connect(UnixSockets.address(socketPath));
+            throw new DaemonException("Another daemon is listening on socket " + socketPath);
+        } catch (IOException e) {
+            try {
+                Files.delete(socketPath);
+            } catch (IOException deleteException) {
+                throw new DaemonException("Unable to delete stale socket " + socketPath, deleteException);
+            }
+        }
+    }
+
+    /**
+     * Private method that formats sample source many times, so hot paths of lexer and formatter are compiled.
+     *
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    private void warmUp() throws DaemonException {
+        try {
+            for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+                formatter.format(new StringReader(WARM_UP_SOURCE), new StringWriter());
+            }
+        } catch (FormatterException e) {
+            throw new DaemonException("Unable to warm formatter up", e);
+        }
+    }
+
+    /**
+     * Private method that accepts connections until server channel is closed and passes them to {@link #executor}.
+     * Then it waits for served requests, deletes socket file and releases threads which wait for stop.
+     */
+    private void acceptConnections() {
+        try {
+            while (true) {
+                final SocketChannel channel = serverChannel.accept();
+                executor.execute(() -> serve(channel));
+            }
+        } catch (ClosedChannelException e) {
+            LOGGER.info("Daemon is stopped");
+        } catch (IOException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            closeServerChannel();
+        } finally {
+            executor.shutdown();
+
+            try {
+                Files.deleteIfExists(socketPath);
+            } catch (IOException e) {
+                LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            }
+
+            stopLatch.countDown();
+        }
+    }
+
+    /**
+     * Private method that reads request from passed channel, performs it and writes response.
+     *
+     * @param channel {@link SocketChannel} instance that presents client connection.
+     */
+    private void serve(final SocketChannel channel) {
+        try (
+                channel;
+                DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))
+        ) {
+            final DaemonRequest request = DaemonProtocol.readRequest(inputStream);
+            final List<String> stopArgs = Collections.singletonList(STOP_ARG);
+
+            if (stopArgs.equals(request.getArgs())) {
+                DaemonProtocol.writeResponse(outputStream, new DaemonResponse(DaemonResponse.SUCCESS_EXIT_CODE, new byte[0], ""));
+                stop();
+                return;
+            }
+
+            DaemonProtocol.writeResponse(outputStream, requestHandler.handle(request));
+        } catch (IOException | DaemonException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Private method that closes server channel ignoring failures.
+     */
+    private void closeServerChannel() {
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+        }
+    }
+}
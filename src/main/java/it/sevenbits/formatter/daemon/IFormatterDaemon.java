@@ -0,0 +1,27 @@
+package it.sevenbits.formatter.daemon;
+
+/**
+ * Interface that declares a functionality for long-lived formatter daemon.
+ */
+public interface IFormatterDaemon {
+    /**
+     * Method that starts daemon: binds its socket, warms formatter up and starts serving requests
+     * in background.
+     *
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    void start() throws DaemonException;
+
+    /**
+     * Method that stops daemon: stops accepting of requests and releases its socket.
+     * Requests that are being served are completed.
+     */
+    void stop();
+
+    /**
+     * Method that blocks current thread until daemon is stopped.
+     *
+     * @throws InterruptedException Exception that is thrown if current thread is interrupted while waiting.
+     */
+    void awaitStop() throws InterruptedException;
+}
@@ -0,0 +1,86 @@
+package it.sevenbits.formatter.daemon;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Utility class that opens Unix domain socket channels.
+ * <p>
+ * Unix domain sockets are available in Java 16 and newer, while the application is built for Java 11,
+ * so {@code UnixDomainSocketAddress} class and channel factory methods that accept {@link ProtocolFamily}
+ * are accessed reflectively. On older runtimes all methods throw {@link DaemonException}.
+ */
+final class UnixSockets {
+    private static final String ADDRESS_CLASS_NAME = "java.net.UnixDomainSocketAddress";
+    private static final String UNIX_FAMILY_NAME = "UNIX";
+    private static final String UNSUPPORTED_MESSAGE = "Unix domain sockets are not supported (Java 16 or newer is required)";
+
+    /**
+     * A private constructor created to exclude the possibility of creating instances of this class.
+     */
+    private UnixSockets() {
+    }
+
+    /**
+     * Method that returns address of Unix domain socket that is bound to passed path.
+     *
+     * @param socketPath {@link Path} instance that presents path to socket file.
+     * @return {@link SocketAddress} instance.
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    static SocketAddress address(final Path socketPath) throws DaemonException {
+        try {
+            final Method method = Class.forName(ADDRESS_CLASS_NAME).getMethod("of", Path.class);
+            return (SocketAddress) method.invoke(null, socketPath);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new DaemonException(UNSUPPORTED_MESSAGE, e);
+        } catch (InvocationTargetException e) {
+            throw new DaemonException("Invalid socket path " + socketPath, e.getCause());
+        }
+    }
+
+    /**
+     * Method that opens a new unbound Unix domain server socket channel.
+     *
+     * @return {@link ServerSocketChannel} instance.
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    static ServerSocketChannel openServerChannel() throws DaemonException {
+        return (ServerSocketChannel) open(ServerSocketChannel.class);
+    }
+
+    /**
+     * Method that opens a new unconnected Unix domain socket channel.
+     *
+     * @return {@link SocketChannel} instance.
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    static SocketChannel openChannel() throws DaemonException {
+        return (SocketChannel) open(SocketChannel.class);
+    }
+
+    /**
+     * Private method that invokes static "open(ProtocolFamily)" method of passed channel class
+     * with Unix protocol family.
+     *
+     * @param channelClass Channel class.
+     * @return Opened channel.
+     * @throws DaemonException Exception that can be thrown during the method work.
+     */
+    private static Object open(final Class<?> channelClass) throws DaemonException {
+        try {
+            final ProtocolFamily family = StandardProtocolFamily.valueOf(UNIX_FAMILY_NAME);
+            return channelClass.getMethod("open", ProtocolFamily.class).invoke(null, family);
+        } catch (IllegalArgumentException | NoSuchMethodException | IllegalAccessException e) {
+            throw new DaemonException(UNSUPPORTED_MESSAGE, e);
+        } catch (InvocationTargetException e) {
+            throw new DaemonException("Unable to open socket channel", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * This package contains interface that declares functionality for long-lived formatter daemon as well as
+ * it's implementation, the thin client and the framing protocol between them.
+ * <p>
+ * Daemon keeps a warmed JVM and serves format requests over a Unix domain socket, so short runs
+ * (e.g. formatting on save or in pre-commit hooks) do not pay for JVM startup and warm-up of the formatter.
+ *
+ * @author hu553in
+ */
+package it.sevenbits.formatter.daemon;
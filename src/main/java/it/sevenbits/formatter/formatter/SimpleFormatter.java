@@ -5,11 +5,10 @@ import it.sevenbits.formatter.io.reader.IReader;
 import it.sevenbits.formatter.io.writer.IWriter;
 import it.sevenbits.formatter.io.writer.WriterException;
 import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.ITokenCursor;
 import it.sevenbits.formatter.lexer.LexerException;
 import it.sevenbits.formatter.lexer.SimpleLexer;
-import it.sevenbits.formatter.lexer.token.IToken;
-
-import java.util.Objects;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 
 /**
  * Class that formats Java source code. Input is performed using {@link IWriter} and {@link ILexer} instances,
@@ -19,6 +18,9 @@ public class SimpleFormatter implements IFormatter {
     /**
      * Method that performs formatting of Java source code that is stored in lexical tokens
      * which are provided by {@link ILexer} instance.
+     * <p>
+     * Tokens are pulled through {@link ITokenCursor} interface, and only kind of the last written token is kept,
+     * so no objects are created per token.
      *
      * @param reader {@link IReader} instance that provides data reading.
      * @param writer {@link IWriter} instance that provides data writing.
@@ -34,7 +36,7 @@ public class SimpleFormatter implements IFormatter {
             throw new FormatterException("\"writer\" argument is null");
         }
 
-        final ILexer lexer;
+        final SimpleLexer lexer;
 
         try {
             lexer = new SimpleLexer(reader);
@@ -43,78 +45,88 @@ public class SimpleFormatter implements IFormatter {
         }
 
         short nestingLevel = 0;
-        String lastWrittenLexeme = null;
-
-        while (lexer.hasMoreTokens()) {
-            IToken token;
+        TokenKind lastWrittenKind = null;
 
+        while (true) {
             try {
-                token = lexer.readToken();
+                if (!lexer.advance()) {
+                    break;
+                }
             } catch (LexerException e) {
                 throw new FormatterException("Unable to read token from lexer", e);
             }
 
+            final CharSequence lexeme = lexer.getLexemeView();
+
             try {
-                if (Objects.equals(token.getName(), "OPENING_CURLY_BRACE")) {
-                    if (Objects.equals(lastWrittenLexeme, "\n") || lastWrittenLexeme == null) {
-                        writer.write(IndentProvider.getFourSpacesIndent(nestingLevel));
-                    } else if (!Objects.equals(lastWrittenLexeme, " ")) {
-                        writer.write(" ");
-                    }
-
-                    nestingLevel++;
-                    writer.write(token.getLexeme());
-                    lastWrittenLexeme = token.getLexeme();
-
-                    if (lexer.hasMoreTokens()) {
-                        writer.write("\n");
-                        lastWrittenLexeme = "\n";
-                    }
-                } else if (Objects.equals(token.getName(), "CLOSING_CURLY_BRACE")) {
-                    nestingLevel--;
-
-                    if (!Objects.equals(lastWrittenLexeme, "\n") && lastWrittenLexeme != null) {
-                        writer.write("\n");
-                    }
-
-                    writer.write(IndentProvider.getFourSpacesIndent(nestingLevel));
-                    writer.write(token.getLexeme());
-                    lastWrittenLexeme = token.getLexeme();
-
-                    if (lexer.hasMoreTokens()) {
-                        writer.write("\n");
-                        lastWrittenLexeme = "\n";
-                    }
-                } else if (Objects.equals(token.getName(), "SEMICOLON")) {
-                    writer.write(token.getLexeme());
-                    lastWrittenLexeme = token.getLexeme();
-
-                    if (lexer.hasMoreTokens()) {
-                        writer.write("\n");
-                        lastWrittenLexeme = "\n";
-                    }
-                } else if (Objects.equals(token.getName(), "NEWLINE")) {
-                    if (!Objects.equals(lastWrittenLexeme, token.getLexeme())) {
-                        writer.write(token.getLexeme());
-                        lastWrittenLexeme = token.getLexeme();
-                    }
-                } else if (Objects.equals(token.getName(), "WHITESPACE")) {
-                    if (
-                            !Objects.equals(lastWrittenLexeme, token.getLexeme()) &&
-                                    !Objects.equals(lastWrittenLexeme, "\n") &&
-                                    lastWrittenLexeme != null &&
-                                    !lastWrittenLexeme.endsWith(token.getLexeme())
-                    ) {
-                        writer.write(token.getLexeme());
-                        lastWrittenLexeme = token.getLexeme();
-                    }
-                } else if (Objects.equals(token.getName(), "OTHER")) {
-                    if (Objects.equals(lastWrittenLexeme, "\n")) {
-                        writer.write(IndentProvider.getFourSpacesIndent(nestingLevel));
-                    }
-
-                    writer.write(token.getLexeme());
-                    lastWrittenLexeme = token.getLexeme();
+                switch (lexer.getKind()) {
+                    case OPENING_CURLY_BRACE:
+                        if (lastWrittenKind == TokenKind.NEWLINE || lastWrittenKind == null) {
+                            IndentProvider.writeFourSpacesIndent(writer, nestingLevel);
+                        } else if (lastWrittenKind != TokenKind.WHITESPACE) {
+                            writer.write(" ");
+                        }
+
+                        nestingLevel++;
+                        writer.write(lexeme, 0, lexeme.length());
+                        lastWrittenKind = TokenKind.OPENING_CURLY_BRACE;
+
+                        if (lexer.hasMoreTokens()) {
+                            writer.write("\n");
+                            lastWrittenKind = TokenKind.NEWLINE;
+                        }
+                        break;
+                    case CLOSING_CURLY_BRACE:
+                        nestingLevel--;
+
+                        if (lastWrittenKind != TokenKind.NEWLINE && lastWrittenKind != null) {
+                            writer.write("\n");
+                        }
+
+                        IndentProvider.writeFourSpacesIndent(writer, nestingLevel);
+                        writer.write(lexeme, 0, lexeme.length());
+                        lastWrittenKind = TokenKind.CLOSING_CURLY_BRACE;
+
+                        if (lexer.hasMoreTokens()) {
+                            writer.write("\n");
+                            lastWrittenKind = TokenKind.NEWLINE;
+                        }
+                        break;
+                    case SEMICOLON:
+                        writer.write(lexeme, 0, lexeme.length());
+                        lastWrittenKind = TokenKind.SEMICOLON;
+
+                        if (lexer.hasMoreTokens()) {
+                            writer.write("\n");
+                            lastWrittenKind = TokenKind.NEWLINE;
+                        }
+                        break;
+                    case NEWLINE:
+                        if (lastWrittenKind != TokenKind.NEWLINE) {
+                            writer.write(lexeme, 0, lexeme.length());
+                            lastWrittenKind = TokenKind.NEWLINE;
+                        }
+                        break;
+                    case WHITESPACE:
+                        if (
+                                lastWrittenKind != TokenKind.WHITESPACE &&
+                                        lastWrittenKind != TokenKind.NEWLINE &&
+                                        lastWrittenKind != null
+                        ) {
+                            writer.write(lexeme, 0, lexeme.length());
+                            lastWrittenKind = TokenKind.WHITESPACE;
+                        }
+                        break;
+                    case OTHER:
+                        if (lastWrittenKind == TokenKind.NEWLINE) {
+                            IndentProvider.writeFourSpacesIndent(writer, nestingLevel);
+                        }
+
+                        writer.write(lexeme, 0, lexeme.length());
+                        lastWrittenKind = TokenKind.OTHER;
+                        break;
+                    default:
+                        break;
                 }
             } catch (WriterException e) {
                 throw new FormatterException("Unable to write to writer", e);
@@ -14,26 +14,48 @@ import it.sevenbits.formatter.formatter.fsm.state.StateTransitions;
 import it.sevenbits.formatter.io.reader.IReader;
 import it.sevenbits.formatter.io.writer.IWriter;
 import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.ITokenCursor;
 import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.LexerTokenCursor;
 import it.sevenbits.formatter.lexer.factory.ILexerFactory;
 import it.sevenbits.formatter.lexer.factory.LexerFactory;
 import it.sevenbits.formatter.lexer.factory.LexerFactoryException;
-import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenView;
 
 /**
  * Class that formats Java source code. Input is performed using {@link IReader} and {@link ILexer} instances,
  * output is performed using {@link IWriter} instance.
  * <p>
  * This {@link IFormatter} implementation is based on finite-state machine and "Command" design pattern.
+ * <p>
+ * FSM transitions and commands are immutable, so they are built once and shared between all instances
+ * of this class. All mutable formatting data (writer, nesting level and current lexeme) lives in
+ * {@link ICommandArgs} instance that is created per {@link #format(IReader, IWriter)} call and passed to commands,
+ * so the single instance of this class can serve any number of threads concurrently.
+ * <p>
+ * Lexer that is created per call is closed at the end of the call, even if formatting fails.
  */
 public class FSMFormatter implements IFormatter {
+    private static final IStateTransitions STATE_TRANSITIONS = new StateTransitions();
+    private static final ICommandFactory COMMAND_FACTORY = new CommandFactory();
+
     private final ILexerFactory lexerFactory;
 
     /**
      * Class constructor that initializes {@link #lexerFactory} with new {@link LexerFactory} instance.
      */
     public FSMFormatter() {
-        lexerFactory = new LexerFactory();
+        this(new LexerFactory());
+    }
+
+    /**
+     * Class constructor that initializes {@link #lexerFactory} with passed instance
+     * (e.g. {@link it.sevenbits.formatter.lexer.factory.PipelinedLexerFactory} to lex on a separate thread).
+     *
+     * @param lexerFactory {@link ILexerFactory} instance that creates lexers for passed readers.
+     */
+    public FSMFormatter(final ILexerFactory lexerFactory) {
+        this.lexerFactory = lexerFactory;
     }
 
     /**
@@ -62,39 +84,68 @@ public class FSMFormatter implements IFormatter {
             throw new FormatterException("Unable to create lexer instance", e);
         }
 
-        final IStateTransitions stateTransitions = new StateTransitions();
-        final State errorState = stateTransitions.getErrorState();
         final ICommandArgs commandArgs = new CommandArgs();
-        final ICommandFactory commandFactory = new CommandFactory(commandArgs);
-
         commandArgs.setWriter(writer);
         commandArgs.setNestingLevel(0);
-        State currentState = stateTransitions.getStartState();
 
-        while (lexer.hasMoreTokens()) {
-            final IToken currentToken;
+        try {
+            formatTokens(LexerTokenCursor.of(lexer), commandArgs, STATE_TRANSITIONS.getStartState());
+        } finally {
+            lexer.close();
+        }
+    }
 
+    /**
+     * Method that performs formatting of all tokens provided by passed cursor starting from passed FSM state.
+     * <p>
+     * Formatting data (writer and nesting level) is taken from and left in passed {@link ICommandArgs} instance,
+     * so input can be formatted part by part (see {@link ParallelFSMFormatter}).
+     * <p>
+     * Kind and lexeme of each token are exposed to FSM through single reusable {@link TokenView} instance,
+     * so no objects are created per token.
+     *
+     * @param cursor      {@link ITokenCursor} instance that provides tokens.
+     * @param commandArgs {@link ICommandArgs} instance that is passed to commands.
+     * @param startState  {@link State} instance that presents FSM state before the first token.
+     * @return {@link State} instance that presents FSM state after the last token.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    static State formatTokens(
+            final ITokenCursor cursor,
+            final ICommandArgs commandArgs,
+            final State startState
+    ) throws FormatterException {
+        final State errorState = STATE_TRANSITIONS.getErrorState();
+        final TokenView currentToken = new TokenView();
+        State currentState = startState;
+
+        while (true) {
             try {
-                currentToken = lexer.readToken();
+                if (!cursor.advance()) {
+                    break;
+                }
             } catch (LexerException e) {
                 throw new FormatterException("Unable to read token from lexer", e);
             }
 
-            commandArgs.setCurrentLexeme(currentToken.getLexeme());
+            currentToken.set(cursor.getKind(), cursor.getLexemeView());
+            commandArgs.setCurrentLexeme(currentToken.getLexemeView());
 
             try {
-                commandFactory.getCommand(currentState, currentToken).execute();
+                COMMAND_FACTORY.getCommand(currentState, currentToken).execute(commandArgs);
             } catch (CommandFactoryException e) {
                 throw new FormatterException("Unable to get command from factory", e);
             } catch (CommandException e) {
                 throw new FormatterException("Unable to execute command", e);
             }
 
-            currentState = stateTransitions.nextState(currentState, currentToken);
+            currentState = STATE_TRANSITIONS.nextState(currentState, currentToken);
 
-            if (currentState.equals(errorState)) {
+            if (currentState == errorState) {
                 throw new FormatterException("Unable to get next state basing on current state and token");
             }
         }
+
+        return currentState;
     }
 }
@@ -0,0 +1,121 @@
+package it.sevenbits.formatter.formatter.fsm;
+
+import it.sevenbits.formatter.formatter.fsm.command.args.ICommandArgs;
+import it.sevenbits.formatter.io.writer.IWriter;
+
+/**
+ * {@link ICommandArgs} interface implementation that does not format anything but measures
+ * how commands change nesting level.
+ * <p>
+ * Commands change nesting level relatively to the current one and decrease it only while it is positive,
+ * so this class always reports nesting level of one (every decrease takes effect) and sums up changes
+ * that are made by commands. Output of commands is discarded.
+ * <p>
+ * The effect of measured tokens on any real nesting level {@code x} is {@code max(x + delta, delta - minDelta)},
+ * where {@code delta} is the total change and {@code minDelta} is the minimal running total (not greater than 0).
+ */
+class NestingDeltaCommandArgs implements ICommandArgs {
+    private static final IWriter DISCARDING_WRITER = new IWriter() {
+        @Override
+        public void write(final int character) {
+        }
+
+        @Override
+        public void write(final String string) {
+        }
+
+        @Override
+        public void write(final char[] charArray) {
+        }
+
+        @Override
+        public void write(final char[] charArray, final int offset, final int length) {
+        }
+
+        @Override
+        public void write(final CharSequence charSequence, final int start, final int end) {
+        }
+    };
+
+    private int delta;
+    private int minDelta;
+    private CharSequence currentLexeme;
+
+    /**
+     * Method that returns nesting level that is always equal to one.
+     *
+     * @return Nesting level.
+     */
+    @Override
+    public int getNestingLevel() {
+        return 1;
+    }
+
+    /**
+     * Method that adds change of nesting level that is made by command to the total change.
+     *
+     * @param nestingLevel New nesting level that is set by command.
+     */
+    @Override
+    public void setNestingLevel(final int nestingLevel) {
+        delta += nestingLevel - 1;
+        minDelta = Math.min(minDelta, delta);
+    }
+
+    /**
+     * Method that returns {@link IWriter} instance that discards all output.
+     *
+     * @return {@link IWriter} instance.
+     */
+    @Override
+    public IWriter getWriter() {
+        return DISCARDING_WRITER;
+    }
+
+    /**
+     * Method that does nothing, because output is always discarded.
+     *
+     * @param writer Ignored {@link IWriter} instance.
+     */
+    @Override
+    public void setWriter(final IWriter writer) {
+    }
+
+    /**
+     * Method that returns current lexeme.
+     *
+     * @return Current lexeme.
+     */
+    @Override
+    public CharSequence getCurrentLexeme() {
+        return currentLexeme;
+    }
+
+    /**
+     * Method that sets current lexeme.
+     *
+     * @param currentLexeme Current lexeme.
+     */
+    @Override
+    public void setCurrentLexeme(final CharSequence currentLexeme) {
+        this.currentLexeme = currentLexeme;
+    }
+
+    /**
+     * Method that returns total change of nesting level.
+     *
+     * @return Total change of nesting level.
+     */
+    int getDelta() {
+        return delta;
+    }
+
+    /**
+     * Method that returns minimal running total change of nesting level (not greater than 0).
+     *
+     * @return Minimal running total change of nesting level.
+     */
+    int getMinDelta() {
+        return minDelta;
+    }
+}
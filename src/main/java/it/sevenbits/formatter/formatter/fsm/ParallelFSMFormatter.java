@@ -0,0 +1,448 @@
+package it.sevenbits.formatter.formatter.fsm;
+
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.formatter.fsm.command.args.CommandArgs;
+import it.sevenbits.formatter.formatter.fsm.command.args.ICommandArgs;
+import it.sevenbits.formatter.formatter.fsm.state.State;
+import it.sevenbits.formatter.formatter.fsm.state.States;
+import it.sevenbits.formatter.io.reader.ByteFileReader;
+import it.sevenbits.formatter.io.reader.IReader;
+import it.sevenbits.formatter.io.reader.ReaderException;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.IWriter;
+import it.sevenbits.formatter.io.writer.StringWriter;
+import it.sevenbits.formatter.io.writer.WriterException;
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.ITokenCursor;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.fsm.ByteFSMLexer;
+import it.sevenbits.formatter.lexer.fsm.FSMLexer;
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * {@link IFormatter} interface implementation that formats a single large input on several threads.
+ * <p>
+ * The only data that {@link FSMFormatter} carries from token to token are FSM state and nesting level.
+ * After a newline token FSM state is always the same (unless only whitespaces are met before), and the effect
+ * of a part of input on nesting level is a function of the form {@code max(x + delta, floor)}
+ * (see {@link NestingDeltaCommandArgs}), so input is formatted in the following steps:
+ * <ol>
+ * <li>input is read into memory and split into chunks of about {@link #chunkLength} characters
+ * at newlines that are found by a fast scan;</li>
+ * <li>every chunk is lexed in parallel and its effect on nesting level is measured; chunk is extended
+ * to the first newline token after its nominal end, so it always ends at a safe boundary;</li>
+ * <li>boundaries are checked in order: if a chunk was started at a newline that is not a newline token
+ * (e.g. inside a multiline comment) or after whitespaces only, it is measured again from the right place;</li>
+ * <li>starting nesting level of every chunk is computed as a prefix composition of chunk effects;</li>
+ * <li>chunks are formatted in parallel to in-memory buffers that are written to output in order.</li>
+ * </ol>
+ * Output is the same as output of {@link FSMFormatter}. Inputs that are shorter than two chunks
+ * are formatted on the calling thread. Input of {@link ByteFileReader} is lexed with {@link ByteFSMLexer},
+ * any other input is lexed with {@link FSMLexer}.
+ */
+public class ParallelFSMFormatter implements IFormatter {
+    private static final int DEFAULT_CHUNK_LENGTH = 1 << 20;
+    private static final int READ_BUFFER_LENGTH = 1 << 16;
+
+    private final int parallelism;
+    private final int chunkLength;
+
+    /**
+     * Overload of constructor that uses count of available processors and default chunk length.
+     */
+    public ParallelFSMFormatter() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * Class constructor that initializes all private fields with passed values.
+     *
+     * @param parallelism Count of worker threads.
+     * @param chunkLength Nominal count of characters in a single chunk.
+     */
+    public ParallelFSMFormatter(final int parallelism, final int chunkLength) {
+        this.parallelism = Math.max(parallelism, 1);
+        this.chunkLength = Math.max(chunkLength, 1);
+    }
+
+    /**
+     * Method that performs formatting of Java source code that is read from passed reader.
+     *
+     * @param reader {@link IReader} instance that provides data reading.
+     * @param writer {@link IWriter} instance that provides data writing.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void format(final IReader reader, final IWriter writer) throws FormatterException {
+        if (reader == null) {
+            throw new FormatterException("\"reader\" argument is null");
+        }
+
+        if (writer == null) {
+            throw new FormatterException("\"writer\" argument is null");
+        }
+
+        final boolean isByteInput = reader instanceof ByteFileReader;
+        final String text = readAll(reader);
+
+        if (parallelism == 1 || text.length() < 2 * chunkLength) {
+            formatChunk(text, new Chunk(0, text.length(), States.START), 0, isByteInput, writer);
+            return;
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            final List<Chunk> chunks = measureChunks(pool, text, isByteInput);
+            final List<ForkJoinTask<String>> outputs = new ArrayList<>();
+            int nestingLevel = 0;
+
+            for (final Chunk chunk : chunks) {
+                final int startNestingLevel = nestingLevel;
+
+                outputs.add(pool.submit(() -> {
+                    final StringWriter chunkWriter = new StringWriter();
+                    formatChunk(text, chunk, startNestingLevel, isByteInput, chunkWriter);
+                    return chunkWriter.toString();
+                }));
+                nestingLevel = Math.max(nestingLevel + chunk.delta, chunk.delta - chunk.minDelta);
+            }
+
+            for (final ForkJoinTask<String> output : outputs) {
+                writer.write(output.join());
+            }
+        } catch (WriterException e) {
+            throw new FormatterException("Unable to write to writer", e);
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+
+            while (cause != null && !(cause instanceof FormatterException)) {
+                cause = cause.getCause();
+            }
+
+            if (cause == null) {
+                throw e;
+            }
+
+            throw (FormatterException) cause;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Private method that splits input into chunks that end at safe boundaries and measures their effects
+     * on nesting level.
+     *
+     * @param pool        {@link ForkJoinPool} instance that runs measuring of chunks.
+     * @param text        Whole input.
+     * @param isByteInput Boolean value that indicates whether input is UTF-8 bytes viewed as characters.
+     * @return {@link List} of measured chunks that cover the whole input in order.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    private List<Chunk> measureChunks(
+            final ForkJoinPool pool,
+            final String text,
+            final boolean isByteInput
+    ) throws FormatterException {
+        final List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+
+        for (int nominalStart = chunkLength; nominalStart < text.length(); nominalStart += chunkLength) {
+            final int newlineIndex = text.indexOf('\n', Math.max(nominalStart, starts.get(starts.size() - 1)));
+
+            if (newlineIndex < 0 || newlineIndex + 1 >= text.length()) {
+                break;
+            }
+
+            if (newlineIndex + 1 > starts.get(starts.size() - 1)) {
+                starts.add(newlineIndex + 1);
+            }
+        }
+
+        final List<ForkJoinTask<Chunk>> speculativeChunks = new ArrayList<>();
+
+        for (int i = 0; i < starts.size(); i++) {
+            final int start = starts.get(i);
+            final int minEnd = i + 1 < starts.size() ? starts.get(i + 1) : text.length();
+            final State startState = i == 0 ? States.START : States.NEWLINE;
+
+            speculativeChunks.add(pool.submit(() -> measureChunk(text, start, minEnd, startState, isByteInput)));
+        }
+
+        final List<Chunk> chunks = new ArrayList<>();
+        int position = 0;
+        State state = States.START;
+
+        for (int i = 0; i < starts.size(); i++) {
+            final int minEnd = i + 1 < starts.size() ? starts.get(i + 1) : text.length();
+            Chunk chunk = speculativeChunks.get(i).join();
+
+            if (chunk.start != position || !chunk.startState.equals(state)) {
+                if (position >= minEnd) {
+                    continue;
+                }
+
+                chunk = measureChunk(text, position, minEnd, state, isByteInput);
+            }
+
+            chunks.add(chunk);
+            position = chunk.end;
+            state = chunk.endState;
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Private method that lexes input from passed position up to the first newline token that ends
+     * not before passed position (or up to the end of input) and measures effect of lexed tokens on nesting level.
+     *
+     * @param text        Whole input.
+     * @param start       Index of the first character of chunk.
+     * @param minEnd      Minimal index after the last character of chunk.
+     * @param startState  FSM state before the first token of chunk.
+     * @param isByteInput Boolean value that indicates whether input is UTF-8 bytes viewed as characters.
+     * @return Measured {@link Chunk} instance.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    private static Chunk measureChunk(
+            final String text,
+            final int start,
+            final int minEnd,
+            final State startState,
+            final boolean isByteInput
+    ) throws FormatterException {
+        try (BoundedLexer lexer = new BoundedLexer(
+                createLexer(new StringReader(text, start, text.length()), isByteInput),
+                minEnd - start
+        )) {
+            final NestingDeltaCommandArgs commandArgs = new NestingDeltaCommandArgs();
+            final State endState = FSMFormatter.formatTokens(lexer, commandArgs, startState);
+            return new Chunk(start, (int) (start + lexer.getOffset()), startState, endState, commandArgs);
+        }
+    }
+
+    /**
+     * Private method that formats single chunk of input to passed writer.
+     *
+     * @param text         Whole input.
+     * @param chunk        {@link Chunk} instance that presents formatted chunk.
+     * @param nestingLevel Nesting level before the first token of chunk.
+     * @param isByteInput  Boolean value that indicates whether input is UTF-8 bytes viewed as characters.
+     * @param writer       {@link IWriter} instance that provides data writing.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    private static void formatChunk(
+            final String text,
+            final Chunk chunk,
+            final int nestingLevel,
+            final boolean isByteInput,
+            final IWriter writer
+    ) throws FormatterException {
+        final ICommandArgs commandArgs = new CommandArgs();
+        commandArgs.setWriter(writer);
+        commandArgs.setNestingLevel(nestingLevel);
+
+        try (FSMLexer lexer = createLexer(new StringReader(text, chunk.start, chunk.end), isByteInput)) {
+            FSMFormatter.formatTokens(lexer, commandArgs, chunk.startState);
+        }
+    }
+
+    /**
+     * Private method that creates lexer that matches input kind.
+     *
+     * @param reader      {@link IReader} instance that provides chunk of input.
+     * @param isByteInput Boolean value that indicates whether input is UTF-8 bytes viewed as characters.
+     * @return New {@link FSMLexer} instance.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    private static FSMLexer createLexer(final IReader reader, final boolean isByteInput) throws FormatterException {
+        try {
+            return isByteInput ? new ByteFSMLexer(reader) : new FSMLexer(reader);
+        } catch (LexerException e) {
+            throw new FormatterException("Unable to create lexer instance", e);
+        }
+    }
+
+    /**
+     * Private method that reads the whole input into memory.
+     *
+     * @param reader {@link IReader} instance that provides data reading.
+     * @return Whole input.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    private static String readAll(final IReader reader) throws FormatterException {
+        final StringBuilder stringBuilder = new StringBuilder();
+        final char[] buffer = new char[READ_BUFFER_LENGTH];
+
+        try {
+            int count = reader.read(buffer, 0, buffer.length);
+
+            while (count > 0) {
+                stringBuilder.append(buffer, 0, count);
+                count = reader.read(buffer, 0, buffer.length);
+            }
+        } catch (ReaderException e) {
+            throw new FormatterException("Unable to read from reader", e);
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Class that presents measured chunk of input.
+     */
+    private static final class Chunk {
+        private final int start;
+        private final int end;
+        private final State startState;
+        private final State endState;
+        private final int delta;
+        private final int minDelta;
+
+        /**
+         * Class constructor of chunk that is not measured (and is never composed with other chunks).
+         *
+         * @param start      Index of the first character of chunk.
+         * @param end        Index after the last character of chunk.
+         * @param startState FSM state before the first token of chunk.
+         */
+        private Chunk(final int start, final int end, final State startState) {
+            this.start = start;
+            this.end = end;
+            this.startState = startState;
+            endState = startState;
+            delta = 0;
+            minDelta = 0;
+        }
+
+        /**
+         * Class constructor of measured chunk.
+         *
+         * @param start       Index of the first character of chunk.
+         * @param end         Index after the last character of chunk.
+         * @param startState  FSM state before the first token of chunk.
+         * @param endState    FSM state after the last token of chunk.
+         * @param commandArgs {@link NestingDeltaCommandArgs} instance that measured chunk.
+         */
+        private Chunk(
+                final int start,
+                final int end,
+                final State startState,
+                final State endState,
+                final NestingDeltaCommandArgs commandArgs
+        ) {
+            this.start = start;
+            this.end = end;
+            this.startState = startState;
+            this.endState = endState;
+            delta = commandArgs.getDelta();
+            minDelta = commandArgs.getMinDelta();
+        }
+    }
+
+    /**
+     * {@link ILexer} and {@link ITokenCursor} interfaces implementation that passes tokens of wrapped lexer
+     * until the first newline token that ends not before passed offset.
+     */
+    private static final class BoundedLexer implements ILexer, ITokenCursor {
+        private final FSMLexer lexer;
+        private final long minOffset;
+        private boolean isBoundaryReached;
+
+        /**
+         * Class constructor that initializes all private fields.
+         *
+         * @param lexer     {@link FSMLexer} instance to wrap.
+         * @param minOffset Minimal count of consumed characters after which the first newline token is the last one.
+         */
+        private BoundedLexer(final FSMLexer lexer, final long minOffset) {
+            this.lexer = lexer;
+            this.minOffset = minOffset;
+        }
+
+        /**
+         * Method that reports whether single {@link IToken} instance is available for reading.
+         *
+         * @return Boolean value that indicates the result of method work.
+         */
+        @Override
+        public boolean hasMoreTokens() {
+            return !isBoundaryReached && lexer.hasMoreTokens();
+        }
+
+        /**
+         * Method that returns a single {@link IToken} instance.
+         *
+         * @return Single {@link IToken} instance.
+         * @throws LexerException Exception that can be thrown during the method work.
+         */
+        @Override
+        public IToken readToken() throws LexerException {
+            final IToken token = lexer.readToken();
+            isBoundaryReached = token.getKind() == TokenKind.NEWLINE && lexer.getOffset() >= minOffset;
+            return token;
+        }
+
+        /**
+         * Method that moves cursor to the next token of wrapped lexer unless boundary is reached.
+         *
+         * @return Boolean value that indicates whether cursor points to the next token.
+         * @throws LexerException Exception that can be thrown during the method work.
+         */
+        @Override
+        public boolean advance() throws LexerException {
+            if (isBoundaryReached || !lexer.advance()) {
+                return false;
+            }
+
+            isBoundaryReached = lexer.getKind() == TokenKind.NEWLINE && lexer.getOffset() >= minOffset;
+            return true;
+        }
+
+        /**
+         * Method that returns kind of the current token.
+         *
+         * @return {@link TokenKind} value that represents kind of the current token.
+         */
+        @Override
+        public TokenKind getKind() {
+            return lexer.getKind();
+        }
+
+        /**
+         * Method that returns lexeme of the current token as a view of wrapped lexer buffer.
+         *
+         * @return {@link CharSequence} instance that represents lexeme of the current token.
+         */
+        @Override
+        public CharSequence getLexemeView() {
+            return lexer.getLexemeView();
+        }
+
+        /**
+         * Method that closes wrapped lexer.
+         */
+        @Override
+        public void close() {
+            lexer.close();
+        }
+
+        /**
+         * Method that returns count of characters that are consumed by wrapped lexer.
+         *
+         * @return Count of consumed characters.
+         */
+        private long getOffset() {
+            return lexer.getOffset();
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package it.sevenbits.formatter.formatter.fsm.command;
 
+import it.sevenbits.formatter.formatter.fsm.command.args.ICommandArgs;
+
 /**
  * Interface that describes functionality for command that may be executed during FSM work.
+ * <p>
+ * Commands do not hold any mutable data, so single instance of command can be shared between
+ * any number of formatting runs. All data that is required for command execution
+ * is passed as {@link ICommandArgs} instance.
  */
 @FunctionalInterface
 public interface ICommand {
     /**
      * Method that performs command execution.
      *
+     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
      * @throws CommandException Exception that can be thrown during the method work.
      */
-    void execute() throws CommandException;
+    void execute(ICommandArgs commandArgs) throws CommandException;
 }
@@ -1,13 +1,17 @@
 package it.sevenbits.formatter.formatter.fsm.command;
 
+import it.sevenbits.formatter.formatter.fsm.command.args.ICommandArgs;
+
 /**
  * {@link ICommand} interface implementation that presents one of the commands.
  */
 public class StayIdleCommand implements ICommand {
     /**
      * Method that performs command execution.
+     *
+     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
      */
     @Override
-    public void execute() {
+    public void execute(final ICommandArgs commandArgs) {
     }
 }
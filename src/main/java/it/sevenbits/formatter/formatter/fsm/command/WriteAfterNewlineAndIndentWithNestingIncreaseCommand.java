@@ -9,34 +9,20 @@ import it.sevenbits.formatter.io.writer.WriterException;
  * {@link ICommand} interface implementation that presents one of the commands.
  */
 public class WriteAfterNewlineAndIndentWithNestingIncreaseCommand implements ICommand {
-    private final ICommandArgs commandArgs;
-
-    /**
-     * Class constructor that initializes private {@link #commandArgs} field with passed
-     * {@link ICommandArgs} instance that presents command arguments container.
-     *
-     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
-     */
-    public WriteAfterNewlineAndIndentWithNestingIncreaseCommand(final ICommandArgs commandArgs) {
-        this.commandArgs = commandArgs;
-    }
-
     /**
      * Method that performs command execution.
      *
+     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
      * @throws CommandException Exception that can be thrown during the method work.
      */
     @Override
-    public void execute() throws CommandException {
+    public void execute(final ICommandArgs commandArgs) throws CommandException {
         final IWriter writer = commandArgs.getWriter();
-        final String currentLexeme = commandArgs.getCurrentLexeme();
+        final CharSequence currentLexeme = commandArgs.getCurrentLexeme();
 
         try {
-            writer.write(String.format(
-                    "\n%s%s",
-                    IndentProvider.getFourSpacesIndent(commandArgs.getNestingLevel()),
-                    currentLexeme
-            ));
+            IndentProvider.writeNewlineAndFourSpacesIndent(writer, commandArgs.getNestingLevel());
+            writer.write(currentLexeme, 0, currentLexeme.length());
         } catch (WriterException e) {
             throw new CommandException("Unable to write to writer", e);
         }
@@ -8,30 +8,20 @@ import it.sevenbits.formatter.io.writer.WriterException;
  * {@link ICommand} interface implementation that presents one of the commands.
  */
 public class WriteAfterNewlineCommand implements ICommand {
-    private final ICommandArgs commandArgs;
-
-    /**
-     * Class constructor that initializes private {@link #commandArgs} field with passed
-     * {@link ICommandArgs} instance that presents command arguments container.
-     *
-     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
-     */
-    public WriteAfterNewlineCommand(final ICommandArgs commandArgs) {
-        this.commandArgs = commandArgs;
-    }
-
     /**
      * Method that performs command execution.
      *
+     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
      * @throws CommandException Exception that can be thrown during the method work.
      */
     @Override
-    public void execute() throws CommandException {
+    public void execute(final ICommandArgs commandArgs) throws CommandException {
         final IWriter writer = commandArgs.getWriter();
-        final String currentLexeme = commandArgs.getCurrentLexeme();
+        final CharSequence currentLexeme = commandArgs.getCurrentLexeme();
 
         try {
-            writer.write(String.format("\n%s", currentLexeme));
+            writer.write('\n');
+            writer.write(currentLexeme, 0, currentLexeme.length());
         } catch (WriterException e) {
             throw new CommandException("Unable to write to writer", e);
         }
@@ -8,7 +8,7 @@ import it.sevenbits.formatter.io.writer.IWriter;
 public class CommandArgs implements ICommandArgs {
     private int nestingLevel;
     private IWriter writer;
-    private String currentLexeme;
+    private CharSequence currentLexeme;
 
     /**
      * Method that performs extraction of an integer value that presents code nesting level.
@@ -51,22 +51,22 @@ public class CommandArgs implements ICommandArgs {
     }
 
     /**
-     * Method that performs extraction of {@link String} value that presents current lexeme.
+     * Method that performs extraction of {@link CharSequence} instance that presents current lexeme.
      *
-     * @return {@link String} value that presents current lexeme.
+     * @return {@link CharSequence} instance that presents current lexeme.
      */
     @Override
-    public String getCurrentLexeme() {
+    public CharSequence getCurrentLexeme() {
         return currentLexeme;
     }
 
     /**
-     * Method that performs containing of {@link String} value that presents current lexeme.
+     * Method that performs containing of {@link CharSequence} instance that presents current lexeme.
      *
-     * @param currentLexeme {@link String} value that presents current lexeme.
+     * @param currentLexeme {@link CharSequence} instance that presents current lexeme.
      */
     @Override
-    public void setCurrentLexeme(final String currentLexeme) {
+    public void setCurrentLexeme(final CharSequence currentLexeme) {
         this.currentLexeme = currentLexeme;
     }
 }
@@ -35,16 +35,19 @@ public interface ICommandArgs {
     void setWriter(IWriter writer);
 
     /**
-     * Method that performs extraction of {@link String} value that presents current lexeme.
+     * Method that performs extraction of {@link CharSequence} instance that presents current lexeme.
+     * <p>
+     * It may be a view of lexer buffer (see {@link it.sevenbits.formatter.lexer.token.IToken#getLexemeView()}),
+     * so it is valid only during execution of the current command.
      *
-     * @return {@link String} value that presents current lexeme.
+     * @return {@link CharSequence} instance that presents current lexeme.
      */
-    String getCurrentLexeme();
+    CharSequence getCurrentLexeme();
 
     /**
-     * Method that performs containing of {@link String} value that presents current lexeme.
+     * Method that performs containing of {@link CharSequence} instance that presents current lexeme.
      *
-     * @param currentLexeme {@link String} value that presents current lexeme.
+     * @param currentLexeme {@link CharSequence} instance that presents current lexeme.
      */
-    void setCurrentLexeme(String currentLexeme);
+    void setCurrentLexeme(CharSequence currentLexeme);
 }
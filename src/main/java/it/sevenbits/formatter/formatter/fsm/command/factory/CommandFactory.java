@@ -1,7 +1,6 @@
 package it.sevenbits.formatter.formatter.fsm.command.factory;
 
 import it.sevenbits.formatter.formatter.fsm.command.ICommand;
-import it.sevenbits.formatter.formatter.fsm.command.args.ICommandArgs;
 import it.sevenbits.formatter.formatter.fsm.state.State;
 import it.sevenbits.formatter.lexer.token.IToken;
 
@@ -12,12 +11,13 @@ public class CommandFactory implements ICommandFactory {
     private final CommandMap commandMap;
 
     /**
-     * Class constructor that initializes private {@link #commandMap} field using passed {@link ICommandArgs} instance.
-     *
-     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
+     * Class constructor that initializes private {@link #commandMap} field with new {@link CommandMap} instance.
+     * <p>
+     * Issued commands receive their arguments during execution, so single factory
+     * can be shared between any number of formatting runs.
      */
-    public CommandFactory(final ICommandArgs commandArgs) {
-        commandMap = new CommandMap(commandArgs);
+    public CommandFactory() {
+        commandMap = new CommandMap();
     }
 
     /**
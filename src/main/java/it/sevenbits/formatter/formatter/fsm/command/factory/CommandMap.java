@@ -10,224 +10,165 @@ import it.sevenbits.formatter.formatter.fsm.command.WriteAfterWhitespaceCommand;
 import it.sevenbits.formatter.formatter.fsm.command.WriteAfterWhitespaceWithNestingIncreaseCommand;
 import it.sevenbits.formatter.formatter.fsm.command.WriteCommand;
 import it.sevenbits.formatter.formatter.fsm.command.WriteWithNestingIncreaseCommand;
-import it.sevenbits.formatter.formatter.fsm.command.args.ICommandArgs;
 import it.sevenbits.formatter.formatter.fsm.state.State;
+import it.sevenbits.formatter.formatter.fsm.state.States;
 import it.sevenbits.formatter.lexer.token.IToken;
-import it.sevenbits.formatter.util.Pair;
-
-import java.util.HashMap;
-import java.util.Map;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 
 /**
- * Class that provides a mapping of {@link Pair} instances (that contain {@link State} instance / {@link String}
- * instance pairs) to {@link ICommand} instances.
+ * Class that provides a mapping of {@link State} instance / {@link TokenKind} value pairs to {@link ICommand} instances.
+ * <p>
+ * Mapping is stored in a flat array that is indexed by {@link State} identifier and {@link TokenKind} ordinal,
+ * so lookup does not require any allocations or hash computations.
  */
 class CommandMap {
-    private final Map<Pair<State, String>, ICommand> commandMap;
+    private static final int TOKEN_KIND_COUNT = TokenKind.values().length;
+
+    private final ICommand[] commandMap;
     private final ICommand stayIdle;
 
     /**
-     * Class constructor that initializes private {@link #commandMap} field and fills it with a pairs of
-     * {@link Pair} instances (that contain {@link State} instance / {@link String} instance pairs)
-     * and {@link ICommand} instances.
+     * Class constructor that initializes private {@link #commandMap} field and fills it with
+     * {@link ICommand} instances for all known {@link State} instance / {@link TokenKind} value pairs.
      * <p>
-     * Method creates instances of these commands and then initializing some of them
-     * with the passed {@link ICommandArgs} instance.
-     *
-     * @param commandArgs {@link ICommandArgs} instance that presents a command arguments container.
+     * Commands do not hold any mutable data, so the whole mapping can be shared between formatting runs.
+     * <p>
+     * All pairs that are not mentioned explicitly are mapped to command that does nothing.
      */
-    CommandMap(final ICommandArgs commandArgs) {
-        commandMap = new HashMap<>();
+    CommandMap() {
+        commandMap = new ICommand[States.COUNT * TOKEN_KIND_COUNT];
         stayIdle = new StayIdleCommand();
 
-        final State startState = new State("START");
-        final State otherState = new State("OTHER");
-        final State newLineState = new State("NEWLINE");
-        final State whitespaceState = new State("WHITESPACE");
-        final State openingCurlyBraceState = new State("OPENING_CURLY_BRACE");
-        final State closingCurlyBraceState = new State("CLOSING_CURLY_BRACE");
-        final State semicolonState = new State("SEMICOLON");
-        final State singleLineCommentState = new State("SINGLE_LINE_COMMENT");
-        final State multilineCommentState = new State("MULTILINE_COMMENT");
-        final State characterLiteralState = new State("CHARACTER_LITERAL");
-        final State stringLiteralState = new State("STRING_LITERAL");
-
-        final ICommand writeAfterNewline = new WriteAfterNewlineCommand(commandArgs);
-        final ICommand writeAfterNewlineAndIndent = new WriteAfterNewlineAndIndentCommand(commandArgs);
-        final ICommand write = new WriteCommand(commandArgs);
-        final ICommand writeWithNestingIncrease = new WriteWithNestingIncreaseCommand(commandArgs);
-        final ICommand writeAfterWhitespace = new WriteAfterWhitespaceCommand(commandArgs);
+        for (int i = 0; i < commandMap.length; i++) {
+            commandMap[i] = stayIdle;
+        }
+
+        final ICommand writeAfterNewline = new WriteAfterNewlineCommand();
+        final ICommand writeAfterNewlineAndIndent = new WriteAfterNewlineAndIndentCommand();
+        final ICommand write = new WriteCommand();
+        final ICommand writeWithNestingIncrease = new WriteWithNestingIncreaseCommand();
+        final ICommand writeAfterWhitespace = new WriteAfterWhitespaceCommand();
 
         final ICommand writeAfterNewlineAndIndentWithNestingDecrease = (
-                new WriteAfterNewlineAndIndentWithNestingDecreaseCommand(commandArgs)
+                new WriteAfterNewlineAndIndentWithNestingDecreaseCommand()
         );
 
         final ICommand writeAfterNewlineAndIndentWithNestingIncrease = (
-                new WriteAfterNewlineAndIndentWithNestingIncreaseCommand(commandArgs)
+                new WriteAfterNewlineAndIndentWithNestingIncreaseCommand()
         );
 
         final ICommand writeAfterWhitespaceWithNestingIncrease = (
-                new WriteAfterWhitespaceWithNestingIncreaseCommand(commandArgs)
-        );
-
-        commandMap.put(new Pair<>(startState, "OPENING_CURLY_BRACE"), writeWithNestingIncrease);
-        commandMap.put(new Pair<>(startState, "CLOSING_CURLY_BRACE"), write);
-        commandMap.put(new Pair<>(startState, "SEMICOLON"), write);
-        commandMap.put(new Pair<>(startState, "OTHER"), write);
-        commandMap.put(new Pair<>(startState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(startState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(startState, "CHARACTER_LITERAL"), write);
-        commandMap.put(new Pair<>(startState, "STRING_LITERAL"), write);
-
-        commandMap.put(new Pair<>(otherState, "OPENING_CURLY_BRACE"), writeAfterWhitespaceWithNestingIncrease);
-        commandMap.put(new Pair<>(otherState, "CLOSING_CURLY_BRACE"), writeAfterNewlineAndIndentWithNestingDecrease);
-        commandMap.put(new Pair<>(otherState, "SEMICOLON"), write);
-        commandMap.put(new Pair<>(otherState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(otherState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(otherState, "CHARACTER_LITERAL"), write);
-        commandMap.put(new Pair<>(otherState, "STRING_LITERAL"), write);
-
-        commandMap.put(new Pair<>(newLineState, "OPENING_CURLY_BRACE"), writeAfterNewlineAndIndentWithNestingIncrease);
-        commandMap.put(new Pair<>(newLineState, "CLOSING_CURLY_BRACE"), writeAfterNewlineAndIndentWithNestingDecrease);
-        commandMap.put(new Pair<>(newLineState, "SEMICOLON"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(newLineState, "OTHER"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(newLineState, "SINGLE_LINE_COMMENT"), writeAfterNewline);
-        commandMap.put(new Pair<>(newLineState, "MULTILINE_COMMENT"), writeAfterNewline);
-        commandMap.put(new Pair<>(newLineState, "CHARACTER_LITERAL"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(newLineState, "STRING_LITERAL"), writeAfterNewlineAndIndent);
-
-        commandMap.put(new Pair<>(whitespaceState, "OPENING_CURLY_BRACE"), writeAfterWhitespaceWithNestingIncrease);
-
-        commandMap.put(
-                new Pair<>(whitespaceState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
-
-        commandMap.put(new Pair<>(whitespaceState, "SEMICOLON"), write);
-        commandMap.put(new Pair<>(whitespaceState, "OTHER"), writeAfterWhitespace);
-        commandMap.put(new Pair<>(whitespaceState, "SINGLE_LINE_COMMENT"), writeAfterWhitespace);
-        commandMap.put(new Pair<>(whitespaceState, "MULTILINE_COMMENT"), writeAfterWhitespace);
-        commandMap.put(new Pair<>(whitespaceState, "CHARACTER_LITERAL"), writeAfterWhitespace);
-        commandMap.put(new Pair<>(whitespaceState, "STRING_LITERAL"), writeAfterWhitespace);
-
-        commandMap.put(
-                new Pair<>(openingCurlyBraceState, "OPENING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingIncrease
-        );
-
-        commandMap.put(
-                new Pair<>(openingCurlyBraceState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
-
-        commandMap.put(new Pair<>(openingCurlyBraceState, "SEMICOLON"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(openingCurlyBraceState, "OTHER"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(openingCurlyBraceState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(openingCurlyBraceState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(openingCurlyBraceState, "CHARACTER_LITERAL"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(openingCurlyBraceState, "STRING_LITERAL"), writeAfterNewlineAndIndent);
-
-        commandMap.put(
-                new Pair<>(closingCurlyBraceState, "OPENING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingIncrease
-        );
-
-        commandMap.put(
-                new Pair<>(closingCurlyBraceState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
-
-        commandMap.put(new Pair<>(closingCurlyBraceState, "SEMICOLON"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(closingCurlyBraceState, "OTHER"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(closingCurlyBraceState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(closingCurlyBraceState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(closingCurlyBraceState, "CHARACTER_LITERAL"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(closingCurlyBraceState, "STRING_LITERAL"), writeAfterNewlineAndIndent);
-
-        commandMap.put(
-                new Pair<>(semicolonState, "OPENING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingIncrease
-        );
-
-        commandMap.put(
-                new Pair<>(semicolonState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
-
-        commandMap.put(new Pair<>(semicolonState, "SEMICOLON"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(semicolonState, "OTHER"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(semicolonState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(semicolonState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(semicolonState, "CHARACTER_LITERAL"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(semicolonState, "STRING_LITERAL"), writeAfterNewlineAndIndent);
-
-        commandMap.put(
-                new Pair<>(singleLineCommentState, "OPENING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingIncrease
-        );
-
-        commandMap.put(
-                new Pair<>(singleLineCommentState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
-
-        commandMap.put(new Pair<>(singleLineCommentState, "SEMICOLON"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(singleLineCommentState, "OTHER"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(singleLineCommentState, "SINGLE_LINE_COMMENT"), writeAfterNewline);
-        commandMap.put(new Pair<>(singleLineCommentState, "MULTILINE_COMMENT"), writeAfterNewline);
-        commandMap.put(new Pair<>(singleLineCommentState, "CHARACTER_LITERAL"), writeAfterNewlineAndIndent);
-        commandMap.put(new Pair<>(singleLineCommentState, "STRING_LITERAL"), writeAfterNewlineAndIndent);
-
-        commandMap.put(
-                new Pair<>(multilineCommentState, "OPENING_CURLY_BRACE"),
-                writeAfterWhitespaceWithNestingIncrease
-        );
-
-        commandMap.put(
-                new Pair<>(multilineCommentState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
-
-        commandMap.put(new Pair<>(multilineCommentState, "SEMICOLON"), write);
-        commandMap.put(new Pair<>(multilineCommentState, "OTHER"), write);
-        commandMap.put(new Pair<>(multilineCommentState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(multilineCommentState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(multilineCommentState, "CHARACTER_LITERAL"), write);
-        commandMap.put(new Pair<>(multilineCommentState, "STRING_LITERAL"), write);
-
-        commandMap.put(
-                new Pair<>(characterLiteralState, "OPENING_CURLY_BRACE"),
-                writeAfterWhitespaceWithNestingIncrease
-        );
-
-        commandMap.put(
-                new Pair<>(characterLiteralState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
-
-        commandMap.put(new Pair<>(characterLiteralState, "SEMICOLON"), write);
-        commandMap.put(new Pair<>(characterLiteralState, "OTHER"), write);
-        commandMap.put(new Pair<>(characterLiteralState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(characterLiteralState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(characterLiteralState, "CHARACTER_LITERAL"), writeAfterWhitespace);
-        commandMap.put(new Pair<>(characterLiteralState, "STRING_LITERAL"), writeAfterWhitespace);
-
-        commandMap.put(
-                new Pair<>(stringLiteralState, "OPENING_CURLY_BRACE"),
-                writeAfterWhitespaceWithNestingIncrease
-        );
-
-        commandMap.put(
-                new Pair<>(stringLiteralState, "CLOSING_CURLY_BRACE"),
-                writeAfterNewlineAndIndentWithNestingDecrease
-        );
+                new WriteAfterWhitespaceWithNestingIncreaseCommand()
+        );
+
+        put(States.START, TokenKind.OPENING_CURLY_BRACE, writeWithNestingIncrease);
+        put(States.START, TokenKind.CLOSING_CURLY_BRACE, write);
+        put(States.START, TokenKind.SEMICOLON, write);
+        put(States.START, TokenKind.OTHER, write);
+        put(States.START, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.START, TokenKind.MULTILINE_COMMENT, write);
+        put(States.START, TokenKind.CHARACTER_LITERAL, write);
+        put(States.START, TokenKind.STRING_LITERAL, write);
+
+        put(States.OTHER, TokenKind.OPENING_CURLY_BRACE, writeAfterWhitespaceWithNestingIncrease);
+        put(States.OTHER, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.OTHER, TokenKind.SEMICOLON, write);
+        put(States.OTHER, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.OTHER, TokenKind.MULTILINE_COMMENT, write);
+        put(States.OTHER, TokenKind.CHARACTER_LITERAL, write);
+        put(States.OTHER, TokenKind.STRING_LITERAL, write);
+
+        put(States.NEWLINE, TokenKind.OPENING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingIncrease);
+        put(States.NEWLINE, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.NEWLINE, TokenKind.SEMICOLON, writeAfterNewlineAndIndent);
+        put(States.NEWLINE, TokenKind.OTHER, writeAfterNewlineAndIndent);
+        put(States.NEWLINE, TokenKind.SINGLE_LINE_COMMENT, writeAfterNewline);
+        put(States.NEWLINE, TokenKind.MULTILINE_COMMENT, writeAfterNewline);
+        put(States.NEWLINE, TokenKind.CHARACTER_LITERAL, writeAfterNewlineAndIndent);
+        put(States.NEWLINE, TokenKind.STRING_LITERAL, writeAfterNewlineAndIndent);
+
+        put(States.WHITESPACE, TokenKind.OPENING_CURLY_BRACE, writeAfterWhitespaceWithNestingIncrease);
+        put(States.WHITESPACE, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.WHITESPACE, TokenKind.SEMICOLON, write);
+        put(States.WHITESPACE, TokenKind.OTHER, writeAfterWhitespace);
+        put(States.WHITESPACE, TokenKind.SINGLE_LINE_COMMENT, writeAfterWhitespace);
+        put(States.WHITESPACE, TokenKind.MULTILINE_COMMENT, writeAfterWhitespace);
+        put(States.WHITESPACE, TokenKind.CHARACTER_LITERAL, writeAfterWhitespace);
+        put(States.WHITESPACE, TokenKind.STRING_LITERAL, writeAfterWhitespace);
+
+        put(States.OPENING_CURLY_BRACE, TokenKind.OPENING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingIncrease);
+        put(States.OPENING_CURLY_BRACE, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.OPENING_CURLY_BRACE, TokenKind.SEMICOLON, writeAfterNewlineAndIndent);
+        put(States.OPENING_CURLY_BRACE, TokenKind.OTHER, writeAfterNewlineAndIndent);
+        put(States.OPENING_CURLY_BRACE, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.OPENING_CURLY_BRACE, TokenKind.MULTILINE_COMMENT, write);
+        put(States.OPENING_CURLY_BRACE, TokenKind.CHARACTER_LITERAL, writeAfterNewlineAndIndent);
+        put(States.OPENING_CURLY_BRACE, TokenKind.STRING_LITERAL, writeAfterNewlineAndIndent);
+
+        put(States.CLOSING_CURLY_BRACE, TokenKind.OPENING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingIncrease);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.SEMICOLON, writeAfterNewlineAndIndent);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.OTHER, writeAfterNewlineAndIndent);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.MULTILINE_COMMENT, write);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.CHARACTER_LITERAL, writeAfterNewlineAndIndent);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.STRING_LITERAL, writeAfterNewlineAndIndent);
+
+        put(States.SEMICOLON, TokenKind.OPENING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingIncrease);
+        put(States.SEMICOLON, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.SEMICOLON, TokenKind.SEMICOLON, writeAfterNewlineAndIndent);
+        put(States.SEMICOLON, TokenKind.OTHER, writeAfterNewlineAndIndent);
+        put(States.SEMICOLON, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.SEMICOLON, TokenKind.MULTILINE_COMMENT, write);
+        put(States.SEMICOLON, TokenKind.CHARACTER_LITERAL, writeAfterNewlineAndIndent);
+        put(States.SEMICOLON, TokenKind.STRING_LITERAL, writeAfterNewlineAndIndent);
+
+        put(States.SINGLE_LINE_COMMENT, TokenKind.OPENING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingIncrease);
+        put(States.SINGLE_LINE_COMMENT, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.SINGLE_LINE_COMMENT, TokenKind.SEMICOLON, writeAfterNewlineAndIndent);
+        put(States.SINGLE_LINE_COMMENT, TokenKind.OTHER, writeAfterNewlineAndIndent);
+        put(States.SINGLE_LINE_COMMENT, TokenKind.SINGLE_LINE_COMMENT, writeAfterNewline);
+        put(States.SINGLE_LINE_COMMENT, TokenKind.MULTILINE_COMMENT, writeAfterNewline);
+        put(States.SINGLE_LINE_COMMENT, TokenKind.CHARACTER_LITERAL, writeAfterNewlineAndIndent);
+        put(States.SINGLE_LINE_COMMENT, TokenKind.STRING_LITERAL, writeAfterNewlineAndIndent);
+
+        put(States.MULTILINE_COMMENT, TokenKind.OPENING_CURLY_BRACE, writeAfterWhitespaceWithNestingIncrease);
+        put(States.MULTILINE_COMMENT, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.MULTILINE_COMMENT, TokenKind.SEMICOLON, write);
+        put(States.MULTILINE_COMMENT, TokenKind.OTHER, write);
+        put(States.MULTILINE_COMMENT, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.MULTILINE_COMMENT, TokenKind.MULTILINE_COMMENT, write);
+        put(States.MULTILINE_COMMENT, TokenKind.CHARACTER_LITERAL, write);
+        put(States.MULTILINE_COMMENT, TokenKind.STRING_LITERAL, write);
+
+        put(States.CHARACTER_LITERAL, TokenKind.OPENING_CURLY_BRACE, writeAfterWhitespaceWithNestingIncrease);
+        put(States.CHARACTER_LITERAL, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.CHARACTER_LITERAL, TokenKind.SEMICOLON, write);
+        put(States.CHARACTER_LITERAL, TokenKind.OTHER, write);
+        put(States.CHARACTER_LITERAL, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.CHARACTER_LITERAL, TokenKind.MULTILINE_COMMENT, write);
+        put(States.CHARACTER_LITERAL, TokenKind.CHARACTER_LITERAL, writeAfterWhitespace);
+        put(States.CHARACTER_LITERAL, TokenKind.STRING_LITERAL, writeAfterWhitespace);
+
+        put(States.STRING_LITERAL, TokenKind.OPENING_CURLY_BRACE, writeAfterWhitespaceWithNestingIncrease);
+        put(States.STRING_LITERAL, TokenKind.CLOSING_CURLY_BRACE, writeAfterNewlineAndIndentWithNestingDecrease);
+        put(States.STRING_LITERAL, TokenKind.SEMICOLON, write);
+        put(States.STRING_LITERAL, TokenKind.OTHER, write);
+        put(States.STRING_LITERAL, TokenKind.SINGLE_LINE_COMMENT, write);
+        put(States.STRING_LITERAL, TokenKind.MULTILINE_COMMENT, write);
+        put(States.STRING_LITERAL, TokenKind.CHARACTER_LITERAL, writeAfterWhitespace);
+        put(States.STRING_LITERAL, TokenKind.STRING_LITERAL, writeAfterWhitespace);
+    }
 
-        commandMap.put(new Pair<>(stringLiteralState, "SEMICOLON"), write);
-        commandMap.put(new Pair<>(stringLiteralState, "OTHER"), write);
-        commandMap.put(new Pair<>(stringLiteralState, "SINGLE_LINE_COMMENT"), write);
-        commandMap.put(new Pair<>(stringLiteralState, "MULTILINE_COMMENT"), write);
-        commandMap.put(new Pair<>(stringLiteralState, "CHARACTER_LITERAL"), writeAfterWhitespace);
-        commandMap.put(new Pair<>(stringLiteralState, "STRING_LITERAL"), writeAfterWhitespace);
+    /**
+     * Private method that puts {@link ICommand} instance for passed {@link State} instance / {@link TokenKind} value pair.
+     *
+     * @param state     {@link State} instance that presents current FSM state.
+     * @param tokenKind {@link TokenKind} value that presents token kind.
+     * @param command   {@link ICommand} instance that presents command.
+     */
+    private void put(final State state, final TokenKind tokenKind, final ICommand command) {
+        commandMap[state.getId() * TOKEN_KIND_COUNT + tokenKind.ordinal()] = command;
     }
 
     /**
@@ -239,6 +180,13 @@ class CommandMap {
      * @return {@link ICommand} instance that matches passed args (or default if there are no matches).
      */
     ICommand getCommand(final State currentState, final IToken token) {
-        return commandMap.getOrDefault(new Pair<>(currentState, token.getName()), stayIdle);
+        final int stateId = currentState.getId();
+        final TokenKind tokenKind = token.getKind();
+
+        if (stateId < 0 || stateId >= States.COUNT || tokenKind == null) {
+            return stayIdle;
+        }
+
+        return commandMap[stateId * TOKEN_KIND_COUNT + tokenKind.ordinal()];
     }
 }
@@ -30,6 +30,9 @@ public interface IStateTransitions {
 
     /**
      * Method that returns {@link State} instance that presents error FSM state.
+     * <p>
+     * Returned instance must be the same one that is returned by transitions into error state,
+     * because FSM loop compares states by reference.
      *
      * @return {@link State} instance that presents error FSM state.
      */
@@ -1,169 +1,168 @@
 package it.sevenbits.formatter.formatter.fsm.state;
 
 import it.sevenbits.formatter.lexer.token.IToken;
-import it.sevenbits.formatter.util.Pair;
-
-import java.util.HashMap;
-import java.util.Map;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 
 /**
- * Class that provides a mapping of {@link Pair} instances (that contain {@link State} instance / {@link String}
- * instance pairs) to {@link State} instances.
+ * Class that provides a mapping of {@link State} instance / {@link TokenKind} value pairs to {@link State} instances.
  * <p>
  * This mapping is used for providing transitions between FSM states.
  * Transition choice performs using information about current FSM state and other input signals.
- * Other input signals are actually presented by {@link String} instances.
+ * Other input signals are actually presented by lexical tokens.
+ * <p>
+ * Mapping is stored in a flat array that is indexed by {@link State} identifier and {@link TokenKind} ordinal,
+ * so lookup does not require any allocations or hash computations.
  */
 class StateMap {
-    private final State startState, errorState;
-    private final Map<Pair<State, String>, State> stateMap;
+    private static final int TOKEN_KIND_COUNT = TokenKind.values().length;
+
+    private final State[] stateMap;
 
     /**
-     * Class constructor that initializes private {@link #stateMap} field and fills it with a pairs of
-     * {@link Pair} instances (that contain {@link State} instance / {@link String} instance pairs)
-     * and {@link State} instances.
+     * Class constructor that initializes private {@link #stateMap} field and fills it with
+     * target {@link State} instances for all known {@link State} instance / {@link TokenKind} value pairs.
      * <p>
-     * Also this method initializes private {@link #startState} and {@link #errorState} fields
-     * with new {@link State} instances.
+     * All pairs that are not mentioned explicitly lead to error state.
      */
     StateMap() {
-        stateMap = new HashMap<>();
-
-        startState = new State("START");
-        errorState = new State("ERROR");
-
-        final State otherState = new State("OTHER");
-        final State newLineState = new State("NEWLINE");
-        final State whitespaceState = new State("WHITESPACE");
-        final State openingCurlyBraceState = new State("OPENING_CURLY_BRACE");
-        final State closingCurlyBraceState = new State("CLOSING_CURLY_BRACE");
-        final State semicolonState = new State("SEMICOLON");
-        final State singleLineCommentState = new State("SINGLE_LINE_COMMENT");
-        final State multilineCommentState = new State("MULTILINE_COMMENT");
-        final State characterLiteralState = new State("CHARACTER_LITERAL");
-        final State stringLiteralState = new State("STRING_LITERAL");
-
-        stateMap.put(new Pair<>(startState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(startState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(startState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(startState, "NEWLINE"), startState);
-        stateMap.put(new Pair<>(startState, "TAB"), startState);
-        stateMap.put(new Pair<>(startState, "WHITESPACE"), startState);
-        stateMap.put(new Pair<>(startState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(startState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(startState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(startState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(startState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(otherState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(otherState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(otherState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(otherState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(otherState, "TAB"), otherState);
-        stateMap.put(new Pair<>(otherState, "WHITESPACE"), whitespaceState);
-        stateMap.put(new Pair<>(otherState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(otherState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(otherState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(otherState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(otherState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(newLineState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(newLineState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(newLineState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(newLineState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(newLineState, "TAB"), newLineState);
-        stateMap.put(new Pair<>(newLineState, "WHITESPACE"), newLineState);
-        stateMap.put(new Pair<>(newLineState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(newLineState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(newLineState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(newLineState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(newLineState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(whitespaceState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(whitespaceState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(whitespaceState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(whitespaceState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(whitespaceState, "TAB"), whitespaceState);
-        stateMap.put(new Pair<>(whitespaceState, "WHITESPACE"), whitespaceState);
-        stateMap.put(new Pair<>(whitespaceState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(whitespaceState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(whitespaceState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(whitespaceState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(whitespaceState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(openingCurlyBraceState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "TAB"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "WHITESPACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(openingCurlyBraceState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(closingCurlyBraceState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "TAB"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "WHITESPACE"), whitespaceState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(closingCurlyBraceState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(semicolonState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(semicolonState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(semicolonState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(semicolonState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(semicolonState, "TAB"), semicolonState);
-        stateMap.put(new Pair<>(semicolonState, "WHITESPACE"), semicolonState);
-        stateMap.put(new Pair<>(semicolonState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(semicolonState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(semicolonState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(semicolonState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(semicolonState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(singleLineCommentState, "NEWLINE"), newLineState);
-
-        stateMap.put(new Pair<>(multilineCommentState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(multilineCommentState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(multilineCommentState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(multilineCommentState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(multilineCommentState, "TAB"), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, "WHITESPACE"), whitespaceState);
-        stateMap.put(new Pair<>(multilineCommentState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(multilineCommentState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(multilineCommentState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(characterLiteralState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(characterLiteralState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(characterLiteralState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(characterLiteralState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(characterLiteralState, "TAB"), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, "WHITESPACE"), whitespaceState);
-        stateMap.put(new Pair<>(characterLiteralState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(characterLiteralState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(characterLiteralState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(characterLiteralState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, "STRING_LITERAL"), stringLiteralState);
-
-        stateMap.put(new Pair<>(stringLiteralState, "OPENING_CURLY_BRACE"), openingCurlyBraceState);
-        stateMap.put(new Pair<>(stringLiteralState, "CLOSING_CURLY_BRACE"), closingCurlyBraceState);
-        stateMap.put(new Pair<>(stringLiteralState, "SEMICOLON"), semicolonState);
-        stateMap.put(new Pair<>(stringLiteralState, "NEWLINE"), newLineState);
-        stateMap.put(new Pair<>(stringLiteralState, "TAB"), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, "WHITESPACE"), whitespaceState);
-        stateMap.put(new Pair<>(stringLiteralState, "OTHER"), otherState);
-        stateMap.put(new Pair<>(stringLiteralState, "SINGLE_LINE_COMMENT"), singleLineCommentState);
-        stateMap.put(new Pair<>(stringLiteralState, "MULTILINE_COMMENT"), multilineCommentState);
-        stateMap.put(new Pair<>(stringLiteralState, "CHARACTER_LITERAL"), characterLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, "STRING_LITERAL"), stringLiteralState);
+        stateMap = new State[States.COUNT * TOKEN_KIND_COUNT];
+
+        for (int i = 0; i < stateMap.length; i++) {
+            stateMap[i] = States.ERROR;
+        }
+
+        put(States.START, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.START, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.START, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.START, TokenKind.NEWLINE, States.START);
+        put(States.START, TokenKind.TAB, States.START);
+        put(States.START, TokenKind.WHITESPACE, States.START);
+        put(States.START, TokenKind.OTHER, States.OTHER);
+        put(States.START, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.START, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.START, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.START, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.OTHER, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.OTHER, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.OTHER, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.OTHER, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.OTHER, TokenKind.TAB, States.OTHER);
+        put(States.OTHER, TokenKind.WHITESPACE, States.WHITESPACE);
+        put(States.OTHER, TokenKind.OTHER, States.OTHER);
+        put(States.OTHER, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.OTHER, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.OTHER, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.OTHER, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.NEWLINE, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.NEWLINE, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.NEWLINE, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.NEWLINE, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.NEWLINE, TokenKind.TAB, States.NEWLINE);
+        put(States.NEWLINE, TokenKind.WHITESPACE, States.NEWLINE);
+        put(States.NEWLINE, TokenKind.OTHER, States.OTHER);
+        put(States.NEWLINE, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.NEWLINE, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.NEWLINE, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.NEWLINE, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.WHITESPACE, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.WHITESPACE, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.WHITESPACE, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.WHITESPACE, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.WHITESPACE, TokenKind.TAB, States.WHITESPACE);
+        put(States.WHITESPACE, TokenKind.WHITESPACE, States.WHITESPACE);
+        put(States.WHITESPACE, TokenKind.OTHER, States.OTHER);
+        put(States.WHITESPACE, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.WHITESPACE, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.WHITESPACE, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.WHITESPACE, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.OPENING_CURLY_BRACE, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.OPENING_CURLY_BRACE, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.OPENING_CURLY_BRACE, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.OPENING_CURLY_BRACE, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.OPENING_CURLY_BRACE, TokenKind.TAB, States.OPENING_CURLY_BRACE);
+        put(States.OPENING_CURLY_BRACE, TokenKind.WHITESPACE, States.OPENING_CURLY_BRACE);
+        put(States.OPENING_CURLY_BRACE, TokenKind.OTHER, States.OTHER);
+        put(States.OPENING_CURLY_BRACE, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.OPENING_CURLY_BRACE, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.OPENING_CURLY_BRACE, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.OPENING_CURLY_BRACE, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.CLOSING_CURLY_BRACE, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.TAB, States.CLOSING_CURLY_BRACE);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.WHITESPACE, States.WHITESPACE);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.OTHER, States.OTHER);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.CLOSING_CURLY_BRACE, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.SEMICOLON, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.SEMICOLON, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.SEMICOLON, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.SEMICOLON, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.SEMICOLON, TokenKind.TAB, States.SEMICOLON);
+        put(States.SEMICOLON, TokenKind.WHITESPACE, States.SEMICOLON);
+        put(States.SEMICOLON, TokenKind.OTHER, States.OTHER);
+        put(States.SEMICOLON, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.SEMICOLON, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.SEMICOLON, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.SEMICOLON, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.SINGLE_LINE_COMMENT, TokenKind.NEWLINE, States.NEWLINE);
+
+        put(States.MULTILINE_COMMENT, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.MULTILINE_COMMENT, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.MULTILINE_COMMENT, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.MULTILINE_COMMENT, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.MULTILINE_COMMENT, TokenKind.TAB, States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, TokenKind.WHITESPACE, States.WHITESPACE);
+        put(States.MULTILINE_COMMENT, TokenKind.OTHER, States.OTHER);
+        put(States.MULTILINE_COMMENT, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.MULTILINE_COMMENT, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.MULTILINE_COMMENT, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.CHARACTER_LITERAL, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.CHARACTER_LITERAL, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.CHARACTER_LITERAL, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.CHARACTER_LITERAL, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.CHARACTER_LITERAL, TokenKind.TAB, States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, TokenKind.WHITESPACE, States.WHITESPACE);
+        put(States.CHARACTER_LITERAL, TokenKind.OTHER, States.OTHER);
+        put(States.CHARACTER_LITERAL, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.CHARACTER_LITERAL, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.CHARACTER_LITERAL, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+
+        put(States.STRING_LITERAL, TokenKind.OPENING_CURLY_BRACE, States.OPENING_CURLY_BRACE);
+        put(States.STRING_LITERAL, TokenKind.CLOSING_CURLY_BRACE, States.CLOSING_CURLY_BRACE);
+        put(States.STRING_LITERAL, TokenKind.SEMICOLON, States.SEMICOLON);
+        put(States.STRING_LITERAL, TokenKind.NEWLINE, States.NEWLINE);
+        put(States.STRING_LITERAL, TokenKind.TAB, States.STRING_LITERAL);
+        put(States.STRING_LITERAL, TokenKind.WHITESPACE, States.WHITESPACE);
+        put(States.STRING_LITERAL, TokenKind.OTHER, States.OTHER);
+        put(States.STRING_LITERAL, TokenKind.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        put(States.STRING_LITERAL, TokenKind.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        put(States.STRING_LITERAL, TokenKind.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        put(States.STRING_LITERAL, TokenKind.STRING_LITERAL, States.STRING_LITERAL);
+    }
+
+    /**
+     * Private method that puts target {@link State} instance for passed {@link State} instance / {@link TokenKind} value pair.
+     *
+     * @param state     {@link State} instance that presents current FSM state.
+     * @param tokenKind {@link TokenKind} value that presents token kind.
+     * @param nextState {@link State} instance that presents target FSM state.
+     */
+    private void put(final State state, final TokenKind tokenKind, final State nextState) {
+        stateMap[state.getId() * TOKEN_KIND_COUNT + tokenKind.ordinal()] = nextState;
     }
 
     /**
@@ -172,7 +171,7 @@ class StateMap {
      * @return {@link State} instance that presents start FSM state.
      */
     State getStartState() {
-        return startState;
+        return States.START;
     }
 
     /**
@@ -181,7 +180,7 @@ class StateMap {
      * @return {@link State} instance that presents error FSM state.
      */
     State getErrorState() {
-        return errorState;
+        return States.ERROR;
     }
 
     /**
@@ -195,6 +194,13 @@ class StateMap {
      * (or default if there are no matches with passed args).
      */
     State getNextState(final State state, final IToken token) {
-        return stateMap.getOrDefault(new Pair<>(state, token.getName()), errorState);
+        final int stateId = state.getId();
+        final TokenKind tokenKind = token.getKind();
+
+        if (stateId < 0 || stateId >= States.COUNT || tokenKind == null) {
+            return States.ERROR;
+        }
+
+        return stateMap[stateId * TOKEN_KIND_COUNT + tokenKind.ordinal()];
     }
 }
@@ -0,0 +1,76 @@
+package it.sevenbits.formatter.formatter.fsm.state;
+
+/**
+ * Utility class that declares all {@link State} instances which are known to formatter FSM.
+ * <p>
+ * Identifiers of these states are dense, so they can be used as indexes in transition tables.
+ */
+public final class States {
+    /**
+     * Start FSM state.
+     */
+    public static final State START = new State(0, "START");
+
+    /**
+     * Error FSM state.
+     */
+    public static final State ERROR = new State(1, "ERROR");
+
+    /**
+     * FSM state that presents token which does not match any of other states.
+     */
+    public static final State OTHER = new State(2, "OTHER");
+
+    /**
+     * FSM state that presents newline token.
+     */
+    public static final State NEWLINE = new State(3, "NEWLINE");
+
+    /**
+     * FSM state that presents whitespace token.
+     */
+    public static final State WHITESPACE = new State(4, "WHITESPACE");
+
+    /**
+     * FSM state that presents opening curly brace token.
+     */
+    public static final State OPENING_CURLY_BRACE = new State(5, "OPENING_CURLY_BRACE");
+
+    /**
+     * FSM state that presents closing curly brace token.
+     */
+    public static final State CLOSING_CURLY_BRACE = new State(6, "CLOSING_CURLY_BRACE");
+
+    /**
+     * FSM state that presents semicolon token.
+     */
+    public static final State SEMICOLON = new State(7, "SEMICOLON");
+
+    /**
+     * FSM state that presents single line comment token.
+     */
+    public static final State SINGLE_LINE_COMMENT = new State(8, "SINGLE_LINE_COMMENT");
+
+    /**
+     * FSM state that presents multiline comment token.
+     */
+    public static final State MULTILINE_COMMENT = new State(9, "MULTILINE_COMMENT");
+
+    /**
+     * FSM state that presents character literal token.
+     */
+    public static final State CHARACTER_LITERAL = new State(10, "CHARACTER_LITERAL");
+
+    /**
+     * FSM state that presents string literal token.
+     */
+    public static final State STRING_LITERAL = new State(11, "STRING_LITERAL");
+
+    /**
+     * Count of states that are known to formatter FSM.
+     */
+    public static final int COUNT = 12;
+
+    private States() {
+    }
+}
@@ -1,17 +1,92 @@
 package it.sevenbits.formatter.formatter.util;
 
+import it.sevenbits.formatter.io.writer.IWriter;
+import it.sevenbits.formatter.io.writer.WriterException;
+
+import java.util.Arrays;
+
 /**
  * Utility class that provides necessary indent (based on four spaces)
  * corresponding to passed code nesting level.
  * <p>
- * Indentation is presented by {@link String} instance.
+ * Indentation is presented by {@link String} instance or written directly to {@link IWriter} instance
+ * as a slice of the shared slab that consists of newline character followed by spaces.
+ * Slab grows (by doubling) only when deeper nesting level is requested for the first time,
+ * so writing of newline and indent costs one bounded array copy and does not allocate anything.
  */
 public final class IndentProvider {
-    private static final String FOUR_SPACES_INDENT = "    ";
+    private static final int FOUR_SPACES_INDENT_LENGTH = 4;
+    private static final int INITIAL_SLAB_LENGTH = 257;
+
+    private static volatile char[] newlineAndSpacesSlab = createSlab(INITIAL_SLAB_LENGTH);
 
     private IndentProvider() {
     }
 
+    /**
+     * Private static method that creates slab of passed length that consists of newline character followed by spaces.
+     *
+     * @param length Length of slab.
+     * @return Array of characters that presents slab.
+     */
+    private static char[] createSlab(final int length) {
+        final char[] slab = new char[length];
+        slab[0] = '\n';
+        Arrays.fill(slab, 1, length, ' ');
+        return slab;
+    }
+
+    /**
+     * Private static method that returns slab that is long enough to contain newline character
+     * followed by necessary indent.
+     *
+     * @param indentLength Length of necessary indent.
+     * @return Array of characters that presents slab.
+     */
+    private static char[] getSlab(final int indentLength) {
+        final char[] slab = newlineAndSpacesSlab;
+
+        if (indentLength < slab.length) {
+            return slab;
+        }
+
+        return growSlab(indentLength);
+    }
+
+    /**
+     * Private static method that performs growing of slab, so it contains newline character
+     * followed by at least passed count of spaces.
+     *
+     * @param indentLength Length of necessary indent.
+     * @return Array of characters that presents grown slab.
+     */
+    private static synchronized char[] growSlab(final int indentLength) {
+        char[] slab = newlineAndSpacesSlab;
+
+        if (indentLength >= slab.length) {
+            int length = slab.length;
+
+            while (indentLength >= length) {
+                length = length * 2;
+            }
+
+            slab = createSlab(length);
+            newlineAndSpacesSlab = slab;
+        }
+
+        return slab;
+    }
+
+    /**
+     * Private static method that returns length of necessary indent (based on four spaces).
+     *
+     * @param nestingLevel Integer value that presents code nesting level.
+     * @return Length of necessary indent.
+     */
+    private static int getFourSpacesIndentLength(final int nestingLevel) {
+        return Math.max(nestingLevel, 0) * FOUR_SPACES_INDENT_LENGTH;
+    }
+
     /**
      * Static method that performs indent formation and then returns it.
      *
@@ -19,12 +94,38 @@ public final class IndentProvider {
      * @return {@link String} instance that presents necessary indent (based on four spaces).
      */
     public static String getFourSpacesIndent(final int nestingLevel) {
-        final StringBuilder indentBuilder = new StringBuilder();
+        final int indentLength = getFourSpacesIndentLength(nestingLevel);
+        return new String(getSlab(indentLength), 1, indentLength);
+    }
 
-        for (int i = 0; i < nestingLevel; i++) {
-            indentBuilder.append(FOUR_SPACES_INDENT);
+    /**
+     * Static method that writes necessary indent (based on four spaces) to passed {@link IWriter} instance.
+     *
+     * @param writer       {@link IWriter} instance that provides data writing.
+     * @param nestingLevel Integer value that presents code nesting level.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public static void writeFourSpacesIndent(final IWriter writer, final int nestingLevel) throws WriterException {
+        final int indentLength = getFourSpacesIndentLength(nestingLevel);
+
+        if (indentLength > 0) {
+            writer.write(getSlab(indentLength), 1, indentLength);
         }
+    }
 
-        return indentBuilder.toString();
+    /**
+     * Static method that writes newline character followed by necessary indent (based on four spaces)
+     * to passed {@link IWriter} instance as a single slice of the shared slab.
+     *
+     * @param writer       {@link IWriter} instance that provides data writing.
+     * @param nestingLevel Integer value that presents code nesting level.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public static void writeNewlineAndFourSpacesIndent(
+            final IWriter writer,
+            final int nestingLevel
+    ) throws WriterException {
+        final int indentLength = getFourSpacesIndentLength(nestingLevel);
+        writer.write(getSlab(indentLength), 0, indentLength + 1);
     }
 }
@@ -0,0 +1,273 @@
+package it.sevenbits.formatter.io.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Implementation of {@link IReader} interface that performs reading of file that is encoded with UTF-8
+ * without decoding it.
+ * <p>
+ * Every byte of file is returned as a single character in range from 0 to 255 (that is, file is viewed
+ * as ISO-8859-1 text), so ASCII characters are returned as is and every non-ASCII character is returned
+ * as a sequence of its UTF-8 bytes. Data of this reader is meant to be processed by
+ * {@link it.sevenbits.formatter.lexer.fsm.ByteFSMLexer} and written back by
+ * {@link it.sevenbits.formatter.io.writer.ByteFileWriter}, so non-ASCII content passes through untouched.
+ * <p>
+ * Input is still checked to be well-formed UTF-8 (without building any characters), so malformed input
+ * is reported with {@link ReaderException}, like it is done by {@link FileReader}.
+ */
+public class ByteFileReader implements IReader, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int ASCII_SIZE = 0x80;
+    private static final int CONTINUATION_MIN = 0x80;
+    private static final int CONTINUATION_MAX = 0xBF;
+    private static final int TWO_BYTE_LEAD_MIN = 0xC2;
+    private static final int THREE_BYTE_LEAD_MIN = 0xE0;
+    private static final int SURROGATE_LEAD = 0xED;
+    private static final int FOUR_BYTE_LEAD_MIN = 0xF0;
+    private static final int FOUR_BYTE_LEAD_MAX = 0xF4;
+    private static final int THREE_BYTE_SECOND_MIN = 0xA0;
+    private static final int SURROGATE_SECOND_MIN = 0xA0;
+    private static final int FOUR_BYTE_SECOND_MIN = 0x90;
+    private static final int FOUR_BYTE_MAX_SECOND_MAX = 0x8F;
+    private static final int FOUR_BYTE_CONTINUATION_COUNT = 3;
+
+    private final InputStream inputStream;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private long bufferOffset;
+    private int pendingContinuationCount;
+    private int nextContinuationMin;
+    private int nextContinuationMax;
+    private boolean closed;
+
+    /**
+     * Overload of constructor that initializes {@link #inputStream} using {@link Path} instance
+     * and then calls {@link #fillBuffer()} method.
+     *
+     * @param filePath {@link Path} instance that represents a path to input file.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    public ByteFileReader(final Path filePath) throws ReaderException {
+        try {
+            inputStream = Files.newInputStream(filePath);
+        } catch (IOException e) {
+            throw new ReaderException("Unable to open stream", e);
+        }
+
+        buffer = new byte[BUFFER_SIZE];
+        fillBuffer();
+    }
+
+    /**
+     * Overload of constructor that initializes {@link #inputStream}
+     * using return value of {@link Paths#get(String, String...)} method.
+     *
+     * @param filePath {@link String} instance that represents a path to input file.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    public ByteFileReader(final String filePath) throws ReaderException {
+        this(Paths.get(filePath));
+    }
+
+    /**
+     * Private method that reads the next portion of bytes from {@link #inputStream} to {@link #buffer}
+     * and then checks that they continue well-formed UTF-8 input.
+     *
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    private void fillBuffer() throws ReaderException {
+        final int count;
+
+        try {
+            count = inputStream.read(buffer, 0, buffer.length);
+        } catch (IOException e) {
+            throw new ReaderException("Unable to read from stream", e);
+        }
+
+        bufferOffset += limit;
+        position = 0;
+        limit = Math.max(count, 0);
+
+        if (count == -1 && pendingContinuationCount > 0) {
+            throw new ReaderException("Truncated UTF-8 sequence at the end of stream");
+        }
+
+        checkBuffer();
+    }
+
+    /**
+     * Private method that checks that bytes of {@link #buffer} continue well-formed UTF-8 input.
+     * <p>
+     * State of unfinished multibyte sequence is kept between calls, so sequences can span several portions.
+     *
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    private void checkBuffer() throws ReaderException {
+        for (int i = 0; i < limit; i++) {
+            final int value = buffer[i] & BYTE_MASK;
+
+            if (pendingContinuationCount > 0) {
+                if (value < nextContinuationMin || value > nextContinuationMax) {
+                    throw new ReaderException("Malformed UTF-8 sequence at byte " + (bufferOffset + i));
+                }
+
+                pendingContinuationCount--;
+                nextContinuationMin = CONTINUATION_MIN;
+                nextContinuationMax = CONTINUATION_MAX;
+            } else if (value >= ASCII_SIZE) {
+                startSequence(value, bufferOffset + i);
+            }
+        }
+    }
+
+    /**
+     * Private method that remembers count and allowed range of continuation bytes for passed lead byte.
+     * <p>
+     * Ranges of the first continuation byte exclude overlong forms, encoded surrogates
+     * and code points above <code>U+10FFFF</code>.
+     *
+     * @param leadByte   Lead byte of multibyte sequence.
+     * @param byteOffset Offset of lead byte in stream (used in exception message).
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    private void startSequence(final int leadByte, final long byteOffset) throws ReaderException {
+        nextContinuationMin = CONTINUATION_MIN;
+        nextContinuationMax = CONTINUATION_MAX;
+
+        if (leadByte >= TWO_BYTE_LEAD_MIN && leadByte < THREE_BYTE_LEAD_MIN) {
+            pendingContinuationCount = 1;
+        } else if (leadByte >= THREE_BYTE_LEAD_MIN && leadByte < FOUR_BYTE_LEAD_MIN) {
+            pendingContinuationCount = 2;
+
+            if (leadByte == THREE_BYTE_LEAD_MIN) {
+                nextContinuationMin = THREE_BYTE_SECOND_MIN;
+            } else if (leadByte == SURROGATE_LEAD) {
+                nextContinuationMax = SURROGATE_SECOND_MIN - 1;
+            }
+        } else if (leadByte >= FOUR_BYTE_LEAD_MIN && leadByte <= FOUR_BYTE_LEAD_MAX) {
+            pendingContinuationCount = FOUR_BYTE_CONTINUATION_COUNT;
+
+            if (leadByte == FOUR_BYTE_LEAD_MIN) {
+                nextContinuationMin = FOUR_BYTE_SECOND_MIN;
+            } else if (leadByte == FOUR_BYTE_LEAD_MAX) {
+                nextContinuationMax = FOUR_BYTE_MAX_SECOND_MAX;
+            }
+        } else {
+            throw new ReaderException("Malformed UTF-8 sequence at byte " + byteOffset);
+        }
+    }
+
+    /**
+     * Method that reports whether byte is available for reading.
+     *
+     * @return Boolean value that indicates result of the method work.
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        return position < limit;
+    }
+
+    /**
+     * Method that reads a single byte of file and returns it as character in range from 0 to 255.
+     *
+     * @return Read byte or -1 if the end of stream is reached.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int read() throws ReaderException {
+        if (closed) {
+            throw new ReaderException("Stream is closed");
+        }
+
+        if (position == limit) {
+            return -1;
+        }
+
+        final int value = buffer[position] & BYTE_MASK;
+        position++;
+
+        if (position == limit) {
+            fillBuffer();
+        }
+
+        return value;
+    }
+
+    /**
+     * Method that reads up to passed count of bytes into passed array, every byte as a single character.
+     *
+     * @param destination Array of characters to be filled with read bytes.
+     * @param offset      Index in array from which storing of read bytes is started.
+     * @param length      Maximum count of bytes to be read.
+     * @return Count of read bytes or -1 if the end of stream is reached.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int read(final char[] destination, final int offset, final int length) throws ReaderException {
+        if (closed) {
+            throw new ReaderException("Stream is closed");
+        }
+
+        if (destination == null || offset < 0 || length < 0 || length > destination.length - offset) {
+            throw new ReaderException("Invalid destination array bounds");
+        }
+
+        if (length == 0) {
+            return 0;
+        }
+
+        if (position == limit) {
+            return -1;
+        }
+
+        int count = 0;
+
+        while (count < length && position < limit) {
+            final int portionLength = Math.min(length - count, limit - position);
+
+            for (int i = 0; i < portionLength; i++) {
+                destination[offset + count + i] = (char) (buffer[position + i] & BYTE_MASK);
+            }
+
+            count += portionLength;
+            position += portionLength;
+
+            if (position == limit) {
+                fillBuffer();
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Method that performs {@link ByteFileReader} closing.
+     *
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void close() throws ReaderException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            throw new ReaderException("Unable to close stream", e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package it.sevenbits.formatter.io.reader;
 
 import java.io.BufferedReader;
-import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -11,29 +10,19 @@ import java.nio.file.Paths;
 /**
  * Implementation of {@link IReader} interface that performs reading from file that is encoded with UTF-8.
  */
-public class FileReader implements IReader, Closeable {
-    private final BufferedReader bufferedReader;
-    private int charBuffer;
-
+public class FileReader extends StreamReader {
     /**
-     * Overload of constructor that initializes {@link #bufferedReader} using {@link Path} instance
-     * and then calls {@link #prepareCharBuffer()} method.
+     * Overload of constructor that opens passed file using {@link Path} instance.
      *
      * @param filePath {@link Path} instance that represents a path to input file.
      * @throws ReaderException Exception that can be thrown during the method work.
      */
     public FileReader(final Path filePath) throws ReaderException {
-        try {
-            bufferedReader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new ReaderException("Unable to open stream", e);
-        }
-
-        prepareCharBuffer();
+        super(open(filePath));
     }
 
     /**
-     * Overload of constructor that initializes {@link #bufferedReader}
+     * Overload of constructor that opens passed file
      * using return value of {@link Paths#get(String, String...)} method.
      *
      * @param filePath {@link String} instance that represents a path to input file.
@@ -44,71 +33,17 @@ public class FileReader implements IReader, Closeable {
     }
 
     /**
-     * Method that reads Unicode code of character from {@link #bufferedReader} and then puts it to {@link #charBuffer}.
+     * Private method that opens passed file for reading in UTF-8 encoding.
      *
+     * @param filePath {@link Path} instance that represents a path to input file.
+     * @return {@link BufferedReader} instance.
      * @throws ReaderException Exception that can be thrown during the method work.
      */
-    private void prepareCharBuffer() throws ReaderException {
+    private static BufferedReader open(final Path filePath) throws ReaderException {
         try {
-            charBuffer = bufferedReader.read();
+            return Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
         } catch (IOException e) {
-            throw new ReaderException("Unable to read from stream", e);
-        }
-    }
-
-    /**
-     * Method that reports whether character is available for reading.
-     *
-     * @return Boolean value that indicates result of the method work.
-     */
-    @Override
-    public boolean hasNext() {
-        if (bufferedReader == null) {
-            return false;
-        }
-
-        return charBuffer != -1;
-    }
-
-    /**
-     * Method that remembers a single character represented by Unicode code from {@link #charBuffer},
-     * calls {@link #prepareCharBuffer()} method and then returns memorized character code.
-     *
-     * @return Unicode code of read character.
-     * @throws ReaderException Exception that can be thrown during the method work.
-     */
-    @Override
-    public int read() throws ReaderException {
-        if (bufferedReader == null) {
-            throw new ReaderException("Stream is closed");
-        }
-
-        int currentChar = charBuffer;
-
-        if (hasNext()) {
-            prepareCharBuffer();
-        }
-
-        return currentChar;
-    }
-
-    /**
-     * Method that performs {@link FileReader} closing.
-     *
-     * @throws ReaderException Exception that can be thrown during the method work.
-     */
-    @Override
-    public void close() throws ReaderException {
-        if (charBuffer != -1) {
-            charBuffer = -1;
-        }
-
-        if (bufferedReader != null) {
-            try {
-                bufferedReader.close();
-            } catch (IOException e) {
-                throw new ReaderException("Unable to close stream", e);
-            }
+            throw new ReaderException("Unable to open stream", e);
         }
     }
 }
@@ -18,4 +18,36 @@ public interface IReader {
      * @throws ReaderException Exception that can be thrown during the method work.
      */
     int read() throws ReaderException;
+
+    /**
+     * Method that reads from stream up to passed count of characters into passed array.
+     * <p>
+     * Method reads at least one character unless the end of stream is reached.
+     * Default implementation performs reading character by character, so implementations
+     * should override it with a bulk reading where it is possible.
+     *
+     * @param destination Array of characters to be filled with read characters.
+     * @param offset      Index in array from which storing of read characters is started.
+     * @param length      Maximum count of characters to be read.
+     * @return Count of read characters or -1 if the end of stream is reached.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    default int read(final char[] destination, final int offset, final int length) throws ReaderException {
+        if (destination == null || offset < 0 || length < 0 || length > destination.length - offset) {
+            throw new ReaderException("Invalid destination array bounds");
+        }
+
+        if (length == 0) {
+            return 0;
+        }
+
+        int count = 0;
+
+        while (count < length && hasNext()) {
+            destination[offset + count] = (char) read();
+            count++;
+        }
+
+        return count == 0 ? -1 : count;
+    }
 }
@@ -0,0 +1,280 @@
+package it.sevenbits.formatter.io.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of {@link IReader} interface that performs reading from file that is encoded with UTF-8.
+ * <p>
+ * File is mapped into memory using {@link FileChannel#map(FileChannel.MapMode, long, long)} method,
+ * and characters are decoded directly from the mapped buffer. Runs of ASCII characters (that are nearly
+ * all of Java source code) are copied byte by byte without any {@link java.nio.charset.CharsetDecoder} overhead.
+ * <p>
+ * Malformed input (including overlong forms, encoded surrogates and truncated sequences) is reported
+ * with {@link ReaderException}, like it is done by {@link FileReader}.
+ */
+public class MappedFileReader implements IReader, Closeable {
+    private static final int CONTINUATION_MASK = 0xC0;
+    private static final int CONTINUATION_PREFIX = 0x80;
+    private static final int CONTINUATION_PAYLOAD_MASK = 0x3F;
+    private static final int CONTINUATION_PAYLOAD_BITS = 6;
+    private static final int TWO_BYTE_LEAD_MIN = 0xC2;
+    private static final int THREE_BYTE_LEAD_MIN = 0xE0;
+    private static final int FOUR_BYTE_LEAD_MIN = 0xF0;
+    private static final int FOUR_BYTE_LEAD_MAX = 0xF4;
+    private static final int TWO_BYTE_LEAD_PAYLOAD_MASK = 0x1F;
+    private static final int THREE_BYTE_LEAD_PAYLOAD_MASK = 0x0F;
+    private static final int FOUR_BYTE_LEAD_PAYLOAD_MASK = 0x07;
+    private static final int THREE_BYTE_CODE_POINT_MIN = 0x800;
+    private static final int BYTE_MASK = 0xFF;
+
+    private final int limit;
+    private ByteBuffer buffer;
+    private int position;
+    private char pendingLowSurrogate;
+    private boolean hasPendingLowSurrogate;
+
+    /**
+     * Overload of constructor that maps file with passed {@link Path} instance into memory.
+     *
+     * @param filePath {@link Path} instance that represents a path to input file.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    public MappedFileReader(final Path filePath) throws ReaderException {
+        final long size;
+        ByteBuffer mappedBuffer = null;
+
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            size = fileChannel.size();
+
+            if (size <= Integer.MAX_VALUE) {
+                mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        } catch (IOException e) {
+            throw new ReaderException("Unable to open stream", e);
+        }
+
+        if (mappedBuffer == null) {
+            throw new ReaderException("File is too large to be mapped");
+        }
+
+        buffer = mappedBuffer;
+        limit = mappedBuffer.limit();
+        position = 0;
+    }
+
+    /**
+     * Overload of constructor that maps file into memory
+     * using return value of {@link Paths#get(String, String...)} method.
+     *
+     * @param filePath {@link String} instance that represents a path to input file.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    public MappedFileReader(final String filePath) throws ReaderException {
+        this(Paths.get(filePath));
+    }
+
+    /**
+     * Private method that reads continuation byte of multibyte sequence and returns its payload.
+     *
+     * @param index Index of continuation byte in {@link #buffer}.
+     * @return Payload bits of continuation byte.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    private int readContinuationPayload(final int index) throws ReaderException {
+        if (index >= limit) {
+            throw new ReaderException("Truncated UTF-8 sequence at byte " + position);
+        }
+
+        final int continuationByte = buffer.get(index) & BYTE_MASK;
+
+        if ((continuationByte & CONTINUATION_MASK) != CONTINUATION_PREFIX) {
+            throw new ReaderException("Malformed UTF-8 sequence at byte " + position);
+        }
+
+        return continuationByte & CONTINUATION_PAYLOAD_MASK;
+    }
+
+    /**
+     * Private method that decodes multibyte sequence starting at {@link #position}, moves {@link #position}
+     * after it and returns decoded character.
+     * <p>
+     * If decoded code point is supplementary, its high surrogate is returned and its low surrogate
+     * is remembered in {@link #pendingLowSurrogate} field.
+     *
+     * @return Decoded character.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    private char decodeMultibyteSequence() throws ReaderException {
+        final int leadByte = buffer.get(position) & BYTE_MASK;
+        final int codePoint;
+        final int length;
+
+        if (leadByte >= TWO_BYTE_LEAD_MIN && leadByte < THREE_BYTE_LEAD_MIN) {
+            codePoint = (leadByte & TWO_BYTE_LEAD_PAYLOAD_MASK) << CONTINUATION_PAYLOAD_BITS
+                    | readContinuationPayload(position + 1);
+            length = 2;
+        } else if (leadByte >= THREE_BYTE_LEAD_MIN && leadByte < FOUR_BYTE_LEAD_MIN) {
+            codePoint = ((leadByte & THREE_BYTE_LEAD_PAYLOAD_MASK) << CONTINUATION_PAYLOAD_BITS
+                    | readContinuationPayload(position + 1)) << CONTINUATION_PAYLOAD_BITS
+                    | readContinuationPayload(position + 2);
+            length = 3;
+
+            if (codePoint < THREE_BYTE_CODE_POINT_MIN
+                    || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                throw new ReaderException("Malformed UTF-8 sequence at byte " + position);
+            }
+        } else if (leadByte >= FOUR_BYTE_LEAD_MIN && leadByte <= FOUR_BYTE_LEAD_MAX) {
+            codePoint = (((leadByte & FOUR_BYTE_LEAD_PAYLOAD_MASK) << CONTINUATION_PAYLOAD_BITS
+                    | readContinuationPayload(position + 1)) << CONTINUATION_PAYLOAD_BITS
+                    | readContinuationPayload(position + 2)) << CONTINUATION_PAYLOAD_BITS
+                    | readContinuationPayload(position + 3);
+            length = 4;
+
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT) {
+                throw new ReaderException("Malformed UTF-8 sequence at byte " + position);
+            }
+        } else {
+            throw new ReaderException("Malformed UTF-8 sequence at byte " + position);
+        }
+
+        position += length;
+
+        if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            pendingLowSurrogate = Character.lowSurrogate(codePoint);
+            hasPendingLowSurrogate = true;
+            return Character.highSurrogate(codePoint);
+        }
+
+        return (char) codePoint;
+    }
+
+    /**
+     * Method that reports whether character is available for reading.
+     *
+     * @return Boolean value that indicates result of the method work.
+     */
+    @Override
+    public boolean hasNext() {
+        if (buffer == null) {
+            return false;
+        }
+
+        return hasPendingLowSurrogate || position < limit;
+    }
+
+    /**
+     * Method that reads a single character represented by Unicode code from the mapped file.
+     *
+     * @return Unicode code of read character.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int read() throws ReaderException {
+        if (buffer == null) {
+            throw new ReaderException("Stream is closed");
+        }
+
+        if (hasPendingLowSurrogate) {
+            hasPendingLowSurrogate = false;
+            return pendingLowSurrogate;
+        }
+
+        if (position >= limit) {
+            return -1;
+        }
+
+        final byte currentByte = buffer.get(position);
+
+        if (currentByte >= 0) {
+            position++;
+            return currentByte;
+        }
+
+        return decodeMultibyteSequence();
+    }
+
+    /**
+     * Method that reads up to passed count of characters from the mapped file into passed array.
+     * <p>
+     * Runs of ASCII characters are copied by the tight loop, other characters are decoded one by one.
+     *
+     * @param destination Array of characters to be filled with read characters.
+     * @param offset      Index in array from which storing of read characters is started.
+     * @param length      Maximum count of characters to be read.
+     * @return Count of read characters or -1 if the end of file is reached.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int read(final char[] destination, final int offset, final int length) throws ReaderException {
+        if (buffer == null) {
+            throw new ReaderException("Stream is closed");
+        }
+
+        if (destination == null || offset < 0 || length < 0 || length > destination.length - offset) {
+            throw new ReaderException("Invalid destination array bounds");
+        }
+
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!hasNext()) {
+            return -1;
+        }
+
+        final ByteBuffer source = buffer;
+        int count = 0;
+
+        while (count < length) {
+            if (hasPendingLowSurrogate) {
+                destination[offset + count] = pendingLowSurrogate;
+                hasPendingLowSurrogate = false;
+                count++;
+                continue;
+            }
+
+            int index = position;
+            final int asciiEnd = Math.min(limit, index + length - count);
+
+            while (index < asciiEnd) {
+                final byte currentByte = source.get(index);
+
+                if (currentByte < 0) {
+                    break;
+                }
+
+                destination[offset + count] = (char) currentByte;
+                count++;
+                index++;
+            }
+
+            position = index;
+
+            if (count == length || position == limit) {
+                break;
+            }
+
+            destination[offset + count] = decodeMultibyteSequence();
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Method that performs {@link MappedFileReader} closing.
+     * <p>
+     * Mapped memory is released when the mapped buffer becomes unreachable.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        hasPendingLowSurrogate = false;
+    }
+}
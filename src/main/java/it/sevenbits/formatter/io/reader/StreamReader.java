@@ -0,0 +1,162 @@
+package it.sevenbits.formatter.io.reader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Implementation of {@link IReader} interface that performs reading from input stream that is encoded with UTF-8.
+ */
+public class StreamReader implements IReader, Closeable {
+    private final BufferedReader bufferedReader;
+    private int charBuffer;
+
+    /**
+     * Overload of constructor that initializes {@link #bufferedReader} using passed {@link InputStream} instance
+     * and then calls {@link #prepareCharBuffer()} method.
+     *
+     * @param inputStream {@link InputStream} instance that presents UTF-8 encoded input data.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    public StreamReader(final InputStream inputStream) throws ReaderException {
+        this(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Overload of constructor that initializes {@link #bufferedReader} with passed value
+     * and then calls {@link #prepareCharBuffer()} method.
+     *
+     * @param bufferedReader {@link BufferedReader} instance that presents input data.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    protected StreamReader(final BufferedReader bufferedReader) throws ReaderException {
+        this.bufferedReader = bufferedReader;
+        prepareCharBuffer();
+    }
+
+    /**
+     * Method that reads Unicode code of character from {@link #bufferedReader} and then puts it to {@link #charBuffer}.
+     *
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    private void prepareCharBuffer() throws ReaderException {
+        try {
+            charBuffer = bufferedReader.read();
+        } catch (IOException e) {
+            throw new ReaderException("Unable to read from stream", e);
+        }
+    }
+
+    /**
+     * Method that reports whether character is available for reading.
+     *
+     * @return Boolean value that indicates result of the method work.
+     */
+    @Override
+    public boolean hasNext() {
+        if (bufferedReader == null) {
+            return false;
+        }
+
+        return charBuffer != -1;
+    }
+
+    /**
+     * Method that remembers a single character represented by Unicode code from {@link #charBuffer},
+     * calls {@link #prepareCharBuffer()} method and then returns memorized character code.
+     *
+     * @return Unicode code of read character.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int read() throws ReaderException {
+        if (bufferedReader == null) {
+            throw new ReaderException("Stream is closed");
+        }
+
+        int currentChar = charBuffer;
+
+        if (hasNext()) {
+            prepareCharBuffer();
+        }
+
+        return currentChar;
+    }
+
+    /**
+     * Method that reads up to passed count of characters into passed array.
+     * <p>
+     * At first character from {@link #charBuffer} is stored, then the rest of characters is read
+     * from {@link #bufferedReader} in bulk, and then {@link #prepareCharBuffer()} method is called.
+     *
+     * @param destination Array of characters to be filled with read characters.
+     * @param offset      Index in array from which storing of read characters is started.
+     * @param length      Maximum count of characters to be read.
+     * @return Count of read characters or -1 if the end of stream is reached.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int read(final char[] destination, final int offset, final int length) throws ReaderException {
+        if (bufferedReader == null) {
+            throw new ReaderException("Stream is closed");
+        }
+
+        if (destination == null || offset < 0 || length < 0 || length > destination.length - offset) {
+            throw new ReaderException("Invalid destination array bounds");
+        }
+
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!hasNext()) {
+            return -1;
+        }
+
+        destination[offset] = (char) charBuffer;
+        int count = 1;
+
+        if (length > 1) {
+            final int bulkCount;
+
+            try {
+                bulkCount = bufferedReader.read(destination, offset + 1, length - 1);
+            } catch (IOException e) {
+                throw new ReaderException("Unable to read from stream", e);
+            }
+
+            if (bulkCount == -1) {
+                charBuffer = -1;
+                return count;
+            }
+
+            count += bulkCount;
+        }
+
+        prepareCharBuffer();
+        return count;
+    }
+
+    /**
+     * Method that performs {@link StreamReader} closing.
+     *
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void close() throws ReaderException {
+        if (charBuffer != -1) {
+            charBuffer = -1;
+        }
+
+        if (bufferedReader != null) {
+            try {
+                bufferedReader.close();
+            } catch (IOException e) {
+                throw new ReaderException("Unable to close stream", e);
+            }
+        }
+    }
+}
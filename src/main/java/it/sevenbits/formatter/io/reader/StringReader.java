@@ -1,10 +1,12 @@
 package it.sevenbits.formatter.io.reader;
 
 /**
- * Implementation of {@link IReader} interface that performs reading from {@link String} instance.
+ * Implementation of {@link IReader} interface that performs reading from {@link String} instance
+ * or from its range (so parts of a large string can be read without copying).
  */
 public class StringReader implements IReader {
     private final String sourceString;
+    private final int endIndex;
     private int currentIndex;
 
     /**
@@ -14,8 +16,27 @@ public class StringReader implements IReader {
      * @param sourceString {@link String} instance that represents the data source for reading.
      */
     public StringReader(final String sourceString) {
+        this(sourceString, 0, sourceString == null ? 0 : sourceString.length());
+    }
+
+    /**
+     * Class constructor that initializes {@link #sourceString} with an external {@link String} instance
+     * passed as argument and limits reading with range of it.
+     *
+     * @param sourceString {@link String} instance that represents the data source for reading.
+     * @param start        Index of the first character to read.
+     * @param end          Index after the last character to read.
+     */
+    public StringReader(final String sourceString, final int start, final int end) {
+        final int length = sourceString == null ? 0 : sourceString.length();
+
+        if (start < 0 || start > end || end > length) {
+            throw new IllegalArgumentException("Invalid source string bounds");
+        }
+
         this.sourceString = sourceString;
-        currentIndex = 0;
+        endIndex = end;
+        currentIndex = start;
     }
 
     /**
@@ -29,7 +50,7 @@ public class StringReader implements IReader {
             return false;
         }
 
-        return currentIndex < sourceString.length();
+        return currentIndex < endIndex;
     }
 
     /**
@@ -52,4 +73,37 @@ public class StringReader implements IReader {
         currentIndex++;
         return currentChar;
     }
+
+    /**
+     * Method that reads up to passed count of characters from {@link #sourceString} into passed array.
+     *
+     * @param destination Array of characters to be filled with read characters.
+     * @param offset      Index in array from which storing of read characters is started.
+     * @param length      Maximum count of characters to be read.
+     * @return Count of read characters or -1 if the end of {@link #sourceString} is reached.
+     * @throws ReaderException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int read(final char[] destination, final int offset, final int length) throws ReaderException {
+        if (sourceString == null) {
+            throw new ReaderException("Source string is null");
+        }
+
+        if (destination == null || offset < 0 || length < 0 || length > destination.length - offset) {
+            throw new ReaderException("Invalid destination array bounds");
+        }
+
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!hasNext()) {
+            return -1;
+        }
+
+        final int count = Math.min(length, endIndex - currentIndex);
+        sourceString.getChars(currentIndex, currentIndex + count, destination, offset);
+        currentIndex += count;
+        return count;
+    }
 }
@@ -0,0 +1,226 @@
+package it.sevenbits.formatter.io.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Implementation of {@link IWriter} interface that performs writing of characters in range from 0 to 255
+ * to file as single bytes.
+ * <p>
+ * This writer is a counterpart of {@link it.sevenbits.formatter.io.reader.ByteFileReader}: every written
+ * character presents a single byte of UTF-8 output, so UTF-8 bytes that were read are written back verbatim
+ * and ASCII characters are written as is. Characters above 255 can not be presented by a single byte,
+ * so writing of them is reported with {@link WriterException}.
+ * <p>
+ * Written data is collected in internal {@link #buffer} and passed to {@link #outputStream} in bulk
+ * only when {@link #buffer} is full or when writer is closed.
+ */
+public class ByteFileWriter implements IWriter, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int BYTE_MAX = 0xFF;
+
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int count;
+    private boolean closed;
+
+    /**
+     * Overload of constructor that initializes {@link #outputStream} using {@link Path} instance.
+     *
+     * @param filePath {@link Path} instance that represents a path to output file.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public ByteFileWriter(final Path filePath) throws WriterException {
+        try {
+            outputStream = Files.newOutputStream(filePath);
+        } catch (IOException e) {
+            throw new WriterException("Unable to open stream", e);
+        }
+
+        buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Overload of constructor that initializes {@link #outputStream}
+     * using return value of {@link Paths#get(String, String...)} method.
+     *
+     * @param filePath {@link String} instance that represents a path to output file.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public ByteFileWriter(final String filePath) throws WriterException {
+        this(Paths.get(filePath));
+    }
+
+    /**
+     * Private method that performs ensuring that stream is open.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private void ensureOpen() throws WriterException {
+        if (closed) {
+            throw new WriterException("Stream is closed");
+        }
+    }
+
+    /**
+     * Private method that passes all collected data from {@link #buffer} to {@link #outputStream}.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private void flushBuffer() throws WriterException {
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            outputStream.write(buffer, 0, count);
+        } catch (IOException e) {
+            throw new WriterException("Unable to write to stream", e);
+        }
+
+        count = 0;
+    }
+
+    /**
+     * Private method that puts passed character to {@link #buffer} as a single byte.
+     *
+     * @param character Character in range from 0 to 255.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private void putByte(final int character) throws WriterException {
+        if (character < 0 || character > BYTE_MAX) {
+            throw new WriterException("Character can not be written as a single byte");
+        }
+
+        buffer[count] = (byte) character;
+        count++;
+    }
+
+    /**
+     * Overload of method that writes a single character in range from 0 to 255 as a single byte.
+     *
+     * @param character Character to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final int character) throws WriterException {
+        ensureOpen();
+
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+
+        putByte(character);
+    }
+
+    /**
+     * Overload of method that writes a {@link String} instance.
+     *
+     * @param string {@link String} instance to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final String string) throws WriterException {
+        write(string, 0, string.length());
+    }
+
+    /**
+     * Overload of method that writes an array of characters.
+     *
+     * @param charArray Array of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray) throws WriterException {
+        write(charArray, 0, charArray.length);
+    }
+
+    /**
+     * Overload of method that writes a part of an array of characters.
+     *
+     * @param charArray Array of characters which part is to be written.
+     * @param offset    Index of the first character to be written.
+     * @param length    Count of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray, final int offset, final int length) throws WriterException {
+        ensureOpen();
+
+        if (charArray == null || offset < 0 || length < 0 || length > charArray.length - offset) {
+            throw new WriterException("Invalid source array bounds");
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+
+            putByte(charArray[offset + i]);
+        }
+    }
+
+    /**
+     * Overload of method that writes a part of a {@link CharSequence} instance.
+     * <p>
+     * Array-backed {@link CharBuffer} instances (e.g. lexeme views) are written as arrays of characters.
+     *
+     * @param charSequence {@link CharSequence} instance which part is to be written.
+     * @param start        Index of the first character to be written.
+     * @param end          Index after the last character to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final CharSequence charSequence, final int start, final int end) throws WriterException {
+        ensureOpen();
+
+        if (charSequence == null || start < 0 || start > end || end > charSequence.length()) {
+            throw new WriterException("Invalid source character sequence bounds");
+        }
+
+        if (charSequence instanceof CharBuffer && ((CharBuffer) charSequence).hasArray()) {
+            final CharBuffer charBuffer = (CharBuffer) charSequence;
+            write(charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + start, end - start);
+            return;
+        }
+
+        for (int i = start; i < end; i++) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+
+            putByte(charSequence.charAt(i));
+        }
+    }
+
+    /**
+     * Method that performs {@link ByteFileWriter} closing.
+     * <p>
+     * All collected data is passed to {@link #outputStream} before its closing.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void close() throws WriterException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            flushBuffer();
+        } finally {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                throw new WriterException("Unable to close the stream.", e);
+            }
+        }
+    }
+}
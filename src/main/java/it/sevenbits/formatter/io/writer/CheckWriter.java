@@ -0,0 +1,314 @@
+package it.sevenbits.formatter.io.writer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Implementation of {@link IWriter} interface that does not write anything, but compares written data
+ * with the content of the original file that is encoded with UTF-8.
+ * <p>
+ * The original file is read portion by portion into internal {@link #buffer} as data is written,
+ * so neither the whole output nor the whole original file is kept in memory. The first written character
+ * that differs from the original one is reported with {@link MismatchException} and all further writes
+ * are rejected with the same exception. The original file that is longer than written data is reported
+ * with {@link MismatchException} when writer is closed.
+ * <p>
+ * Since formatters wrap writer exceptions into their own ones, the mismatch is also kept in the instance
+ * and can be obtained using {@link #getMismatch()} method.
+ */
+public class CheckWriter implements IWriter, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final BufferedReader bufferedReader;
+    private final char[] buffer;
+    private int count;
+    private int position;
+    private boolean endOfFile;
+    private int line;
+    private int column;
+    private MismatchException mismatch;
+    private boolean closed;
+
+    /**
+     * Overload of constructor that initializes {@link #bufferedReader} using {@link Path} instance.
+     *
+     * @param filePath {@link Path} instance that represents a path to the original file.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public CheckWriter(final Path filePath) throws WriterException {
+        try {
+            bufferedReader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new WriterException("Unable to open stream", e);
+        }
+
+        buffer = new char[BUFFER_SIZE];
+        line = 1;
+        column = 1;
+    }
+
+    /**
+     * Overload of constructor that initializes {@link #bufferedReader}
+     * using return value of {@link Paths#get(String, String...)} method.
+     *
+     * @param filePath {@link String} instance that represents a path to the original file.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public CheckWriter(final String filePath) throws WriterException {
+        this(Paths.get(filePath));
+    }
+
+    /**
+     * Method that returns the first found mismatch.
+     *
+     * @return {@link MismatchException} instance that presents the first found mismatch or null if there is none.
+     */
+    public MismatchException getMismatch() {
+        return mismatch;
+    }
+
+    /**
+     * Private method that performs ensuring that stream is open and no mismatch is found yet.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private void ensureOpen() throws WriterException {
+        if (closed) {
+            throw new WriterException("Stream is closed");
+        }
+
+        if (mismatch != null) {
+            throw mismatch;
+        }
+    }
+
+    /**
+     * Private method that ensures that {@link #buffer} contains at least one unchecked character
+     * unless the original file is over.
+     *
+     * @return Boolean value that indicates whether unchecked character is available.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private boolean fillBuffer() throws WriterException {
+        while (position == count && !endOfFile) {
+            final int readCount;
+
+            try {
+                readCount = bufferedReader.read(buffer, 0, buffer.length);
+            } catch (IOException e) {
+                throw new WriterException("Unable to read from stream", e);
+            }
+
+            if (readCount == -1) {
+                endOfFile = true;
+            } else {
+                count = readCount;
+                position = 0;
+            }
+        }
+
+        return position < count;
+    }
+
+    /**
+     * Private method that remembers and throws a mismatch at the current position of the original file.
+     *
+     * @param message {@link String} instance that describes the mismatch.
+     * @throws MismatchException Exception that is always thrown.
+     */
+    private void reportMismatch(final String message) throws MismatchException {
+        mismatch = new MismatchException(message, line, column);
+        throw mismatch;
+    }
+
+    /**
+     * Private method that moves the current position of the original file forward by passed count of characters
+     * which are checked already.
+     *
+     * @param length Count of checked characters.
+     */
+    private void advance(final int length) {
+        for (int i = position; i < position + length; i++) {
+            if (buffer[i] == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+        }
+
+        position += length;
+    }
+
+    /**
+     * Private method that returns length of a common prefix of unchecked part of {@link #buffer}
+     * and passed part of an array of characters.
+     *
+     * @param charArray Array of characters which part is to be compared.
+     * @param offset    Index of the first character to be compared.
+     * @param length    Count of characters to be compared.
+     * @return Length of a common prefix.
+     */
+    private int matchLength(final char[] charArray, final int offset, final int length) {
+        final int maxLength = Math.min(length, count - position);
+
+        for (int i = 0; i < maxLength; i++) {
+            if (buffer[position + i] != charArray[offset + i]) {
+                return i;
+            }
+        }
+
+        return maxLength;
+    }
+
+    /**
+     * Overload of method that compares a single character represented by Unicode code with the original file.
+     *
+     * @param character Unicode character code to be compared.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final int character) throws WriterException {
+        ensureOpen();
+
+        if (!fillBuffer()) {
+            reportMismatch("Original file is shorter than formatted one");
+        }
+
+        if (buffer[position] != (char) character) {
+            reportMismatch("Original file differs from formatted one");
+        }
+
+        advance(1);
+    }
+
+    /**
+     * Overload of method that compares a {@link String} instance with the original file.
+     *
+     * @param string {@link String} instance to be compared.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final String string) throws WriterException {
+        write(string, 0, string.length());
+    }
+
+    /**
+     * Overload of method that compares an array of characters with the original file.
+     *
+     * @param charArray Array of characters to be compared.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray) throws WriterException {
+        write(charArray, 0, charArray.length);
+    }
+
+    /**
+     * Overload of method that compares a part of an array of characters with the original file.
+     * <p>
+     * Parts are compared with unchecked part of {@link #buffer} in bulk.
+     *
+     * @param charArray Array of characters which part is to be compared.
+     * @param offset    Index of the first character to be compared.
+     * @param length    Count of characters to be compared.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray, final int offset, final int length) throws WriterException {
+        ensureOpen();
+
+        if (charArray == null || offset < 0 || length < 0 || length > charArray.length - offset) {
+            throw new WriterException("Invalid source array bounds");
+        }
+
+        int index = offset;
+
+        while (index < offset + length) {
+            if (!fillBuffer()) {
+                reportMismatch("Original file is shorter than formatted one");
+            }
+
+            final int portionLength = Math.min(offset + length - index, count - position);
+            final int matchLength = matchLength(charArray, index, portionLength);
+            advance(matchLength);
+
+            if (matchLength < portionLength) {
+                reportMismatch("Original file differs from formatted one");
+            }
+
+            index += matchLength;
+        }
+    }
+
+    /**
+     * Overload of method that compares a part of a {@link CharSequence} instance with the original file.
+     * <p>
+     * Array-backed {@link CharBuffer} instances (e.g. lexeme views) are compared in bulk.
+     *
+     * @param charSequence {@link CharSequence} instance which part is to be compared.
+     * @param start        Index of the first character to be compared.
+     * @param end          Index after the last character to be compared.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final CharSequence charSequence, final int start, final int end) throws WriterException {
+        ensureOpen();
+
+        if (charSequence == null || start < 0 || start > end || end > charSequence.length()) {
+            throw new WriterException("Invalid source character sequence bounds");
+        }
+
+        if (charSequence instanceof CharBuffer && ((CharBuffer) charSequence).hasArray()) {
+            final CharBuffer charBuffer = (CharBuffer) charSequence;
+            write(charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + start, end - start);
+            return;
+        }
+
+        for (int i = start; i < end; i++) {
+            if (!fillBuffer()) {
+                reportMismatch("Original file is shorter than formatted one");
+            }
+
+            if (buffer[position] != charSequence.charAt(i)) {
+                reportMismatch("Original file differs from formatted one");
+            }
+
+            advance(1);
+        }
+    }
+
+    /**
+     * Method that performs {@link CheckWriter} closing.
+     * <p>
+     * If no mismatch is found yet, the original file is checked to be over.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void close() throws WriterException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            if (mismatch == null && fillBuffer()) {
+                reportMismatch("Original file is longer than formatted one");
+            }
+        } finally {
+            try {
+                bufferedReader.close();
+            } catch (IOException e) {
+                throw new WriterException("Unable to close the stream.", e);
+            }
+        }
+    }
+}
@@ -27,4 +27,46 @@ public interface IWriter {
      * @throws WriterException Exception that can be thrown during the method work.
      */
     void write(char[] charArray) throws WriterException;
+
+    /**
+     * Overload of method that writes to stream a part of an array of characters.
+     * <p>
+     * Default implementation performs writing character by character, so implementations
+     * should override it with a bulk writing where it is possible.
+     *
+     * @param charArray Array of characters which part is to be written.
+     * @param offset    Index of the first character to be written.
+     * @param length    Count of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    default void write(final char[] charArray, final int offset, final int length) throws WriterException {
+        if (charArray == null || offset < 0 || length < 0 || length > charArray.length - offset) {
+            throw new WriterException("Invalid source array bounds");
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            write(charArray[i]);
+        }
+    }
+
+    /**
+     * Overload of method that writes to stream a part of a {@link CharSequence} instance.
+     * <p>
+     * Default implementation performs writing character by character, so implementations
+     * should override it with a bulk writing where it is possible.
+     *
+     * @param charSequence {@link CharSequence} instance which part is to be written.
+     * @param start        Index of the first character to be written.
+     * @param end          Index after the last character to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    default void write(final CharSequence charSequence, final int start, final int end) throws WriterException {
+        if (charSequence == null || start < 0 || start > end || end > charSequence.length()) {
+            throw new WriterException("Invalid source character sequence bounds");
+        }
+
+        for (int i = start; i < end; i++) {
+            write(charSequence.charAt(i));
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package it.sevenbits.formatter.io.writer;
+
+/**
+ * This exception is thrown by {@link CheckWriter} when written data differs from the original file.
+ * <p>
+ * Position of the first differing character of the original file is stored in the instance.
+ */
+public class MismatchException extends WriterException {
+    private final int line;
+    private final int column;
+
+    /**
+     * Class constructor with specifying of an error message and position of the first differing character.
+     *
+     * @param message {@link String} instance that will be contained in the thrown instance of exception.
+     * @param line    Number of line of the first differing character (starting from 1).
+     * @param column  Number of column of the first differing character (starting from 1).
+     */
+    public MismatchException(final String message, final int line, final int column) {
+        super(String.format("%s at line %d, column %d", message, line, column));
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Method that returns number of line of the first differing character (starting from 1).
+     *
+     * @return Number of line.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Method that returns number of column of the first differing character (starting from 1).
+     *
+     * @return Number of column.
+     */
+    public int getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,405 @@
+package it.sevenbits.formatter.io.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementation of {@link IWriter} interface that replaces file with written data only if its content differs.
+ * <p>
+ * Data is written by {@link FileWriter} to a temporary file in the directory of the target file. When writer
+ * is closed, the temporary file is compared with the target one: if they are equal, the temporary file is deleted
+ * and the target file is left untouched (so its modification time is not changed), otherwise the temporary file
+ * atomically replaces the target one. The target file is never left half-written: if writing is failed,
+ * {@link #discard()} method must be called instead of {@link #close()} one.
+ * <p>
+ * If {@link #sync} flag is set, data of the temporary file is forced to the storage device before replacing.
+ * Callers that replace many files can pass false, split closing into {@link #prepare()} and {@link #replace()}
+ * calls and force prepared temporary files in groups between them, so the target file is never replaced
+ * with data that is not durable yet.
+ * <p>
+ * Symbolic links are resolved, so the file they point to is replaced and the links stay intact.
+ * Permissions of the target file (POSIX permissions or ACL, depending on file system) are copied
+ * to the temporary file before replacing. The temporary file is created with default permissions of new files
+ * (e.g. derived from umask), so a target file that did not exist gets the same permissions as any other new file.
+ */
+public class ReplacingFileWriter implements IWriter, Closeable {
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int COMPARISON_BUFFER_SIZE = 8192;
+
+    private final Path targetPath;
+    private final Path temporaryPath;
+    private final FileWriter fileWriter;
+    private final boolean sync;
+    private boolean changed;
+    private boolean prepared;
+    private boolean closed;
+
+    /**
+     * Overload of constructor that creates a temporary file for the target one which is presented by
+     * {@link Path} instance.
+     *
+     * @param filePath {@link Path} instance that represents a path to output file.
+     * @param sync     Boolean value that indicates whether written data must be forced to the storage device
+     *                 before replacing.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public ReplacingFileWriter(final Path filePath, final boolean sync) throws WriterException {
+        this.sync = sync;
+
+        try {
+            targetPath = Files.exists(filePath) ? filePath.toRealPath() : filePath.toAbsolutePath();
+            temporaryPath = createTemporaryFile(targetPath);
+        } catch (IOException e) {
+            throw new WriterException("Unable to create temporary file", e);
+        }
+
+        try {
+            fileWriter = new FileWriter(temporaryPath);
+        } catch (WriterException e) {
+            deleteTemporaryFile();
+            throw e;
+        }
+    }
+
+    /**
+     * Overload of constructor that creates a temporary file for the target one which path is presented by
+     * {@link String} instance. Written data is forced to the storage device before replacing.
+     *
+     * @param filePath {@link String} instance that represents a path to output file.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public ReplacingFileWriter(final String filePath) throws WriterException {
+        this(Paths.get(filePath), true);
+    }
+
+    /**
+     * Method that reports whether the target file is replaced. The result is actual only after closing.
+     *
+     * @return Boolean value that indicates result of the method work.
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * Overload of method that writes a single character represented by Unicode code.
+     *
+     * @param character Unicode character code to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final int character) throws WriterException {
+        fileWriter.write(character);
+    }
+
+    /**
+     * Overload of method that writes a {@link String} instance.
+     *
+     * @param string {@link String} instance to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final String string) throws WriterException {
+        fileWriter.write(string);
+    }
+
+    /**
+     * Overload of method that writes an array of characters.
+     *
+     * @param charArray Array of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray) throws WriterException {
+        fileWriter.write(charArray);
+    }
+
+    /**
+     * Overload of method that writes a part of an array of characters.
+     *
+     * @param charArray Array of characters which part is to be written.
+     * @param offset    Index of the first character to be written.
+     * @param length    Count of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray, final int offset, final int length) throws WriterException {
+        fileWriter.write(charArray, offset, length);
+    }
+
+    /**
+     * Overload of method that writes a part of a {@link CharSequence} instance.
+     *
+     * @param charSequence {@link CharSequence} instance which part is to be written.
+     * @param start        Index of the first character to be written.
+     * @param end          Index after the last character to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final CharSequence charSequence, final int start, final int end) throws WriterException {
+        fileWriter.write(charSequence, start, end);
+    }
+
+    /**
+     * Method that performs {@link ReplacingFileWriter} closing.
+     * <p>
+     * The temporary file replaces the target one if their contents differ and is deleted in any case.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void close() throws WriterException {
+        if (closed) {
+            return;
+        }
+
+        if (!prepare()) {
+            return;
+        }
+
+        if (sync) {
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            } catch (IOException e) {
+                discard();
+                throw new WriterException("Unable to force temporary file", e);
+            }
+        }
+
+        replace();
+    }
+
+    /**
+     * Method that finishes writing to the temporary file without replacing of the target file yet,
+     * so callers can force many prepared temporary files to the storage device before replacing
+     * (see {@link #getTemporaryPath()} and {@link #replace()}).
+     * <p>
+     * If contents of files are equal, the temporary file is deleted and false is returned.
+     * Otherwise permissions of the target file are copied to the temporary one, and either {@link #replace()}
+     * or {@link #discard()} method must be called then.
+     *
+     * @return Boolean value that indicates whether the target file must be replaced.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public boolean prepare() throws WriterException {
+        if (closed) {
+            throw new WriterException("Writer is closed");
+        }
+
+        closed = true;
+
+        try {
+            fileWriter.close();
+
+            if (Files.isRegularFile(targetPath) && hasSameContent(temporaryPath, targetPath)) {
+                return false;
+            }
+
+            if (Files.exists(targetPath)) {
+                copyPermissions(targetPath, temporaryPath);
+            }
+
+            prepared = true;
+            return true;
+        } catch (WriterException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new WriterException("Unable to prepare temporary file", e);
+        } finally {
+            if (!prepared) {
+                deleteTemporaryFile();
+            }
+        }
+    }
+
+    /**
+     * Method that atomically replaces the target file with the prepared temporary one (see {@link #prepare()}).
+     * Data of the temporary file is not forced by this method.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public void replace() throws WriterException {
+        if (!prepared) {
+            throw new WriterException("Temporary file is not prepared");
+        }
+
+        prepared = false;
+
+        try {
+            try {
+                Files.move(
+                        temporaryPath,
+                        targetPath,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE
+                );
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            changed = true;
+        } catch (IOException e) {
+            throw new WriterException("Unable to replace target file", e);
+        } finally {
+            deleteTemporaryFile();
+        }
+    }
+
+    /**
+     * Method that performs {@link ReplacingFileWriter} closing without replacing of the target file.
+     * The temporary file is deleted, including the prepared one.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public void discard() throws WriterException {
+        if (closed) {
+            if (prepared) {
+                prepared = false;
+                deleteTemporaryFile();
+            }
+
+            return;
+        }
+
+        closed = true;
+
+        try {
+            fileWriter.close();
+        } finally {
+            deleteTemporaryFile();
+        }
+    }
+
+    /**
+     * Method that returns path to the target file (symbolic links are resolved).
+     *
+     * @return {@link Path} instance that represents a path to the target file.
+     */
+    public Path getTargetPath() {
+        return targetPath;
+    }
+
+    /**
+     * Method that returns path to the temporary file to which data is written.
+     *
+     * @return {@link Path} instance that represents a path to the temporary file.
+     */
+    public Path getTemporaryPath() {
+        return temporaryPath;
+    }
+
+    /**
+     * Private method that deletes the temporary file if it still exists.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private void deleteTemporaryFile() throws WriterException {
+        try {
+            Files.deleteIfExists(temporaryPath);
+        } catch (IOException e) {
+            throw new WriterException("Unable to delete temporary file", e);
+        }
+    }
+
+    /**
+     * Private method that creates an empty temporary file with unique name in the directory of passed target file.
+     * <p>
+     * {@link Files#createTempFile(Path, String, String, java.nio.file.attribute.FileAttribute[])} method
+     * is not used because it restricts permissions of created file to its owner.
+     *
+     * @param targetPath {@link Path} instance that represents a path to the target file.
+     * @return {@link Path} instance that represents a path to created temporary file.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static Path createTemporaryFile(final Path targetPath) throws IOException {
+        while (true) {
+            final Path path = targetPath.resolveSibling(
+                    targetPath.getFileName()
+                            + Long.toUnsignedString(ThreadLocalRandom.current().nextLong())
+                            + TEMPORARY_FILE_SUFFIX
+            );
+
+            try {
+                return Files.createFile(path);
+            } catch (FileAlreadyExistsException e) {
+                continue;
+            }
+        }
+    }
+
+    /**
+     * Private method that copies permissions of one file to another one. POSIX permissions are copied if file system
+     * supports them, ACL is copied otherwise, and nothing is done if file system supports neither.
+     *
+     * @param sourcePath      {@link Path} instance that represents a path to file which permissions are copied.
+     * @param destinationPath {@link Path} instance that represents a path to file which permissions are set.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static void copyPermissions(final Path sourcePath, final Path destinationPath) throws IOException {
+        final PosixFileAttributeView sourcePosixView = Files.getFileAttributeView(sourcePath, PosixFileAttributeView.class);
+
+        if (sourcePosixView != null) {
+            Files.setPosixFilePermissions(destinationPath, sourcePosixView.readAttributes().permissions());
+            return;
+        }
+
+        final AclFileAttributeView sourceAclView = Files.getFileAttributeView(sourcePath, AclFileAttributeView.class);
+        final AclFileAttributeView destinationAclView = Files.getFileAttributeView(destinationPath, AclFileAttributeView.class);
+
+        if (sourceAclView != null && destinationAclView != null) {
+            destinationAclView.setAcl(sourceAclView.getAcl());
+        }
+    }
+
+    /**
+     * Private method that compares contents of two files.
+     *
+     * @param firstPath  {@link Path} instance that represents a path to the first file.
+     * @param secondPath {@link Path} instance that represents a path to the second file.
+     * @return Boolean value that indicates whether files have the same content.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static boolean hasSameContent(final Path firstPath, final Path secondPath) throws IOException {
+        if (Files.size(firstPath) != Files.size(secondPath)) {
+            return false;
+        }
+
+        try (
+                InputStream firstStream = Files.newInputStream(firstPath);
+                InputStream secondStream = Files.newInputStream(secondPath)
+        ) {
+            final byte[] firstBuffer = new byte[COMPARISON_BUFFER_SIZE];
+            final byte[] secondBuffer = new byte[COMPARISON_BUFFER_SIZE];
+
+            while (true) {
+                final int firstCount = firstStream.readNBytes(firstBuffer, 0, firstBuffer.length);
+                final int secondCount = secondStream.readNBytes(secondBuffer, 0, secondBuffer.length);
+
+                if (firstCount != secondCount) {
+                    return false;
+                }
+
+                if (firstCount == 0) {
+                    return true;
+                }
+
+                if (!Arrays.equals(firstBuffer, 0, firstCount, secondBuffer, 0, secondCount)) {
+                    return false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package it.sevenbits.formatter.io.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Implementation of {@link IWriter} interface that performs writing to output stream in UTF-8 encoding.
+ * <p>
+ * Written data is collected in internal {@link #buffer} and passed to {@link #writer} in bulk
+ * only when {@link #buffer} is full or when writer is closed, so most of writes do not touch the stream at all.
+ * {@link #writer} only encodes passed characters, so {@link #buffer} is the single character buffer
+ * and every written character is copied once.
+ */
+public class StreamWriter implements IWriter, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+    private final char[] buffer;
+    private int count;
+    private boolean closed;
+
+    /**
+     * Overload of constructor that initializes {@link #writer} using passed {@link OutputStream} instance.
+     *
+     * @param outputStream {@link OutputStream} instance to which UTF-8 encoded data is written.
+     */
+    public StreamWriter(final OutputStream outputStream) {
+        this(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Overload of constructor that initializes {@link #writer} with passed value.
+     * <p>
+     * Passed writer is expected to be unbuffered (e.g. {@link OutputStreamWriter}),
+     * because data is already buffered by this class.
+     *
+     * @param writer {@link Writer} instance to which data is written.
+     */
+    protected StreamWriter(final Writer writer) {
+        this.writer = writer;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Private method that performs ensuring that stream is open.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private void ensureOpen() throws WriterException {
+        if (closed) {
+            throw new WriterException("Stream is closed");
+        }
+    }
+
+    /**
+     * Private method that passes all collected data from {@link #buffer} to {@link #writer}.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    private void flushBuffer() throws WriterException {
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            writer.write(buffer, 0, count);
+        } catch (IOException e) {
+            throw new WriterException("Unable to write to stream", e);
+        }
+
+        count = 0;
+    }
+
+    /**
+     * Overload of method that writes a single character represented by Unicode code.
+     *
+     * @param character Unicode character code to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final int character) throws WriterException {
+        ensureOpen();
+
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+
+        buffer[count] = (char) character;
+        count++;
+    }
+
+    /**
+     * Overload of method that writes a {@link String} instance.
+     *
+     * @param string {@link String} instance to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final String string) throws WriterException {
+        write(string, 0, string.length());
+    }
+
+    /**
+     * Overload of method that writes an array of characters.
+     *
+     * @param charArray Array of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray) throws WriterException {
+        write(charArray, 0, charArray.length);
+    }
+
+    /**
+     * Overload of method that writes a part of an array of characters.
+     * <p>
+     * Parts that are not shorter than {@link #buffer} are passed to {@link #writer} directly.
+     *
+     * @param charArray Array of characters which part is to be written.
+     * @param offset    Index of the first character to be written.
+     * @param length    Count of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray, final int offset, final int length) throws WriterException {
+        ensureOpen();
+
+        if (charArray == null || offset < 0 || length < 0 || length > charArray.length - offset) {
+            throw new WriterException("Invalid source array bounds");
+        }
+
+        if (length > buffer.length - count) {
+            flushBuffer();
+        }
+
+        if (length >= buffer.length) {
+            try {
+                writer.write(charArray, offset, length);
+            } catch (IOException e) {
+                throw new WriterException("Unable to write to stream", e);
+            }
+
+            return;
+        }
+
+        System.arraycopy(charArray, offset, buffer, count, length);
+        count += length;
+    }
+
+    /**
+     * Overload of method that writes a part of a {@link CharSequence} instance.
+     * <p>
+     * Characters of {@link String} instances and of array-backed {@link CharBuffer} instances (e.g. lexeme views)
+     * are copied to {@link #buffer} in bulk.
+     *
+     * @param charSequence {@link CharSequence} instance which part is to be written.
+     * @param start        Index of the first character to be written.
+     * @param end          Index after the last character to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final CharSequence charSequence, final int start, final int end) throws WriterException {
+        ensureOpen();
+
+        if (charSequence == null || start < 0 || start > end || end > charSequence.length()) {
+            throw new WriterException("Invalid source character sequence bounds");
+        }
+
+        if (charSequence instanceof CharBuffer && ((CharBuffer) charSequence).hasArray()) {
+            final CharBuffer charBuffer = (CharBuffer) charSequence;
+            write(charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + start, end - start);
+            return;
+        }
+
+        int index = start;
+
+        while (index < end) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+
+            final int portionLength = Math.min(end - index, buffer.length - count);
+
+            if (charSequence instanceof String) {
+                ((String) charSequence).getChars(index, index + portionLength, buffer, count);
+            } else {
+                for (int i = 0; i < portionLength; i++) {
+                    buffer[count + i] = charSequence.charAt(index + i);
+                }
+            }
+
+            count += portionLength;
+            index += portionLength;
+        }
+    }
+
+    /**
+     * Method that passes all collected data to the stream and flushes it, so data reaches its destination
+     * without closing of the stream.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    public void flush() throws WriterException {
+        ensureOpen();
+        flushBuffer();
+
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new WriterException("Unable to flush the stream", e);
+        }
+    }
+
+    /**
+     * Method that performs {@link StreamWriter} closing.
+     * <p>
+     * All collected data is passed to {@link #writer} before its closing.
+     *
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void close() throws WriterException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            flushBuffer();
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new WriterException("Unable to close the stream.", e);
+            }
+        }
+    }
+}
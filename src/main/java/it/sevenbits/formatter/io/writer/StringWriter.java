@@ -1,5 +1,7 @@
 package it.sevenbits.formatter.io.writer;
 
+import java.nio.CharBuffer;
+
 /**
  * Implementation of {@link IWriter} interface that performs writing to internal {@link #buffer}
  * represented by {@link StringBuffer} instance.
@@ -44,6 +46,46 @@ public class StringWriter implements IWriter {
         buffer.append(charArray);
     }
 
+    /**
+     * Overload of method that writes a part of an array of characters to {@link #buffer}.
+     *
+     * @param charArray Array of characters which part is to be written.
+     * @param offset    Index of the first character to be written.
+     * @param length    Count of characters to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final char[] charArray, final int offset, final int length) throws WriterException {
+        if (charArray == null || offset < 0 || length < 0 || length > charArray.length - offset) {
+            throw new WriterException("Invalid source array bounds");
+        }
+
+        buffer.append(charArray, offset, length);
+    }
+
+    /**
+     * Overload of method that writes a part of a {@link CharSequence} instance to {@link #buffer}.
+     *
+     * @param charSequence {@link CharSequence} instance which part is to be written.
+     * @param start        Index of the first character to be written.
+     * @param end          Index after the last character to be written.
+     * @throws WriterException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final CharSequence charSequence, final int start, final int end) throws WriterException {
+        if (charSequence == null || start < 0 || start > end || end > charSequence.length()) {
+            throw new WriterException("Invalid source character sequence bounds");
+        }
+
+        if (charSequence instanceof CharBuffer && ((CharBuffer) charSequence).hasArray()) {
+            final CharBuffer charBuffer = (CharBuffer) charSequence;
+            buffer.append(charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + start, end - start);
+            return;
+        }
+
+        buffer.append(charSequence, start, end);
+    }
+
     /**
      * Method that returns {@link String} instance which contains all written data.
      *
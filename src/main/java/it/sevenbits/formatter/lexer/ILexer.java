@@ -1,11 +1,12 @@
 package it.sevenbits.formatter.lexer;
 
 import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenBuffer;
 
 /**
  * Interface that declares a functionality for providing lexical analysis of Java source code.
  */
-public interface ILexer {
+public interface ILexer extends AutoCloseable {
     /**
      * Method that reports whether single {@link IToken} instance is available for reading.
      *
@@ -20,4 +21,49 @@ public interface ILexer {
      * @throws LexerException Exception that can be thrown during the method work.
      */
     IToken readToken() throws LexerException;
+
+    /**
+     * Method that returns a single {@link IToken} instance which lexeme may be a view of lexer buffer
+     * (see {@link IToken#getLexemeView()}).
+     * <p>
+     * Returned instance (and its lexeme view) is valid only until the next token is read, so it must not be stored.
+     * Default implementation returns {@link #readToken()} method result.
+     *
+     * @return Single {@link IToken} instance that is valid until the next token is read.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    default IToken readTokenView() throws LexerException {
+        return readToken();
+    }
+
+    /**
+     * Method that clears passed {@link TokenBuffer} instance and fills it with the next tokens
+     * until either buffer is full or input is over.
+     * <p>
+     * If exception is thrown, buffer keeps tokens that were read before it.
+     * Default implementation copies tokens that are returned by {@link #readTokenView()} method one by one.
+     *
+     * @param buffer {@link TokenBuffer} instance to be filled.
+     * @return Count of tokens in buffer (zero if input is over).
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    default int readTokens(final TokenBuffer buffer) throws LexerException {
+        buffer.clear();
+
+        while (!buffer.isFull() && hasMoreTokens()) {
+            final IToken token = readTokenView();
+            buffer.add(token.getKind(), token.getLexemeView());
+        }
+
+        return buffer.size();
+    }
+
+    /**
+     * Method that releases resources (e.g. threads) that are held by lexer. It does not close underlying reader.
+     * <p>
+     * Default implementation does nothing, because most lexers hold no resources except reader.
+     */
+    @Override
+    default void close() {
+    }
 }
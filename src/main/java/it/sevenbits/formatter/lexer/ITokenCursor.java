@@ -0,0 +1,35 @@
+package it.sevenbits.formatter.lexer;
+
+import it.sevenbits.formatter.lexer.token.TokenKind;
+
+/**
+ * Interface that declares a functionality for pulling lexical tokens one by one without creating an object per token.
+ * <p>
+ * Cursor points to a single current token that is replaced by each {@link #advance()} method call,
+ * so kind and lexeme of the current token should be consumed before moving to the next one.
+ */
+public interface ITokenCursor {
+    /**
+     * Method that moves cursor to the next token.
+     *
+     * @return Boolean value that indicates whether cursor points to the next token (false if input is over).
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    boolean advance() throws LexerException;
+
+    /**
+     * Method that returns kind of the current token.
+     *
+     * @return {@link TokenKind} value that represents kind of the current token.
+     */
+    TokenKind getKind();
+
+    /**
+     * Method that returns lexeme of the current token.
+     * <p>
+     * Returned instance may be a view of lexer buffer, so it is valid only until the next {@link #advance()} method call.
+     *
+     * @return {@link CharSequence} instance that represents lexeme of the current token.
+     */
+    CharSequence getLexemeView();
+}
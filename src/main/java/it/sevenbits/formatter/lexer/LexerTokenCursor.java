@@ -0,0 +1,77 @@
+package it.sevenbits.formatter.lexer;
+
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+
+/**
+ * {@link ITokenCursor} interface implementation that adapts {@link ILexer} instance which is not a cursor itself.
+ * <p>
+ * Tokens are read by {@link ILexer#readTokenView()} method, so adapted lexer allocates per token
+ * no more than it does anyway.
+ */
+public final class LexerTokenCursor implements ITokenCursor {
+    private final ILexer lexer;
+    private IToken currentToken;
+
+    /**
+     * Class constructor that initializes private {@link #lexer} field with passed {@link ILexer} instance.
+     *
+     * @param lexer {@link ILexer} instance to be adapted.
+     */
+    public LexerTokenCursor(final ILexer lexer) {
+        this.lexer = lexer;
+    }
+
+    /**
+     * Method that returns passed {@link ILexer} instance as {@link ITokenCursor} instance
+     * if it implements that interface, or adapts it otherwise.
+     *
+     * @param lexer {@link ILexer} instance to be viewed as cursor.
+     * @return {@link ITokenCursor} instance that pulls tokens from passed lexer.
+     */
+    public static ITokenCursor of(final ILexer lexer) {
+        if (lexer instanceof ITokenCursor) {
+            return (ITokenCursor) lexer;
+        }
+
+        return new LexerTokenCursor(lexer);
+    }
+
+    /**
+     * Method that moves cursor to the next token of adapted lexer.
+     *
+     * @return Boolean value that indicates whether cursor points to the next token (false if input is over).
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public boolean advance() throws LexerException {
+        if (!lexer.hasMoreTokens()) {
+            currentToken = null;
+            return false;
+        }
+
+        currentToken = lexer.readTokenView();
+        return true;
+    }
+
+    /**
+     * Method that returns kind of the current token.
+     *
+     * @return {@link TokenKind} value that represents kind of the current token (or null if there is no current token).
+     */
+    @Override
+    public TokenKind getKind() {
+        return currentToken == null ? null : currentToken.getKind();
+    }
+
+    /**
+     * Method that returns lexeme of the current token.
+     *
+     * @return {@link CharSequence} instance that represents lexeme of the current token
+     * (or null if there is no current token).
+     */
+    @Override
+    public CharSequence getLexemeView() {
+        return currentToken == null ? null : currentToken.getLexemeView();
+    }
+}
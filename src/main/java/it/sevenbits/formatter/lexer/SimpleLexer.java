@@ -4,38 +4,31 @@ import it.sevenbits.formatter.io.reader.IReader;
 import it.sevenbits.formatter.io.reader.ReaderException;
 import it.sevenbits.formatter.lexer.token.IToken;
 import it.sevenbits.formatter.lexer.token.Token;
-
-import java.util.HashMap;
-import java.util.Map;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 
 /**
  * {@link ILexer} interface implementation that provides lexical analysis of Java source code.
+ * <p>
+ * Besides {@link ILexer} interface, this class implements {@link ITokenCursor} interface, so tokens can be pulled
+ * without creating any objects per token ({@link #readToken()} method is an adapter that creates them).
  */
-public class SimpleLexer implements ILexer {
+public class SimpleLexer implements ILexer, ITokenCursor {
     private final IReader reader;
-    private final Map<String, String> lexemeForName;
+    private final StringBuilder lexemeBuilder;
     private int charBuffer;
+    private TokenKind kind;
 
     /**
-     * Class constructor that initializes {@link #lexemeForName} and puts in it
-     * all known pairs of lexemes and token names.
-     * <p>
-     * Also this method initializes private {@link #reader} field with passed {@link IReader} instance
-     * and performs initial filling of private {@link #charBuffer} field.
+     * Class constructor that initializes private {@link #reader} field with passed {@link IReader} instance,
+     * initializes private {@link #lexemeBuilder} field and performs initial filling of private {@link #charBuffer}
+     * field.
      *
      * @param reader {@link IReader} instance that provides data input process.
      * @throws LexerException Exception that can be thrown during the method work.
      */
     public SimpleLexer(final IReader reader) throws LexerException {
         this.reader = reader;
-        lexemeForName = new HashMap<>();
-
-        lexemeForName.put("{", "OPENING_CURLY_BRACE");
-        lexemeForName.put("}", "CLOSING_CURLY_BRACE");
-        lexemeForName.put(";", "SEMICOLON");
-        lexemeForName.put("\n", "NEWLINE");
-        lexemeForName.put("\t", "TAB");
-        lexemeForName.put(" ", "WHITESPACE");
+        lexemeBuilder = new StringBuilder();
 
         if (reader.hasNext()) {
             try {
@@ -46,6 +39,33 @@ public class SimpleLexer implements ILexer {
         }
     }
 
+    /**
+     * Private method that returns {@link TokenKind} value of single character token
+     * that is formed by passed character.
+     *
+     * @param character Character that probably forms single character token.
+     * @return {@link TokenKind} value of single character token
+     * or null if passed character does not form single character token.
+     */
+    private static TokenKind getSingleCharacterTokenKind(final int character) {
+        switch (character) {
+            case '{':
+                return TokenKind.OPENING_CURLY_BRACE;
+            case '}':
+                return TokenKind.CLOSING_CURLY_BRACE;
+            case ';':
+                return TokenKind.SEMICOLON;
+            case '\n':
+                return TokenKind.NEWLINE;
+            case '\t':
+                return TokenKind.TAB;
+            case ' ':
+                return TokenKind.WHITESPACE;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Method that reports whether single {@link IToken} instance is available for reading.
      *
@@ -64,32 +84,48 @@ public class SimpleLexer implements ILexer {
      */
     @Override
     public IToken readToken() throws LexerException {
-        if (!hasMoreTokens()) {
+        if (!advance()) {
             throw new LexerException("No tokens available for reading");
         }
 
+        return new Token(kind, lexemeBuilder.toString());
+    }
+
+    /**
+     * Method that moves cursor to the next token.
+     *
+     * @return Boolean value that indicates whether cursor points to the next token (false if input is over).
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public boolean advance() throws LexerException {
+        lexemeBuilder.setLength(0);
+
+        if (!hasMoreTokens()) {
+            kind = null;
+            return false;
+        }
+
         try {
-            if (lexemeForName.get(Character.toString((char) charBuffer)) != null) {
-                final IToken token = new Token(
-                        lexemeForName.get(Character.toString((char) charBuffer)),
-                        (char) charBuffer
-                );
+            final TokenKind singleCharacterTokenKind = getSingleCharacterTokenKind(charBuffer);
+            lexemeBuilder.append((char) charBuffer);
+
+            if (singleCharacterTokenKind != null) {
+                kind = singleCharacterTokenKind;
 
                 if (reader.hasNext()) {
                     charBuffer = reader.read();
                 } else {
                     charBuffer = -1;
                 }
-
-                return token;
             } else {
-                StringBuilder lexeme = new StringBuilder(Character.toString((char) charBuffer));
+                kind = TokenKind.OTHER;
 
                 if (reader.hasNext()) {
                     charBuffer = reader.read();
 
-                    while (lexemeForName.get(Character.toString((char) charBuffer)) == null) {
-                        lexeme.append((char) charBuffer);
+                    while (getSingleCharacterTokenKind(charBuffer) == null) {
+                        lexemeBuilder.append((char) charBuffer);
 
                         if (reader.hasNext()) {
                             charBuffer = reader.read();
@@ -101,11 +137,33 @@ public class SimpleLexer implements ILexer {
                 } else {
                     charBuffer = -1;
                 }
-
-                return new Token("OTHER", lexeme.toString());
             }
+
+            return true;
         } catch (ReaderException e) {
             throw new LexerException("Unable to read from reader", e);
         }
     }
+
+    /**
+     * Method that returns kind of the current token.
+     *
+     * @return {@link TokenKind} value that represents kind of the current token.
+     */
+    @Override
+    public TokenKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Method that returns lexeme of the current token.
+     * <p>
+     * Returned instance is reused for the next token, so it is valid only until the next {@link #advance()} method call.
+     *
+     * @return {@link CharSequence} instance that represents lexeme of the current token.
+     */
+    @Override
+    public CharSequence getLexemeView() {
+        return lexemeBuilder;
+    }
 }
@@ -1,9 +1,13 @@
 package it.sevenbits.formatter.lexer.factory;
 
+import it.sevenbits.formatter.io.reader.ByteFileReader;
 import it.sevenbits.formatter.io.reader.FileReader;
 import it.sevenbits.formatter.io.reader.IReader;
+import it.sevenbits.formatter.io.reader.MappedFileReader;
+import it.sevenbits.formatter.io.reader.StreamReader;
 import it.sevenbits.formatter.io.reader.StringReader;
 import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.fsm.ByteFSMLexer;
 import it.sevenbits.formatter.lexer.fsm.FSMLexer;
 
 import java.lang.reflect.Constructor;
@@ -26,6 +30,9 @@ public class LexerFactory implements ILexerFactory {
         lexerForReader = new HashMap<>();
         lexerForReader.put(StringReader.class, FSMLexer.class);
         lexerForReader.put(FileReader.class, FSMLexer.class);
+        lexerForReader.put(StreamReader.class, FSMLexer.class);
+        lexerForReader.put(MappedFileReader.class, FSMLexer.class);
+        lexerForReader.put(ByteFileReader.class, ByteFSMLexer.class);
     }
 
     /**
@@ -0,0 +1,53 @@
+package it.sevenbits.formatter.lexer.factory;
+
+import it.sevenbits.formatter.io.reader.IReader;
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.pipeline.PipelinedLexer;
+
+/**
+ * Implementation of {@link ILexerFactory} interface that wraps lexers created by another factory
+ * into {@link PipelinedLexer} instances, so lexical analysis runs on a separate thread.
+ * <p>
+ * It pays off on large inputs only: every created lexer starts its own thread.
+ */
+public class PipelinedLexerFactory implements ILexerFactory {
+    private static final int DEFAULT_CAPACITY = 1 << 3;
+
+    private final ILexerFactory lexerFactory;
+    private final int capacity;
+
+    /**
+     * Overload of constructor that wraps lexers created by new {@link LexerFactory} instance
+     * and uses default count of token batches.
+     */
+    public PipelinedLexerFactory() {
+        this(new LexerFactory(), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Class constructor that initializes private {@link #lexerFactory} and {@link #capacity} fields.
+     *
+     * @param lexerFactory {@link ILexerFactory} instance that creates wrapped lexers.
+     * @param capacity     Count of token batches that are passed between threads (must be a positive power of two).
+     */
+    public PipelinedLexerFactory(final ILexerFactory lexerFactory, final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+
+        this.lexerFactory = lexerFactory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Method that creates {@link PipelinedLexer} instance that wraps lexer created by wrapped factory.
+     *
+     * @param reader Instance of {@link IReader} which is passed to wrapped factory.
+     * @return New {@link PipelinedLexer} instance.
+     * @throws LexerFactoryException Exception that can be thrown during the method work.
+     */
+    @Override
+    public ILexer createLexer(final IReader reader) throws LexerFactoryException {
+        return new PipelinedLexer(lexerFactory.createLexer(reader), capacity);
+    }
+}
@@ -0,0 +1,33 @@
+package it.sevenbits.formatter.lexer.fsm;
+
+import it.sevenbits.formatter.io.reader.IReader;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.fsm.command.factory.CommandFactory;
+import it.sevenbits.formatter.lexer.fsm.command.factory.ICommandFactory;
+import it.sevenbits.formatter.lexer.fsm.state.CharacterClasses;
+import it.sevenbits.formatter.lexer.fsm.state.IStateTransitions;
+import it.sevenbits.formatter.lexer.fsm.state.StateTransitions;
+
+/**
+ * {@link FSMLexer} variant that provides lexical analysis of UTF-8 encoded Java source code without decoding it.
+ * <p>
+ * Passed {@link IReader} instance must return every byte of UTF-8 input as a single ISO-8859-1 character
+ * (see {@link it.sevenbits.formatter.io.reader.ByteFileReader}). All characters that are significant for lexer FSM
+ * are ASCII ones, so tokens are split at the same places as by {@link FSMLexer} over decoded input,
+ * and lexemes of tokens are byte ranges of input that are copied verbatim. Multibyte line terminators
+ * are recognized by byte-level character classes (see {@link CharacterClasses#ofByte(char)}).
+ */
+public class ByteFSMLexer extends FSMLexer {
+    private static final IStateTransitions BYTE_STATE_TRANSITIONS = new StateTransitions(CharacterClasses::ofByte);
+    private static final ICommandFactory BYTE_COMMAND_FACTORY = new CommandFactory(CharacterClasses::ofByte);
+
+    /**
+     * Class constructor that initializes lexer with shared byte-level FSM transitions and commands.
+     *
+     * @param reader {@link IReader} instance that provides every byte of UTF-8 input as a single character.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    public ByteFSMLexer(final IReader reader) throws LexerException {
+        super(reader, BYTE_STATE_TRANSITIONS, BYTE_COMMAND_FACTORY);
+    }
+}
@@ -3,6 +3,7 @@ package it.sevenbits.formatter.lexer.fsm;
 import it.sevenbits.formatter.io.reader.IReader;
 import it.sevenbits.formatter.io.reader.ReaderException;
 import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.ITokenCursor;
 import it.sevenbits.formatter.lexer.LexerException;
 import it.sevenbits.formatter.lexer.fsm.command.args.CommandArgs;
 import it.sevenbits.formatter.lexer.fsm.command.args.ICommandArgs;
@@ -15,72 +16,125 @@ import it.sevenbits.formatter.lexer.fsm.state.StateTransitions;
 import it.sevenbits.formatter.lexer.fsm.tokenbuilder.ITokenBuilder;
 import it.sevenbits.formatter.lexer.fsm.tokenbuilder.TokenBuilder;
 import it.sevenbits.formatter.lexer.token.IToken;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Pattern;
+import it.sevenbits.formatter.lexer.token.TokenBuffer;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 
 /**
  * {@link ILexer} interface implementation that provides lexical analysis of Java source code.
  * <p>
  * This {@link ILexer} implementation is based on finite-state machine and "Command" design pattern.
+ * <p>
+ * FSM transitions and commands are immutable, so they are built once and shared between all instances
+ * of this class (including instances that are used by different threads). Each instance holds only
+ * a small mutable cursor (command arguments container and token builder) that is reset per token.
+ * <p>
+ * Input is read in bulk into an internal window of characters, and FSM scans over that window,
+ * so there are no per-character calls of {@link IReader} instance.
+ * <p>
+ * Instance of this class is not thread-safe itself, but it can be reused for another input
+ * using {@link #reset(IReader)} method, so the single instance per worker thread is enough.
+ * <p>
+ * Besides {@link ILexer} interface, this class implements {@link ITokenCursor} interface, so tokens can be pulled
+ * without creating any objects per token ({@link #readToken()} method is an adapter that creates them).
  */
-public class FSMLexer implements ILexer {
-    private final IReader reader;
-    private int charBuffer;
+public class FSMLexer implements ILexer, ITokenCursor {
+    private static final IStateTransitions STATE_TRANSITIONS = new StateTransitions();
+    private static final ICommandFactory COMMAND_FACTORY = new CommandFactory();
+    private static final int WINDOW_SIZE = 8192;
+
+    private final IStateTransitions stateTransitions;
+    private final ICommandFactory commandFactory;
+    private final ICommandArgs commandArgs;
+    private final ITokenBuilder tokenBuilder;
+    private final char[] window;
+    private IReader reader;
+    private long windowOffset;
+    private int position;
+    private int limit;
 
     /**
-     * Class constructor that initializes private {@link #reader} field with passed
-     * {@link IReader} instance.
-     * <p>
-     * Also this method performs initial filling of private {@link #charBuffer} field.
+     * Overload of constructor that uses shared FSM transitions and commands for decoded characters.
      *
      * @param reader {@link IReader} instance that provides data input process.
      * @throws LexerException Exception that can be thrown during the method work.
      */
     public FSMLexer(final IReader reader) throws LexerException {
-        this.reader = reader;
+        this(reader, STATE_TRANSITIONS, COMMAND_FACTORY);
+    }
 
-        if (reader.hasNext()) {
-            try {
-                charBuffer = reader.read();
-            } catch (ReaderException e) {
-                throw new LexerException("Unable to read from reader", e);
-            }
-        }
+    /**
+     * Class constructor that initializes private {@link #stateTransitions} and {@link #commandFactory} fields
+     * with passed instances, initializes private {@link #commandArgs}, {@link #tokenBuilder} and {@link #window}
+     * fields and then calls {@link #reset(IReader)} method with passed {@link IReader} instance.
+     *
+     * @param reader           {@link IReader} instance that provides data input process.
+     * @param stateTransitions {@link IStateTransitions} instance that provides FSM transitions.
+     * @param commandFactory   {@link ICommandFactory} instance that provides FSM commands.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    protected FSMLexer(
+            final IReader reader,
+            final IStateTransitions stateTransitions,
+            final ICommandFactory commandFactory
+    ) throws LexerException {
+        this.stateTransitions = stateTransitions;
+        this.commandFactory = commandFactory;
+        commandArgs = new CommandArgs();
+        tokenBuilder = new TokenBuilder();
+        commandArgs.setTokenBuilder(tokenBuilder);
+        window = new char[WINDOW_SIZE];
+        reset(reader);
     }
 
     /**
-     * Private method that performs naming of formed lexeme and then puts formed name
-     * into {@link ITokenBuilder} instance.
+     * Method that switches lexer to passed {@link IReader} instance, so lexer instance
+     * can be reused for another input.
      * <p>
-     * Formed lexeme is passed in {@link ITokenBuilder} instance.
+     * Also this method performs initial filling of private {@link #window} field.
+     *
+     * @param newReader {@link IReader} instance that provides data input process.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    public void reset(final IReader newReader) throws LexerException {
+        reader = newReader;
+        windowOffset = 0;
+        position = 0;
+        limit = 0;
+        fillWindow();
+    }
+
+    /**
+     * Private method that performs filling of private {@link #window} field with the next portion of input.
+     *
+     * @return Boolean value that indicates whether at least one character is read.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    private boolean fillWindow() throws LexerException {
+        final int count;
+        windowOffset += limit;
+
+        try {
+            count = reader.read(window, 0, window.length);
+        } catch (ReaderException e) {
+            throw new LexerException("Unable to read from reader", e);
+        }
+
+        position = 0;
+        limit = Math.max(count, 0);
+        return limit > 0;
+    }
+
+    /**
+     * Method that returns count of input characters that are consumed by already returned tokens
+     * (so it is the offset of the first character of the next token).
      * <p>
-     * Naming process is based on regular expressions. If there are no patterns
-     * that match passed lexeme, token receives name "OTHER".
+     * It may differ from the total length of returned lexemes, because a character that ends
+     * an unfinished comment opening is appended to lexeme but is read again as the start of the next token.
      *
-     * @param tokenBuilder {@link ITokenBuilder} instance which contains token name and lexeme.
+     * @return Count of consumed input characters.
      */
-    private void nameToken(final ITokenBuilder tokenBuilder) {
-        final String lexeme = tokenBuilder.getLexeme();
-        final HashMap<Pattern, String> tokenNamesForPatterns = new HashMap<>();
-
-        tokenNamesForPatterns.put(Pattern.compile("\\{"), "OPENING_CURLY_BRACE");
-        tokenNamesForPatterns.put(Pattern.compile("}"), "CLOSING_CURLY_BRACE");
-        tokenNamesForPatterns.put(Pattern.compile(";"), "SEMICOLON");
-        tokenNamesForPatterns.put(Pattern.compile("\n"), "NEWLINE");
-        tokenNamesForPatterns.put(Pattern.compile("\t"), "TAB");
-        tokenNamesForPatterns.put(Pattern.compile(" "), "WHITESPACE");
-        tokenNamesForPatterns.put(Pattern.compile("//.*"), "SINGLE_LINE_COMMENT");
-        tokenNamesForPatterns.put(Pattern.compile("/\\*[\\d\\D]*\\*/"), "MULTILINE_COMMENT");
-        tokenNamesForPatterns.put(Pattern.compile("'[\\d\\D]*'"), "CHARACTER_LITERAL");
-        tokenNamesForPatterns.put(Pattern.compile("\"[\\d\\D]*\""), "STRING_LITERAL");
-
-        tokenBuilder.setName(
-                tokenNamesForPatterns.entrySet().stream().filter(
-                        mapEntry -> mapEntry.getKey().matcher(lexeme).matches()
-                ).findAny().map(Map.Entry::getValue).orElse("OTHER")
-        );
+    public long getOffset() {
+        return windowOffset + position;
     }
 
     /**
@@ -90,57 +144,185 @@ public class FSMLexer implements ILexer {
      */
     @Override
     public boolean hasMoreTokens() {
-        return charBuffer != -1;
+        return position < limit;
     }
 
     /**
      * Method that returns a single {@link IToken} instance.
+     * <p>
+     * Lexeme of returned token is copied from input window, so token remains valid after the next token is read.
      *
      * @return Single {@link IToken} instance.
      * @throws LexerException Exception that can be thrown during the method work.
      */
     @Override
     public IToken readToken() throws LexerException {
+        scanToken();
+        return tokenBuilder.getToken();
+    }
+
+    /**
+     * Method that returns a single reusable {@link IToken} instance which lexeme is a view of input window
+     * (unless lexeme spans several windows), so lexeme is not copied at all.
+     * <p>
+     * Returned instance (and its lexeme view) is valid only until the next token is read.
+     *
+     * @return Single {@link IToken} instance that is valid until the next token is read.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public IToken readTokenView() throws LexerException {
+        scanToken();
+        return tokenBuilder.getTokenView();
+    }
+
+    /**
+     * Method that clears passed {@link TokenBuffer} instance and fills it with the next tokens
+     * until either buffer is full or input is over.
+     * <p>
+     * Lexemes are copied to buffer directly from input window, so neither tokens nor intermediate lexemes are created.
+     *
+     * @param buffer {@link TokenBuffer} instance to be filled.
+     * @return Count of tokens in buffer (zero if input is over).
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public int readTokens(final TokenBuffer buffer) throws LexerException {
+        buffer.clear();
+
+        while (!buffer.isFull() && hasMoreTokens()) {
+            scanToken();
+            buffer.add(tokenBuilder.getKind(), tokenBuilder.getLexemeView());
+        }
+
+        return buffer.size();
+    }
+
+    /**
+     * Method that moves cursor to the next token.
+     *
+     * @return Boolean value that indicates whether cursor points to the next token (false if input is over).
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public boolean advance() throws LexerException {
+        if (!hasMoreTokens()) {
+            tokenBuilder.reset();
+            return false;
+        }
+
+        scanToken();
+        return true;
+    }
+
+    /**
+     * Method that returns kind of the current token.
+     *
+     * @return {@link TokenKind} value that represents kind of the current token.
+     */
+    @Override
+    public TokenKind getKind() {
+        return tokenBuilder.getKind();
+    }
+
+    /**
+     * Method that returns lexeme of the current token as a view of input window
+     * (unless lexeme spans several windows), so lexeme is not copied at all.
+     *
+     * @return {@link CharSequence} instance that represents lexeme of the current token.
+     */
+    @Override
+    public CharSequence getLexemeView() {
+        return tokenBuilder.getLexemeView();
+    }
+
+    /**
+     * Private method that scans a single token and leaves its kind and lexeme in private {@link #tokenBuilder} field.
+     * <p>
+     * Token is classified by FSM state in which it is accepted (the last state before end state,
+     * or the current state if input is over) and by its first character, so no lexeme matching is performed.
+     * <p>
+     * Inside of plain text runs (such as identifiers), comments and literals FSM stays in the same absorbing state
+     * for almost every character, so such runs of characters are skipped by
+     * {@link IStateTransitions#skipAbsorbed(State, char[], int, int)} method and are appended to lexeme at once.
+     * Appended characters are kept in input window until it is refilled.
+     *
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    private void scanToken() throws LexerException {
         if (!hasMoreTokens()) {
             throw new LexerException("No tokens available for reading");
         }
 
-        final IStateTransitions stateTransitions = new StateTransitions();
         final State endState = stateTransitions.getEndState();
-        final ICommandArgs commandArgs = new CommandArgs();
-        final ITokenBuilder tokenBuilder = new TokenBuilder();
-        final ICommandFactory commandFactory = new CommandFactory(commandArgs);
-
-        commandArgs.setTokenBuilder(tokenBuilder);
+        final char firstCharacter = window[position];
         State currentState = stateTransitions.getStartState();
+        boolean stateChanged = true;
+        tokenBuilder.reset();
+        tokenBuilder.setSource(window, position);
+
+        while (true) {
+            if (stateChanged) {
+                final int absorbedEnd = stateTransitions.skipAbsorbed(currentState, window, position, limit);
 
-        while (charBuffer != -1) {
-            commandArgs.setCharBuffer((char) charBuffer);
+                if (absorbedEnd > position) {
+                    tokenBuilder.appendToLexeme(window, position, absorbedEnd - position);
+                    position = absorbedEnd;
+
+                    if (position == limit) {
+                        if (!refillTokenWindow()) {
+                            break;
+                        }
+
+                        continue;
+                    }
+                }
+            }
+
+            final char character = window[position];
+            commandArgs.setCharBuffer(character);
 
             try {
-                commandFactory.getCommand(currentState, (char) charBuffer).execute();
+                commandFactory.getCommand(currentState, character).execute(commandArgs);
             } catch (CommandFactoryException e) {
                 throw new LexerException("Unable to get command from factory", e);
             }
 
-            currentState = stateTransitions.nextState(currentState, (char) charBuffer);
+            final State nextState = stateTransitions.nextState(currentState, character);
 
-            if (currentState.equals(endState)) {
+            if (nextState == endState) {
                 break;
             }
 
-            if (reader.hasNext()) {
-                try {
-                    charBuffer = reader.read();
-                } catch (ReaderException e) {
-                    throw new LexerException("Unable to read from reader", e);
-                }
-            } else {
-                charBuffer = -1;
+            // characters that keep absorbing state unchanged are skipped right after entering it
+            stateChanged = nextState != currentState;
+            currentState = nextState;
+            position++;
+
+            if (position == limit && !refillTokenWindow()) {
+                break;
             }
         }
 
-        nameToken(tokenBuilder);
-        return tokenBuilder.getToken();
+        tokenBuilder.setKind(stateTransitions.getTokenKind(currentState, firstCharacter));
+    }
+
+    /**
+     * Private method that refills private {@link #window} field in the middle of a token.
+     * <p>
+     * Characters of the token that are kept in the window are copied to private {@link #tokenBuilder} field before.
+     *
+     * @return Boolean value that indicates whether at least one character is read.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    private boolean refillTokenWindow() throws LexerException {
+        tokenBuilder.releaseSource();
+
+        if (!fillWindow()) {
+            return false;
+        }
+
+        tokenBuilder.setSource(window, 0);
+        return true;
     }
 }
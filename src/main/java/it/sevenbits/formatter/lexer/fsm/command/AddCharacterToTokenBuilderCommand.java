@@ -6,23 +6,13 @@ import it.sevenbits.formatter.lexer.fsm.command.args.ICommandArgs;
  * {@link ICommand} interface implementation that presents one of the commands.
  */
 public class AddCharacterToTokenBuilderCommand implements ICommand {
-    private final ICommandArgs commandArgs;
-
     /**
-     * Class constructor that initializes private {@link #commandArgs} field with passed
-     * {@link ICommandArgs} instance that presents command arguments container.
+     * Method that performs command execution.
      *
      * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
      */
-    public AddCharacterToTokenBuilderCommand(final ICommandArgs commandArgs) {
-        this.commandArgs = commandArgs;
-    }
-
-    /**
-     * Method that performs command execution.
-     */
     @Override
-    public void execute() {
+    public void execute(final ICommandArgs commandArgs) {
         commandArgs.getTokenBuilder().appendToLexeme(commandArgs.getCharBuffer());
     }
 }
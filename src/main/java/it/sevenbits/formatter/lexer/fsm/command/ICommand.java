@@ -1,12 +1,19 @@
 package it.sevenbits.formatter.lexer.fsm.command;
 
+import it.sevenbits.formatter.lexer.fsm.command.args.ICommandArgs;
+
 /**
  * Interface that describes functionality for command that may be executed during FSM work.
+ * <p>
+ * Commands do not hold any mutable data, so single instance of command can be shared between
+ * any number of lexers. All data that is required for command execution is passed as {@link ICommandArgs} instance.
  */
 @FunctionalInterface
 public interface ICommand {
     /**
      * Method that performs command execution.
+     *
+     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
      */
-    void execute();
+    void execute(ICommandArgs commandArgs);
 }
@@ -1,7 +1,8 @@
 package it.sevenbits.formatter.lexer.fsm.command.factory;
 
 import it.sevenbits.formatter.lexer.fsm.command.ICommand;
-import it.sevenbits.formatter.lexer.fsm.command.args.ICommandArgs;
+import it.sevenbits.formatter.lexer.fsm.state.CharacterClasses;
+import it.sevenbits.formatter.lexer.fsm.state.ICharacterClassifier;
 import it.sevenbits.formatter.lexer.fsm.state.State;
 
 /**
@@ -9,14 +10,28 @@ import it.sevenbits.formatter.lexer.fsm.state.State;
  */
 public class CommandFactory implements ICommandFactory {
     private final CommandMap commandMap;
+    private final ICharacterClassifier characterClassifier;
 
     /**
-     * Class constructor that initializes private {@link #commandMap} field using passed {@link ICommandArgs} instance.
+     * Class constructor that initializes factory for decoded input
+     * (characters are classified by {@link CharacterClasses#of(char)} method).
+     */
+    public CommandFactory() {
+        this(CharacterClasses::of);
+    }
+
+    /**
+     * Class constructor that initializes private {@link #commandMap} field with new {@link CommandMap} instance.
+     * <p>
+     * Issued commands receive their arguments during execution, so single factory
+     * can be shared between any number of lexers.
      *
-     * @param commandArgs {@link ICommandArgs} instance that presents command arguments container.
+     * @param characterClassifier {@link ICharacterClassifier} instance that maps read characters to input signals
+     *                            (for example, {@link CharacterClasses#ofByte(char)} for byte-level input).
      */
-    public CommandFactory(final ICommandArgs commandArgs) {
-        commandMap = new CommandMap(commandArgs);
+    public CommandFactory(final ICharacterClassifier characterClassifier) {
+        commandMap = new CommandMap();
+        this.characterClassifier = characterClassifier;
     }
 
     /**
@@ -33,6 +48,6 @@ public class CommandFactory implements ICommandFactory {
             throw new CommandFactoryException("\"currentState\" is null");
         }
 
-        return commandMap.getCommand(currentState, character);
+        return commandMap.getCommand(currentState, characterClassifier.classify(character));
     }
 }
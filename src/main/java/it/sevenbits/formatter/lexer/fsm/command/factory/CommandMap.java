@@ -3,83 +3,103 @@ package it.sevenbits.formatter.lexer.fsm.command.factory;
 import it.sevenbits.formatter.lexer.fsm.command.AddCharacterToTokenBuilderCommand;
 import it.sevenbits.formatter.lexer.fsm.command.ICommand;
 import it.sevenbits.formatter.lexer.fsm.command.StayIdleCommand;
-import it.sevenbits.formatter.lexer.fsm.command.args.ICommandArgs;
+import it.sevenbits.formatter.lexer.fsm.state.CharacterClasses;
 import it.sevenbits.formatter.lexer.fsm.state.State;
-import it.sevenbits.formatter.util.Pair;
-
-import java.util.HashMap;
-import java.util.Map;
+import it.sevenbits.formatter.lexer.fsm.state.States;
 
 /**
- * Class that provides a mapping of {@link Pair} instances (that contain {@link State} instance / character pairs)
- * to {@link ICommand} instances.
+ * Class that provides a mapping of {@link State} instance / character pairs to {@link ICommand} instances.
+ * <p>
+ * Mapping is stored in a flat array that is indexed by {@link State} identifier and character class
+ * (see {@link CharacterClasses}), so lookup does not require any allocations.
  */
 class CommandMap {
-    private final Map<Pair<State, Character>, ICommand> commandMap;
-    private final Map<State, ICommand> defaultCommandMap;
+    private final ICommand[] commandMap;
     private final ICommand addCharacterToTokenBuilder;
 
     /**
-     * Class constructor that initializes private {@link #commandMap} field and fills it with a pairs of
-     * {@link Pair} instances (that contain {@link State} instance / character pairs) and {@link ICommand} instances.
-     * <p>
-     * Method creates instances of these commands and then initializing some of them
-     * with the passed {@link ICommandArgs} instance.
+     * Class constructor that initializes private {@link #commandMap} field and fills it with
+     * {@link ICommand} instances for all known {@link State} instance / character class pairs.
      * <p>
-     * Also method initializes private {@link #defaultCommandMap} field and fills it with a pairs of
-     * {@link State} instances and {@link ICommand} instances. That mapping is required for
-     * specifying of different default values for different {@link State} instances.
+     * Commands do not hold any mutable data, so the whole mapping can be shared between lexers.
      * <p>
+     * At first every row of the table is filled with default value for corresponding {@link State} instance.
      * Default value is {@link ICommand} instance that returns only if there are no mapping
      * for passed {@link State} instance / character pair.
-     *
-     * @param commandArgs {@link ICommandArgs} instance that presents a command arguments container.
      */
-    CommandMap(final ICommandArgs commandArgs) {
-        commandMap = new HashMap<>();
-        defaultCommandMap = new HashMap<>();
-        addCharacterToTokenBuilder = new AddCharacterToTokenBuilderCommand(commandArgs);
-
-        final State otherState = new State("OTHER");
-        final State singleLineCommentState = new State("SINGLE_LINE_COMMENT");
-        final State singleCharacterState = new State("SINGLE_CHARACTER");
+    CommandMap() {
+        commandMap = new ICommand[States.COUNT * CharacterClasses.COUNT];
+        addCharacterToTokenBuilder = new AddCharacterToTokenBuilderCommand();
 
         final ICommand stayIdle = new StayIdleCommand();
 
-        commandMap.put(new Pair<>(singleLineCommentState, '\n'), stayIdle);
+        for (int i = 0; i < commandMap.length; i++) {
+            commandMap[i] = addCharacterToTokenBuilder;
+        }
 
-        commandMap.put(new Pair<>(otherState, '{'), stayIdle);
-        commandMap.put(new Pair<>(otherState, '}'), stayIdle);
-        commandMap.put(new Pair<>(otherState, ';'), stayIdle);
-        commandMap.put(new Pair<>(otherState, '\n'), stayIdle);
-        commandMap.put(new Pair<>(otherState, '\t'), stayIdle);
-        commandMap.put(new Pair<>(otherState, ' '), stayIdle);
-        commandMap.put(new Pair<>(otherState, '\''), stayIdle);
-        commandMap.put(new Pair<>(otherState, '"'), stayIdle);
-        commandMap.put(new Pair<>(otherState, '/'), stayIdle);
+        putDefault(States.END_OF_MULTILINE_COMMENT, stayIdle);
+        putDefault(States.END_OF_STRING_LITERAL, stayIdle);
+        putDefault(States.END_OF_CHARACTER_LITERAL, stayIdle);
+        putDefault(States.SINGLE_CHARACTER, stayIdle);
 
-        final State endOfMultilineCommentState = new State("END_OF_MULTILINE_COMMENT");
-        final State endOfStringLiteralState = new State("END_OF_STRING_LITERAL");
-        final State endOfCharacterLiteralState = new State("END_OF_CHARACTER_LITERAL");
+        put(States.SINGLE_LINE_COMMENT, '\n', stayIdle);
+        put(States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR, '\n', stayIdle);
+        put(States.SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE, '\n', stayIdle);
+        put(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE, '\n', stayIdle);
+        put(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE, '\n', stayIdle);
 
-        defaultCommandMap.put(endOfMultilineCommentState, stayIdle);
-        defaultCommandMap.put(endOfStringLiteralState, stayIdle);
-        defaultCommandMap.put(endOfCharacterLiteralState, stayIdle);
-        defaultCommandMap.put(singleCharacterState, stayIdle);
+        put(States.OTHER, '{', stayIdle);
+        put(States.OTHER, '}', stayIdle);
+        put(States.OTHER, ';', stayIdle);
+        put(States.OTHER, '\n', stayIdle);
+        put(States.OTHER, '\t', stayIdle);
+        put(States.OTHER, ' ', stayIdle);
+        put(States.OTHER, '\'', stayIdle);
+        put(States.OTHER, '"', stayIdle);
+        put(States.OTHER, '/', stayIdle);
+    }
+
+    /**
+     * Private method that fills the whole row of {@link #commandMap} corresponding to passed {@link State} instance
+     * with passed default {@link ICommand} instance.
+     *
+     * @param state   {@link State} instance that presents current FSM state.
+     * @param command {@link ICommand} instance that presents default command.
+     */
+    private void putDefault(final State state, final ICommand command) {
+        final int rowStart = state.getId() * CharacterClasses.COUNT;
+
+        for (int i = 0; i < CharacterClasses.COUNT; i++) {
+            commandMap[rowStart + i] = command;
+        }
+    }
+
+    /**
+     * Private method that puts {@link ICommand} instance for passed {@link State} instance / character pair.
+     *
+     * @param state     {@link State} instance that presents current FSM state.
+     * @param character Character that presents input signal.
+     * @param command   {@link ICommand} instance that presents command.
+     */
+    private void put(final State state, final char character, final ICommand command) {
+        commandMap[state.getId() * CharacterClasses.COUNT + CharacterClasses.of(character)] = command;
     }
 
     /**
      * Method that performs an issuing of {@link ICommand} instance that matches passed args
      * (or default if there are no matches).
      *
-     * @param currentState {@link State} instance that presents a current FSM state.
-     * @param character    Currently being processed character.
+     * @param currentState   {@link State} instance that presents a current FSM state.
+     * @param characterClass Class of currently being processed character (see {@link CharacterClasses}).
      * @return {@link ICommand} instance that matches passed args (or default if there are no matches).
      */
-    ICommand getCommand(final State currentState, final char character) {
-        return commandMap.getOrDefault(
-                new Pair<>(currentState, character),
-                defaultCommandMap.getOrDefault(currentState, addCharacterToTokenBuilder)
-        );
+    ICommand getCommand(final State currentState, final int characterClass) {
+        final int stateId = currentState.getId();
+
+        if (stateId < 0 || stateId >= States.COUNT) {
+            return addCharacterToTokenBuilder;
+        }
+
+        return commandMap[stateId * CharacterClasses.COUNT + characterClass];
     }
 }
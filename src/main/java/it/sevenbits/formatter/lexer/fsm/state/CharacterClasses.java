@@ -0,0 +1,177 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+/**
+ * Utility class that maps characters to compact character classes.
+ * <p>
+ * Lexer FSM reacts to a small set of special characters only, so all other characters
+ * fall into the single {@link #OTHER} class. Class indexes are dense, so they can be used
+ * as indexes in transition tables.
+ * <p>
+ * Input can be classified in one of two modes. In character mode ({@link #of(char)}) every character is
+ * a decoded UTF-16 code unit. In byte mode ({@link #ofByte(char)}) every character is a single byte
+ * of UTF-8 input that is viewed as ISO-8859-1 character, so multibyte line terminators are recognized
+ * by their bytes ({@link #NEXT_LINE_LEAD_BYTE}, {@link #SEPARATOR_LEAD_BYTE}, {@link #SEPARATOR_SECOND_BYTE},
+ * {@link #NEXT_LINE_TRAIL_BYTE} and {@link #SEPARATOR_TRAIL_BYTE} classes are produced in byte mode only).
+ */
+public final class CharacterClasses {
+    /**
+     * Class of <code>{</code> character.
+     */
+    public static final int OPENING_CURLY_BRACE = 0;
+
+    /**
+     * Class of <code>}</code> character.
+     */
+    public static final int CLOSING_CURLY_BRACE = 1;
+
+    /**
+     * Class of <code>;</code> character.
+     */
+    public static final int SEMICOLON = 2;
+
+    /**
+     * Class of newline character.
+     */
+    public static final int NEWLINE = 3;
+
+    /**
+     * Class of tab character.
+     */
+    public static final int TAB = 4;
+
+    /**
+     * Class of whitespace character.
+     */
+    public static final int WHITESPACE = 5;
+
+    /**
+     * Class of <code>'</code> character.
+     */
+    public static final int SINGLE_QUOTE = 6;
+
+    /**
+     * Class of <code>"</code> character.
+     */
+    public static final int DOUBLE_QUOTE = 7;
+
+    /**
+     * Class of <code>/</code> character.
+     */
+    public static final int SLASH = 8;
+
+    /**
+     * Class of <code>*</code> character.
+     */
+    public static final int ASTERISK = 9;
+
+    /**
+     * Class of line terminator characters other than newline
+     * (carriage return, next line, line separator and paragraph separator).
+     */
+    public static final int OTHER_LINE_TERMINATOR = 10;
+
+    /**
+     * Class of all other characters.
+     */
+    public static final int OTHER = 11;
+
+    /**
+     * Class of UTF-8 lead byte of next line character (<code>0xC2</code>).
+     */
+    public static final int NEXT_LINE_LEAD_BYTE = 12;
+
+    /**
+     * Class of UTF-8 lead byte of line separator and paragraph separator characters (<code>0xE2</code>).
+     */
+    public static final int SEPARATOR_LEAD_BYTE = 13;
+
+    /**
+     * Class of UTF-8 second byte of line separator and paragraph separator characters (<code>0x80</code>).
+     */
+    public static final int SEPARATOR_SECOND_BYTE = 14;
+
+    /**
+     * Class of UTF-8 trail byte of next line character (<code>0x85</code>).
+     */
+    public static final int NEXT_LINE_TRAIL_BYTE = 15;
+
+    /**
+     * Class of UTF-8 trail bytes of line separator and paragraph separator characters
+     * (<code>0xA8</code> and <code>0xA9</code>).
+     */
+    public static final int SEPARATOR_TRAIL_BYTE = 16;
+
+    /**
+     * Count of character classes.
+     */
+    public static final int COUNT = 17;
+
+    private static final int ASCII_SIZE = 128;
+    private static final int BYTE_SIZE = 256;
+    private static final byte[] CLASS_FOR_ASCII_CHARACTER = new byte[ASCII_SIZE];
+    private static final byte[] CLASS_FOR_BYTE = new byte[BYTE_SIZE];
+
+    static {
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            CLASS_FOR_ASCII_CHARACTER[i] = OTHER;
+        }
+
+        CLASS_FOR_ASCII_CHARACTER['{'] = OPENING_CURLY_BRACE;
+        CLASS_FOR_ASCII_CHARACTER['}'] = CLOSING_CURLY_BRACE;
+        CLASS_FOR_ASCII_CHARACTER[';'] = SEMICOLON;
+        CLASS_FOR_ASCII_CHARACTER['\n'] = NEWLINE;
+        CLASS_FOR_ASCII_CHARACTER['\t'] = TAB;
+        CLASS_FOR_ASCII_CHARACTER[' '] = WHITESPACE;
+        CLASS_FOR_ASCII_CHARACTER['\''] = SINGLE_QUOTE;
+        CLASS_FOR_ASCII_CHARACTER['"'] = DOUBLE_QUOTE;
+        CLASS_FOR_ASCII_CHARACTER['/'] = SLASH;
+        CLASS_FOR_ASCII_CHARACTER['*'] = ASTERISK;
+        CLASS_FOR_ASCII_CHARACTER['\r'] = OTHER_LINE_TERMINATOR;
+
+        for (int i = 0; i < BYTE_SIZE; i++) {
+            CLASS_FOR_BYTE[i] = i < ASCII_SIZE ? CLASS_FOR_ASCII_CHARACTER[i] : OTHER;
+        }
+
+        CLASS_FOR_BYTE['\u00c2'] = NEXT_LINE_LEAD_BYTE;
+        CLASS_FOR_BYTE['\u00e2'] = SEPARATOR_LEAD_BYTE;
+        CLASS_FOR_BYTE['\u0080'] = SEPARATOR_SECOND_BYTE;
+        CLASS_FOR_BYTE['\u0085'] = NEXT_LINE_TRAIL_BYTE;
+        CLASS_FOR_BYTE['\u00a8'] = SEPARATOR_TRAIL_BYTE;
+        CLASS_FOR_BYTE['\u00a9'] = SEPARATOR_TRAIL_BYTE;
+    }
+
+    private CharacterClasses() {
+    }
+
+    /**
+     * Static method that returns class of passed character.
+     *
+     * @param character Character to classify.
+     * @return Integer value that presents character class.
+     */
+    public static int of(final char character) {
+        if (character < ASCII_SIZE) {
+            return CLASS_FOR_ASCII_CHARACTER[character];
+        }
+
+        if (character == '\u0085' || character == '\u2028' || character == '\u2029') {
+            return OTHER_LINE_TERMINATOR;
+        }
+
+        return OTHER;
+    }
+
+    /**
+     * Static method that returns class of passed byte of UTF-8 input that is viewed as ISO-8859-1 character.
+     *
+     * @param byteCharacter Byte of UTF-8 input that is viewed as character in range from 0 to 255.
+     * @return Integer value that presents character class.
+     */
+    public static int ofByte(final char byteCharacter) {
+        if (byteCharacter < BYTE_SIZE) {
+            return CLASS_FOR_BYTE[byteCharacter];
+        }
+
+        return OTHER;
+    }
+}
@@ -0,0 +1,70 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Utility class that creates {@link IDelimiterScanner} instances based on Vector API (SIMD instructions).
+ * <p>
+ * Vector API is available as "jdk.incubator.vector" module in Java 16 and newer, while the application is built
+ * for Java 11, so vector scanner is compiled separately (see "src/vector/java") and is loaded reflectively.
+ * It is used only if its class is present and the module is added to the runtime
+ * (e.g. <code>java --add-modules jdk.incubator.vector -jar formatter.jar ...</code>),
+ * otherwise no scanner is created and callers use scalar scanning.
+ */
+public final class DelimiterScanners {
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+    private static final String VECTOR_SCANNER_CLASS_NAME = "it.sevenbits.formatter.lexer.fsm.state.VectorDelimiterScanner";
+    private static final Constructor<?> VECTOR_SCANNER_CONSTRUCTOR = findVectorScannerConstructor();
+
+    /**
+     * A private constructor created to exclude the possibility of creating instances of this class.
+     */
+    private DelimiterScanners() {
+    }
+
+    /**
+     * Static method that reports whether vector scanners can be created.
+     *
+     * @return Boolean value that indicates the result of method work.
+     */
+    public static boolean isVectorScanningAvailable() {
+        return VECTOR_SCANNER_CONSTRUCTOR != null;
+    }
+
+    /**
+     * Static method that creates vector scanner for passed delimiters.
+     *
+     * @param delimiters         Array of ASCII delimiters.
+     * @param nonAsciiDelimiters Boolean value that indicates whether all non-ASCII characters are delimiters too.
+     * @return {@link IDelimiterScanner} instance or null if vector scanning is not available.
+     */
+    static IDelimiterScanner createVectorScanner(final char[] delimiters, final boolean nonAsciiDelimiters) {
+        if (VECTOR_SCANNER_CONSTRUCTOR == null) {
+            return null;
+        }
+
+        try {
+            return (IDelimiterScanner) VECTOR_SCANNER_CONSTRUCTOR.newInstance(delimiters.clone(), nonAsciiDelimiters);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Private static method that finds constructor of vector scanner.
+     *
+     * @return {@link Constructor} instance or null if vector scanner can not be loaded.
+     */
+    private static Constructor<?> findVectorScannerConstructor() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Class.forName(VECTOR_SCANNER_CLASS_NAME).getDeclaredConstructor(char[].class, boolean.class);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            return null;
+        }
+    }
+}
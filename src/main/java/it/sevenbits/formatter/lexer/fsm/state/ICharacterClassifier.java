@@ -0,0 +1,19 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+/**
+ * Interface that describes functionality for class that maps input characters to character classes
+ * that are used as input signals of lexer FSM (see {@link CharacterClasses}).
+ * <p>
+ * Lexer FSM tables are shared between decoded and byte-level input, only classification of input differs,
+ * so implementations are usually {@link CharacterClasses#of(char)} or {@link CharacterClasses#ofByte(char)}.
+ */
+@FunctionalInterface
+public interface ICharacterClassifier {
+    /**
+     * Method that returns class of passed input character.
+     *
+     * @param character Character to classify.
+     * @return Integer value that presents character class.
+     */
+    int classify(char character);
+}
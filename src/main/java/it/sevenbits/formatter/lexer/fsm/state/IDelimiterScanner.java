@@ -0,0 +1,19 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+/**
+ * Interface that describes functionality for class that finds the first delimiter in a part of an array of characters.
+ * <p>
+ * Delimiters are a fixed set of ASCII characters, optionally extended by all non-ASCII characters.
+ * Scanner is used to skip runs of characters on which FSM stays in absorbing state (see {@link StateTransitions}).
+ */
+public interface IDelimiterScanner {
+    /**
+     * Method that returns index of the first delimiter in passed part of an array of characters.
+     *
+     * @param characters Array of characters to be scanned.
+     * @param from       Index of the first character to be scanned (inclusive).
+     * @param to         Index of the last character to be scanned (exclusive).
+     * @return Index of the first delimiter (or passed end index if there are no delimiters).
+     */
+    int indexOfDelimiter(char[] characters, int from, int to);
+}
@@ -1,10 +1,13 @@
 package it.sevenbits.formatter.lexer.fsm.state;
 
+import it.sevenbits.formatter.lexer.token.TokenKind;
+
 /**
  * Interface that describes functionality for class that provides mapping of transitions between FSM states.
  * Transition choice performs using information about current FSM state and other input signals.
  * <p>
- * Also this interface describes functionality for return start and end FSM states.
+ * Also this interface describes functionality for return start and end FSM states
+ * and for classifying tokens by FSM states in which they are accepted.
  */
 public interface IStateTransitions {
     /**
@@ -28,8 +31,37 @@ public interface IStateTransitions {
 
     /**
      * Method that returns {@link State} instance that presents end FSM state.
+     * <p>
+     * Returned instance must be the same one that is returned by transitions into end state,
+     * because FSM loop compares states by reference.
      *
      * @return {@link State} instance that presents end FSM state.
      */
     State getEndState();
+
+    /**
+     * Method that returns {@link TokenKind} value of token that is accepted in passed FSM state.
+     * <p>
+     * Tokens that are accepted in single character state are classified by passed first character of token.
+     * If passed FSM state does not accept any specific token kind, {@link TokenKind#OTHER} is returned.
+     *
+     * @param acceptingState {@link State} instance that presents FSM state in which token is accepted.
+     * @param firstCharacter First character of token.
+     * @return {@link TokenKind} value of token.
+     */
+    TokenKind getTokenKind(State acceptingState, char firstCharacter);
+
+    /**
+     * Method that skips characters on which FSM stays in passed absorbing state (inside of plain text runs,
+     * comments and literals) and returns index of the first character that may change FSM state.
+     * <p>
+     * If passed FSM state is not absorbing, passed start index is returned.
+     *
+     * @param currentState {@link State} instance that presents current FSM state.
+     * @param characters   Array of characters to be scanned.
+     * @param from         Index of the first character to be scanned (inclusive).
+     * @param to           Index of the last character to be scanned (exclusive).
+     * @return Index of the first character that is not absorbed by passed FSM state (or passed end index).
+     */
+    int skipAbsorbed(State currentState, char[] characters, int from, int to);
 }
@@ -4,18 +4,52 @@ import java.util.Objects;
 
 /**
  * Class that presents FSM state.
+ * <p>
+ * Each state that is a part of transition tables has a small integer identifier
+ * which is used as an index in these tables. Such states are equal if their identifiers are equal,
+ * and states that are not a part of any transition table are equal if their names are equal.
+ * <p>
+ * States that are returned by transition tables are shared constants, so FSM loops compare them by reference.
  */
 public class State {
+    /**
+     * Identifier of state that is not a part of any transition table.
+     */
+    public static final int NO_ID = -1;
+
+    private final int id;
     private final String name;
 
+    /**
+     * Class constructor that initializes private {@link #id} and {@link #name} fields with passed values.
+     *
+     * @param id   Integer value that presents FSM state identifier.
+     * @param name {@link String} instance that presents FSM state name.
+     */
+    State(final int id, final String name) {
+        this.id = id;
+        this.name = name;
+    }
+
     /**
      * Class constructor that initializes private {@link #name} field with passed
      * {@link String} instance that presents FSM state name.
+     * <p>
+     * Created state is not a part of any transition table, so its identifier is {@link #NO_ID}.
      *
      * @param name {@link String} instance that presents FSM state name.
      */
     public State(final String name) {
-        this.name = name;
+        this(NO_ID, name);
+    }
+
+    /**
+     * Method that returns an integer value that presents FSM state identifier.
+     *
+     * @return Integer value that presents FSM state identifier.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
@@ -45,6 +79,11 @@ public class State {
         }
 
         final State otherState = (State) otherObject;
+
+        if (id != NO_ID || otherState.id != NO_ID) {
+            return id == otherState.id;
+        }
+
         return Objects.equals(name, otherState.name);
     }
 
@@ -55,6 +94,10 @@ public class State {
      */
     @Override
     public int hashCode() {
+        if (id != NO_ID) {
+            return id;
+        }
+
         return Objects.hash(name);
     }
 }
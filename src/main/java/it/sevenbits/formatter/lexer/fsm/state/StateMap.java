@@ -1,166 +1,306 @@
 package it.sevenbits.formatter.lexer.fsm.state;
 
-import it.sevenbits.formatter.util.Pair;
-
-import java.util.HashMap;
-import java.util.Map;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 
 /**
- * Class that provides a mapping of {@link Pair} instances (that contain {@link State} instance / character pairs)
- * to {@link State} instances.
+ * Class that provides a mapping of {@link State} instance / character pairs to {@link State} instances.
  * <p>
  * This mapping is used for providing transitions between FSM states.
  * Transition choice performs using information about current FSM state and other input signals.
  * Other input signals are actually presented by characters.
+ * <p>
+ * Mapping is stored in a flat array that is indexed by {@link State} identifier and character class
+ * (see {@link CharacterClasses}), so lookup does not require any allocations. The same mapping serves both
+ * character mode and byte mode of input, because states that follow UTF-8 bytes of multibyte line terminators
+ * are reachable only through character classes that are produced in byte mode.
+ * <p>
+ * Also this class provides a mapping of accepting {@link State} instances to {@link TokenKind} values,
+ * so token classification does not require any lexeme matching.
+ * <p>
+ * Finally this class marks absorbing {@link State} instances (plain text runs such as identifiers, comments and literals).
+ * For such states it provides character classes on which FSM stays in the same state, so lexer can skip whole runs
+ * of these characters at once.
  */
 class StateMap {
-    private final Map<Pair<State, Character>, State> stateMap;
-    private final Map<State, State> defaultStateMap;
-    private final State startState, endState;
+    private final State[] stateMap;
+    private final TokenKind[] tokenKindForState;
+    private final TokenKind[] tokenKindForCharacterClass;
+    private final boolean[][] absorbedCharacterClasses;
 
     /**
-     * Class constructor that initializes private {@link #stateMap} field and fills it with a pairs of
-     * {@link Pair} instances (that contain {@link State} instance / character pairs) and {@link State} instances.
-     * <p>
-     * Also this method initializes private {@link #startState} and {@link #endState} fields
-     * with new {@link State} instances.
-     * <p>
-     * Besides all of the above this constructor initializes private {@link #defaultStateMap} field and fills it
-     * with a pairs of {@link State} / {@link State} instances. That mapping is required for specifying of
-     * different default values for different {@link State} instances.
+     * Class constructor that initializes private {@link #stateMap} field and fills it with
+     * target {@link State} instances for all known {@link State} instance / character class pairs.
      * <p>
+     * At first every row of the table is filled with default value for corresponding {@link State} instance.
      * Default value is {@link State} instance that returns only if there are no mapping
      * for passed {@link State} instance / character pair.
+     * <p>
+     * Also this constructor initializes private {@link #tokenKindForState} and {@link #tokenKindForCharacterClass}
+     * fields and fills them with token kinds for accepting {@link State} instances and for single character tokens.
+     * <p>
+     * Finally this constructor initializes private {@link #absorbedCharacterClasses} field using already filled
+     * transitions of absorbing {@link State} instances.
      */
     StateMap() {
-        stateMap = new HashMap<>();
+        stateMap = new State[States.COUNT * CharacterClasses.COUNT];
+        tokenKindForState = new TokenKind[States.COUNT];
+        tokenKindForCharacterClass = new TokenKind[CharacterClasses.COUNT];
+        absorbedCharacterClasses = new boolean[States.COUNT][];
+
+        putDefault(States.START, States.OTHER);
+        putDefault(States.END, States.END);
+        putDefault(States.OTHER, States.OTHER);
+        putDefault(States.PROBABLY_END_OF_MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        putDefault(States.MULTILINE_COMMENT, States.MULTILINE_COMMENT);
+        putDefault(States.END_OF_MULTILINE_COMMENT, States.END);
+        putDefault(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, States.OTHER);
+        putDefault(States.CHARACTER_LITERAL, States.CHARACTER_LITERAL);
+        putDefault(States.END_OF_CHARACTER_LITERAL, States.END);
+        putDefault(States.STRING_LITERAL, States.STRING_LITERAL);
+        putDefault(States.END_OF_STRING_LITERAL, States.END);
+        putDefault(States.SINGLE_LINE_COMMENT, States.SINGLE_LINE_COMMENT);
+        putDefault(States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR, States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR);
+        putDefault(States.SINGLE_CHARACTER, States.END);
+        putDefault(States.SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE, States.SINGLE_LINE_COMMENT);
+        putDefault(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE, States.SINGLE_LINE_COMMENT);
+        putDefault(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE, States.SINGLE_LINE_COMMENT);
 
-        startState = new State("START");
-        endState = new State("END");
+        put(States.START, '{', States.SINGLE_CHARACTER);
+        put(States.START, '}', States.SINGLE_CHARACTER);
+        put(States.START, ';', States.SINGLE_CHARACTER);
+        put(States.START, '\n', States.SINGLE_CHARACTER);
+        put(States.START, '\t', States.SINGLE_CHARACTER);
+        put(States.START, ' ', States.SINGLE_CHARACTER);
+        put(States.START, '\'', States.CHARACTER_LITERAL);
+        put(States.START, '"', States.STRING_LITERAL);
+        put(States.START, '/', States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT);
 
-        final State otherState = new State("OTHER");
-        final State singleCharacterState = new State("SINGLE_CHARACTER");
+        put(States.SINGLE_CHARACTER, '{', States.END);
+        put(States.SINGLE_CHARACTER, '}', States.END);
+        put(States.SINGLE_CHARACTER, ';', States.END);
+        put(States.SINGLE_CHARACTER, '\n', States.END);
+        put(States.SINGLE_CHARACTER, '\t', States.END);
+        put(States.SINGLE_CHARACTER, ' ', States.END);
+        put(States.SINGLE_CHARACTER, '\'', States.END);
+        put(States.SINGLE_CHARACTER, '"', States.END);
+        put(States.SINGLE_CHARACTER, '/', States.END);
 
-        final State probablyStartOfUnknownTypeCommentState = new State(
-                "PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT"
+        put(States.SINGLE_LINE_COMMENT, '{', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, '}', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, ';', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, '\n', States.END);
+        put(States.SINGLE_LINE_COMMENT, '\t', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, ' ', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, '\'', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, '"', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, '/', States.SINGLE_LINE_COMMENT);
+        put(States.SINGLE_LINE_COMMENT, '\r', States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR);
+
+        put(States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR, '\n', States.END);
+
+        putSingleLineCommentByteTransitions(States.SINGLE_LINE_COMMENT);
+        putSingleLineCommentByteTransitions(States.SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE);
+        putSingleLineCommentByteTransitions(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE);
+        putSingleLineCommentByteTransitions(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE);
+        put(
+                States.SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE,
+                CharacterClasses.NEXT_LINE_TRAIL_BYTE,
+                States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR
+        );
+        put(
+                States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE,
+                CharacterClasses.SEPARATOR_SECOND_BYTE,
+                States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE
         );
+        put(
+                States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE,
+                CharacterClasses.SEPARATOR_TRAIL_BYTE,
+                States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR
+        );
+
+        put(States.STRING_LITERAL, '{', States.STRING_LITERAL);
+        put(States.STRING_LITERAL, '}', States.STRING_LITERAL);
+        put(States.STRING_LITERAL, ';', States.STRING_LITERAL);
+        put(States.STRING_LITERAL, '\n', States.STRING_LITERAL);
+        put(States.STRING_LITERAL, '\t', States.STRING_LITERAL);
+        put(States.STRING_LITERAL, ' ', States.STRING_LITERAL);
+        put(States.STRING_LITERAL, '\'', States.STRING_LITERAL);
+        put(States.STRING_LITERAL, '"', States.END_OF_STRING_LITERAL);
+        put(States.STRING_LITERAL, '/', States.STRING_LITERAL);
+
+        put(States.CHARACTER_LITERAL, '{', States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, '}', States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, ';', States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, '\n', States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, '\t', States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, ' ', States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, '\'', States.END_OF_CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, '"', States.CHARACTER_LITERAL);
+        put(States.CHARACTER_LITERAL, '/', States.CHARACTER_LITERAL);
+
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '{', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '}', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, ';', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '\n', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '\t', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, ' ', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '\'', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '"', States.END);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '/', States.SINGLE_LINE_COMMENT);
+        put(States.PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT, '*', States.MULTILINE_COMMENT);
+
+        put(States.MULTILINE_COMMENT, '{', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, '}', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, ';', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, '\n', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, '\t', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, ' ', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, '\'', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, '"', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, '/', States.MULTILINE_COMMENT);
+        put(States.MULTILINE_COMMENT, '*', States.PROBABLY_END_OF_MULTILINE_COMMENT);
+
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '{', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '}', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, ';', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '\n', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '\t', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, ' ', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '\'', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '"', States.MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '/', States.END_OF_MULTILINE_COMMENT);
+        put(States.PROBABLY_END_OF_MULTILINE_COMMENT, '*', States.MULTILINE_COMMENT);
+
+        put(States.OTHER, '{', States.END);
+        put(States.OTHER, '}', States.END);
+        put(States.OTHER, ';', States.END);
+        put(States.OTHER, '\n', States.END);
+        put(States.OTHER, '\t', States.END);
+        put(States.OTHER, ' ', States.END);
+        put(States.OTHER, '\'', States.END);
+        put(States.OTHER, '"', States.END);
+        put(States.OTHER, '/', States.END);
+
+        for (int i = 0; i < States.COUNT; i++) {
+            tokenKindForState[i] = TokenKind.OTHER;
+        }
+
+        putTokenKind(States.SINGLE_LINE_COMMENT, TokenKind.SINGLE_LINE_COMMENT);
+        putTokenKind(States.SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE, TokenKind.SINGLE_LINE_COMMENT);
+        putTokenKind(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE, TokenKind.SINGLE_LINE_COMMENT);
+        putTokenKind(States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE, TokenKind.SINGLE_LINE_COMMENT);
+        putTokenKind(States.END_OF_MULTILINE_COMMENT, TokenKind.MULTILINE_COMMENT);
+        putTokenKind(States.END_OF_CHARACTER_LITERAL, TokenKind.CHARACTER_LITERAL);
+        putTokenKind(States.END_OF_STRING_LITERAL, TokenKind.STRING_LITERAL);
+
+        for (int i = 0; i < CharacterClasses.COUNT; i++) {
+            tokenKindForCharacterClass[i] = TokenKind.OTHER;
+        }
+
+        putTokenKind('{', TokenKind.OPENING_CURLY_BRACE);
+        putTokenKind('}', TokenKind.CLOSING_CURLY_BRACE);
+        putTokenKind(';', TokenKind.SEMICOLON);
+        putTokenKind('\n', TokenKind.NEWLINE);
+        putTokenKind('\t', TokenKind.TAB);
+        putTokenKind(' ', TokenKind.WHITESPACE);
+
+        putAbsorbing(States.OTHER);
+        putAbsorbing(States.SINGLE_LINE_COMMENT);
+        putAbsorbing(States.MULTILINE_COMMENT);
+        putAbsorbing(States.STRING_LITERAL);
+        putAbsorbing(States.CHARACTER_LITERAL);
+    }
+
+    /**
+     * Private method that marks passed {@link State} instance as absorbing one and remembers character classes
+     * on which FSM stays in this state.
+     * <p>
+     * Character classes are taken from already filled transitions, so delimiters of plain text runs and terminators
+     * of comments and literals (including UTF-8 lead bytes of multibyte line terminators) are never absorbed.
+     *
+     * @param state {@link State} instance that presents absorbing FSM state.
+     */
+    private void putAbsorbing(final State state) {
+        final boolean[] absorbed = new boolean[CharacterClasses.COUNT];
+
+        for (int i = 0; i < CharacterClasses.COUNT; i++) {
+            absorbed[i] = getNextState(state, i).equals(state);
+        }
+
+        absorbedCharacterClasses[state.getId()] = absorbed;
+    }
+
+    /**
+     * Private method that puts {@link TokenKind} value for passed accepting {@link State} instance.
+     *
+     * @param state     {@link State} instance that presents accepting FSM state.
+     * @param tokenKind {@link TokenKind} value of token that is accepted in passed FSM state.
+     */
+    private void putTokenKind(final State state, final TokenKind tokenKind) {
+        tokenKindForState[state.getId()] = tokenKind;
+    }
+
+    /**
+     * Private method that puts {@link TokenKind} value for single character token formed by passed character.
+     *
+     * @param character Character that forms single character token.
+     * @param tokenKind {@link TokenKind} value of single character token.
+     */
+    private void putTokenKind(final char character, final TokenKind tokenKind) {
+        tokenKindForCharacterClass[CharacterClasses.of(character)] = tokenKind;
+    }
+
+    /**
+     * Private method that fills the whole row of {@link #stateMap} corresponding to passed {@link State} instance
+     * with passed default target {@link State} instance.
+     *
+     * @param state     {@link State} instance that presents current FSM state.
+     * @param nextState {@link State} instance that presents default target FSM state.
+     */
+    private void putDefault(final State state, final State nextState) {
+        final int rowStart = state.getId() * CharacterClasses.COUNT;
 
-        final State singleLineCommentState = new State("SINGLE_LINE_COMMENT");
-        final State multilineCommentState = new State("MULTILINE_COMMENT");
-        final State probablyEndOfMultilineCommentState = new State("PROBABLY_END_OF_MULTILINE_COMMENT");
-        final State endOfMultilineCommentState = new State("END_OF_MULTILINE_COMMENT");
-        final State stringLiteralState = new State("STRING_LITERAL");
-        final State endOfStringLiteralState = new State("END_OF_STRING_LITERAL");
-        final State characterLiteralState = new State("CHARACTER_LITERAL");
-        final State endOfCharacterLiteralState = new State("END_OF_CHARACTER_LITERAL");
-
-        stateMap.put(new Pair<>(startState, '{'), singleCharacterState);
-        stateMap.put(new Pair<>(startState, '}'), singleCharacterState);
-        stateMap.put(new Pair<>(startState, ';'), singleCharacterState);
-        stateMap.put(new Pair<>(startState, '\n'), singleCharacterState);
-        stateMap.put(new Pair<>(startState, '\t'), singleCharacterState);
-        stateMap.put(new Pair<>(startState, ' '), singleCharacterState);
-        stateMap.put(new Pair<>(startState, '\''), characterLiteralState);
-        stateMap.put(new Pair<>(startState, '"'), stringLiteralState);
-        stateMap.put(new Pair<>(startState, '/'), probablyStartOfUnknownTypeCommentState);
-
-        stateMap.put(new Pair<>(singleCharacterState, '{'), endState);
-        stateMap.put(new Pair<>(singleCharacterState, '}'), endState);
-        stateMap.put(new Pair<>(singleCharacterState, ';'), endState);
-        stateMap.put(new Pair<>(singleCharacterState, '\n'), endState);
-        stateMap.put(new Pair<>(singleCharacterState, '\t'), endState);
-        stateMap.put(new Pair<>(singleCharacterState, ' '), endState);
-        stateMap.put(new Pair<>(singleCharacterState, '\''), endState);
-        stateMap.put(new Pair<>(singleCharacterState, '"'), endState);
-        stateMap.put(new Pair<>(singleCharacterState, '/'), endState);
-
-        stateMap.put(new Pair<>(singleLineCommentState, '{'), singleLineCommentState);
-        stateMap.put(new Pair<>(singleLineCommentState, '}'), singleLineCommentState);
-        stateMap.put(new Pair<>(singleLineCommentState, ';'), singleLineCommentState);
-        stateMap.put(new Pair<>(singleLineCommentState, '\n'), endState);
-        stateMap.put(new Pair<>(singleLineCommentState, '\t'), singleLineCommentState);
-        stateMap.put(new Pair<>(singleLineCommentState, ' '), singleLineCommentState);
-        stateMap.put(new Pair<>(singleLineCommentState, '\''), singleLineCommentState);
-        stateMap.put(new Pair<>(singleLineCommentState, '"'), singleLineCommentState);
-        stateMap.put(new Pair<>(singleLineCommentState, '/'), singleLineCommentState);
-
-        stateMap.put(new Pair<>(stringLiteralState, '{'), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, '}'), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, ';'), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, '\n'), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, '\t'), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, ' '), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, '\''), stringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, '"'), endOfStringLiteralState);
-        stateMap.put(new Pair<>(stringLiteralState, '/'), stringLiteralState);
-
-        stateMap.put(new Pair<>(characterLiteralState, '{'), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, '}'), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, ';'), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, '\n'), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, '\t'), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, ' '), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, '\''), endOfCharacterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, '"'), characterLiteralState);
-        stateMap.put(new Pair<>(characterLiteralState, '/'), characterLiteralState);
-
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '{'), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '}'), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, ';'), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '\n'), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '\t'), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, ' '), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '\''), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '"'), endState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '/'), singleLineCommentState);
-        stateMap.put(new Pair<>(probablyStartOfUnknownTypeCommentState, '*'), multilineCommentState);
-
-        stateMap.put(new Pair<>(multilineCommentState, '{'), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, '}'), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, ';'), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, '\n'), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, '\t'), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, ' '), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, '\''), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, '"'), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, '/'), multilineCommentState);
-        stateMap.put(new Pair<>(multilineCommentState, '*'), probablyEndOfMultilineCommentState);
-
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '{'), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '}'), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, ';'), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '\n'), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '\t'), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, ' '), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '\''), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '"'), multilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '/'), endOfMultilineCommentState);
-        stateMap.put(new Pair<>(probablyEndOfMultilineCommentState, '*'), multilineCommentState);
-
-        stateMap.put(new Pair<>(otherState, '{'), endState);
-        stateMap.put(new Pair<>(otherState, '}'), endState);
-        stateMap.put(new Pair<>(otherState, ';'), endState);
-        stateMap.put(new Pair<>(otherState, '\n'), endState);
-        stateMap.put(new Pair<>(otherState, '\t'), endState);
-        stateMap.put(new Pair<>(otherState, ' '), endState);
-        stateMap.put(new Pair<>(otherState, '\''), endState);
-        stateMap.put(new Pair<>(otherState, '"'), endState);
-        stateMap.put(new Pair<>(otherState, '/'), endState);
-
-        defaultStateMap = new HashMap<>();
-
-        defaultStateMap.put(startState, otherState);
-        defaultStateMap.put(otherState, otherState);
-        defaultStateMap.put(probablyEndOfMultilineCommentState, multilineCommentState);
-        defaultStateMap.put(multilineCommentState, multilineCommentState);
-        defaultStateMap.put(endOfMultilineCommentState, endState);
-        defaultStateMap.put(probablyStartOfUnknownTypeCommentState, otherState);
-        defaultStateMap.put(characterLiteralState, characterLiteralState);
-        defaultStateMap.put(endOfCharacterLiteralState, endState);
-        defaultStateMap.put(stringLiteralState, stringLiteralState);
-        defaultStateMap.put(endOfStringLiteralState, endState);
-        defaultStateMap.put(singleLineCommentState, singleLineCommentState);
-        defaultStateMap.put(singleCharacterState, endState);
+        for (int i = 0; i < CharacterClasses.COUNT; i++) {
+            stateMap[rowStart + i] = nextState;
+        }
+    }
+
+    /**
+     * Private method that puts target {@link State} instance for passed {@link State} instance / character pair.
+     *
+     * @param state     {@link State} instance that presents current FSM state.
+     * @param character Character that presents input signal.
+     * @param nextState {@link State} instance that presents target FSM state.
+     */
+    private void put(final State state, final char character, final State nextState) {
+        put(state, CharacterClasses.of(character), nextState);
+    }
+
+    /**
+     * Private method that puts target {@link State} instance for passed {@link State} instance / character class pair.
+     *
+     * @param state          {@link State} instance that presents current FSM state.
+     * @param characterClass Character class that presents input signal (see {@link CharacterClasses}).
+     * @param nextState      {@link State} instance that presents target FSM state.
+     */
+    private void put(final State state, final int characterClass, final State nextState) {
+        stateMap[state.getId() * CharacterClasses.COUNT + characterClass] = nextState;
+    }
+
+    /**
+     * Private method that puts transitions of passed single line comment {@link State} instance
+     * on newline, on carriage return and on UTF-8 lead bytes of multibyte line terminators.
+     * <p>
+     * Each of these transitions is the same as in plain single line comment, so an unfinished multibyte
+     * sequence never hides the line terminator that follows it.
+     *
+     * @param state {@link State} instance that presents one of single line comment FSM states.
+     */
+    private void putSingleLineCommentByteTransitions(final State state) {
+        put(state, '\n', States.END);
+        put(state, '\r', States.SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR);
+        put(state, CharacterClasses.NEXT_LINE_LEAD_BYTE, States.SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE);
+        put(state, CharacterClasses.SEPARATOR_LEAD_BYTE, States.SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE);
     }
 
     /**
@@ -169,7 +309,7 @@ class StateMap {
      * @return {@link State} instance that presents start FSM state.
      */
     State getStartState() {
-        return startState;
+        return States.START;
     }
 
     /**
@@ -178,20 +318,81 @@ class StateMap {
      * @return {@link State} instance that presents end FSM state.
      */
     State getEndState() {
-        return endState;
+        return States.END;
     }
 
     /**
      * Method that returns {@link State} instance that presents target FSM state
-     * corresponding to current FSM state and currently being processed character
+     * corresponding to current FSM state and class of currently being processed character
      * (or default if there are no matches).
+     * <p>
+     * If passed {@link State} instance is not known to lexer FSM, end state is returned.
      *
-     * @param state     {@link State} instance that presents current FSM state.
-     * @param character Currently being processed character.
+     * @param state          {@link State} instance that presents current FSM state.
+     * @param characterClass Class of currently being processed character (see {@link CharacterClasses}).
      * @return {@link State} instance that presents target FSM state
      * (or default if there are no matches with passed args).
      */
-    State getNextState(final State state, final char character) {
-        return stateMap.getOrDefault(new Pair<>(state, character), defaultStateMap.get(state));
+    State getNextState(final State state, final int characterClass) {
+        final int stateId = state.getId();
+
+        if (stateId < 0 || stateId >= States.COUNT) {
+            return States.END;
+        }
+
+        return stateMap[stateId * CharacterClasses.COUNT + characterClass];
+    }
+
+    /**
+     * Method that returns character classes on which FSM stays in passed absorbing {@link State} instance.
+     * <p>
+     * Returned array is indexed by character class (see {@link CharacterClasses}) and must not be modified.
+     * If passed {@link State} instance is not known to lexer FSM or is not absorbing, null is returned.
+     *
+     * @param state {@link State} instance that presents current FSM state.
+     * @return Array of flags that indicate absorbed character classes (or null if state is not absorbing).
+     */
+    boolean[] getAbsorbedCharacterClasses(final State state) {
+        return getAbsorbedCharacterClasses(state.getId());
+    }
+
+    /**
+     * Overload of method that returns character classes on which FSM stays in absorbing state
+     * with passed identifier.
+     *
+     * @param stateId Integer value that presents FSM state identifier.
+     * @return Array of flags that indicate absorbed character classes (or null if state is not absorbing).
+     */
+    boolean[] getAbsorbedCharacterClasses(final int stateId) {
+        if (stateId < 0 || stateId >= States.COUNT) {
+            return null;
+        }
+
+        return absorbedCharacterClasses[stateId];
+    }
+
+    /**
+     * Method that returns {@link TokenKind} value of token that is accepted in passed FSM state.
+     * <p>
+     * Tokens that are accepted in single character state are classified by passed class of first character of token.
+     * If passed {@link State} instance is not known to lexer FSM or does not accept any specific token kind,
+     * {@link TokenKind#OTHER} is returned.
+     *
+     * @param state               {@link State} instance that presents accepting FSM state.
+     * @param firstCharacterClass Class of first character of token (see {@link CharacterClasses}).
+     * @return {@link TokenKind} value of token.
+     */
+    TokenKind getTokenKind(final State state, final int firstCharacterClass) {
+        final int stateId = state.getId();
+
+        if (stateId == States.SINGLE_CHARACTER.getId()) {
+            return tokenKindForCharacterClass[firstCharacterClass];
+        }
+
+        if (stateId < 0 || stateId >= States.COUNT) {
+            return TokenKind.OTHER;
+        }
+
+        return tokenKindForState[stateId];
     }
 }
@@ -1,20 +1,61 @@
 package it.sevenbits.formatter.lexer.fsm.state;
 
+import it.sevenbits.formatter.lexer.token.TokenKind;
+
 /**
  * {@link IStateTransitions} interface implementation that provides transitions between FSM states.
  * Transition choice performs using information about current FSM state and other input signals.
  * <p>
- * Also this class can return start and end FSM states.
+ * Also this class can return start and end FSM states and classify tokens by FSM states in which they are accepted.
+ * <p>
+ * Runs of characters on which FSM stays in absorbing state are skipped by lookup of each character in transition
+ * table. If Vector API is available (see {@link DelimiterScanners}), runs are skipped by {@link IDelimiterScanner}
+ * instances that compare many characters at once with the characters that are not absorbed.
  */
 public final class StateTransitions implements IStateTransitions {
+    private static final int ASCII_SIZE = 128;
+
     private final StateMap stateMap;
+    private final ICharacterClassifier characterClassifier;
+    private final IDelimiterScanner[] delimiterScanners;
+
+    /**
+     * Class constructor that initializes transitions for decoded input
+     * (characters are classified by {@link CharacterClasses#of(char)} method).
+     */
+    public StateTransitions() {
+        this(CharacterClasses::of);
+    }
+
+    /**
+     * Overload of constructor that uses vector scanning of absorbed characters if it is available.
+     *
+     * @param characterClassifier {@link ICharacterClassifier} instance that maps input characters to input signals
+     *                            (for example, {@link CharacterClasses#ofByte(char)} for byte-level input).
+     */
+    public StateTransitions(final ICharacterClassifier characterClassifier) {
+        this(characterClassifier, DelimiterScanners.isVectorScanningAvailable());
+    }
 
     /**
      * Class constructor that initializes private {@link #stateMap} field with new {@link StateMap} instance.
      * That field contains information about mapping between FSM states and input signals.
+     *
+     * @param characterClassifier {@link ICharacterClassifier} instance that maps input characters to input signals
+     *                            (for example, {@link CharacterClasses#ofByte(char)} for byte-level input).
+     * @param vectorScanning      Boolean value that indicates whether absorbed characters are skipped
+     *                            by vector scanners (ignored if Vector API is not available).
      */
-    public StateTransitions() {
+    public StateTransitions(final ICharacterClassifier characterClassifier, final boolean vectorScanning) {
         stateMap = new StateMap();
+        this.characterClassifier = characterClassifier;
+        delimiterScanners = new IDelimiterScanner[States.COUNT];
+
+        if (vectorScanning) {
+            for (int stateId = 0; stateId < States.COUNT; stateId++) {
+                delimiterScanners[stateId] = createDelimiterScanner(stateMap.getAbsorbedCharacterClasses(stateId));
+            }
+        }
     }
 
     /**
@@ -29,7 +70,7 @@ public final class StateTransitions implements IStateTransitions {
      */
     @Override
     public State nextState(final State currentState, final char character) {
-        return stateMap.getNextState(currentState, character);
+        return stateMap.getNextState(currentState, characterClassifier.classify(character));
     }
 
     /**
@@ -51,4 +92,97 @@ public final class StateTransitions implements IStateTransitions {
     public State getEndState() {
         return stateMap.getEndState();
     }
+
+    /**
+     * Method that returns {@link TokenKind} value of token that is accepted in passed FSM state.
+     * <p>
+     * Tokens that are accepted in single character state are classified by passed first character of token.
+     * If passed FSM state does not accept any specific token kind, {@link TokenKind#OTHER} is returned.
+     *
+     * @param acceptingState {@link State} instance that presents FSM state in which token is accepted.
+     * @param firstCharacter First character of token.
+     * @return {@link TokenKind} value of token.
+     */
+    @Override
+    public TokenKind getTokenKind(final State acceptingState, final char firstCharacter) {
+        return stateMap.getTokenKind(acceptingState, characterClassifier.classify(firstCharacter));
+    }
+
+    /**
+     * Method that skips characters on which FSM stays in passed absorbing state (inside of plain text runs,
+     * comments and literals) and returns index of the first character that may change FSM state.
+     * <p>
+     * If passed FSM state is not absorbing, passed start index is returned.
+     *
+     * @param currentState {@link State} instance that presents current FSM state.
+     * @param characters   Array of characters to be scanned.
+     * @param from         Index of the first character to be scanned (inclusive).
+     * @param to           Index of the last character to be scanned (exclusive).
+     * @return Index of the first character that is not absorbed by passed FSM state (or passed end index).
+     */
+    @Override
+    public int skipAbsorbed(final State currentState, final char[] characters, final int from, final int to) {
+        final boolean[] absorbed = stateMap.getAbsorbedCharacterClasses(currentState);
+
+        if (absorbed == null) {
+            return from;
+        }
+
+        final IDelimiterScanner delimiterScanner = delimiterScanners[currentState.getId()];
+        int index = from;
+
+        if (delimiterScanner != null) {
+            // non-ASCII delimiters are candidates only, so the found character is checked precisely
+            while (true) {
+                index = delimiterScanner.indexOfDelimiter(characters, index, to);
+
+                if (index == to || !absorbed[characterClassifier.classify(characters[index])]) {
+                    return index;
+                }
+
+                index++;
+            }
+        }
+
+        while (index < to && absorbed[characterClassifier.classify(characters[index])]) {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * Private method that creates vector scanner which finds characters that are not absorbed.
+     * <p>
+     * ASCII characters that are not absorbed become delimiters of scanner. If some non-ASCII character
+     * is not absorbed, all non-ASCII characters become delimiters.
+     *
+     * @param absorbed Array of flags that indicate absorbed character classes (or null if state is not absorbing).
+     * @return {@link IDelimiterScanner} instance or null if state is not absorbing or scanner can not be created.
+     */
+    private IDelimiterScanner createDelimiterScanner(final boolean[] absorbed) {
+        if (absorbed == null) {
+            return null;
+        }
+
+        final StringBuilder delimiters = new StringBuilder();
+
+        for (char character = 0; character < ASCII_SIZE; character++) {
+            if (!absorbed[characterClassifier.classify(character)]) {
+                delimiters.append(character);
+            }
+        }
+
+        boolean nonAsciiDelimiters = false;
+
+        for (int character = ASCII_SIZE; character <= Character.MAX_VALUE && !nonAsciiDelimiters; character++) {
+            nonAsciiDelimiters = !absorbed[characterClassifier.classify((char) character)];
+        }
+
+        if (delimiters.length() == 0 && !nonAsciiDelimiters) {
+            return null;
+        }
+
+        return DelimiterScanners.createVectorScanner(delimiters.toString().toCharArray(), nonAsciiDelimiters);
+    }
 }
@@ -0,0 +1,119 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+/**
+ * Utility class that declares all {@link State} instances which are known to lexer FSM.
+ * <p>
+ * Identifiers of these states are dense, so they can be used as indexes in transition tables.
+ */
+public final class States {
+    /**
+     * Start FSM state.
+     */
+    public static final State START = new State(0, "START");
+
+    /**
+     * End FSM state.
+     */
+    public static final State END = new State(1, "END");
+
+    /**
+     * FSM state that presents lexeme which does not match any of other states.
+     */
+    public static final State OTHER = new State(2, "OTHER");
+
+    /**
+     * FSM state that presents lexeme that consists of a single special character.
+     */
+    public static final State SINGLE_CHARACTER = new State(3, "SINGLE_CHARACTER");
+
+    /**
+     * FSM state that presents lexeme that probably is a start of comment of unknown type.
+     */
+    public static final State PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT = new State(
+            4,
+            "PROBABLY_START_OF_UNKNOWN_TYPE_COMMENT"
+    );
+
+    /**
+     * FSM state that presents single line comment.
+     */
+    public static final State SINGLE_LINE_COMMENT = new State(5, "SINGLE_LINE_COMMENT");
+
+    /**
+     * FSM state that presents single line comment which contains line terminator other than newline.
+     */
+    public static final State SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR = new State(
+            6,
+            "SINGLE_LINE_COMMENT_WITH_LINE_TERMINATOR"
+    );
+
+    /**
+     * FSM state that presents multiline comment.
+     */
+    public static final State MULTILINE_COMMENT = new State(7, "MULTILINE_COMMENT");
+
+    /**
+     * FSM state that presents multiline comment which is probably ending.
+     */
+    public static final State PROBABLY_END_OF_MULTILINE_COMMENT = new State(8, "PROBABLY_END_OF_MULTILINE_COMMENT");
+
+    /**
+     * FSM state that presents ended multiline comment.
+     */
+    public static final State END_OF_MULTILINE_COMMENT = new State(9, "END_OF_MULTILINE_COMMENT");
+
+    /**
+     * FSM state that presents string literal.
+     */
+    public static final State STRING_LITERAL = new State(10, "STRING_LITERAL");
+
+    /**
+     * FSM state that presents ended string literal.
+     */
+    public static final State END_OF_STRING_LITERAL = new State(11, "END_OF_STRING_LITERAL");
+
+    /**
+     * FSM state that presents character literal.
+     */
+    public static final State CHARACTER_LITERAL = new State(12, "CHARACTER_LITERAL");
+
+    /**
+     * FSM state that presents ended character literal.
+     */
+    public static final State END_OF_CHARACTER_LITERAL = new State(13, "END_OF_CHARACTER_LITERAL");
+
+    /**
+     * FSM state that presents single line comment after UTF-8 lead byte of next line character
+     * (reachable in byte mode only).
+     */
+    public static final State SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE = new State(
+            14,
+            "SINGLE_LINE_COMMENT_AFTER_NEXT_LINE_LEAD_BYTE"
+    );
+
+    /**
+     * FSM state that presents single line comment after UTF-8 lead byte of line separator
+     * or paragraph separator character (reachable in byte mode only).
+     */
+    public static final State SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE = new State(
+            15,
+            "SINGLE_LINE_COMMENT_AFTER_SEPARATOR_LEAD_BYTE"
+    );
+
+    /**
+     * FSM state that presents single line comment after UTF-8 second byte of line separator
+     * or paragraph separator character (reachable in byte mode only).
+     */
+    public static final State SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE = new State(
+            16,
+            "SINGLE_LINE_COMMENT_AFTER_SEPARATOR_SECOND_BYTE"
+    );
+
+    /**
+     * Count of states that are known to lexer FSM.
+     */
+    public static final int COUNT = 17;
+
+    private States() {
+    }
+}
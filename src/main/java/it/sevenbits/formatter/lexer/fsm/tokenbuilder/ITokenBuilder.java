@@ -1,17 +1,45 @@
 package it.sevenbits.formatter.lexer.fsm.tokenbuilder;
 
 import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 
 /**
  * Interface that describes functionality for building {@link IToken} instances.
  */
 public interface ITokenBuilder {
     /**
-     * Method that performs setting of token name.
+     * Method that performs clearing of previously passed kind and lexeme,
+     * so builder can be reused for the next token.
+     */
+    void reset();
+
+    /**
+     * Method that performs setting of token kind.
+     *
+     * @param kind {@link TokenKind} value that presents token kind.
+     */
+    void setKind(TokenKind kind);
+
+    /**
+     * Method that returns pre-passed token kind.
      *
-     * @param name {@link String} instance that presents token name.
+     * @return {@link TokenKind} value that presents token kind.
+     */
+    TokenKind getKind();
+
+    /**
+     * Method that sets array from which the next appended characters are taken, starting from passed offset,
+     * so they may be kept in that array instead of being copied.
+     *
+     * @param source Array of characters from which the next appended characters are taken.
+     * @param offset Index of the next appended character in passed array.
+     */
+    void setSource(char[] source, int offset);
+
+    /**
+     * Method that copies characters that are taken from source array, so that array can be overwritten.
      */
-    void setName(String name);
+    void releaseSource();
 
     /**
      * Method that performs appending to lexeme.
@@ -20,6 +48,15 @@ public interface ITokenBuilder {
      */
     void appendToLexeme(char data);
 
+    /**
+     * Overload of method that performs appending of characters range to lexeme.
+     *
+     * @param data   Array of characters that contains range to be appended to lexeme.
+     * @param offset Index of the first character of range.
+     * @param length Count of characters in range.
+     */
+    void appendToLexeme(char[] data, int offset, int length);
+
     /**
      * Method that returns {@link String} instance that presents lexeme.
      *
@@ -28,13 +65,34 @@ public interface ITokenBuilder {
     String getLexeme();
 
     /**
-     * Method that performs instantiation of {@link IToken} instance (pre-passed name and lexeme
+     * Method that returns {@link CharSequence} instance that presents lexeme without copying it where it is possible.
+     * <p>
+     * Returned instance is valid only until the next call of {@link #reset()} method or until source array
+     * is overwritten.
+     *
+     * @return {@link CharSequence} instance that presents lexeme.
+     */
+    CharSequence getLexemeView();
+
+    /**
+     * Method that performs instantiation of {@link IToken} instance (pre-passed kind and lexeme
      * are passed to the constructor) and then returns it.
      * <p>
-     * Note that if name or lexeme is not passed to builder in advance, you will receive
+     * Note that if kind or lexeme is not passed to builder in advance, you will receive
      * corresponding empty fields in {@link IToken} instance.
      *
-     * @return New {@link IToken} instance initialized with a pre-passed name and lexeme.
+     * @return New {@link IToken} instance initialized with a pre-passed kind and lexeme.
      */
     IToken getToken();
+
+    /**
+     * Method that returns reusable {@link IToken} instance that presents pre-passed kind
+     * and view of lexeme (see {@link #getLexemeView()}).
+     * <p>
+     * Returned instance is valid only until the next call of {@link #reset()} method or until source array
+     * is overwritten.
+     *
+     * @return Reusable {@link IToken} instance that presents pre-passed kind and view of lexeme.
+     */
+    IToken getTokenView();
 }
@@ -2,43 +2,148 @@ package it.sevenbits.formatter.lexer.fsm.tokenbuilder;
 
 import it.sevenbits.formatter.lexer.token.IToken;
 import it.sevenbits.formatter.lexer.token.Token;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import it.sevenbits.formatter.lexer.token.TokenView;
+
+import java.nio.CharBuffer;
 
 /**
  * {@link ITokenBuilder} interface implementation that provides {@link IToken} instance building process.
+ * <p>
+ * Characters that are appended from source array (see {@link #setSource(char[], int)}) are not copied
+ * while they form a contiguous range of that array, so lexeme is copied at most once
+ * (or never if only its view is requested).
  */
 public class TokenBuilder implements ITokenBuilder {
-    private final StringBuilder nameBuilder, lexemeBuilder;
+    private final StringBuilder lexemeBuilder;
+    private final TokenView tokenView;
+    private TokenKind kind;
+    private char[] source;
+    private CharBuffer sourceView;
+    private int sourceOffset;
+    private int sourceLength;
 
     /**
-     * Class constructor that initializes private {@link #nameBuilder} and {@link #lexemeBuilder}
-     * fields with new {@link StringBuilder} instances.
+     * Class constructor that initializes private {@link #lexemeBuilder} field with new {@link StringBuilder} instance
+     * and private {@link #tokenView} field with new {@link TokenView} instance.
      */
     public TokenBuilder() {
-        nameBuilder = new StringBuilder();
         lexemeBuilder = new StringBuilder();
+        tokenView = new TokenView();
+    }
+
+    /**
+     * Method that performs clearing of previously passed kind, lexeme and source array,
+     * so builder can be reused for the next token.
+     */
+    @Override
+    public void reset() {
+        kind = null;
+        lexemeBuilder.setLength(0);
+        source = null;
+        sourceLength = 0;
+    }
+
+    /**
+     * Method that performs setting of token kind.
+     *
+     * @param kind {@link TokenKind} value that presents token kind.
+     */
+    @Override
+    public void setKind(final TokenKind kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Method that returns pre-passed token kind.
+     *
+     * @return {@link TokenKind} value that presents token kind.
+     */
+    @Override
+    public TokenKind getKind() {
+        return kind;
     }
 
     /**
-     * Method that performs setting of token name.
+     * Method that sets array from which the next appended characters are taken, starting from passed offset.
+     * <p>
+     * Characters that are already taken from previous source array are copied before switching to passed one.
      *
-     * @param name {@link String} instance that presents token name.
+     * @param source Array of characters from which the next appended characters are taken.
+     * @param offset Index of the next appended character in passed array.
+     */
+    @Override
+    public void setSource(final char[] source, final int offset) {
+        releaseSource();
+
+        if (sourceView == null || sourceView.array() != source) {
+            sourceView = CharBuffer.wrap(source);
+        }
+
+        this.source = source;
+        sourceOffset = offset;
+    }
+
+    /**
+     * Method that copies characters that are taken from source array, so that array can be overwritten.
      */
     @Override
-    public void setName(final String name) {
-        nameBuilder.setLength(0);
-        nameBuilder.append(name);
+    public void releaseSource() {
+        if (source == null) {
+            return;
+        }
+
+        lexemeBuilder.append(source, sourceOffset, sourceLength);
+        source = null;
+        sourceLength = 0;
     }
 
     /**
      * Method that performs appending to lexeme.
+     * <p>
+     * If passed character is the next character of source array, only length of taken range is increased.
      *
      * @param data Character to be appended to lexeme.
      */
     @Override
     public void appendToLexeme(final char data) {
+        if (source != null) {
+            final int index = sourceOffset + sourceLength;
+
+            if (index < source.length && source[index] == data) {
+                sourceLength++;
+                return;
+            }
+
+            releaseSource();
+        }
+
         lexemeBuilder.append(data);
     }
 
+    /**
+     * Overload of method that performs appending of characters range to lexeme.
+     * <p>
+     * If passed range directly follows the range taken from source array, only length of taken range is increased.
+     *
+     * @param data   Array of characters that contains range to be appended to lexeme.
+     * @param offset Index of the first character of range.
+     * @param length Count of characters in range.
+     */
+    @Override
+    public void appendToLexeme(final char[] data, final int offset, final int length) {
+        if (source != null) {
+            if (data == source && offset == sourceOffset + sourceLength) {
+                sourceLength += length;
+                return;
+            }
+
+            releaseSource();
+        }
+
+        lexemeBuilder.append(data, offset, length);
+    }
+
     /**
      * Method that returns {@link String} instance that presents lexeme.
      *
@@ -46,20 +151,59 @@ public class TokenBuilder implements ITokenBuilder {
      */
     @Override
     public String getLexeme() {
+        if (lexemeBuilder.length() == 0 && source != null) {
+            return new String(source, sourceOffset, sourceLength);
+        }
+
+        releaseSource();
         return lexemeBuilder.toString();
     }
 
     /**
-     * Method that performs instantiation of {@link IToken} instance (pre-passed name and lexeme
+     * Method that returns {@link CharSequence} instance that presents lexeme without copying it where it is possible.
+     * <p>
+     * Returned instance is valid only until the next call of {@link #reset()} method or until source array
+     * is overwritten.
+     *
+     * @return {@link CharSequence} instance that presents lexeme.
+     */
+    @Override
+    public CharSequence getLexemeView() {
+        if (lexemeBuilder.length() == 0 && source != null) {
+            sourceView.limit(sourceOffset + sourceLength).position(sourceOffset);
+            return sourceView;
+        }
+
+        releaseSource();
+        return lexemeBuilder;
+    }
+
+    /**
+     * Method that performs instantiation of {@link IToken} instance (pre-passed kind and lexeme
      * are passed to the constructor) and then returns it.
      * <p>
-     * Note that if name or lexeme is not passed to builder in advance, you will receive
+     * Note that if kind or lexeme is not passed to builder in advance, you will receive
      * corresponding empty fields in {@link IToken} instance.
      *
-     * @return New {@link IToken} instance initialized with a pre-passed name and lexeme.
+     * @return New {@link IToken} instance initialized with a pre-passed kind and lexeme.
      */
     @Override
     public IToken getToken() {
-        return new Token(nameBuilder.toString(), lexemeBuilder.toString());
+        return new Token(kind, getLexeme());
+    }
+
+    /**
+     * Method that returns reusable {@link IToken} instance that presents pre-passed kind
+     * and view of lexeme (see {@link #getLexemeView()}).
+     * <p>
+     * Returned instance is valid only until the next call of {@link #reset()} method or until source array
+     * is overwritten.
+     *
+     * @return Reusable {@link IToken} instance that presents pre-passed kind and view of lexeme.
+     */
+    @Override
+    public IToken getTokenView() {
+        tokenView.set(kind, getLexemeView());
+        return tokenView;
     }
 }
@@ -0,0 +1,322 @@
+package it.sevenbits.formatter.lexer.pipeline;
+
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.ITokenCursor;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.Token;
+import it.sevenbits.formatter.lexer.token.TokenBuffer;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import it.sevenbits.formatter.lexer.token.TokenView;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ILexer} interface implementation that runs wrapped lexer on a separate producer thread,
+ * so lexical analysis and formatting of the same input are performed concurrently.
+ * <p>
+ * Tokens are passed between threads in batches: producer thread fills {@link TokenBuffer} instance
+ * by {@link ILexer#readTokens(TokenBuffer)} method and publishes it to bounded {@link TokenRingBuffer},
+ * and consumer (the thread that calls methods of this class) iterates received batch by index
+ * and then returns it to producer through another ring buffer. So synchronization cost is paid once per batch,
+ * no object is created per token, and memory usage does not depend on input size.
+ * Both sides wait while there is no batch for them: they spin for a short time at first, then yield
+ * and then park for a short time, so idle side does not burn CPU core for long.
+ * <p>
+ * Exception thrown by wrapped lexer is passed to consumer and rethrown by {@link #readToken()} after all tokens
+ * that were read before it. Producer thread is started by the first call of {@link #hasMoreTokens()} and stopped
+ * either at the end of input or by {@link #close()} method, which must be called if consumer stops early.
+ * No tokens are returned after {@link #close()} method call.
+ */
+public class PipelinedLexer implements ILexer, ITokenCursor {
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final int DEFAULT_BATCH_SIZE = 1 << 9;
+    private static final int SPIN_COUNT = 128;
+    private static final int YIELD_COUNT = 256;
+    private static final long PARK_NANOS = 50_000L;
+
+    private final ILexer lexer;
+    private final TokenRingBuffer<TokenBuffer> filledBatches;
+    private final TokenRingBuffer<TokenBuffer> freeBatches;
+    private final TokenView tokenView;
+    private volatile boolean finished;
+    private volatile boolean closed;
+    private volatile LexerException failure;
+    private Thread producer;
+    private TokenBuffer currentBatch;
+    private int currentIndex;
+    private TokenBuffer nextBatch;
+
+    /**
+     * Overload of constructor that uses batches of default size.
+     *
+     * @param lexer    {@link ILexer} instance that is run on producer thread.
+     * @param capacity Count of batches (must be a positive power of two).
+     */
+    public PipelinedLexer(final ILexer lexer, final int capacity) {
+        this(lexer, capacity, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Class constructor that wraps passed lexer, creates ring buffers of passed capacity and preallocates batches.
+     *
+     * @param lexer     {@link ILexer} instance that is run on producer thread.
+     * @param capacity  Count of batches (must be a positive power of two).
+     * @param batchSize Maximal count of tokens in a single batch (must be positive).
+     */
+    public PipelinedLexer(final ILexer lexer, final int capacity, final int batchSize) {
+        this.lexer = lexer;
+        filledBatches = new TokenRingBuffer<>(capacity);
+        freeBatches = new TokenRingBuffer<>(capacity);
+        tokenView = new TokenView();
+
+        for (int i = 0; i < capacity; i++) {
+            freeBatches.offer(new TokenBuffer(batchSize));
+        }
+    }
+
+    /**
+     * Method that reports whether single {@link IToken} instance is available for reading.
+     * <p>
+     * If current batch is over, it returns that batch to producer thread (so lexeme views of its tokens
+     * become invalid) and waits until producer thread publishes the next batch or reaches the end of input.
+     *
+     * @return Boolean value that indicates the result of method work.
+     */
+    @Override
+    public boolean hasMoreTokens() {
+        if (closed) {
+            return false;
+        }
+
+        if (nextBatch != null || currentBatch != null && currentIndex + 1 < currentBatch.size()) {
+            return true;
+        }
+
+        releaseCurrentBatch();
+
+        if (producer == null) {
+            start();
+        }
+
+        int attempt = 0;
+
+        while (true) {
+            nextBatch = filledBatches.poll();
+
+            if (nextBatch != null) {
+                return true;
+            }
+
+            if (finished) {
+                nextBatch = filledBatches.poll();
+                return nextBatch != null || failure != null;
+            }
+
+            if (closed) {
+                return false;
+            }
+
+            idle(attempt++);
+        }
+    }
+
+    /**
+     * Method that returns a single {@link IToken} instance.
+     *
+     * @return Single {@link IToken} instance.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public IToken readToken() throws LexerException {
+        if (!hasMoreTokens()) {
+            throw new LexerException("No tokens available for reading");
+        }
+
+        moveToNextToken();
+        return new Token(currentBatch.getKind(currentIndex), currentBatch.getLexeme(currentIndex));
+    }
+
+    /**
+     * Method that returns a single reusable {@link IToken} instance which lexeme is a view of the current batch.
+     * <p>
+     * Returned instance (and its lexeme view) is valid only until the next call of {@link #hasMoreTokens()} method
+     * or until the next token is read.
+     *
+     * @return Single {@link IToken} instance that is valid until the next token is read.
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public IToken readTokenView() throws LexerException {
+        if (!hasMoreTokens()) {
+            throw new LexerException("No tokens available for reading");
+        }
+
+        moveToNextToken();
+        tokenView.set(currentBatch.getKind(currentIndex), currentBatch.getLexemeView(currentIndex));
+        return tokenView;
+    }
+
+    /**
+     * Method that moves cursor to the next token.
+     *
+     * @return Boolean value that indicates whether cursor points to the next token (false if input is over).
+     * @throws LexerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public boolean advance() throws LexerException {
+        if (!hasMoreTokens()) {
+            releaseCurrentBatch();
+            return false;
+        }
+
+        moveToNextToken();
+        return true;
+    }
+
+    /**
+     * Method that returns kind of the current token.
+     *
+     * @return {@link TokenKind} value that represents kind of the current token (or null if there is no current token).
+     */
+    @Override
+    public TokenKind getKind() {
+        return currentBatch == null ? null : currentBatch.getKind(currentIndex);
+    }
+
+    /**
+     * Method that returns lexeme of the current token as a view of the current batch.
+     *
+     * @return {@link CharSequence} instance that represents lexeme of the current token
+     * (or null if there is no current token).
+     */
+    @Override
+    public CharSequence getLexemeView() {
+        return currentBatch == null ? null : currentBatch.getLexemeView(currentIndex);
+    }
+
+    /**
+     * Method that stops producer thread if it is still running.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+    }
+
+    /**
+     * Private method that moves to the next token of the current batch or to the first token of the next batch.
+     * It must be called only if {@link #hasMoreTokens()} method returns true.
+     *
+     * @throws LexerException Exception of wrapped lexer if all tokens read before it are already returned.
+     */
+    private void moveToNextToken() throws LexerException {
+        if (currentBatch != null && currentIndex + 1 < currentBatch.size()) {
+            currentIndex++;
+            return;
+        }
+
+        if (nextBatch == null) {
+            releaseCurrentBatch();
+            final LexerException exception = failure;
+            failure = null;
+            throw exception;
+        }
+
+        releaseCurrentBatch();
+        currentBatch = nextBatch;
+        currentIndex = 0;
+        nextBatch = null;
+    }
+
+    /**
+     * Private method that returns the current batch to producer thread, so it can be filled again.
+     */
+    private void releaseCurrentBatch() {
+        if (currentBatch != null) {
+            freeBatches.offer(currentBatch);
+            currentBatch = null;
+        }
+    }
+
+    /**
+     * Private method that starts producer thread.
+     */
+    private void start() {
+        producer = new Thread(this::produce, "formatter-lexer-" + THREAD_COUNTER.incrementAndGet());
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * Private method that is run on producer thread: fills free batches by wrapped lexer and publishes them.
+     * <p>
+     * Offers to ring buffers never fail, because count of batches equals capacity of each ring buffer.
+     */
+    private void produce() {
+        TokenBuffer batch = null;
+
+        try {
+            while (!closed) {
+                batch = takeFreeBatch();
+
+                if (batch == null || lexer.readTokens(batch) == 0) {
+                    return;
+                }
+
+                filledBatches.offer(batch);
+                batch = null;
+            }
+        } catch (LexerException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            failure = new LexerException("Unexpected exception on lexer thread", e);
+        } finally {
+            if (batch != null && batch.size() > 0) {
+                filledBatches.offer(batch);
+            }
+
+            finished = true;
+        }
+    }
+
+    /**
+     * Private method that waits until consumer returns a batch. It is run on producer thread.
+     *
+     * @return {@link TokenBuffer} instance to be filled or null if pipeline is closed.
+     */
+    private TokenBuffer takeFreeBatch() {
+        int attempt = 0;
+
+        while (!closed) {
+            final TokenBuffer batch = freeBatches.poll();
+
+            if (batch != null) {
+                return batch;
+            }
+
+            idle(attempt++);
+        }
+
+        return null;
+    }
+
+    /**
+     * Private method that waits a bit while the other side of pipeline makes progress.
+     *
+     * @param attempt Number of the current unsuccessful attempt.
+     */
+    private static void idle(final int attempt) {
+        if (attempt < SPIN_COUNT) {
+            Thread.onSpinWait();
+        } else if (attempt < SPIN_COUNT + YIELD_COUNT) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
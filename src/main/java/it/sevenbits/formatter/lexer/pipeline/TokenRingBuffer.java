@@ -0,0 +1,96 @@
+package it.sevenbits.formatter.lexer.pipeline;
+
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenBuffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free ring buffer of tokens (e.g. {@link IToken} instances or {@link TokenBuffer} batches)
+ * for exactly one producer thread and exactly one consumer thread.
+ * <p>
+ * Slots are preallocated once, and capacity is a power of two, so slot index is computed by masking.
+ * Producer and consumer publish their positions with ordered writes and cache the position of each other,
+ * so the shared positions are read only when the buffer looks full (for producer) or empty (for consumer).
+ *
+ * @param <T> Type of elements of buffer.
+ */
+public final class TokenRingBuffer<T> {
+    private final Object[] slots;
+    private final int mask;
+    private final AtomicLong readPosition;
+    private final AtomicLong writePosition;
+    private long producerPosition;
+    private long cachedReadPosition;
+    private long consumerPosition;
+    private long cachedWritePosition;
+
+    /**
+     * Class constructor that preallocates slots of buffer.
+     *
+     * @param capacity Count of slots (must be a positive power of two).
+     */
+    public TokenRingBuffer(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+
+        slots = new Object[capacity];
+        mask = capacity - 1;
+        readPosition = new AtomicLong();
+        writePosition = new AtomicLong();
+    }
+
+    /**
+     * Method that puts element to buffer. It must be called by producer thread only.
+     *
+     * @param element Element to put.
+     * @return Boolean value that indicates whether element is put (false if buffer is full).
+     */
+    public boolean offer(final T element) {
+        if (producerPosition - cachedReadPosition == slots.length) {
+            cachedReadPosition = readPosition.get();
+
+            if (producerPosition - cachedReadPosition == slots.length) {
+                return false;
+            }
+        }
+
+        slots[(int) producerPosition & mask] = element;
+        producerPosition++;
+        writePosition.lazySet(producerPosition);
+        return true;
+    }
+
+    /**
+     * Method that takes element from buffer. It must be called by consumer thread only.
+     *
+     * @return Element or null if buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (consumerPosition == cachedWritePosition) {
+            cachedWritePosition = writePosition.get();
+
+            if (consumerPosition == cachedWritePosition) {
+                return null;
+            }
+        }
+
+        final int index = (int) consumerPosition & mask;
+        final T element = (T) slots[index];
+        slots[index] = null;
+        consumerPosition++;
+        readPosition.lazySet(consumerPosition);
+        return element;
+    }
+
+    /**
+     * Method that returns count of slots of buffer.
+     *
+     * @return Count of slots.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * This package contains components of two-stage pipeline in which lexical analysis runs on a separate thread
+ * and passes batches of tokens to formatting thread through a bounded lock-free single-producer/single-consumer
+ * ring buffer.
+ *
+ * @author hu553in
+ * @see <a href="https://en.wikipedia.org/wiki/Circular_buffer">Circular buffer - Wikipedia</a>
+ */
+package it.sevenbits.formatter.lexer.pipeline;
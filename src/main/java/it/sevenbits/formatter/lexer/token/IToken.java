@@ -4,8 +4,18 @@ package it.sevenbits.formatter.lexer.token;
  * Interface that declares a functionality for lexical token.
  */
 public interface IToken {
+    /**
+     * Method that returns token kind.
+     *
+     * @return {@link TokenKind} value that represents kind of token.
+     */
+    TokenKind getKind();
+
     /**
      * Method that returns token name.
+     * <p>
+     * Token name is a compatibility view of token kind, so prefer {@link #getKind()} method
+     * for token classification.
      *
      * @return {@link String} instance that represents name of token.
      */
@@ -17,4 +27,17 @@ public interface IToken {
      * @return {@link String} instance that represents lexeme.
      */
     String getLexeme();
+
+    /**
+     * Method that returns lexeme as {@link CharSequence} instance.
+     * <p>
+     * Tokens that are returned by {@link it.sevenbits.formatter.lexer.ILexer#readTokenView()} method may return
+     * a view of lexer buffer that is valid only until the next token is read, so it should be either consumed
+     * at once or converted to {@link String} instance. Default implementation returns {@link #getLexeme()}.
+     *
+     * @return {@link CharSequence} instance that represents lexeme.
+     */
+    default CharSequence getLexemeView() {
+        return getLexeme();
+    }
 }
@@ -4,17 +4,17 @@ package it.sevenbits.formatter.lexer.token;
  * Implementation of {@link IToken} interface that represents a lexical token.
  */
 public class Token implements IToken {
-    private final String name;
+    private final TokenKind kind;
     private final String lexeme;
 
     /**
      * Overload of constructor that initializes {@link #lexeme} with passed {@link String} instance.
      *
-     * @param name   {@link String} instance that represents name of token.
+     * @param kind   {@link TokenKind} value that represents kind of token.
      * @param lexeme {@link String} instance that represents lexeme.
      */
-    public Token(final String name, final String lexeme) {
-        this.name = name;
+    public Token(final TokenKind kind, final String lexeme) {
+        this.kind = kind;
         this.lexeme = lexeme;
     }
 
@@ -22,21 +22,31 @@ public class Token implements IToken {
      * Overload of constructor that initializes {@link #lexeme} with passed single character
      * using {@link Character#toString()} method call.
      *
-     * @param name   {@link String} instance that represents name of token.
+     * @param kind   {@link TokenKind} value that represents kind of token.
      * @param lexeme Single character that represents lexeme.
      */
-    public Token(final String name, final char lexeme) {
-        this(name, Character.toString(lexeme));
+    public Token(final TokenKind kind, final char lexeme) {
+        this(kind, Character.toString(lexeme));
     }
 
     /**
-     * Method that returns {@link #name}.
+     * Method that returns {@link #kind}.
+     *
+     * @return {@link TokenKind} value that represents kind of token.
+     */
+    @Override
+    public TokenKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Method that returns name of {@link #kind}.
      *
      * @return {@link String} instance that represents name of token.
      */
     @Override
     public String getName() {
-        return name;
+        return kind == null ? null : kind.name();
     }
 
     /**
@@ -0,0 +1,184 @@
+package it.sevenbits.formatter.lexer.token;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Reusable batch of lexical tokens that is stored as parallel primitive arrays (struct of arrays):
+ * kind codes, start offsets and lengths of lexemes in a single shared array of characters.
+ * <p>
+ * Batch is filled by lexer at once (see {@link it.sevenbits.formatter.lexer.ILexer#readTokens(TokenBuffer)})
+ * and then iterated by index, so no object is created per token and tokens are read sequentially from memory.
+ * Batch is also a unit of work that is passed between threads, so it is not thread-safe itself
+ * and must be owned by a single thread at a time.
+ */
+public final class TokenBuffer {
+    private static final TokenKind[] KINDS = TokenKind.values();
+    private static final int AVERAGE_LEXEME_LENGTH = 8;
+
+    private final byte[] kinds;
+    private final int[] starts;
+    private final int[] lengths;
+    private char[] chars;
+    private CharBuffer charsView;
+    private int size;
+    private int charCount;
+
+    /**
+     * Class constructor that preallocates arrays of buffer.
+     *
+     * @param capacity Maximal count of tokens in buffer (must be positive).
+     */
+    public TokenBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        kinds = new byte[capacity];
+        starts = new int[capacity];
+        lengths = new int[capacity];
+        chars = new char[capacity * AVERAGE_LEXEME_LENGTH];
+    }
+
+    /**
+     * Method that removes all tokens from buffer, so it can be filled again. Arrays are kept.
+     */
+    public void clear() {
+        size = 0;
+        charCount = 0;
+    }
+
+    /**
+     * Method that appends token to buffer. Lexeme is copied to shared array of characters.
+     *
+     * @param kind   {@link TokenKind} value that represents kind of token.
+     * @param lexeme {@link CharSequence} instance that represents lexeme (may be a view of lexer buffer).
+     */
+    public void add(final TokenKind kind, final CharSequence lexeme) {
+        if (isFull()) {
+            throw new IllegalStateException("Token buffer is full");
+        }
+
+        final int length = lexeme.length();
+
+        if (charCount + length > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charCount + length));
+        }
+
+        if (lexeme instanceof CharBuffer && ((CharBuffer) lexeme).hasArray()) {
+            final CharBuffer charBuffer = (CharBuffer) lexeme;
+            System.arraycopy(charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position(), chars, charCount, length);
+        } else if (lexeme instanceof String) {
+            ((String) lexeme).getChars(0, length, chars, charCount);
+        } else if (lexeme instanceof StringBuilder) {
+            ((StringBuilder) lexeme).getChars(0, length, chars, charCount);
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[charCount + i] = lexeme.charAt(i);
+            }
+        }
+
+        kinds[size] = (byte) kind.ordinal();
+        starts[size] = charCount;
+        lengths[size] = length;
+        charCount += length;
+        size++;
+    }
+
+    /**
+     * Method that returns count of tokens in buffer.
+     *
+     * @return Count of tokens.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method that returns maximal count of tokens in buffer.
+     *
+     * @return Maximal count of tokens.
+     */
+    public int getCapacity() {
+        return kinds.length;
+    }
+
+    /**
+     * Method that reports whether buffer contains maximal count of tokens.
+     *
+     * @return Boolean value that indicates the result of method work.
+     */
+    public boolean isFull() {
+        return size == kinds.length;
+    }
+
+    /**
+     * Method that returns kind of token.
+     *
+     * @param index Index of token (must be less than {@link #size()}).
+     * @return {@link TokenKind} value that represents kind of token.
+     */
+    public TokenKind getKind(final int index) {
+        return KINDS[kinds[index]];
+    }
+
+    /**
+     * Method that returns offset of the first character of lexeme in shared array of characters.
+     *
+     * @param index Index of token (must be less than {@link #size()}).
+     * @return Offset of lexeme in array that is returned by {@link #getChars()} method.
+     */
+    public int getStart(final int index) {
+        return starts[index];
+    }
+
+    /**
+     * Method that returns length of lexeme.
+     *
+     * @param index Index of token (must be less than {@link #size()}).
+     * @return Count of characters in lexeme.
+     */
+    public int getLength(final int index) {
+        return lengths[index];
+    }
+
+    /**
+     * Method that returns shared array of characters that contains lexemes of all tokens one after another.
+     * <p>
+     * Returned array is valid only until the next token is added, because array may be reallocated.
+     *
+     * @return Shared array of characters.
+     */
+    public char[] getChars() {
+        return chars;
+    }
+
+    /**
+     * Method that returns copy of lexeme.
+     *
+     * @param index Index of token (must be less than {@link #size()}).
+     * @return {@link String} instance that represents lexeme.
+     */
+    public String getLexeme(final int index) {
+        return new String(chars, starts[index], lengths[index]);
+    }
+
+    /**
+     * Method that returns lexeme as a view of shared array of characters, so lexeme is not copied.
+     * <p>
+     * Returned instance is reused, so it is valid only until the next call of this method
+     * or until buffer is changed.
+     *
+     * @param index Index of token (must be less than {@link #size()}).
+     * @return {@link CharSequence} instance that represents lexeme.
+     */
+    public CharSequence getLexemeView(final int index) {
+        if (charsView == null || charsView.array() != chars) {
+            charsView = CharBuffer.wrap(chars);
+        }
+
+        final int start = starts[index];
+        charsView.limit(start + lengths[index]).position(start);
+        return charsView;
+    }
+}
@@ -0,0 +1,64 @@
+package it.sevenbits.formatter.lexer.token;
+
+/**
+ * Enumeration of all lexical token kinds that can be produced by lexers.
+ * <p>
+ * Token kind is the typed form of token name: name of every constant is exactly the token name
+ * that is returned by {@link IToken#getName()} method.
+ */
+public enum TokenKind {
+    /**
+     * Kind of token that presents opening curly brace.
+     */
+    OPENING_CURLY_BRACE,
+
+    /**
+     * Kind of token that presents closing curly brace.
+     */
+    CLOSING_CURLY_BRACE,
+
+    /**
+     * Kind of token that presents semicolon.
+     */
+    SEMICOLON,
+
+    /**
+     * Kind of token that presents newline.
+     */
+    NEWLINE,
+
+    /**
+     * Kind of token that presents tab.
+     */
+    TAB,
+
+    /**
+     * Kind of token that presents whitespace.
+     */
+    WHITESPACE,
+
+    /**
+     * Kind of token that presents any other lexeme.
+     */
+    OTHER,
+
+    /**
+     * Kind of token that presents single line comment.
+     */
+    SINGLE_LINE_COMMENT,
+
+    /**
+     * Kind of token that presents multiline comment.
+     */
+    MULTILINE_COMMENT,
+
+    /**
+     * Kind of token that presents character literal.
+     */
+    CHARACTER_LITERAL,
+
+    /**
+     * Kind of token that presents string literal.
+     */
+    STRING_LITERAL
+}
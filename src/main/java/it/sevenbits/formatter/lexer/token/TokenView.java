@@ -0,0 +1,64 @@
+package it.sevenbits.formatter.lexer.token;
+
+/**
+ * Implementation of {@link IToken} interface that represents a reusable lexical token
+ * which lexeme is a view of lexer buffer.
+ * <p>
+ * Instance is valid only until lexer reads the next token, so its lexeme should be either consumed at once
+ * or converted to {@link String} instance by {@link #getLexeme()} method.
+ */
+public final class TokenView implements IToken {
+    private TokenKind kind;
+    private CharSequence lexeme;
+
+    /**
+     * Method that sets kind and lexeme view of the current token.
+     *
+     * @param kind   {@link TokenKind} value that represents kind of token.
+     * @param lexeme {@link CharSequence} instance that represents lexeme.
+     */
+    public void set(final TokenKind kind, final CharSequence lexeme) {
+        this.kind = kind;
+        this.lexeme = lexeme;
+    }
+
+    /**
+     * Method that returns {@link #kind}.
+     *
+     * @return {@link TokenKind} value that represents kind of token.
+     */
+    @Override
+    public TokenKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Method that returns name of {@link #kind}.
+     *
+     * @return {@link String} instance that represents name of token.
+     */
+    @Override
+    public String getName() {
+        return kind == null ? null : kind.name();
+    }
+
+    /**
+     * Method that returns copy of {@link #lexeme}.
+     *
+     * @return {@link String} instance that represents lexeme.
+     */
+    @Override
+    public String getLexeme() {
+        return lexeme == null ? null : lexeme.toString();
+    }
+
+    /**
+     * Method that returns {@link #lexeme} without copying it.
+     *
+     * @return {@link CharSequence} instance that represents lexeme.
+     */
+    @Override
+    public CharSequence getLexemeView() {
+        return lexeme;
+    }
+}
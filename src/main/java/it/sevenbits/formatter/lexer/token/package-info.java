@@ -1,8 +1,9 @@
 /**
- * This package contains interface that declares functionality for lexical token as well as it's implementation.
+ * This package contains interface that declares functionality for lexical token as well as it's implementations
+ * (immutable token and reusable token view), reusable batch of tokens and enumeration of lexical token kinds.
  * <p>
  * Lexical token is a string with an assigned and thus identified meaning.
- * It is structured as a pair consisting of token name and lexeme.
+ * It is structured as a pair consisting of token kind (that also provides token name) and lexeme.
  *
  * @author hu553in
  * @see <a href="https://en.wikipedia.org/wiki/Lexical_analysis#Token">Lexical analysis - Wikipedia</a>
@@ -0,0 +1,294 @@
+package it.sevenbits.formatter.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.formatter.fsm.FSMFormatter;
+import it.sevenbits.formatter.io.reader.StreamReader;
+import it.sevenbits.formatter.io.writer.StreamWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link IFormatterServer} interface implementation that is built on JDK {@link HttpServer}.
+ * <p>
+ * Endpoints are:
+ * <ul>
+ * <li>"POST /format" - formats Java source code that is passed in UTF-8 encoded request body
+ * and streams formatted code back in response body;</li>
+ * <li>"GET /metrics" - returns {@link ServerMetrics} in plain text format.</li>
+ * </ul>
+ * Each request is served on its own virtual thread (see {@link ServerExecutors}), all requests share one
+ * {@link FSMFormatter} instance. Request body is read by {@link StreamReader} and response body is written
+ * by {@link StreamWriter} as formatting goes, so neither of them is kept in memory as a whole.
+ * <p>
+ * Admission is bounded by total size of bodies of requests which are being formatted: request which body
+ * does not fit into {@link #maxInFlightByteCount} together with requests in flight is rejected with
+ * "503 Service Unavailable" status, request which body alone does not fit is rejected with
+ * "413 Payload Too Large" status and request without "Content-Length" header is rejected with
+ * "411 Length Required" status. Failure of formatting is reported with "500 Internal Server Error" status
+ * if no part of response is sent yet, otherwise the response is cut.
+ */
+public class FormatterServer implements IFormatterServer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FormatterServer.class);
+    private static final long DEFAULT_MAX_IN_FLIGHT_BYTE_COUNT = 1L << 26;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final String FORMAT_PATH = "/format";
+    private static final String METRICS_PATH = "/metrics";
+    private static final String POST_METHOD = "POST";
+    private static final String GET_METHOD = "GET";
+    private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final int OK_STATUS = 200;
+    private static final int METHOD_NOT_ALLOWED_STATUS = 405;
+    private static final int LENGTH_REQUIRED_STATUS = 411;
+    private static final int PAYLOAD_TOO_LARGE_STATUS = 413;
+    private static final int INTERNAL_SERVER_ERROR_STATUS = 500;
+    private static final int SERVICE_UNAVAILABLE_STATUS = 503;
+
+    private final int port;
+    private final long maxInFlightByteCount;
+    private final IFormatter formatter;
+    private final ServerMetrics metrics;
+    private final AtomicLong inFlightByteCount;
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    /**
+     * Overload of constructor that initializes {@link #maxInFlightByteCount} with default value (64 MiB).
+     *
+     * @param port Port to be bound (0 means an ephemeral port).
+     */
+    public FormatterServer(final int port) {
+        this(port, DEFAULT_MAX_IN_FLIGHT_BYTE_COUNT);
+    }
+
+    /**
+     * Overload of constructor that initializes all private fields with passed values.
+     *
+     * @param port                 Port to be bound (0 means an ephemeral port).
+     * @param maxInFlightByteCount Maximum total size of bodies of requests which are being formatted.
+     */
+    public FormatterServer(final int port, final long maxInFlightByteCount) {
+        this.port = port;
+        this.maxInFlightByteCount = Math.max(maxInFlightByteCount, 1);
+        this.formatter = new FSMFormatter();
+        this.metrics = new ServerMetrics();
+        this.inFlightByteCount = new AtomicLong();
+    }
+
+    /**
+     * Method that starts service: binds its port and starts serving requests in background.
+     *
+     * @throws FormatterServerException Exception that can be thrown during the method work.
+     */
+    @Override
+    public synchronized void start() throws FormatterServerException {
+        if (httpServer != null) {
+            throw new FormatterServerException("Server is started already");
+        }
+
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new FormatterServerException("Unable to bind port " + port, e);
+        }
+
+        executor = ServerExecutors.newThreadPerRequestExecutor();
+        httpServer.setExecutor(executor);
+        httpServer.createContext(FORMAT_PATH, this::handleFormat);
+        httpServer.createContext(METRICS_PATH, this::handleMetrics);
+        httpServer.start();
+    }
+
+    /**
+     * Method that stops service. Requests that are being served are given a short time to complete.
+     */
+    @Override
+    public synchronized void stop() {
+        if (httpServer == null) {
+            return;
+        }
+
+        httpServer.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+    }
+
+    /**
+     * Method that returns port which service is bound to.
+     *
+     * @return Port number.
+     */
+    @Override
+    public synchronized int getPort() {
+        return httpServer == null ? port : httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Method that returns metrics of served requests.
+     *
+     * @return {@link ServerMetrics} instance.
+     */
+    @Override
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Private method that handles request to format endpoint.
+     *
+     * @param exchange {@link HttpExchange} instance that presents request and response.
+     */
+    private void handleFormat(final HttpExchange exchange) {
+        try {
+            if (!POST_METHOD.equals(exchange.getRequestMethod())) {
+                sendText(exchange, METHOD_NOT_ALLOWED_STATUS, "Only POST method is allowed");
+                return;
+            }
+
+            final long contentLength;
+
+            try {
+                contentLength = Long.parseLong(String.valueOf(exchange.getRequestHeaders().getFirst(CONTENT_LENGTH_HEADER)));
+            } catch (NumberFormatException e) {
+                sendText(exchange, LENGTH_REQUIRED_STATUS, "Content-Length header is required");
+                return;
+            }
+
+            if (contentLength < 0 || contentLength > maxInFlightByteCount) {
+                sendText(exchange, PAYLOAD_TOO_LARGE_STATUS, "Request body is too large");
+                return;
+            }
+
+            if (!acquire(contentLength)) {
+                metrics.recordRejection();
+                exchange.getResponseHeaders().set(RETRY_AFTER_HEADER, RETRY_AFTER_SECONDS);
+                sendText(exchange, SERVICE_UNAVAILABLE_STATUS, "Server is busy");
+                return;
+            }
+
+            try {
+                format(exchange, contentLength);
+            } finally {
+                inFlightByteCount.addAndGet(-contentLength);
+            }
+        } catch (IOException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Private method that formats request body to response body and records request to {@link #metrics}.
+     * <p>
+     * Formatted body is flushed to the client before request is recorded, so recorded latency includes writing
+     * of response and request is counted as successful only if the whole body is sent. Request is recorded
+     * before response is completed by closing, so client that has received the response always finds it
+     * in metrics. Exception thrown by flushing or closing counts request as failed.
+     *
+     * @param exchange      {@link HttpExchange} instance that presents request and response.
+     * @param contentLength Size of request body in bytes.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private void format(final HttpExchange exchange, final long contentLength) throws IOException {
+        final long startNanos = System.nanoTime();
+        final ResponseOutputStream responseOutputStream = new ResponseOutputStream(exchange);
+        boolean recorded = false;
+
+        try {
+            exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, TEXT_CONTENT_TYPE);
+            final StreamWriter writer = new StreamWriter(responseOutputStream);
+            formatter.format(new StreamReader(exchange.getRequestBody()), writer);
+            writer.flush();
+            metrics.recordRequest(System.nanoTime() - startNanos, contentLength, true);
+            recorded = true;
+
+            try {
+                writer.close();
+            } catch (IOException e) {
+                metrics.recordLateFailure(contentLength);
+                throw e;
+            }
+        } catch (FormatterException | IOException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+
+            if (!responseOutputStream.isCommitted()) {
+                sendText(exchange, INTERNAL_SERVER_ERROR_STATUS, e.getMessage());
+            }
+        } finally {
+            if (!recorded) {
+                metrics.recordRequest(System.nanoTime() - startNanos, contentLength, false);
+            }
+        }
+    }
+
+    /**
+     * Private method that handles request to metrics endpoint.
+     *
+     * @param exchange {@link HttpExchange} instance that presents request and response.
+     */
+    private void handleMetrics(final HttpExchange exchange) {
+        try {
+            if (!GET_METHOD.equals(exchange.getRequestMethod())) {
+                sendText(exchange, METHOD_NOT_ALLOWED_STATUS, "Only GET method is allowed");
+                return;
+            }
+
+            sendText(exchange, OK_STATUS, metrics.toString());
+        } catch (IOException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Private method that tries to admit request with passed size of body.
+     *
+     * @param contentLength Size of request body in bytes.
+     * @return Boolean value that indicates whether request is admitted.
+     */
+    private boolean acquire(final long contentLength) {
+        while (true) {
+            final long currentCount = inFlightByteCount.get();
+
+            if (currentCount + contentLength > maxInFlightByteCount) {
+                return false;
+            }
+
+            if (inFlightByteCount.compareAndSet(currentCount, currentCount + contentLength)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Private method that sends complete plain text response.
+     *
+     * @param exchange {@link HttpExchange} instance that presents request and response.
+     * @param status   HTTP status code.
+     * @param text     {@link String} instance that presents response body.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static void sendText(final HttpExchange exchange, final int status, final String text) throws IOException {
+        final byte[] bytes = String.valueOf(text).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, TEXT_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
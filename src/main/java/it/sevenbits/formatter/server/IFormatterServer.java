@@ -0,0 +1,32 @@
+package it.sevenbits.formatter.server;
+
+/**
+ * Interface that declares a functionality for embedded HTTP formatting service.
+ */
+public interface IFormatterServer {
+    /**
+     * Method that starts service: binds its port and starts serving requests in background.
+     *
+     * @throws FormatterServerException Exception that can be thrown during the method work.
+     */
+    void start() throws FormatterServerException;
+
+    /**
+     * Method that stops service. Requests that are being served are given a short time to complete.
+     */
+    void stop();
+
+    /**
+     * Method that returns port which service is bound to (useful if it is started on an ephemeral port).
+     *
+     * @return Port number.
+     */
+    int getPort();
+
+    /**
+     * Method that returns metrics of served requests.
+     *
+     * @return {@link ServerMetrics} instance.
+     */
+    ServerMetrics getMetrics();
+}
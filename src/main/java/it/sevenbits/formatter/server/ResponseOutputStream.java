@@ -0,0 +1,99 @@
+package it.sevenbits.formatter.server;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Class that presents body of successful streamed response.
+ * <p>
+ * Response headers are sent only when the first byte of body is written (or stream is closed),
+ * so failure that happens before that can still be reported with an error status.
+ */
+class ResponseOutputStream extends OutputStream {
+    private static final int OK_STATUS = 200;
+    private static final long CHUNKED_LENGTH = 0;
+
+    private final HttpExchange exchange;
+    private OutputStream body;
+
+    /**
+     * Class constructor that initializes {@link #exchange} with passed value.
+     *
+     * @param exchange {@link HttpExchange} instance that presents request and response.
+     */
+    ResponseOutputStream(final HttpExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    /**
+     * Method that reports whether response headers are sent already.
+     *
+     * @return Boolean value that indicates result of the method work.
+     */
+    boolean isCommitted() {
+        return body != null;
+    }
+
+    /**
+     * Private method that sends response headers if they are not sent yet and returns response body stream.
+     *
+     * @return {@link OutputStream} instance that presents response body.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private OutputStream commit() throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(OK_STATUS, CHUNKED_LENGTH);
+            body = exchange.getResponseBody();
+        }
+
+        return body;
+    }
+
+    /**
+     * Overload of method that writes a single byte.
+     *
+     * @param value Byte to be written.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        commit().write(value);
+    }
+
+    /**
+     * Overload of method that writes a part of an array of bytes.
+     *
+     * @param bytes  Array of bytes which part is to be written.
+     * @param offset Index of the first byte to be written.
+     * @param length Count of bytes to be written.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        commit().write(bytes, offset, length);
+    }
+
+    /**
+     * Method that flushes response body if response headers are sent already.
+     *
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (body != null) {
+            body.flush();
+        }
+    }
+
+    /**
+     * Method that sends response headers if they are not sent yet and then closes response body.
+     *
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    @Override
+    public void close() throws IOException {
+        commit().close();
+    }
+}
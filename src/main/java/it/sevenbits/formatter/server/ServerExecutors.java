@@ -0,0 +1,45 @@
+package it.sevenbits.formatter.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class that creates executors which run each request on its own thread.
+ * <p>
+ * Virtual threads are available in Java 21 and newer, while the application is built for Java 11,
+ * so "Executors.newVirtualThreadPerTaskExecutor()" method is accessed reflectively. On older runtimes
+ * a cached pool of daemon platform threads is used instead.
+ */
+final class ServerExecutors {
+    private static final String VIRTUAL_EXECUTOR_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * A private constructor created to exclude the possibility of creating instances of this class.
+     */
+    private ServerExecutors() {
+    }
+
+    /**
+     * Method that creates executor which runs each task on a new virtual thread if it is possible
+     * or on a pooled platform thread otherwise.
+     *
+     * @return {@link ExecutorService} instance.
+     */
+    static ExecutorService newThreadPerRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD_NAME).invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            final ThreadFactory threadFactory = (runnable) -> {
+                final Thread thread = new Thread(runnable, "formatter-server-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package it.sevenbits.formatter.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class that collects metrics of requests served by formatting service.
+ * <p>
+ * Latencies are counted in a histogram with power-of-two buckets of microseconds (bucket i holds latencies
+ * in range [2^(i-1), 2^i) microseconds), so recording takes constant time without locking and percentiles
+ * are reported as upper bounds of buckets, i.e. with an error of at most two times.
+ */
+public final class ServerMetrics {
+    private static final int BUCKET_COUNT = Long.SIZE;
+    private static final double[] REPORTED_PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] REPORTED_PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+    private static final double PERCENT = 100.0;
+
+    private final LongAdder formattedRequestCount;
+    private final LongAdder failedRequestCount;
+    private final LongAdder rejectedRequestCount;
+    private final LongAdder formattedByteCount;
+    private final LongAdder totalLatencyMicros;
+    private final AtomicLong maxLatencyMicros;
+    private final AtomicLongArray latencyBuckets;
+
+    /**
+     * Class constructor that initializes all counters with zeros.
+     */
+    public ServerMetrics() {
+        formattedRequestCount = new LongAdder();
+        failedRequestCount = new LongAdder();
+        rejectedRequestCount = new LongAdder();
+        formattedByteCount = new LongAdder();
+        totalLatencyMicros = new LongAdder();
+        maxLatencyMicros = new AtomicLong();
+        latencyBuckets = new AtomicLongArray(BUCKET_COUNT);
+    }
+
+    /**
+     * Method that records served request.
+     *
+     * @param latencyNanos Latency of request in nanoseconds.
+     * @param byteCount    Size of request body in bytes.
+     * @param success      Boolean value that indicates whether request is served successfully.
+     */
+    void recordRequest(final long latencyNanos, final long byteCount, final boolean success) {
+        final long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+
+        if (success) {
+            formattedRequestCount.increment();
+            formattedByteCount.add(byteCount);
+        } else {
+            failedRequestCount.increment();
+        }
+
+        totalLatencyMicros.add(latencyMicros);
+        maxLatencyMicros.accumulateAndGet(latencyMicros, Math::max);
+        latencyBuckets.incrementAndGet(BUCKET_COUNT - Long.numberOfLeadingZeros(latencyMicros));
+    }
+
+    /**
+     * Method that moves request that is already recorded as successful to failed ones
+     * (e.g. if response could not be completed after it is recorded). Its latency is kept.
+     *
+     * @param byteCount Size of request body in bytes.
+     */
+    void recordLateFailure(final long byteCount) {
+        formattedRequestCount.decrement();
+        formattedByteCount.add(-byteCount);
+        failedRequestCount.increment();
+    }
+
+    /**
+     * Method that records request that is rejected by admission limit.
+     */
+    void recordRejection() {
+        rejectedRequestCount.increment();
+    }
+
+    /**
+     * Method that returns count of successfully served requests.
+     *
+     * @return Count of requests.
+     */
+    public long getFormattedRequestCount() {
+        return formattedRequestCount.sum();
+    }
+
+    /**
+     * Method that returns count of requests which are failed to be served.
+     *
+     * @return Count of requests.
+     */
+    public long getFailedRequestCount() {
+        return failedRequestCount.sum();
+    }
+
+    /**
+     * Method that returns count of requests which are rejected by admission limit.
+     *
+     * @return Count of requests.
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequestCount.sum();
+    }
+
+    /**
+     * Method that returns total size of bodies of successfully served requests.
+     *
+     * @return Size in bytes.
+     */
+    public long getFormattedByteCount() {
+        return formattedByteCount.sum();
+    }
+
+    /**
+     * Method that returns maximum latency of served requests.
+     *
+     * @return Latency in microseconds.
+     */
+    public long getMaxLatencyMicros() {
+        return maxLatencyMicros.get();
+    }
+
+    /**
+     * Method that returns upper bound of passed percentile of latencies of served requests.
+     *
+     * @param percentile Percentile in range from 0 to 100.
+     * @return Latency in microseconds or 0 if no requests are served.
+     */
+    public long getLatencyPercentileMicros(final double percentile) {
+        long totalCount = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            totalCount += latencyBuckets.get(i);
+        }
+
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max((long) Math.ceil(totalCount * percentile / PERCENT), 1);
+        long count = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += latencyBuckets.get(i);
+
+            if (count >= rank) {
+                return Math.min(i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << i, getMaxLatencyMicros());
+            }
+        }
+
+        return getMaxLatencyMicros();
+    }
+
+    /**
+     * Method that returns presentation of metrics in plain text format with one "name value" pair per line.
+     *
+     * @return {@link String} instance that presents metrics.
+     */
+    @Override
+    public String toString() {
+        final long servedRequestCount = getFormattedRequestCount() + getFailedRequestCount();
+        final StringBuilder stringBuilder = new StringBuilder()
+                .append("formatted_requests ").append(getFormattedRequestCount()).append('\n')
+                .append("failed_requests ").append(getFailedRequestCount()).append('\n')
+                .append("rejected_requests ").append(getRejectedRequestCount()).append('\n')
+                .append("formatted_bytes ").append(getFormattedByteCount()).append('\n')
+                .append("latency_mean_us ")
+                .append(servedRequestCount == 0 ? 0 : totalLatencyMicros.sum() / servedRequestCount).append('\n');
+
+        for (int i = 0; i < REPORTED_PERCENTILES.length; i++) {
+            stringBuilder.append("latency_").append(REPORTED_PERCENTILE_NAMES[i]).append("_us ")
+                    .append(getLatencyPercentileMicros(REPORTED_PERCENTILES[i])).append('\n');
+        }
+
+        return stringBuilder.append("latency_max_us ").append(getMaxLatencyMicros()).append('\n').toString();
+    }
+}
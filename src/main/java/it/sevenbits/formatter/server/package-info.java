@@ -0,0 +1,10 @@
+/**
+ * This package contains interface that declares functionality for embedded HTTP formatting service as well as
+ * it's implementation and metrics of served requests.
+ * <p>
+ * Service accepts Java source code in request body and streams formatted code back, so it can be called
+ * by code review bots and other tools without starting the application for each request.
+ *
+ * @author hu553in
+ */
+package it.sevenbits.formatter.server;
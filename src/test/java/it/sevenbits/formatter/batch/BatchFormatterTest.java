@@ -0,0 +1,209 @@
+package it.sevenbits.formatter.batch;
+
+import it.sevenbits.formatter.cache.FormatCache;
+import it.sevenbits.formatter.cache.FormatCacheException;
+import it.sevenbits.formatter.fixture.FormattingFixtures;
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.fsm.FSMFormatter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static it.sevenbits.formatter.fixture.FormattingFixtures.format;
+
+public class BatchFormatterTest {
+    private static final String FIRST_SOURCE = FormattingFixtures.SOURCE;
+    private static final String SECOND_SOURCE = "class B{}";
+
+    private TemporaryFolder temporaryFolder;
+    private Path sourceDirectory;
+    private IBatchFormatter batchFormatter;
+
+    @Before
+    public void setUp() throws IOException {
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+        sourceDirectory = temporaryFolder.newFolder("src").toPath();
+
+        Files.createDirectories(sourceDirectory.resolve("a/b"));
+        write(sourceDirectory.resolve("a/A.java"), FIRST_SOURCE);
+        write(sourceDirectory.resolve("a/b/B.java"), SECOND_SOURCE);
+        write(sourceDirectory.resolve("a/b/notes.txt"), SECOND_SOURCE);
+
+        batchFormatter = new BatchFormatter(new FSMFormatter(), 2);
+    }
+
+    @Test
+    public void shouldFormatDirectoryToMirroredTree() throws IOException, FormatterException, BatchFormatterException {
+        final Path outputDirectory = temporaryFolder.getRoot().toPath().resolve("out");
+
+        final BatchSummary summary = batchFormatter.format(
+                Collections.singletonList(sourceDirectory.toString()),
+                outputDirectory
+        );
+
+        Assert.assertEquals(2, summary.getFormattedFileCount());
+        Assert.assertEquals(0, summary.getFailedFileCount());
+        Assert.assertEquals(format(FIRST_SOURCE), read(outputDirectory.resolve("a/A.java")));
+        Assert.assertEquals(format(SECOND_SOURCE), read(outputDirectory.resolve("a/b/B.java")));
+        Assert.assertFalse(Files.exists(outputDirectory.resolve("a/b/notes.txt")));
+        Assert.assertEquals(FIRST_SOURCE, read(sourceDirectory.resolve("a/A.java")));
+    }
+
+    @Test
+    public void shouldFormatGlobInPlace() throws IOException, FormatterException, BatchFormatterException {
+        final BatchSummary summary = batchFormatter.format(
+                Arrays.asList(sourceDirectory + "/**/b/*.java", sourceDirectory.resolve("a/b/B.java").toString()),
+                null
+        );
+
+        Assert.assertEquals(1, summary.getFormattedFileCount());
+        Assert.assertEquals(format(SECOND_SOURCE), read(sourceDirectory.resolve("a/b/B.java")));
+        Assert.assertEquals(FIRST_SOURCE, read(sourceDirectory.resolve("a/A.java")));
+
+        try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+            Assert.assertEquals(6, paths.count());
+        }
+    }
+
+    @Test
+    public void shouldLeaveFormattedFilesUntouched() throws IOException, FormatterException, BatchFormatterException {
+        final FileTime oldTime = FileTime.fromMillis(1000000000000L);
+        final Path firstPath = sourceDirectory.resolve("a/A.java");
+        final Path secondPath = sourceDirectory.resolve("a/b/B.java");
+        write(secondPath, format(SECOND_SOURCE));
+        Files.setLastModifiedTime(firstPath, oldTime);
+        Files.setLastModifiedTime(secondPath, oldTime);
+
+        final BatchSummary summary = batchFormatter.format(Collections.singletonList(sourceDirectory.toString()), null);
+
+        Assert.assertEquals(2, summary.getFormattedFileCount());
+        Assert.assertEquals(1, summary.getUnchangedFileCount());
+        Assert.assertEquals(format(FIRST_SOURCE), read(firstPath));
+        Assert.assertNotEquals(oldTime, Files.getLastModifiedTime(firstPath));
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(secondPath));
+
+        try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+            Assert.assertEquals(6, paths.count());
+        }
+    }
+
+    @Test
+    public void shouldCheckFilesWithoutModifyingThem() throws IOException, FormatterException, BatchFormatterException {
+        write(sourceDirectory.resolve("a/b/B.java"), format(SECOND_SOURCE));
+
+        final CheckSummary summary = batchFormatter.check(Collections.singletonList(sourceDirectory.toString()));
+
+        Assert.assertEquals(2, summary.getCheckedFileCount());
+        Assert.assertEquals(1, summary.getMismatchedFileCount());
+        Assert.assertEquals(0, summary.getFailedFileCount());
+        Assert.assertFalse(summary.isPassed());
+        Assert.assertTrue(summary.getMismatches().get(0).contains("A.java"));
+        Assert.assertEquals(FIRST_SOURCE, read(sourceDirectory.resolve("a/A.java")));
+
+        write(sourceDirectory.resolve("a/A.java"), format(FIRST_SOURCE));
+
+        Assert.assertTrue(batchFormatter.check(Collections.singletonList(sourceDirectory.toString())).isPassed());
+
+        try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+            Assert.assertEquals(6, paths.count());
+        }
+    }
+
+    @Test
+    public void shouldSkipFilesThatAreKnownToBeFormatted()
+            throws IOException, FormatterException, BatchFormatterException, FormatCacheException {
+        final Path cacheFile = temporaryFolder.getRoot().toPath().resolve("cache/format.cache");
+        final List<String> inputPaths = Collections.singletonList(sourceDirectory.toString());
+
+        FormatCache formatCache = new FormatCache(cacheFile, 1);
+        BatchSummary summary = new BatchFormatter(new FSMFormatter(), 2, formatCache).format(inputPaths, null);
+        Assert.assertEquals(2, summary.getFormattedFileCount());
+        Assert.assertEquals(0, summary.getSkippedFileCount());
+        formatCache.save();
+
+        formatCache = new FormatCache(cacheFile, 1);
+        summary = new BatchFormatter(new FSMFormatter(), 2, formatCache).format(inputPaths, null);
+        Assert.assertEquals(2, summary.getFormattedFileCount());
+        Assert.assertEquals(0, summary.getSkippedFileCount());
+        formatCache.save();
+
+        write(sourceDirectory.resolve("a/A.java"), SECOND_SOURCE);
+        formatCache = new FormatCache(cacheFile, 1);
+        summary = new BatchFormatter(new FSMFormatter(), 2, formatCache).format(inputPaths, null);
+        Assert.assertEquals(1, summary.getFormattedFileCount());
+        Assert.assertEquals(1, summary.getSkippedFileCount());
+        Assert.assertEquals(format(SECOND_SOURCE), read(sourceDirectory.resolve("a/A.java")));
+
+        formatCache = new FormatCache(cacheFile, 2);
+        summary = new BatchFormatter(new FSMFormatter(), 2, formatCache).format(inputPaths, null);
+        Assert.assertEquals(2, summary.getFormattedFileCount());
+        Assert.assertEquals(0, summary.getSkippedFileCount());
+    }
+
+    @Test
+    public void shouldSkipFilesWhoseOutputIsUpToDate()
+            throws IOException, FormatterException, BatchFormatterException, FormatCacheException {
+        final Path outputDirectory = temporaryFolder.getRoot().toPath().resolve("out");
+        final List<String> inputPaths = Collections.singletonList(sourceDirectory.toString());
+        final FormatCache formatCache = new FormatCache(temporaryFolder.getRoot().toPath().resolve("format.cache"), 1);
+        final IBatchFormatter cachingBatchFormatter = new BatchFormatter(new FSMFormatter(), 2, formatCache);
+
+        Assert.assertEquals(2, cachingBatchFormatter.format(inputPaths, outputDirectory).getFormattedFileCount());
+        Assert.assertEquals(2, cachingBatchFormatter.format(inputPaths, outputDirectory).getSkippedFileCount());
+
+        write(outputDirectory.resolve("a/A.java"), FIRST_SOURCE);
+        final BatchSummary summary = cachingBatchFormatter.format(inputPaths, outputDirectory);
+        Assert.assertEquals(1, summary.getFormattedFileCount());
+        Assert.assertEquals(1, summary.getSkippedFileCount());
+        Assert.assertEquals(format(FIRST_SOURCE), read(outputDirectory.resolve("a/A.java")));
+    }
+
+    @Test
+    public void shouldFormatLargeFileInPlace() throws IOException, FormatterException, BatchFormatterException {
+        final StringBuilder source = new StringBuilder();
+
+        while (source.length() < 1 << 21) {
+            source.append(FIRST_SOURCE).append('\n');
+        }
+
+        final Path path = sourceDirectory.resolve("a/Large.java");
+        write(path, source.toString());
+
+        final BatchSummary summary = batchFormatter.format(Collections.singletonList(path.toString()), null);
+
+        Assert.assertEquals(1, summary.getFormattedFileCount());
+        Assert.assertEquals(0, summary.getFailedFileCount());
+        Assert.assertEquals(format(source.toString()), read(path));
+    }
+
+    @Test(expected = BatchFormatterException.class)
+    public void shouldThrowException() throws BatchFormatterException {
+        batchFormatter.format(Collections.singletonList(sourceDirectory.resolve("missing").toString()), null);
+    }
+
+    @After
+    public void tearDown() {
+        temporaryFolder.delete();
+    }
+
+    private static void write(final Path path, final String text) throws IOException {
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(final Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+package it.sevenbits.formatter.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class ContentHasherTest {
+    @Test
+    public void shouldNotDependOnPortionSizes() {
+        final byte[] bytes = new byte[1000];
+        new Random(1).nextBytes(bytes);
+        final ContentHash expected = ContentHash.of(bytes);
+
+        for (final int portionLength : new int[] {1, 3, 7, 8, 9, 64, 999}) {
+            final ContentHasher hasher = new ContentHasher();
+
+            for (int offset = 0; offset < bytes.length; offset += portionLength) {
+                hasher.update(bytes, offset, Math.min(portionLength, bytes.length - offset));
+            }
+
+            Assert.assertEquals(expected, hasher.finish());
+        }
+    }
+
+    @Test
+    public void shouldDistinguishSimilarContents() {
+        final Set<Long> hashes = new HashSet<>();
+
+        for (int length = 0; length < 64; length++) {
+            final byte[] bytes = new byte[length];
+            Assert.assertTrue(hashes.add(ContentHash.of(bytes).getHash()));
+
+            for (int i = 0; i < length; i++) {
+                bytes[i] = 1;
+                Assert.assertTrue(hashes.add(ContentHash.of(bytes).getHash()));
+                bytes[i] = 0;
+            }
+        }
+    }
+
+    @Test
+    public void shouldHashFileSameWayAsBytes() throws IOException {
+        final TemporaryFolder temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+
+        try {
+            final byte[] bytes = new byte[200000];
+            new Random(2).nextBytes(bytes);
+            final Path path = temporaryFolder.newFile().toPath();
+            Files.write(path, bytes);
+
+            final ContentHash contentHash = ContentHash.of(path);
+            Assert.assertEquals(ContentHash.of(bytes), contentHash);
+            Assert.assertEquals(bytes.length, contentHash.getLength());
+        } finally {
+            temporaryFolder.delete();
+        }
+    }
+}
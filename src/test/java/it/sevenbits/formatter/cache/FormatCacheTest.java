@@ -0,0 +1,119 @@
+package it.sevenbits.formatter.cache;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class FormatCacheTest {
+    private TemporaryFolder temporaryFolder;
+    private Path cacheFile;
+
+    @Before
+    public void setUp() throws IOException {
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+        cacheFile = temporaryFolder.getRoot().toPath().resolve("cache/format.cache");
+    }
+
+    @After
+    public void tearDown() {
+        temporaryFolder.delete();
+    }
+
+    private static ContentHash hash(final int value) {
+        return new ContentHash(value, value);
+    }
+
+    @Test
+    public void shouldPersistEntries() throws FormatCacheException {
+        final FormatCache formatCache = new FormatCache(cacheFile, 1);
+        Assert.assertNull(formatCache.getOutputHash(hash(1)));
+
+        formatCache.put(hash(1), hash(2));
+        formatCache.put(hash(3), hash(3));
+        formatCache.save();
+
+        final FormatCache loadedFormatCache = new FormatCache(cacheFile, 1);
+        Assert.assertEquals(hash(2), loadedFormatCache.getOutputHash(hash(1)));
+        Assert.assertEquals(hash(3), loadedFormatCache.getOutputHash(hash(3)));
+        Assert.assertNull(loadedFormatCache.getOutputHash(hash(2)));
+    }
+
+    @Test
+    public void shouldIgnoreEntriesOfAnotherFingerprint() throws FormatCacheException {
+        final FormatCache formatCache = new FormatCache(cacheFile, 1);
+        formatCache.put(hash(1), hash(2));
+        formatCache.save();
+
+        Assert.assertNull(new FormatCache(cacheFile, 2).getOutputHash(hash(1)));
+    }
+
+    @Test
+    public void shouldIgnoreDamagedFile() throws FormatCacheException, IOException {
+        final FormatCache formatCache = new FormatCache(cacheFile, 1);
+        formatCache.put(hash(1), hash(2));
+        formatCache.save();
+
+        final byte[] bytes = Files.readAllBytes(cacheFile);
+        Files.write(cacheFile, Arrays.copyOf(bytes, bytes.length - 1));
+
+        Assert.assertEquals(0, new FormatCache(cacheFile, 1).size());
+    }
+
+    @Test
+    public void shouldMergeEntriesSavedByOtherInstances() throws FormatCacheException {
+        final FormatCache first = new FormatCache(cacheFile, 1);
+        final FormatCache second = new FormatCache(cacheFile, 1);
+
+        first.put(hash(1), hash(2));
+        second.put(hash(3), hash(4));
+        first.save();
+        second.save();
+
+        final FormatCache loadedFormatCache = new FormatCache(cacheFile, 1);
+        Assert.assertEquals(hash(2), loadedFormatCache.getOutputHash(hash(1)));
+        Assert.assertEquals(hash(4), loadedFormatCache.getOutputHash(hash(3)));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntries() throws FormatCacheException {
+        final long[] now = {0};
+        final FormatCache formatCache = new FormatCache(cacheFile, 1, 2, () -> now[0]);
+
+        formatCache.put(hash(1), hash(1));
+        formatCache.put(hash(2), hash(2));
+        now[0] = 1;
+        formatCache.put(hash(3), hash(3));
+        now[0] = 2;
+        formatCache.getOutputHash(hash(1));
+        formatCache.save();
+
+        final FormatCache loadedFormatCache = new FormatCache(cacheFile, 1, 2);
+        Assert.assertEquals(2, loadedFormatCache.size());
+        Assert.assertEquals(hash(1), loadedFormatCache.getOutputHash(hash(1)));
+        Assert.assertNull(loadedFormatCache.getOutputHash(hash(2)));
+        Assert.assertEquals(hash(3), loadedFormatCache.getOutputHash(hash(3)));
+    }
+
+    @Test
+    public void shouldComputeStableFingerprint() throws FormatCacheException {
+        Assert.assertEquals(FormatterFingerprint.compute(), FormatterFingerprint.compute());
+    }
+
+    @Test(expected = FormatCacheException.class)
+    public void shouldThrowExceptionAtNullPath() throws FormatCacheException {
+        new FormatCache(null, 1);
+    }
+
+    @Test(expected = FormatCacheException.class)
+    public void shouldThrowExceptionAtNullClock() throws FormatCacheException {
+        new FormatCache(cacheFile, 1, 2, null);
+    }
+}
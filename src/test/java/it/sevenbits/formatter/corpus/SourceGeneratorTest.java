@@ -0,0 +1,78 @@
+package it.sevenbits.formatter.corpus;
+
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.fsm.FSMLexer;
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SourceGeneratorTest {
+    private static final int LENGTH = 20000;
+
+    @Test
+    public void shouldGenerateSameSourceForSameSeed() {
+        for (final CorpusProfile profile : CorpusProfile.values()) {
+            final String first = new SourceGenerator(42, profile.getTokenMix()).generate(LENGTH);
+            final String second = new SourceGenerator(42, profile.getTokenMix()).generate(LENGTH);
+            final String other = new SourceGenerator(43, profile.getTokenMix()).generate(LENGTH);
+
+            Assert.assertEquals(first, second);
+            Assert.assertNotEquals(first, other);
+            Assert.assertTrue(first.length() >= LENGTH);
+        }
+    }
+
+    @Test
+    public void shouldCloseAllOpenedBlocks() throws LexerException {
+        for (final CorpusProfile profile : CorpusProfile.values()) {
+            final String source = new SourceGenerator(7, profile.getTokenMix()).generate(LENGTH);
+            final ILexer lexer = new FSMLexer(new StringReader(source));
+            int depth = 0;
+            int maxDepth = 0;
+
+            while (lexer.hasMoreTokens()) {
+                final IToken token = lexer.readToken();
+
+                if (token.getKind() == TokenKind.OPENING_CURLY_BRACE) {
+                    depth++;
+                    maxDepth = Math.max(maxDepth, depth);
+                } else if (token.getKind() == TokenKind.CLOSING_CURLY_BRACE) {
+                    depth--;
+                }
+
+                Assert.assertTrue(depth >= 0);
+            }
+
+            Assert.assertEquals(0, depth);
+            Assert.assertTrue(maxDepth <= profile.getTokenMix().getMaxNestingDepth());
+        }
+    }
+
+    @Test
+    public void shouldGenerateMinifiedSourceOnSingleLine() {
+        final String source = new SourceGenerator(1, CorpusProfile.MINIFIED.getTokenMix()).generate(LENGTH);
+
+        Assert.assertEquals(-1, source.indexOf('\n'));
+    }
+
+    @Test
+    public void shouldFollowTokenMix() throws LexerException {
+        final TokenMix tokenMix = TokenMix.builder()
+                .setWeight(SourceElement.STRING_LITERAL, 1)
+                .setMinified(true)
+                .build();
+        final ILexer lexer = new FSMLexer(new StringReader(new SourceGenerator(1, tokenMix).generate(LENGTH)));
+
+        while (lexer.hasMoreTokens()) {
+            Assert.assertEquals(TokenKind.STRING_LITERAL, lexer.readToken().getKind());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionAtEmptyTokenMix() {
+        TokenMix.builder().build();
+    }
+}
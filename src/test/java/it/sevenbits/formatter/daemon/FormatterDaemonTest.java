@@ -0,0 +1,150 @@
+package it.sevenbits.formatter.daemon;
+
+import it.sevenbits.formatter.formatter.FormatterException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static it.sevenbits.formatter.fixture.FormattingFixtures.SOURCE;
+import static it.sevenbits.formatter.fixture.FormattingFixtures.format;
+
+public class FormatterDaemonTest {
+    private TemporaryFolder temporaryFolder;
+    private Path socketPath;
+    private IFormatterDaemon daemon;
+
+    @Before
+    public void setUp() throws IOException, DaemonException {
+        try {
+            UnixSockets.openChannel().close();
+        } catch (DaemonException e) {
+            Assume.assumeNoException(e);
+        }
+
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+        socketPath = temporaryFolder.getRoot().toPath().resolve("formatter.sock");
+        daemon = new FormatterDaemon(socketPath, 2);
+        daemon.start();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (daemon != null) {
+            daemon.stop();
+            daemon.awaitStop();
+            temporaryFolder.delete();
+        }
+    }
+
+    private DaemonResponse send(final String... args) throws DaemonException {
+        return new DaemonClient(socketPath).send(new DaemonRequest(
+                temporaryFolder.getRoot().getAbsolutePath(),
+                Arrays.asList(args),
+                SOURCE.getBytes(StandardCharsets.UTF_8)
+        ));
+    }
+
+    @Test
+    public void shouldFormatContent() throws DaemonException, FormatterException {
+        final DaemonResponse response = send("-");
+
+        Assert.assertEquals(DaemonResponse.SUCCESS_EXIT_CODE, response.getExitCode());
+        Assert.assertEquals(format(SOURCE), new String(response.getOutput(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldFormatAndCheckFilesRelativeToWorkingDirectory()
+            throws DaemonException, FormatterException, IOException {
+        Files.write(temporaryFolder.getRoot().toPath().resolve("A.java"), SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(DaemonResponse.MISMATCH_EXIT_CODE, send("--check", "A.java").getExitCode());
+        Assert.assertEquals(DaemonResponse.SUCCESS_EXIT_CODE, send("A.java", "B.java").getExitCode());
+        Assert.assertEquals(
+                format(SOURCE),
+                new String(Files.readAllBytes(temporaryFolder.getRoot().toPath().resolve("B.java")), StandardCharsets.UTF_8)
+        );
+        Assert.assertEquals(DaemonResponse.SUCCESS_EXIT_CODE, send("--batch", "A.java").getExitCode());
+        Assert.assertEquals(DaemonResponse.SUCCESS_EXIT_CODE, send("--check", "A.java", "B.java").getExitCode());
+    }
+
+    @Test
+    public void shouldReportFailures() throws DaemonException {
+        final DaemonResponse response = send("Missing.java", "B.java");
+
+        Assert.assertEquals(DaemonResponse.FAILURE_EXIT_CODE, response.getExitCode());
+        Assert.assertTrue(response.getMessages().contains("ReaderException"));
+        Assert.assertEquals(DaemonResponse.FAILURE_EXIT_CODE, send().getExitCode());
+    }
+
+    @Test
+    public void shouldForwardStreamsOfClient() throws FormatterException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+        final int exitCode = DaemonClient.run(
+                new String[] {socketPath.toString(), "-"},
+                new ByteArrayInputStream(SOURCE.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(output),
+                new PrintStream(errors)
+        );
+
+        Assert.assertEquals(DaemonResponse.SUCCESS_EXIT_CODE, exitCode);
+        Assert.assertEquals(format(SOURCE), new String(output.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(0, errors.size());
+    }
+
+    @Test
+    public void shouldStopOnRequest() throws DaemonException, InterruptedException {
+        Assert.assertEquals(DaemonResponse.SUCCESS_EXIT_CODE, send("--stop").getExitCode());
+
+        daemon.awaitStop();
+
+        Assert.assertFalse(Files.exists(socketPath));
+    }
+
+    @Test(expected = DaemonException.class)
+    public void shouldNotStartSecondDaemonOnSameSocket() throws DaemonException {
+        new FormatterDaemon(socketPath, 1).start();
+    }
+
+    @Test
+    public void shouldNotStartOnRegularFile() throws IOException {
+        final Path filePath = temporaryFolder.getRoot().toPath().resolve("notasocket.txt");
+        Files.write(filePath, SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        try {
+            new FormatterDaemon(filePath, 1).start();
+            Assert.fail();
+        } catch (DaemonException e) {
+            Assert.assertTrue(Files.isRegularFile(filePath));
+            Assert.assertEquals(SOURCE, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void shouldReplaceStaleSocket() throws DaemonException, InterruptedException {
+        daemon.stop();
+        daemon.awaitStop();
+        daemon = new FormatterDaemon(socketPath, 1);
+        daemon.start();
+
+        Assert.assertEquals(
+                DaemonResponse.SUCCESS_EXIT_CODE,
+                new DaemonClient(socketPath).send(new DaemonRequest("", Collections.singletonList("-"), new byte[0])).getExitCode()
+        );
+    }
+}
@@ -1,14 +1,30 @@
 package it.sevenbits.formatter.formatter.fsm;
 
+import it.sevenbits.formatter.corpus.CorpusProfile;
+import it.sevenbits.formatter.corpus.SourceGenerator;
 import it.sevenbits.formatter.formatter.FormatterException;
 import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.io.reader.ByteFileReader;
 import it.sevenbits.formatter.io.reader.IReader;
 import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.ByteFileWriter;
 import it.sevenbits.formatter.io.writer.IWriter;
 import it.sevenbits.formatter.io.writer.StringWriter;
+import it.sevenbits.formatter.lexer.factory.PipelinedLexerFactory;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.mockito.Mockito.mock;
 
@@ -82,6 +98,73 @@ public class FSMFormatterTest {
         );
     }
 
+    @Test
+    public void shouldFormatCorrectlyFromSeveralThreads() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        final List<Future<String>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 200; i++) {
+                results.add(executorService.submit(() -> {
+                    final StringWriter stringWriter = new StringWriter();
+                    formatter.format(new StringReader("{{{}}}"), stringWriter);
+                    return stringWriter.toString();
+                }));
+            }
+
+            for (final Future<String> result : results) {
+                Assert.assertEquals("{\n    {\n        {\n        }\n    }\n}", result.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldFormatGeneratedSourcesSameWayInCharAndByteModes() throws FormatterException, IOException {
+        final TemporaryFolder temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+
+        try {
+            for (final CorpusProfile profile : CorpusProfile.values()) {
+                final String source = new SourceGenerator(profile.ordinal(), profile.getTokenMix()).generate(20000);
+                final Path inputPath = temporaryFolder.newFile().toPath();
+                final Path outputPath = temporaryFolder.newFile().toPath();
+                Files.write(inputPath, source.getBytes(StandardCharsets.UTF_8));
+
+                writer = new StringWriter();
+                formatter.format(new StringReader(source), writer);
+
+                try (
+                        ByteFileReader byteFileReader = new ByteFileReader(inputPath);
+                        ByteFileWriter byteFileWriter = new ByteFileWriter(outputPath)
+                ) {
+                    formatter.format(byteFileReader, byteFileWriter);
+                }
+
+                Assert.assertEquals(writer.toString(), new String(Files.readAllBytes(outputPath), StandardCharsets.UTF_8));
+            }
+        } finally {
+            temporaryFolder.delete();
+        }
+    }
+
+    @Test
+    public void shouldFormatGeneratedSourcesSameWayInPipelinedMode() throws FormatterException {
+        final IFormatter pipelinedFormatter = new FSMFormatter(new PipelinedLexerFactory());
+
+        for (final CorpusProfile profile : CorpusProfile.values()) {
+            final String source = new SourceGenerator(profile.ordinal(), profile.getTokenMix()).generate(20000);
+            final StringWriter pipelinedWriter = new StringWriter();
+
+            writer = new StringWriter();
+            formatter.format(new StringReader(source), writer);
+            pipelinedFormatter.format(new StringReader(source), pipelinedWriter);
+
+            Assert.assertEquals(writer.toString(), pipelinedWriter.toString());
+        }
+    }
+
     @Test(expected = FormatterException.class)
     public void shouldThrowExceptionAtFirst() throws FormatterException {
         formatter.format(null, mock(StringWriter.class));
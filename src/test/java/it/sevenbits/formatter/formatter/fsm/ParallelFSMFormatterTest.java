@@ -0,0 +1,123 @@
+package it.sevenbits.formatter.formatter.fsm;
+
+import it.sevenbits.formatter.corpus.CorpusProfile;
+import it.sevenbits.formatter.corpus.SourceGenerator;
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.IFormatter;
+import it.sevenbits.formatter.io.reader.ByteFileReader;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.ByteFileWriter;
+import it.sevenbits.formatter.io.writer.StringWriter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ParallelFSMFormatterTest {
+    private static final int CHUNK_LENGTH = 97;
+
+    private final IFormatter formatter = new FSMFormatter();
+    private final IFormatter parallelFormatter = new ParallelFSMFormatter(4, CHUNK_LENGTH);
+
+    private void assertSameOutput(final String source) throws FormatterException {
+        final StringWriter expected = new StringWriter();
+        final StringWriter actual = new StringWriter();
+
+        formatter.format(new StringReader(source), expected);
+        parallelFormatter.format(new StringReader(source), actual);
+
+        Assert.assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void shouldFormatGeneratedSourcesSameWayAsSequentialFormatter() throws FormatterException {
+        for (final CorpusProfile profile : CorpusProfile.values()) {
+            for (int seed = 0; seed < 5; seed++) {
+                assertSameOutput(new SourceGenerator(seed, profile.getTokenMix()).generate(20000));
+            }
+        }
+    }
+
+    @Test
+    public void shouldFormatConstructsThatCrossChunkBoundaries() throws FormatterException {
+        final StringBuilder longComment = new StringBuilder("class A {\n/*");
+
+        for (int i = 0; i < 50; i++) {
+            longComment.append(" comment line with { and } and \" inside\n");
+        }
+
+        longComment.append("*/\nint a;\n}\n");
+        assertSameOutput(longComment.toString());
+
+        final StringBuilder leadingWhitespaces = new StringBuilder();
+
+        for (int i = 0; i < 300; i++) {
+            leadingWhitespaces.append(i % 2 == 0 ? "   \n" : "\t\n");
+        }
+
+        leadingWhitespaces.append("} int a;\n{ int b;\n}\n}\n}\n{ int c;\n");
+
+        for (int i = 0; i < 300; i++) {
+            leadingWhitespaces.append("int d = ").append(i).append(";\n");
+        }
+
+        assertSameOutput(leadingWhitespaces.toString());
+    }
+
+    @Test
+    public void shouldFormatUnbalancedBracesSameWayAsSequentialFormatter() throws FormatterException {
+        final StringBuilder source = new StringBuilder("int a;\n");
+
+        for (int i = 0; i < 200; i++) {
+            source.append(i % 3 == 0 ? "}\n" : "{ int b;\n");
+        }
+
+        for (int i = 0; i < 400; i++) {
+            source.append("}\n");
+        }
+
+        source.append("int c;\n{\nint d;\n");
+        assertSameOutput(source.toString());
+    }
+
+    @Test
+    public void shouldFormatByteInputSameWayAsSequentialFormatter() throws FormatterException, IOException {
+        final TemporaryFolder temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+
+        try {
+            final String source = new SourceGenerator(1, CorpusProfile.BALANCED.getTokenMix()).generate(20000);
+            final Path inputPath = temporaryFolder.newFile().toPath();
+            final Path outputPath = temporaryFolder.newFile().toPath();
+            final StringWriter expected = new StringWriter();
+            Files.write(inputPath, source.getBytes(StandardCharsets.UTF_8));
+
+            formatter.format(new StringReader(source), expected);
+
+            try (
+                    ByteFileReader reader = new ByteFileReader(inputPath);
+                    ByteFileWriter writer = new ByteFileWriter(outputPath)
+            ) {
+                parallelFormatter.format(reader, writer);
+            }
+
+            Assert.assertEquals(expected.toString(), new String(Files.readAllBytes(outputPath), StandardCharsets.UTF_8));
+        } finally {
+            temporaryFolder.delete();
+        }
+    }
+
+    @Test(expected = FormatterException.class)
+    public void shouldThrowExceptionAtNullReader() throws FormatterException {
+        parallelFormatter.format(null, new StringWriter());
+    }
+
+    @Test(expected = FormatterException.class)
+    public void shouldThrowExceptionAtNullWriter() throws FormatterException {
+        parallelFormatter.format(new StringReader(""), null);
+    }
+}
@@ -2,9 +2,9 @@ package it.sevenbits.formatter.formatter.fsm.command.factory;
 
 import it.sevenbits.formatter.formatter.fsm.command.ICommand;
 import it.sevenbits.formatter.formatter.fsm.command.StayIdleCommand;
-import it.sevenbits.formatter.formatter.fsm.command.args.CommandArgs;
 import it.sevenbits.formatter.formatter.fsm.state.State;
 import it.sevenbits.formatter.lexer.token.Token;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -14,7 +14,7 @@ public class CommandFactoryTest {
 
     @Before
     public void setUp() {
-        commandFactory = new CommandFactory(new CommandArgs());
+        commandFactory = new CommandFactory();
     }
 
     @Test(expected = CommandFactoryException.class)
@@ -26,7 +26,7 @@ public class CommandFactoryTest {
     public void shouldReturnStayIdleCommand() throws CommandFactoryException {
         final ICommand command = commandFactory.getCommand(
                 new State("UNKNOWN_STATE"),
-                new Token("UNKNOWN_TOKEN", "")
+                new Token(TokenKind.OTHER, "")
         );
 
         Assert.assertEquals(
@@ -27,4 +27,14 @@ public class StateTest {
     public void shouldEqualsReturnTrue() {
         Assert.assertEquals(state, state);
     }
+
+    @Test
+    public void shouldCompareTableStatesByIdentifier() {
+        Assert.assertNotEquals(States.START, new State("START"));
+        Assert.assertNotEquals(new State("START"), States.START);
+        Assert.assertEquals(States.START, new State(States.START.getId(), "START"));
+        Assert.assertEquals(States.START.hashCode(), new State(States.START.getId(), "START").hashCode());
+        Assert.assertEquals(new State("STATE_NAME"), state);
+        Assert.assertEquals(new State("STATE_NAME").hashCode(), state.hashCode());
+    }
 }
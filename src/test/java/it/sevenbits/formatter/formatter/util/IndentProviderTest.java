@@ -0,0 +1,39 @@
+package it.sevenbits.formatter.formatter.util;
+
+import it.sevenbits.formatter.io.writer.StringWriter;
+import it.sevenbits.formatter.io.writer.WriterException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndentProviderTest {
+    @Test
+    public void shouldReturnIndentCorrectly() {
+        Assert.assertEquals("", IndentProvider.getFourSpacesIndent(0));
+        Assert.assertEquals("", IndentProvider.getFourSpacesIndent(-1));
+        Assert.assertEquals("        ", IndentProvider.getFourSpacesIndent(2));
+    }
+
+    @Test
+    public void shouldWriteNewlineAndIndentCorrectly() throws WriterException {
+        final StringWriter writer = new StringWriter();
+
+        IndentProvider.writeNewlineAndFourSpacesIndent(writer, 0);
+        IndentProvider.writeNewlineAndFourSpacesIndent(writer, 1);
+        IndentProvider.writeFourSpacesIndent(writer, 1);
+
+        Assert.assertEquals("\n\n        ", writer.toString());
+    }
+
+    @Test
+    public void shouldWriteDeepIndentCorrectly() throws WriterException {
+        final StringWriter writer = new StringWriter();
+        final int nestingLevel = 1000;
+
+        IndentProvider.writeNewlineAndFourSpacesIndent(writer, nestingLevel);
+
+        final String written = writer.toString();
+        Assert.assertEquals(nestingLevel * 4 + 1, written.length());
+        Assert.assertEquals("\n" + IndentProvider.getFourSpacesIndent(nestingLevel), written);
+        Assert.assertTrue(written.substring(1).trim().isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package it.sevenbits.formatter.io.reader;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class ByteFileReaderTest {
+    private TemporaryFolder temporaryFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+    }
+
+    private Path writeFile(final byte[] content) throws IOException {
+        final Path filePath = temporaryFolder.newFile().toPath();
+        Files.write(filePath, content);
+        return filePath;
+    }
+
+    @Test
+    public void shouldReadBytesAsCharactersCorrectly() throws IOException {
+        final byte[] content = "a\u00e9\u20ac\ud83d\ude00\n".getBytes(StandardCharsets.UTF_8);
+        final Path filePath = writeFile(content);
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        try (ByteFileReader byteFileReader = new ByteFileReader(filePath)) {
+            while (byteFileReader.hasNext()) {
+                stringBuilder.append((char) byteFileReader.read());
+            }
+
+            Assert.assertEquals(-1, byteFileReader.read());
+        }
+
+        Assert.assertEquals(new String(content, StandardCharsets.ISO_8859_1), stringBuilder.toString());
+    }
+
+    @Test
+    public void shouldReadBytesInBulkCorrectly() throws IOException {
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 10000; i++) {
+            text.append(i % 7 == 0 ? "\u00e9" : "x");
+        }
+
+        final byte[] content = text.toString().getBytes(StandardCharsets.UTF_8);
+        final Path filePath = writeFile(content);
+        final StringBuilder stringBuilder = new StringBuilder();
+        final char[] buffer = new char[1000];
+
+        try (ByteFileReader byteFileReader = new ByteFileReader(filePath)) {
+            Assert.assertEquals(0, byteFileReader.read(buffer, 0, 0));
+            int count = byteFileReader.read(buffer, 0, buffer.length);
+
+            while (count != -1) {
+                stringBuilder.append(buffer, 0, count);
+                count = byteFileReader.read(buffer, 0, buffer.length);
+            }
+        }
+
+        Assert.assertEquals(new String(content, StandardCharsets.ISO_8859_1), stringBuilder.toString());
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAtMalformedInput() throws IOException {
+        final Path filePath = writeFile(new byte[]{'a', (byte) 0xED, (byte) 0xA0, (byte) 0x80});
+
+        try (ByteFileReader byteFileReader = new ByteFileReader(filePath)) {
+            byteFileReader.read();
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAtTruncatedInput() throws IOException {
+        final Path filePath = writeFile(new byte[]{'a', (byte) 0xE2, (byte) 0x80});
+
+        try (ByteFileReader byteFileReader = new ByteFileReader(filePath)) {
+            while (byteFileReader.hasNext()) {
+                byteFileReader.read();
+            }
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAtFirst() throws ReaderException {
+        new ByteFileReader(Paths.get("$$$"));
+    }
+
+    @After
+    public void tearDown() {
+        temporaryFolder.delete();
+    }
+}
@@ -39,6 +39,33 @@ public class FileReaderTest {
         Assert.assertEquals(text, stringBuilder.toString());
     }
 
+    @Test
+    public void shouldReadTextInBulkCorrectly() throws IOException {
+        final String text = "TEST_TEXT";
+
+        final Path filePath = temporaryFolder.newFile().toPath();
+        Files.write(filePath, text.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder stringBuilder = new StringBuilder();
+        final char[] buffer = new char[4];
+
+        try (FileReader fileReader = new FileReader(filePath)) {
+            Assert.assertEquals(0, fileReader.read(buffer, 0, 0));
+            Assert.assertEquals(1, fileReader.read(buffer, 0, 1));
+            stringBuilder.append(buffer, 0, 1);
+
+            int count = fileReader.read(buffer, 0, buffer.length);
+
+            while (count != -1) {
+                stringBuilder.append(buffer, 0, count);
+                count = fileReader.read(buffer, 0, buffer.length);
+            }
+
+            Assert.assertFalse(fileReader.hasNext());
+        }
+
+        Assert.assertEquals(text, stringBuilder.toString());
+    }
+
     @Test(expected = ReaderException.class)
     public void shouldThrowExceptionAtFirst() throws ReaderException {
         new FileReader(Paths.get("$$$"));
@@ -0,0 +1,130 @@
+package it.sevenbits.formatter.io.reader;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MappedFileReaderTest {
+    private TemporaryFolder temporaryFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+    }
+
+    private Path writeFile(final byte[] content) throws IOException {
+        final Path filePath = temporaryFolder.newFile().toPath();
+        Files.write(filePath, content);
+        return filePath;
+    }
+
+    @Test
+    public void shouldReadTextCorrectly() throws IOException {
+        final String text = "a { b; } // \u00e9\u0085  \"\ud83d\ude00\"\n";
+
+        final Path filePath = writeFile(text.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        try (MappedFileReader mappedFileReader = new MappedFileReader(filePath)) {
+            while (mappedFileReader.hasNext()) {
+                int read = mappedFileReader.read();
+                stringBuilder.append((char) read);
+            }
+
+            Assert.assertEquals(-1, mappedFileReader.read());
+        }
+
+        Assert.assertEquals(text, stringBuilder.toString());
+    }
+
+    @Test
+    public void shouldReadTextInBulkCorrectly() throws IOException {
+        final String text = "int x = 1; /* \u00e9\u00e9 */ \ud83d\ude00\ud83d\ude00   end";
+
+        final Path filePath = writeFile(text.getBytes(StandardCharsets.UTF_8));
+
+        for (int bufferLength = 1; bufferLength <= text.length() + 1; bufferLength++) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            final char[] buffer = new char[bufferLength];
+
+            try (MappedFileReader mappedFileReader = new MappedFileReader(filePath)) {
+                Assert.assertEquals(0, mappedFileReader.read(buffer, 0, 0));
+
+                int count = mappedFileReader.read(buffer, 0, buffer.length);
+
+                while (count != -1) {
+                    stringBuilder.append(buffer, 0, count);
+                    count = mappedFileReader.read(buffer, 0, buffer.length);
+                }
+            }
+
+            Assert.assertEquals(text, stringBuilder.toString());
+        }
+    }
+
+    @Test
+    public void shouldReadEmptyFileCorrectly() throws IOException {
+        final Path filePath = writeFile(new byte[0]);
+
+        try (MappedFileReader mappedFileReader = new MappedFileReader(filePath)) {
+            Assert.assertFalse(mappedFileReader.hasNext());
+            Assert.assertEquals(-1, mappedFileReader.read());
+            Assert.assertEquals(-1, mappedFileReader.read(new char[1], 0, 1));
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAtOverlongSequence() throws IOException {
+        final Path filePath = writeFile(new byte[]{'a', (byte) 0xC0, (byte) 0xAF});
+
+        try (MappedFileReader mappedFileReader = new MappedFileReader(filePath)) {
+            mappedFileReader.read(new char[2], 0, 2);
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAtEncodedSurrogate() throws IOException {
+        final Path filePath = writeFile(new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80});
+
+        try (MappedFileReader mappedFileReader = new MappedFileReader(filePath)) {
+            mappedFileReader.read();
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAtTruncatedSequence() throws IOException {
+        final Path filePath = writeFile(new byte[]{'a', (byte) 0xE2, (byte) 0x80});
+
+        try (MappedFileReader mappedFileReader = new MappedFileReader(filePath)) {
+            mappedFileReader.read();
+            mappedFileReader.read();
+        }
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAfterClosing() throws IOException {
+        final Path filePath = writeFile("TEST_TEXT".getBytes(StandardCharsets.UTF_8));
+
+        final MappedFileReader mappedFileReader = new MappedFileReader(filePath);
+        mappedFileReader.close();
+        mappedFileReader.read();
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionAtMissingFile() throws IOException {
+        new MappedFileReader(temporaryFolder.getRoot().toPath().resolve("missing.java"));
+    }
+
+    @After
+    public void tearDown() {
+        temporaryFolder.delete();
+    }
+}
@@ -0,0 +1,30 @@
+package it.sevenbits.formatter.io.reader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+public class StreamReaderTest {
+    @Test
+    public void shouldReadDecodedCharacters() throws ReaderException {
+        final String text = "a { \u00e9; } \ud83d\ude00";
+
+        try (StreamReader reader = new StreamReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append((char) reader.read());
+
+            final char[] buffer = new char[4];
+            int count = reader.read(buffer, 0, buffer.length);
+
+            while (count != -1) {
+                stringBuilder.append(buffer, 0, count);
+                count = reader.read(buffer, 0, buffer.length);
+            }
+
+            Assert.assertEquals(text, stringBuilder.toString());
+            Assert.assertFalse(reader.hasNext());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package it.sevenbits.formatter.io.writer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ByteFileWriterTest {
+    private TemporaryFolder temporaryFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+    }
+
+    @Test
+    public void shouldWriteCharactersAsBytesCorrectly() throws IOException {
+        final byte[] content = "caf\u00e9 \u20ac".getBytes(StandardCharsets.UTF_8);
+        final String bytesAsText = new String(content, StandardCharsets.ISO_8859_1);
+        final Path filePath = temporaryFolder.newFile().toPath();
+
+        try (ByteFileWriter byteFileWriter = new ByteFileWriter(filePath)) {
+            byteFileWriter.write(bytesAsText);
+            byteFileWriter.write('\n');
+            byteFileWriter.write(bytesAsText.toCharArray(), 1, 2);
+            byteFileWriter.write(new StringBuilder(bytesAsText), 3, bytesAsText.length());
+        }
+
+        Assert.assertEquals(
+                "caf\u00e9 \u20ac\naf\u00e9 \u20ac",
+                new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test(expected = WriterException.class)
+    public void shouldThrowExceptionAtCharacterOutOfByteRange() throws IOException {
+        final Path filePath = temporaryFolder.newFile().toPath();
+
+        try (ByteFileWriter byteFileWriter = new ByteFileWriter(filePath)) {
+            byteFileWriter.write("\u20ac");
+        }
+    }
+
+    @After
+    public void tearDown() {
+        temporaryFolder.delete();
+    }
+}
@@ -0,0 +1,113 @@
+package it.sevenbits.formatter.io.writer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class CheckWriterTest {
+    private TemporaryFolder temporaryFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+    }
+
+    @After
+    public void tearDown() {
+        temporaryFolder.delete();
+    }
+
+    private Path createFile(final String content) throws IOException {
+        final Path filePath = temporaryFolder.newFile().toPath();
+        Files.write(filePath, content.getBytes(StandardCharsets.UTF_8));
+        return filePath;
+    }
+
+    @Test
+    public void shouldAcceptEqualData() throws IOException {
+        final StringBuilder longText = new StringBuilder();
+
+        for (int i = 0; i < 20000; i++) {
+            longText.append(i % 100 == 0 ? '\n' : (char) ('a' + i % 26));
+        }
+
+        final String text = "\u043f\u0440\u0438\u0432\u0435\u0442\n" + longText;
+        final Path filePath = createFile(text);
+
+        try (CheckWriter checkWriter = new CheckWriter(filePath)) {
+            checkWriter.write(text.charAt(0));
+            checkWriter.write(text.substring(1, 10));
+            checkWriter.write(text.toCharArray(), 10, 9000);
+            checkWriter.write(new StringBuilder(text), 9010, text.length());
+        }
+    }
+
+    @Test
+    public void shouldReportPositionOfFirstDifference() throws IOException {
+        final Path filePath = createFile("class A {\n    int x;\n}\n");
+
+        final CheckWriter checkWriter = new CheckWriter(filePath);
+
+        try {
+            checkWriter.write("class A {\n    int y;\n}\n".toCharArray());
+            Assert.fail();
+        } catch (MismatchException e) {
+            Assert.assertEquals(2, e.getLine());
+            Assert.assertEquals(9, e.getColumn());
+            Assert.assertSame(e, checkWriter.getMismatch());
+        }
+
+        try {
+            checkWriter.write('x');
+            Assert.fail();
+        } catch (MismatchException e) {
+            Assert.assertSame(checkWriter.getMismatch(), e);
+        }
+
+        checkWriter.close();
+    }
+
+    @Test
+    public void shouldReportLongerFormattedData() throws IOException {
+        final Path filePath = createFile("ab");
+
+        try (CheckWriter checkWriter = new CheckWriter(filePath)) {
+            checkWriter.write("ab");
+            checkWriter.write('\n');
+            Assert.fail();
+        } catch (MismatchException e) {
+            Assert.assertEquals(1, e.getLine());
+            Assert.assertEquals(3, e.getColumn());
+        }
+    }
+
+    @Test
+    public void shouldReportLongerOriginalFileOnClose() throws IOException {
+        final Path filePath = createFile("ab\n");
+        final CheckWriter checkWriter = new CheckWriter(filePath);
+        checkWriter.write("ab");
+
+        try {
+            checkWriter.close();
+            Assert.fail();
+        } catch (MismatchException e) {
+            Assert.assertEquals(1, e.getLine());
+            Assert.assertEquals(3, e.getColumn());
+        }
+    }
+
+    @Test(expected = WriterException.class)
+    public void shouldThrowExceptionAfterClosing() throws IOException {
+        final CheckWriter checkWriter = new CheckWriter(createFile(""));
+        checkWriter.close();
+        checkWriter.write('a');
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 public class FileWriterTest {
@@ -57,6 +59,35 @@ public class FileWriterTest {
         }
     }
 
+    @Test
+    public void shouldWriteDataSlicesCorrectly() throws IOException {
+        final StringBuilder longText = new StringBuilder();
+
+        for (int i = 0; i < 20000; i++) {
+            longText.append((char) ('a' + i % 26));
+        }
+
+        final char[] longCharArray = longText.toString().toCharArray();
+        final Path filePath = temporaryFolder.newFile().toPath();
+
+        try (FileWriter fileWriter = new FileWriter(filePath)) {
+            fileWriter.write(longCharArray, 1, 3);
+            fileWriter.write(longText, 0, longText.length());
+            fileWriter.write(longCharArray, 0, longCharArray.length);
+            fileWriter.write(longText.toString(), 2, 5);
+        }
+
+        final String expected = longText.substring(1, 4) + longText + longText + longText.substring(2, 5);
+        Assert.assertEquals(expected, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = WriterException.class)
+    public void shouldThrowExceptionAtInvalidBounds() throws IOException {
+        try (FileWriter fileWriter = new FileWriter(temporaryFolder.newFile().toPath())) {
+            fileWriter.write(new char[] {'a'}, 1, 1);
+        }
+    }
+
     @Test(expected = WriterException.class)
     public void shouldThrowException() throws IOException {
         final FileWriter fileWriter = new FileWriter(temporaryFolder.newFile().toPath().toString());
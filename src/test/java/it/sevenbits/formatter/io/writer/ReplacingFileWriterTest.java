@@ -0,0 +1,210 @@
+package it.sevenbits.formatter.io.writer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class ReplacingFileWriterTest {
+    private static final FileTime OLD_TIME = FileTime.fromMillis(1000000000000L);
+
+    private TemporaryFolder temporaryFolder;
+    private Path filePath;
+
+    @Before
+    public void setUp() throws IOException {
+        temporaryFolder = new TemporaryFolder();
+        temporaryFolder.create();
+        filePath = temporaryFolder.getRoot().toPath().resolve("A.java");
+    }
+
+    @After
+    public void tearDown() {
+        temporaryFolder.delete();
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(temporaryFolder.getRoot().toPath())) {
+            return paths.count();
+        }
+    }
+
+    @Test
+    public void shouldCreateMissingFile() throws IOException {
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath.toString());
+        writer.write("class A {}\n");
+        writer.close();
+
+        Assert.assertTrue(writer.isChanged());
+        Assert.assertEquals("class A {}\n", read());
+        Assert.assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void shouldNotTouchFileWithSameContent() throws IOException {
+        Files.write(filePath, "class A {}\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(filePath, OLD_TIME);
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+        writer.write("class A {}\n".toCharArray());
+        writer.close();
+
+        Assert.assertFalse(writer.isChanged());
+        Assert.assertEquals(OLD_TIME, Files.getLastModifiedTime(filePath));
+        Assert.assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void shouldReplaceFileWithDifferentContent() throws IOException {
+        Files.write(filePath, "class B {}\n".getBytes(StandardCharsets.UTF_8));
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+        writer.write("class A {}\n");
+        writer.close();
+
+        Assert.assertTrue(writer.isChanged());
+        Assert.assertEquals("class A {}\n", read());
+        Assert.assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void shouldKeepFileOnDiscard() throws IOException {
+        Files.write(filePath, "class B {}\n".getBytes(StandardCharsets.UTF_8));
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, true);
+        writer.write("class");
+        writer.discard();
+        writer.close();
+
+        Assert.assertFalse(writer.isChanged());
+        Assert.assertEquals("class B {}\n", read());
+        Assert.assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void shouldReplaceFileOnlyAfterPreparing() throws IOException {
+        Files.write(filePath, "class B {}\n".getBytes(StandardCharsets.UTF_8));
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+        writer.write("class A {}\n");
+
+        Assert.assertTrue(writer.prepare());
+        Assert.assertEquals("class B {}\n", read());
+        Assert.assertEquals(
+                "class A {}\n",
+                new String(Files.readAllBytes(writer.getTemporaryPath()), StandardCharsets.UTF_8)
+        );
+
+        writer.replace();
+
+        Assert.assertTrue(writer.isChanged());
+        Assert.assertEquals("class A {}\n", read());
+        Assert.assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void shouldDiscardPreparedFile() throws IOException {
+        Files.write(filePath, "class B {}\n".getBytes(StandardCharsets.UTF_8));
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+        writer.write("class A {}\n");
+
+        Assert.assertTrue(writer.prepare());
+        writer.discard();
+
+        Assert.assertFalse(writer.isChanged());
+        Assert.assertEquals("class B {}\n", read());
+        Assert.assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void shouldNotPrepareUnchangedFile() throws IOException {
+        Files.write(filePath, "class A {}\n".getBytes(StandardCharsets.UTF_8));
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+        writer.write("class A {}\n");
+
+        Assert.assertFalse(writer.prepare());
+        Assert.assertEquals(1, countFiles());
+    }
+
+    @Test(expected = WriterException.class)
+    public void shouldThrowExceptionOnReplacingOfNotPreparedFile() throws IOException {
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+
+        try {
+            writer.write("class A {}\n");
+            writer.replace();
+        } finally {
+            writer.discard();
+        }
+    }
+
+    @Test
+    public void shouldPreservePermissionsOfReplacedFile() throws IOException {
+        Assume.assumeNotNull(Files.getFileAttributeView(filePath.getParent(), PosixFileAttributeView.class));
+        final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.write(filePath, "class B {}\n".getBytes(StandardCharsets.UTF_8));
+        Files.setPosixFilePermissions(filePath, permissions);
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+        writer.write("class A {}\n");
+        writer.close();
+
+        Assert.assertTrue(writer.isChanged());
+        Assert.assertEquals("class A {}\n", read());
+        Assert.assertEquals(permissions, Files.getPosixFilePermissions(filePath));
+    }
+
+    @Test
+    public void shouldCreateMissingFileWithDefaultPermissions() throws IOException {
+        Assume.assumeNotNull(Files.getFileAttributeView(filePath.getParent(), PosixFileAttributeView.class));
+        final Path probePath = Files.createFile(temporaryFolder.getRoot().toPath().resolve("Probe.java"));
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(filePath, false);
+        writer.write("class A {}\n");
+        writer.close();
+
+        Assert.assertTrue(writer.isChanged());
+        Assert.assertEquals("class A {}\n", read());
+        Assert.assertEquals(Files.getPosixFilePermissions(probePath), Files.getPosixFilePermissions(filePath));
+    }
+
+    @Test
+    public void shouldReplaceFileBehindSymbolicLink() throws IOException {
+        final Path linkPath = temporaryFolder.getRoot().toPath().resolve("Link.java");
+        Files.write(filePath, "class B {}\n".getBytes(StandardCharsets.UTF_8));
+
+        try {
+            Files.createSymbolicLink(linkPath, filePath.getFileName());
+        } catch (UnsupportedOperationException | IOException e) {
+            Assume.assumeNoException(e);
+        }
+
+        final ReplacingFileWriter writer = new ReplacingFileWriter(linkPath, false);
+        writer.write("class A {}\n");
+        writer.close();
+
+        Assert.assertTrue(writer.isChanged());
+        Assert.assertTrue(Files.isSymbolicLink(linkPath));
+        Assert.assertEquals("class A {}\n", read());
+        Assert.assertEquals(2, countFiles());
+    }
+}
@@ -0,0 +1,63 @@
+package it.sevenbits.formatter.io.writer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class StreamWriterTest {
+    @Test
+    public void shouldWriteEncodedCharactersOnClose() throws WriterException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final StreamWriter writer = new StreamWriter(outputStream);
+
+        writer.write("a { ");
+        writer.write('\u00e9');
+        writer.write("; } \ud83d\ude00".toCharArray());
+
+        Assert.assertEquals(0, outputStream.size());
+
+        writer.close();
+
+        Assert.assertEquals("a { \u00e9; } \ud83d\ude00", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldWriteSlicesOfCharBufferViews() throws WriterException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final StreamWriter writer = new StreamWriter(outputStream);
+        final CharBuffer view = CharBuffer.wrap("xxa { \u00e9; }xx".toCharArray());
+        view.limit(10).position(2);
+
+        writer.write(view, 0, 4);
+        writer.write(view, 4, view.length());
+        writer.close();
+
+        Assert.assertEquals("a { \u00e9; }", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldWriteLongDataSplitAtBufferBoundaries() throws WriterException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final StreamWriter writer = new StreamWriter(outputStream);
+        final StringBuilder expected = new StringBuilder("x");
+
+        for (int i = 0; i < 10000; i++) {
+            expected.append("\ud83d\ude00");
+        }
+
+        writer.write('x');
+        writer.write(expected, 1, expected.length());
+        writer.write(expected.toString().toCharArray(), 0, expected.length());
+        writer.flush();
+
+        Assert.assertEquals(
+                expected.toString() + expected,
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8)
+        );
+
+        writer.close();
+    }
+}
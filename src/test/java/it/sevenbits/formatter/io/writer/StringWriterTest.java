@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 
 public class StringWriterTest {
     private String text;
@@ -42,4 +43,31 @@ public class StringWriterTest {
                 stringWriter.toString()
         );
     }
+
+    @Test
+    public void shouldWriteDataSlicesCorrectly() throws IOException {
+        stringWriter.write(charArray, 1, 2);
+        stringWriter.write(text, 5, 10);
+        stringWriter.write(new StringBuilder(text), 0, 5);
+
+        Assert.assertEquals("bcWorldHello", stringWriter.toString());
+    }
+
+    @Test(expected = WriterException.class)
+    public void shouldThrowExceptionOnInvalidArrayBounds() throws IOException {
+        stringWriter.write(charArray, 2, 2);
+    }
+
+    @Test(expected = WriterException.class)
+    public void shouldThrowExceptionOnInvalidCharSequenceBounds() throws IOException {
+        stringWriter.write(text, 5, 3);
+    }
+
+    @Test(expected = WriterException.class)
+    public void shouldThrowExceptionOnInvalidCharBufferViewBounds() throws IOException {
+        final CharBuffer view = CharBuffer.wrap(text.toCharArray());
+        view.limit(10).position(5);
+
+        stringWriter.write(view, 0, 6);
+    }
 }
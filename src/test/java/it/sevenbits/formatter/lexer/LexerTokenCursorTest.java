@@ -0,0 +1,48 @@
+package it.sevenbits.formatter.lexer;
+
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.lexer.fsm.FSMLexer;
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LexerTokenCursorTest {
+    @Test
+    public void shouldAdaptLexerCorrectly() throws LexerException {
+        final ILexer fsmLexer = new FSMLexer(new StringReader("other;"));
+        final ILexer lexer = new ILexer() {
+            @Override
+            public boolean hasMoreTokens() {
+                return fsmLexer.hasMoreTokens();
+            }
+
+            @Override
+            public IToken readToken() throws LexerException {
+                return fsmLexer.readToken();
+            }
+        };
+        final ITokenCursor cursor = LexerTokenCursor.of(lexer);
+
+        Assert.assertTrue(cursor instanceof LexerTokenCursor);
+
+        Assert.assertTrue(cursor.advance());
+        Assert.assertEquals(TokenKind.OTHER, cursor.getKind());
+        Assert.assertEquals("other", cursor.getLexemeView().toString());
+
+        Assert.assertTrue(cursor.advance());
+        Assert.assertEquals(TokenKind.SEMICOLON, cursor.getKind());
+        Assert.assertEquals(";", cursor.getLexemeView().toString());
+
+        Assert.assertFalse(cursor.advance());
+        Assert.assertNull(cursor.getKind());
+        Assert.assertNull(cursor.getLexemeView());
+    }
+
+    @Test
+    public void shouldReturnLexerItselfIfItIsCursor() throws LexerException {
+        final FSMLexer lexer = new FSMLexer(new StringReader("other"));
+
+        Assert.assertSame(lexer, LexerTokenCursor.of(lexer));
+    }
+}
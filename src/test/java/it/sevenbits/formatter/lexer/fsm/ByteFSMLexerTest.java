@@ -0,0 +1,84 @@
+package it.sevenbits.formatter.lexer.fsm;
+
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class ByteFSMLexerTest {
+    private static StringReader bytesOf(final String text) {
+        return new StringReader(new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1));
+    }
+
+    private static String bytesAsText(final String text) {
+        return new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    public void shouldReturnTokensAsByteRangesCorrectly() throws LexerException {
+        final ILexer lexer = new ByteFSMLexer(bytesOf("caf\u00e9{\"\u20ac\";// \u00c5\u00e5 \u2014\n"));
+
+        IToken token = lexer.readToken();
+        Assert.assertEquals(bytesAsText("caf\u00e9"), token.getLexeme());
+        Assert.assertEquals(TokenKind.OTHER, token.getKind());
+
+        token = lexer.readToken();
+        Assert.assertEquals(TokenKind.OPENING_CURLY_BRACE, token.getKind());
+
+        token = lexer.readToken();
+        Assert.assertEquals(bytesAsText("\"\u20ac\""), token.getLexeme());
+        Assert.assertEquals(TokenKind.STRING_LITERAL, token.getKind());
+
+        token = lexer.readToken();
+        Assert.assertEquals(TokenKind.SEMICOLON, token.getKind());
+
+        token = lexer.readToken();
+        Assert.assertEquals(bytesAsText("// \u00c5\u00e5 \u2014"), token.getLexeme());
+        Assert.assertEquals(TokenKind.SINGLE_LINE_COMMENT, token.getKind());
+
+        token = lexer.readToken();
+        Assert.assertEquals(TokenKind.NEWLINE, token.getKind());
+        Assert.assertFalse(lexer.hasMoreTokens());
+    }
+
+    @Test
+    public void shouldRecognizeMultibyteLineTerminatorsInSingleLineComments() throws LexerException {
+        final String[] lineTerminators = {"\u0085", "\u2028", "\u2029"};
+
+        for (final String lineTerminator : lineTerminators) {
+            final String comment = "// slc" + lineTerminator + "rest";
+            final ILexer charLexer = new FSMLexer(new StringReader(comment + "\n"));
+            final ILexer byteLexer = new ByteFSMLexer(bytesOf(comment + "\n"));
+
+            final IToken charToken = charLexer.readToken();
+            final IToken byteToken = byteLexer.readToken();
+            Assert.assertEquals(TokenKind.OTHER, charToken.getKind());
+            Assert.assertEquals(charToken.getKind(), byteToken.getKind());
+            Assert.assertEquals(bytesAsText(comment), byteToken.getLexeme());
+        }
+    }
+
+    @Test
+    public void shouldStopSkippingLongCommentAtMultibyteLineTerminator() throws LexerException {
+        final StringBuilder comment = new StringBuilder("//");
+
+        for (int i = 0; i < 10000; i++) {
+            comment.append(i % 2 == 0 ? "\u00e9" : "x");
+        }
+
+        final ILexer lexer = new ByteFSMLexer(bytesOf(comment + "\u2028\n"));
+
+        IToken token = lexer.readToken();
+        Assert.assertEquals(bytesAsText(comment + "\u2028"), token.getLexeme());
+        Assert.assertEquals(TokenKind.OTHER, token.getKind());
+
+        token = lexer.readToken();
+        Assert.assertEquals(TokenKind.NEWLINE, token.getKind());
+        Assert.assertFalse(lexer.hasMoreTokens());
+    }
+}
@@ -7,6 +7,8 @@ import it.sevenbits.formatter.lexer.ILexer;
 import it.sevenbits.formatter.lexer.LexerException;
 import it.sevenbits.formatter.lexer.SimpleLexer;
 import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenBuffer;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -107,6 +109,240 @@ public class FSMLexerTest {
         Assert.assertFalse(lexer.hasMoreTokens());
     }
 
+    @Test
+    public void shouldNameTokensByAcceptingStateAtEndOfInput() throws LexerException {
+        reader = new StringReader("// slc\r\n\"unterminated");
+        lexer = new FSMLexer(reader);
+
+        IToken token = lexer.readToken();
+        Assert.assertEquals("// slc\r", token.getLexeme());
+        Assert.assertEquals(TokenKind.OTHER, token.getKind());
+        Assert.assertEquals("OTHER", token.getName());
+
+        token = lexer.readToken();
+        Assert.assertEquals("\n", token.getLexeme());
+        Assert.assertEquals(TokenKind.NEWLINE, token.getKind());
+        Assert.assertEquals("NEWLINE", token.getName());
+
+        token = lexer.readToken();
+        Assert.assertEquals("\"unterminated", token.getLexeme());
+        Assert.assertEquals("OTHER", token.getName());
+        Assert.assertFalse(lexer.hasMoreTokens());
+    }
+
+    @Test
+    public void shouldReturnTokensSpanningSeveralInputWindowsCorrectly() throws LexerException {
+        final StringBuilder comment = new StringBuilder("/*");
+
+        for (int i = 0; i < 20000; i++) {
+            comment.append((char) ('a' + i % 26));
+        }
+
+        comment.append("*/");
+        reader = new StringReader(comment + "{");
+        lexer = new FSMLexer(reader);
+
+        IToken token = lexer.readToken();
+        Assert.assertEquals(comment.toString(), token.getLexeme());
+        Assert.assertEquals(TokenKind.MULTILINE_COMMENT, token.getKind());
+
+        token = lexer.readToken();
+        Assert.assertEquals("{", token.getLexeme());
+        Assert.assertEquals(TokenKind.OPENING_CURLY_BRACE, token.getKind());
+        Assert.assertFalse(lexer.hasMoreTokens());
+    }
+
+    @Test
+    public void shouldReturnLongCommentsAndLiteralsCorrectly() throws LexerException {
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            text.append("{}; \t'/ *\n");
+        }
+
+        final String multilineComment = "/*" + text + "*/";
+        final String singleLineComment = "//" + text.toString().replace('\n', ' ');
+        final String stringLiteral = "\"" + text.toString().replace('"', ' ') + "\"";
+        final String characterLiteral = "'" + text.toString().replace('\'', '"') + "'";
+        final FSMLexer fsmLexer = new FSMLexer(new StringReader(
+                multilineComment + singleLineComment + "\n" + stringLiteral + characterLiteral
+        ));
+
+        IToken token = fsmLexer.readToken();
+        Assert.assertEquals(multilineComment, token.getLexeme());
+        Assert.assertEquals(TokenKind.MULTILINE_COMMENT, token.getKind());
+        Assert.assertEquals(multilineComment.length(), fsmLexer.getOffset());
+
+        token = fsmLexer.readToken();
+        Assert.assertEquals(singleLineComment, token.getLexeme());
+        Assert.assertEquals(TokenKind.SINGLE_LINE_COMMENT, token.getKind());
+
+        token = fsmLexer.readToken();
+        Assert.assertEquals(TokenKind.NEWLINE, token.getKind());
+
+        token = fsmLexer.readToken();
+        Assert.assertEquals(stringLiteral, token.getLexeme());
+        Assert.assertEquals(TokenKind.STRING_LITERAL, token.getKind());
+
+        token = fsmLexer.readToken();
+        Assert.assertEquals(characterLiteral, token.getLexeme());
+        Assert.assertEquals(TokenKind.CHARACTER_LITERAL, token.getKind());
+        Assert.assertFalse(fsmLexer.hasMoreTokens());
+    }
+
+    @Test
+    public void shouldReturnLongPlainTextRunsCorrectly() throws LexerException {
+        final StringBuilder identifier = new StringBuilder();
+
+        for (int i = 0; i < 20000; i++) {
+            identifier.append(i % 3 == 0 ? '*' : (char) ('a' + i % 26));
+        }
+
+        final FSMLexer fsmLexer = new FSMLexer(new StringReader(identifier + "/x"));
+
+        IToken token = fsmLexer.readToken();
+        Assert.assertEquals(identifier.toString(), token.getLexeme());
+        Assert.assertEquals(TokenKind.OTHER, token.getKind());
+        Assert.assertEquals(identifier.length(), fsmLexer.getOffset());
+
+        token = fsmLexer.readToken();
+        Assert.assertEquals("/x", token.getLexeme());
+        Assert.assertEquals(TokenKind.OTHER, token.getKind());
+        Assert.assertFalse(fsmLexer.hasMoreTokens());
+    }
+
+    @Test
+    public void shouldReturnTokenViewsCorrectly() throws LexerException {
+        final StringBuilder comment = new StringBuilder("/*");
+
+        for (int i = 0; i < 10000; i++) {
+            comment.append((char) ('a' + i % 26));
+        }
+
+        comment.append("*/");
+        final FSMLexer fsmLexer = new FSMLexer(new StringReader("other;" + comment + "\"sl\""));
+
+        final IToken token = fsmLexer.readToken();
+        Assert.assertEquals("other", token.getLexemeView().toString());
+
+        IToken tokenView = fsmLexer.readTokenView();
+        Assert.assertEquals(TokenKind.SEMICOLON, tokenView.getKind());
+        Assert.assertEquals(";", tokenView.getLexemeView().toString());
+
+        tokenView = fsmLexer.readTokenView();
+        Assert.assertEquals(TokenKind.MULTILINE_COMMENT, tokenView.getKind());
+        Assert.assertEquals(comment.toString(), tokenView.getLexemeView().toString());
+
+        tokenView = fsmLexer.readTokenView();
+        Assert.assertEquals(TokenKind.STRING_LITERAL, tokenView.getKind());
+        Assert.assertEquals("\"sl\"", tokenView.getLexeme());
+        Assert.assertEquals("other", token.getLexeme());
+        Assert.assertFalse(fsmLexer.hasMoreTokens());
+    }
+
+    @Test
+    public void shouldAdvanceCursorCorrectly() throws LexerException {
+        final FSMLexer fsmLexer = new FSMLexer(new StringReader("other{ // slc\n}"));
+
+        Assert.assertTrue(fsmLexer.advance());
+        Assert.assertEquals(TokenKind.OTHER, fsmLexer.getKind());
+        Assert.assertEquals("other", fsmLexer.getLexemeView().toString());
+
+        Assert.assertTrue(fsmLexer.advance());
+        Assert.assertEquals(TokenKind.OPENING_CURLY_BRACE, fsmLexer.getKind());
+        Assert.assertEquals("{", fsmLexer.getLexemeView().toString());
+
+        Assert.assertTrue(fsmLexer.advance());
+        Assert.assertEquals(TokenKind.WHITESPACE, fsmLexer.getKind());
+
+        Assert.assertTrue(fsmLexer.advance());
+        Assert.assertEquals(TokenKind.SINGLE_LINE_COMMENT, fsmLexer.getKind());
+        Assert.assertEquals("// slc", fsmLexer.getLexemeView().toString());
+
+        Assert.assertTrue(fsmLexer.advance());
+        Assert.assertEquals(TokenKind.NEWLINE, fsmLexer.getKind());
+
+        Assert.assertTrue(fsmLexer.advance());
+        Assert.assertEquals(TokenKind.CLOSING_CURLY_BRACE, fsmLexer.getKind());
+        Assert.assertEquals("}", fsmLexer.getLexemeView().toString());
+
+        Assert.assertFalse(fsmLexer.advance());
+        Assert.assertFalse(fsmLexer.advance());
+    }
+
+    @Test
+    public void shouldFillTokenBuffersCorrectly() throws LexerException {
+        final StringBuilder source = new StringBuilder();
+
+        for (int i = 0; i < 3000; i++) {
+            source.append("other").append(i).append("{ /* mlc */ \"sl\";\n}");
+        }
+
+        final ILexer expectedLexer = new FSMLexer(new StringReader(source.toString()));
+        final FSMLexer fsmLexer = new FSMLexer(new StringReader(source.toString()));
+        final TokenBuffer buffer = new TokenBuffer(100);
+
+        while (fsmLexer.readTokens(buffer) > 0) {
+            for (int i = 0; i < buffer.size(); i++) {
+                final IToken expected = expectedLexer.readToken();
+                Assert.assertEquals(expected.getKind(), buffer.getKind(i));
+                Assert.assertEquals(expected.getLexeme(), buffer.getLexeme(i));
+            }
+        }
+
+        Assert.assertFalse(expectedLexer.hasMoreTokens());
+        Assert.assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void shouldReturnTokensCorrectlyAfterReset() throws LexerException {
+        final FSMLexer fsmLexer = new FSMLexer(new StringReader("first"));
+
+        IToken token = fsmLexer.readToken();
+        Assert.assertEquals("first", token.getLexeme());
+        Assert.assertFalse(fsmLexer.hasMoreTokens());
+
+        fsmLexer.reset(new StringReader("second;"));
+        Assert.assertTrue(fsmLexer.hasMoreTokens());
+
+        token = fsmLexer.readToken();
+        Assert.assertEquals("second", token.getLexeme());
+        Assert.assertEquals("OTHER", token.getName());
+
+        token = fsmLexer.readToken();
+        Assert.assertEquals(";", token.getLexeme());
+        Assert.assertEquals("SEMICOLON", token.getName());
+        Assert.assertFalse(fsmLexer.hasMoreTokens());
+    }
+
+    @Test
+    public void shouldReturnOffsetOfNextTokenCorrectly() throws LexerException {
+        final StringBuilder source = new StringBuilder();
+
+        for (int i = 0; i < 3000; i++) {
+            source.append("int a;\n/\"b\";\n");
+        }
+
+        final FSMLexer fsmLexer = new FSMLexer(new StringReader(source.toString(), 2, source.length()));
+        Assert.assertEquals(0, fsmLexer.getOffset());
+
+        Assert.assertEquals("t", fsmLexer.readToken().getLexeme());
+        Assert.assertEquals(1, fsmLexer.getOffset());
+
+        fsmLexer.readToken();
+        fsmLexer.readToken();
+        fsmLexer.readToken();
+        fsmLexer.readToken();
+        Assert.assertEquals("/\"", fsmLexer.readToken().getLexeme());
+        Assert.assertEquals(6, fsmLexer.getOffset());
+
+        while (fsmLexer.hasMoreTokens()) {
+            fsmLexer.readToken();
+        }
+
+        Assert.assertEquals(source.length() - 2, fsmLexer.getOffset());
+    }
+
     @Test(expected = LexerException.class)
     public void shouldThrowException() throws ReaderException, LexerException {
         reader = mock(StringReader.class);
@@ -1,6 +1,5 @@
 package it.sevenbits.formatter.lexer.fsm.command.factory;
 
-import it.sevenbits.formatter.lexer.fsm.command.args.CommandArgs;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -9,7 +8,7 @@ public class CommandFactoryTest {
 
     @Before
     public void setUp() {
-        commandFactory = new CommandFactory(new CommandArgs());
+        commandFactory = new CommandFactory();
     }
 
     @Test(expected = CommandFactoryException.class)
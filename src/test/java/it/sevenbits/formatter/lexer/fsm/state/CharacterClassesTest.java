@@ -0,0 +1,41 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CharacterClassesTest {
+    @Test
+    public void shouldReturnSpecialCharacterClassesCorrectly() {
+        Assert.assertEquals(CharacterClasses.OPENING_CURLY_BRACE, CharacterClasses.of('{'));
+        Assert.assertEquals(CharacterClasses.NEWLINE, CharacterClasses.of('\n'));
+        Assert.assertEquals(CharacterClasses.ASTERISK, CharacterClasses.of('*'));
+    }
+
+    @Test
+    public void shouldReturnOtherLineTerminatorClassCorrectly() {
+        Assert.assertEquals(CharacterClasses.OTHER_LINE_TERMINATOR, CharacterClasses.of('\r'));
+        Assert.assertEquals(CharacterClasses.OTHER_LINE_TERMINATOR, CharacterClasses.of('\u0085'));
+        Assert.assertEquals(CharacterClasses.OTHER_LINE_TERMINATOR, CharacterClasses.of('\u2028'));
+        Assert.assertEquals(CharacterClasses.OTHER_LINE_TERMINATOR, CharacterClasses.of('\u2029'));
+    }
+
+    @Test
+    public void shouldReturnOtherClassForOrdinaryCharacters() {
+        Assert.assertEquals(CharacterClasses.OTHER, CharacterClasses.of('a'));
+        Assert.assertEquals(CharacterClasses.OTHER, CharacterClasses.of('\u00e9'));
+        Assert.assertEquals(CharacterClasses.OTHER, CharacterClasses.of('\uffff'));
+    }
+
+    @Test
+    public void shouldReturnByteClassesCorrectly() {
+        Assert.assertEquals(CharacterClasses.OPENING_CURLY_BRACE, CharacterClasses.ofByte('{'));
+        Assert.assertEquals(CharacterClasses.OTHER_LINE_TERMINATOR, CharacterClasses.ofByte('\r'));
+        Assert.assertEquals(CharacterClasses.NEXT_LINE_LEAD_BYTE, CharacterClasses.ofByte('\u00c2'));
+        Assert.assertEquals(CharacterClasses.NEXT_LINE_TRAIL_BYTE, CharacterClasses.ofByte('\u0085'));
+        Assert.assertEquals(CharacterClasses.SEPARATOR_LEAD_BYTE, CharacterClasses.ofByte('\u00e2'));
+        Assert.assertEquals(CharacterClasses.SEPARATOR_SECOND_BYTE, CharacterClasses.ofByte('\u0080'));
+        Assert.assertEquals(CharacterClasses.SEPARATOR_TRAIL_BYTE, CharacterClasses.ofByte('\u00a8'));
+        Assert.assertEquals(CharacterClasses.SEPARATOR_TRAIL_BYTE, CharacterClasses.ofByte('\u00a9'));
+        Assert.assertEquals(CharacterClasses.OTHER, CharacterClasses.ofByte('\u00c3'));
+    }
+}
@@ -9,4 +9,14 @@ public class StateTest {
         final State state = new State("STATE_NAME");
         Assert.assertEquals("STATE_NAME", state.toString());
     }
+
+    @Test
+    public void shouldCompareTableStatesByIdentifier() {
+        Assert.assertNotEquals(States.START, new State("START"));
+        Assert.assertNotEquals(new State("START"), States.START);
+        Assert.assertEquals(States.START, new State(States.START.getId(), "START"));
+        Assert.assertEquals(States.START.hashCode(), new State(States.START.getId(), "START").hashCode());
+        Assert.assertEquals(new State("STATE_NAME"), new State("STATE_NAME"));
+        Assert.assertNotEquals(new State("STATE_NAME"), new State("ANOTHER_NAME"));
+    }
 }
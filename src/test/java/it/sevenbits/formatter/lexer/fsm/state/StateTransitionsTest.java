@@ -0,0 +1,59 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class StateTransitionsTest {
+    private static final State[] ABSORBING_STATES = {
+            States.OTHER,
+            States.SINGLE_LINE_COMMENT,
+            States.MULTILINE_COMMENT,
+            States.STRING_LITERAL,
+            States.CHARACTER_LITERAL
+    };
+    private static final char[] ALPHABET = {
+            'a', 'Z', '0', ' ', '\t', '\n', '\r', '"', '\'', '/', '*', ';', '{', '}', '\\',
+            '\u00e9', '\u0085', '\u2028', '\u2029', '\uffff'
+    };
+
+    @Test
+    public void shouldSkipSameCharactersWithAndWithoutVectorScanning() {
+        final IStateTransitions scalarTransitions = new StateTransitions(CharacterClasses::of, false);
+        final IStateTransitions vectorTransitions = new StateTransitions(CharacterClasses::of, true);
+        final Random random = new Random(22);
+        for (int i = 0; i < 500; i++) {
+            final char[] characters = new char[random.nextInt(300)];
+            final int runLength = random.nextInt(200) + 1;
+            for (int j = 0; j < characters.length; j++) {
+                characters[j] = random.nextInt(runLength) == 0 ? ALPHABET[random.nextInt(ALPHABET.length)] : 'x';
+            }
+            final int from = characters.length == 0 ? 0 : random.nextInt(characters.length);
+            final int to = from + random.nextInt(characters.length - from + 1);
+            for (State state : ABSORBING_STATES) {
+                Assert.assertEquals(
+                        scalarTransitions.skipAbsorbed(state, characters, from, to),
+                        vectorTransitions.skipAbsorbed(state, characters, from, to)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void shouldStopAtNonAsciiLineTerminatorInSingleLineComment() {
+        final IStateTransitions stateTransitions = new StateTransitions(CharacterClasses::of, true);
+        final char[] characters = "// comment that is long enough to be scanned by vectors\u2028next".toCharArray();
+        Assert.assertEquals(
+                characters.length - "\u2028next".length(),
+                stateTransitions.skipAbsorbed(States.SINGLE_LINE_COMMENT, characters, 0, characters.length)
+        );
+    }
+
+    @Test
+    public void shouldNotSkipCharactersInNonAbsorbingState() {
+        final IStateTransitions stateTransitions = new StateTransitions(CharacterClasses::of, true);
+        final char[] characters = "abc".toCharArray();
+        Assert.assertEquals(0, stateTransitions.skipAbsorbed(States.START, characters, 0, characters.length));
+    }
+}
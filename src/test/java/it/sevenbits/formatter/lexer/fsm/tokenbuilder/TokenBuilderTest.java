@@ -0,0 +1,50 @@
+package it.sevenbits.formatter.lexer.fsm.tokenbuilder;
+
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TokenBuilderTest {
+    @Test
+    public void shouldKeepContiguousCharactersInSourceArray() {
+        final char[] source = "{ other;".toCharArray();
+        final TokenBuilder tokenBuilder = new TokenBuilder();
+        tokenBuilder.setSource(source, 2);
+        tokenBuilder.appendToLexeme('o');
+        tokenBuilder.appendToLexeme(source, 3, 4);
+        tokenBuilder.setKind(TokenKind.OTHER);
+
+        final IToken tokenView = tokenBuilder.getTokenView();
+        Assert.assertEquals(TokenKind.OTHER, tokenView.getKind());
+        Assert.assertEquals("other", tokenView.getLexemeView().toString());
+
+        source[2] = 'O';
+        Assert.assertEquals("Other", tokenView.getLexeme());
+
+        final IToken token = tokenBuilder.getToken();
+        source[2] = 'o';
+        Assert.assertEquals("Other", token.getLexeme());
+    }
+
+    @Test
+    public void shouldCopyCharactersWhenSourceIsReleased() {
+        final char[] source = "/* a".toCharArray();
+        final TokenBuilder tokenBuilder = new TokenBuilder();
+        tokenBuilder.setSource(source, 0);
+        tokenBuilder.appendToLexeme(source, 0, source.length);
+        tokenBuilder.releaseSource();
+
+        source[0] = 'x';
+        tokenBuilder.setSource(source, 0);
+        tokenBuilder.appendToLexeme('x');
+        tokenBuilder.appendToLexeme('!');
+
+        Assert.assertEquals("/* ax!", tokenBuilder.getLexemeView().toString());
+        Assert.assertEquals("/* ax!", tokenBuilder.getLexeme());
+
+        tokenBuilder.reset();
+        Assert.assertEquals("", tokenBuilder.getLexeme());
+        Assert.assertNull(tokenBuilder.getToken().getKind());
+    }
+}
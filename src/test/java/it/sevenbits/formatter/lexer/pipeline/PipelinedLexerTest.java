@@ -0,0 +1,124 @@
+package it.sevenbits.formatter.lexer.pipeline;
+
+import it.sevenbits.formatter.corpus.CorpusProfile;
+import it.sevenbits.formatter.corpus.SourceGenerator;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.lexer.ILexer;
+import it.sevenbits.formatter.lexer.LexerException;
+import it.sevenbits.formatter.lexer.fsm.FSMLexer;
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.Token;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PipelinedLexerTest {
+    @Test
+    public void shouldReturnSameTokensAsWrappedLexer() throws LexerException {
+        final String source = new SourceGenerator(3, CorpusProfile.BALANCED.getTokenMix()).generate(1 << 16);
+        final ILexer expectedLexer = new FSMLexer(new StringReader(source));
+
+        try (ILexer lexer = new PipelinedLexer(new FSMLexer(new StringReader(source)), 4)) {
+            while (expectedLexer.hasMoreTokens()) {
+                Assert.assertTrue(lexer.hasMoreTokens());
+
+                final IToken expected = expectedLexer.readToken();
+                final IToken actual = lexer.readToken();
+                Assert.assertEquals(expected.getKind(), actual.getKind());
+                Assert.assertEquals(expected.getLexeme(), actual.getLexeme());
+            }
+
+            Assert.assertFalse(lexer.hasMoreTokens());
+        }
+    }
+
+    @Test
+    public void shouldPassTokensInSeveralBatches() throws LexerException {
+        final String source = new SourceGenerator(5, CorpusProfile.BALANCED.getTokenMix()).generate(1 << 14);
+        final ILexer expectedLexer = new FSMLexer(new StringReader(source));
+
+        try (PipelinedLexer lexer = new PipelinedLexer(new FSMLexer(new StringReader(source)), 1, 7)) {
+            while (expectedLexer.hasMoreTokens()) {
+                Assert.assertTrue(lexer.advance());
+
+                final IToken expected = expectedLexer.readToken();
+                Assert.assertEquals(expected.getKind(), lexer.getKind());
+                Assert.assertEquals(expected.getLexeme(), lexer.getLexemeView().toString());
+            }
+
+            Assert.assertFalse(lexer.advance());
+            Assert.assertNull(lexer.getKind());
+        }
+    }
+
+    @Test
+    public void shouldReturnNoTokensForEmptyInput() throws LexerException {
+        try (ILexer lexer = new PipelinedLexer(new FSMLexer(new StringReader("")), 4)) {
+            Assert.assertFalse(lexer.hasMoreTokens());
+        }
+    }
+
+    @Test
+    public void shouldRethrowExceptionAfterReadTokens() throws LexerException {
+        final ILexer failingLexer = new ILexer() {
+            private int count;
+
+            @Override
+            public boolean hasMoreTokens() {
+                return true;
+            }
+
+            @Override
+            public IToken readToken() throws LexerException {
+                if (count == 2) {
+                    throw new LexerException("test");
+                }
+
+                count++;
+                return new Token(TokenKind.OTHER, "a");
+            }
+        };
+
+        try (ILexer lexer = new PipelinedLexer(failingLexer, 4)) {
+            Assert.assertEquals("a", lexer.readToken().getLexeme());
+            Assert.assertEquals("a", lexer.readToken().getLexeme());
+            Assert.assertTrue(lexer.hasMoreTokens());
+
+            try {
+                lexer.readToken();
+                Assert.fail();
+            } catch (LexerException e) {
+                Assert.assertEquals("test", e.getMessage());
+            }
+
+            Assert.assertFalse(lexer.hasMoreTokens());
+        }
+    }
+
+    @Test
+    public void shouldStopProducerAtClose() throws LexerException {
+        final ILexer endlessLexer = new ILexer() {
+            @Override
+            public boolean hasMoreTokens() {
+                return true;
+            }
+
+            @Override
+            public IToken readToken() {
+                return new Token(TokenKind.OTHER, "a");
+            }
+        };
+        final ILexer lexer = new PipelinedLexer(endlessLexer, 2);
+
+        Assert.assertEquals("a", lexer.readToken().getLexeme());
+        lexer.close();
+        int count = 0;
+
+        while (lexer.hasMoreTokens() && count < 100) {
+            lexer.readToken();
+            count++;
+        }
+
+        Assert.assertTrue(count < 100);
+    }
+}
@@ -0,0 +1,68 @@
+package it.sevenbits.formatter.lexer.pipeline;
+
+import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.Token;
+import it.sevenbits.formatter.lexer.token.TokenKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TokenRingBufferTest {
+    @Test
+    public void shouldKeepOrderAndRejectWhenFull() {
+        final TokenRingBuffer<IToken> ringBuffer = new TokenRingBuffer<>(4);
+
+        for (int i = 0; i < 3; i++) {
+            final IToken first = new Token(TokenKind.OTHER, "a" + i);
+            final IToken second = new Token(TokenKind.OTHER, "b" + i);
+            Assert.assertTrue(ringBuffer.offer(first));
+            Assert.assertTrue(ringBuffer.offer(second));
+            Assert.assertSame(first, ringBuffer.poll());
+            Assert.assertSame(second, ringBuffer.poll());
+            Assert.assertNull(ringBuffer.poll());
+        }
+
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(ringBuffer.offer(new Token(TokenKind.OTHER, "c")));
+        }
+
+        Assert.assertFalse(ringBuffer.offer(new Token(TokenKind.OTHER, "d")));
+        Assert.assertNotNull(ringBuffer.poll());
+        Assert.assertTrue(ringBuffer.offer(new Token(TokenKind.OTHER, "d")));
+        Assert.assertEquals(4, ringBuffer.getCapacity());
+    }
+
+    @Test
+    public void shouldPassAllTokensBetweenThreads() throws InterruptedException {
+        final int count = 100000;
+        final TokenRingBuffer<IToken> ringBuffer = new TokenRingBuffer<>(8);
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                final IToken token = new Token(TokenKind.OTHER, Integer.toString(i));
+
+                while (!ringBuffer.offer(token)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        for (int i = 0; i < count; i++) {
+            IToken token = ringBuffer.poll();
+
+            while (token == null) {
+                Thread.yield();
+                token = ringBuffer.poll();
+            }
+
+            Assert.assertEquals(Integer.toString(i), token.getLexeme());
+        }
+
+        producer.join();
+        Assert.assertNull(ringBuffer.poll());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionAtCapacityThatIsNotPowerOfTwo() {
+        new TokenRingBuffer<IToken>(3);
+    }
+}
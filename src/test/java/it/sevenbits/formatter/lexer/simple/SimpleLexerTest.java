@@ -7,6 +7,7 @@ import it.sevenbits.formatter.lexer.ILexer;
 import it.sevenbits.formatter.lexer.LexerException;
 import it.sevenbits.formatter.lexer.SimpleLexer;
 import it.sevenbits.formatter.lexer.token.IToken;
+import it.sevenbits.formatter.lexer.token.TokenKind;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -82,6 +83,29 @@ public class SimpleLexerTest {
         Assert.assertFalse(lexer.hasMoreTokens());
     }
 
+    @Test
+    public void shouldAdvanceCursorCorrectly() throws LexerException {
+        final SimpleLexer simpleLexer = new SimpleLexer(new StringReader("class{ }"));
+
+        Assert.assertTrue(simpleLexer.advance());
+        Assert.assertEquals(TokenKind.OTHER, simpleLexer.getKind());
+        Assert.assertEquals("class", simpleLexer.getLexemeView().toString());
+
+        Assert.assertTrue(simpleLexer.advance());
+        Assert.assertEquals(TokenKind.OPENING_CURLY_BRACE, simpleLexer.getKind());
+        Assert.assertEquals("{", simpleLexer.getLexemeView().toString());
+
+        Assert.assertTrue(simpleLexer.advance());
+        Assert.assertEquals(TokenKind.WHITESPACE, simpleLexer.getKind());
+
+        Assert.assertTrue(simpleLexer.advance());
+        Assert.assertEquals(TokenKind.CLOSING_CURLY_BRACE, simpleLexer.getKind());
+        Assert.assertEquals("}", simpleLexer.getLexemeView().toString());
+
+        Assert.assertFalse(simpleLexer.advance());
+        Assert.assertFalse(simpleLexer.hasMoreTokens());
+    }
+
     @Test(expected = LexerException.class)
     public void shouldThrowException() throws ReaderException, LexerException {
         reader = mock(StringReader.class);
@@ -0,0 +1,63 @@
+package it.sevenbits.formatter.lexer.token;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+
+public class TokenBufferTest {
+    @Test
+    public void shouldStoreTokensCorrectly() {
+        final TokenBuffer buffer = new TokenBuffer(4);
+        final char[] source = "x{other".toCharArray();
+
+        buffer.add(TokenKind.OPENING_CURLY_BRACE, CharBuffer.wrap(source, 1, 1));
+        buffer.add(TokenKind.OTHER, CharBuffer.wrap(source, 2, 5));
+        buffer.add(TokenKind.SEMICOLON, ";");
+        buffer.add(TokenKind.STRING_LITERAL, new StringBuilder("\"sl\""));
+
+        Assert.assertTrue(buffer.isFull());
+        Assert.assertEquals(4, buffer.size());
+        Assert.assertEquals(TokenKind.OPENING_CURLY_BRACE, buffer.getKind(0));
+        Assert.assertEquals("{", buffer.getLexeme(0));
+        Assert.assertEquals(TokenKind.OTHER, buffer.getKind(1));
+        Assert.assertEquals("other", buffer.getLexemeView(1).toString());
+        Assert.assertEquals(TokenKind.SEMICOLON, buffer.getKind(2));
+        Assert.assertEquals(";", buffer.getLexeme(2));
+        Assert.assertEquals(TokenKind.STRING_LITERAL, buffer.getKind(3));
+        Assert.assertEquals("\"sl\"", buffer.getLexemeView(3).toString());
+        Assert.assertEquals(7, buffer.getStart(3));
+        Assert.assertEquals(4, buffer.getLength(3));
+        Assert.assertEquals("{other;\"sl\"", new String(buffer.getChars(), 0, 11));
+
+        buffer.clear();
+        Assert.assertEquals(0, buffer.size());
+        Assert.assertFalse(buffer.isFull());
+        Assert.assertEquals(4, buffer.getCapacity());
+    }
+
+    @Test
+    public void shouldGrowSharedArrayForLongLexemes() {
+        final TokenBuffer buffer = new TokenBuffer(2);
+        final StringBuilder comment = new StringBuilder("/*");
+
+        for (int i = 0; i < 1000; i++) {
+            comment.append((char) ('a' + i % 26));
+        }
+
+        comment.append("*/");
+        buffer.add(TokenKind.OTHER, "other");
+        buffer.add(TokenKind.MULTILINE_COMMENT, comment);
+
+        Assert.assertEquals("other", buffer.getLexemeView(0).toString());
+        Assert.assertEquals(comment.toString(), buffer.getLexemeView(1).toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowExceptionWhenFull() {
+        final TokenBuffer buffer = new TokenBuffer(1);
+
+        buffer.add(TokenKind.OTHER, "a");
+        buffer.add(TokenKind.OTHER, "b");
+    }
+}
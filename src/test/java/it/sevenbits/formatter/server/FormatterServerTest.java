@@ -0,0 +1,118 @@
+package it.sevenbits.formatter.server;
+
+import it.sevenbits.formatter.formatter.FormatterException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static it.sevenbits.formatter.fixture.FormattingFixtures.SOURCE;
+import static it.sevenbits.formatter.fixture.FormattingFixtures.format;
+
+public class FormatterServerTest {
+    private IFormatterServer server;
+
+    @Before
+    public void setUp() throws FormatterServerException {
+        server = new FormatterServer(0, 1 << 20);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    private HttpURLConnection open(final String path, final String method) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(
+                "http://localhost:" + server.getPort() + path
+        ).openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private HttpURLConnection post(final byte[] body) throws IOException {
+        final HttpURLConnection connection = open("/format", "POST");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(body.length);
+
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(body);
+        }
+
+        return connection;
+    }
+
+    private static String read(final InputStream inputStream) throws IOException {
+        try (InputStream closedStream = inputStream) {
+            return new String(closedStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void shouldFormatRequestBody() throws IOException, FormatterException {
+        final HttpURLConnection connection = post(SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(200, connection.getResponseCode());
+        Assert.assertEquals(format(SOURCE), read(connection.getInputStream()));
+        Assert.assertEquals(1, server.getMetrics().getFormattedRequestCount());
+        Assert.assertEquals(SOURCE.length(), server.getMetrics().getFormattedByteCount());
+    }
+
+    @Test
+    public void shouldStreamLargeResponse() throws IOException, FormatterException {
+        final StringBuilder source = new StringBuilder();
+
+        for (int i = 0; i < 5000; i++) {
+            source.append("class A").append(i).append("{void a(){String x = \"\u00e9\";}}");
+        }
+
+        final HttpURLConnection connection = post(source.toString().getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(200, connection.getResponseCode());
+
+        final byte[] responseBytes;
+
+        try (InputStream inputStream = connection.getInputStream()) {
+            responseBytes = inputStream.readAllBytes();
+        }
+
+        final String response = new String(responseBytes, StandardCharsets.UTF_8);
+        Assert.assertArrayEquals(format(source.toString()).getBytes(StandardCharsets.UTF_8), responseBytes);
+        Assert.assertTrue(response.contains("String x = \"\u00e9\";"));
+        Assert.assertEquals(5000, responseBytes.length - response.length());
+    }
+
+    @Test
+    public void shouldRejectTooLargeRequest() throws IOException {
+        final HttpURLConnection connection = post(new byte[(1 << 20) + 1]);
+
+        Assert.assertEquals(413, connection.getResponseCode());
+    }
+
+    @Test
+    public void shouldRejectWrongMethods() throws IOException {
+        Assert.assertEquals(405, open("/format", "GET").getResponseCode());
+        Assert.assertEquals(405, open("/metrics", "DELETE").getResponseCode());
+    }
+
+    @Test
+    public void shouldReportMetrics() throws IOException {
+        Assert.assertEquals(200, post(SOURCE.getBytes(StandardCharsets.UTF_8)).getResponseCode());
+
+        final HttpURLConnection connection = open("/metrics", "GET");
+
+        Assert.assertEquals(200, connection.getResponseCode());
+
+        final String metrics = read(connection.getInputStream());
+        Assert.assertTrue(metrics.contains("formatted_requests 1\n"));
+        Assert.assertTrue(metrics.contains("latency_p99_us "));
+    }
+}
@@ -0,0 +1,37 @@
+package it.sevenbits.formatter.server;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class ServerMetricsTest {
+    @Test
+    public void shouldCountRequests() {
+        final ServerMetrics metrics = new ServerMetrics();
+        metrics.recordRequest(TimeUnit.MICROSECONDS.toNanos(10), 100, true);
+        metrics.recordRequest(TimeUnit.MICROSECONDS.toNanos(20), 50, false);
+        metrics.recordRejection();
+
+        Assert.assertEquals(1, metrics.getFormattedRequestCount());
+        Assert.assertEquals(1, metrics.getFailedRequestCount());
+        Assert.assertEquals(1, metrics.getRejectedRequestCount());
+        Assert.assertEquals(100, metrics.getFormattedByteCount());
+        Assert.assertEquals(20, metrics.getMaxLatencyMicros());
+    }
+
+    @Test
+    public void shouldReportPercentilesWithinTwoTimes() {
+        final ServerMetrics metrics = new ServerMetrics();
+        Assert.assertEquals(0, metrics.getLatencyPercentileMicros(50));
+
+        for (int i = 1; i <= 1000; i++) {
+            metrics.recordRequest(TimeUnit.MICROSECONDS.toNanos(i), 1, true);
+        }
+
+        final long median = metrics.getLatencyPercentileMicros(50);
+        Assert.assertTrue(median >= 500 && median <= 1000);
+        Assert.assertEquals(1000, metrics.getLatencyPercentileMicros(100));
+        Assert.assertTrue(metrics.getLatencyPercentileMicros(0) <= 2);
+    }
+}
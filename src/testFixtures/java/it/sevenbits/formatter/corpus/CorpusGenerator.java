@@ -0,0 +1,132 @@
+package it.sevenbits.formatter.corpus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point that writes generated corpus to disk.
+ * <p>
+ * Usage: "OUTPUT_DIR [--seed N] [--files N] [--length N] [--profile NAME]...". For every selected
+ * {@link CorpusProfile} (all profiles by default) a subdirectory named after the profile is created,
+ * and passed count of files of passed length is generated in it. Seed of every file is derived from
+ * passed seed, profile and file index, so the same arguments always give the same corpus.
+ */
+public final class CorpusGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CorpusGenerator.class);
+    private static final String SEED_OPTION = "--seed";
+    private static final String FILES_OPTION = "--files";
+    private static final String LENGTH_OPTION = "--length";
+    private static final String PROFILE_OPTION = "--profile";
+    private static final long DEFAULT_SEED = 1;
+    private static final int DEFAULT_FILE_COUNT = 10;
+    private static final int DEFAULT_LENGTH = 1 << 16;
+    private static final long SEED_MULTIPLIER = 31;
+    private static final String FILE_NAME_FORMAT = "Generated%04d.java";
+
+    /**
+     * A private constructor created to exclude the possibility of creating instances of this class.
+     */
+    private CorpusGenerator() {
+    }
+
+    /**
+     * Main entry point of corpus generator.
+     *
+     * @param args Command-line arguments.
+     */
+    public static void main(final String[] args) {
+        if (args.length == 0 || args.length % 2 == 0) {
+            LOGGER.error(
+                    "Incorrect command-line args (expected: " +
+                            "OUTPUT_DIR [--seed N] [--files N] [--length N] [--profile NAME]...)"
+            );
+            return;
+        }
+
+        final Path outputDirectory = Paths.get(args[0]);
+        final List<CorpusProfile> profiles = new ArrayList<>();
+        long seed = DEFAULT_SEED;
+        int fileCount = DEFAULT_FILE_COUNT;
+        int length = DEFAULT_LENGTH;
+
+        try {
+            for (int i = 1; i < args.length; i += 2) {
+                final String value = args[i + 1];
+
+                switch (args[i]) {
+                    case SEED_OPTION:
+                        seed = Long.parseLong(value);
+                        break;
+                    case FILES_OPTION:
+                        fileCount = Integer.parseInt(value);
+                        break;
+                    case LENGTH_OPTION:
+                        length = Integer.parseInt(value);
+                        break;
+                    case PROFILE_OPTION:
+                        profiles.add(CorpusProfile.valueOf(value.toUpperCase(Locale.ROOT)));
+                        break;
+                    default:
+                        LOGGER.error("Unknown option " + args[i]);
+                        return;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+            return;
+        }
+
+        if (profiles.isEmpty()) {
+            for (final CorpusProfile profile : CorpusProfile.values()) {
+                profiles.add(profile);
+            }
+        }
+
+        try {
+            for (final CorpusProfile profile : profiles) {
+                writeProfile(outputDirectory, profile, seed, fileCount, length);
+            }
+        } catch (IOException e) {
+            LOGGER.error(String.format("%s - %s", e.getClass().getSimpleName(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Private static method that writes generated files of passed {@link CorpusProfile} value.
+     *
+     * @param outputDirectory {@link Path} instance that presents root of corpus.
+     * @param profile         {@link CorpusProfile} value.
+     * @param seed            Seed of corpus.
+     * @param fileCount       Count of files to be generated.
+     * @param length          Minimal length of every file in characters.
+     * @throws IOException Exception that can be thrown during the method work.
+     */
+    private static void writeProfile(
+            final Path outputDirectory,
+            final CorpusProfile profile,
+            final long seed,
+            final int fileCount,
+            final int length
+    ) throws IOException {
+        final Path profileDirectory = outputDirectory.resolve(profile.name().toLowerCase(Locale.ROOT));
+        Files.createDirectories(profileDirectory);
+
+        for (int i = 0; i < fileCount; i++) {
+            final long fileSeed = (seed * SEED_MULTIPLIER + profile.ordinal()) * SEED_MULTIPLIER + i;
+            final String source = new SourceGenerator(fileSeed, profile.getTokenMix()).generate(length);
+
+            Files.write(profileDirectory.resolve(String.format(FILE_NAME_FORMAT, i)), source.getBytes(StandardCharsets.UTF_8));
+        }
+
+        LOGGER.info(String.format("%d files of profile %s are written to %s", fileCount, profile, profileDirectory));
+    }
+}
@@ -0,0 +1,99 @@
+package it.sevenbits.formatter.corpus;
+
+/**
+ * Enumeration of predefined token mixes, each of which stresses specific path of lexers and formatters.
+ */
+public enum CorpusProfile {
+    /**
+     * Ordinary code with all kinds of elements.
+     */
+    BALANCED(
+            TokenMix.builder()
+                    .setWeight(SourceElement.STATEMENT, 40)
+                    .setWeight(SourceElement.OPENING_BLOCK, 10)
+                    .setWeight(SourceElement.CLOSING_BLOCK, 10)
+                    .setWeight(SourceElement.SINGLE_LINE_COMMENT, 8)
+                    .setWeight(SourceElement.MULTILINE_COMMENT, 5)
+                    .setWeight(SourceElement.STRING_LITERAL, 8)
+                    .setWeight(SourceElement.CHARACTER_LITERAL, 4)
+                    .setMaxWhitespaceRunLength(2)
+                    .setNonAsciiPercent(2)
+                    .build()
+    ),
+
+    /**
+     * Deeply nested blocks that stress indentation.
+     */
+    DEEP_NESTING(
+            TokenMix.builder()
+                    .setWeight(SourceElement.STATEMENT, 20)
+                    .setWeight(SourceElement.OPENING_BLOCK, 40)
+                    .setWeight(SourceElement.CLOSING_BLOCK, 5)
+                    .setMaxNestingDepth(256)
+                    .setMaxWhitespaceRunLength(2)
+                    .build()
+    ),
+
+    /**
+     * Very long multiline comments and string literals that stress building of long lexemes.
+     */
+    LONG_COMMENTS_AND_LITERALS(
+            TokenMix.builder()
+                    .setWeight(SourceElement.STATEMENT, 20)
+                    .setWeight(SourceElement.SINGLE_LINE_COMMENT, 10)
+                    .setWeight(SourceElement.MULTILINE_COMMENT, 30)
+                    .setWeight(SourceElement.STRING_LITERAL, 30)
+                    .setMaxCommentLength(1 << 16)
+                    .setMaxLiteralLength(1 << 14)
+                    .setNonAsciiPercent(5)
+                    .build()
+    ),
+
+    /**
+     * Code with long whitespace runs that stresses single character tokens.
+     */
+    WHITESPACE_HEAVY(
+            TokenMix.builder()
+                    .setWeight(SourceElement.STATEMENT, 40)
+                    .setWeight(SourceElement.OPENING_BLOCK, 10)
+                    .setWeight(SourceElement.CLOSING_BLOCK, 10)
+                    .setWeight(SourceElement.CHARACTER_LITERAL, 5)
+                    .setMaxWhitespaceRunLength(24)
+                    .build()
+    ),
+
+    /**
+     * Minified code on a single line without optional whitespaces.
+     */
+    MINIFIED(
+            TokenMix.builder()
+                    .setWeight(SourceElement.STATEMENT, 40)
+                    .setWeight(SourceElement.OPENING_BLOCK, 10)
+                    .setWeight(SourceElement.CLOSING_BLOCK, 10)
+                    .setWeight(SourceElement.MULTILINE_COMMENT, 2)
+                    .setWeight(SourceElement.STRING_LITERAL, 8)
+                    .setWeight(SourceElement.CHARACTER_LITERAL, 4)
+                    .setMinified(true)
+                    .build()
+    );
+
+    private final TokenMix tokenMix;
+
+    /**
+     * Enumeration constructor that initializes {@link #tokenMix} with passed {@link TokenMix} instance.
+     *
+     * @param tokenMix {@link TokenMix} instance of profile.
+     */
+    CorpusProfile(final TokenMix tokenMix) {
+        this.tokenMix = tokenMix;
+    }
+
+    /**
+     * Method that returns {@link TokenMix} instance of profile.
+     *
+     * @return {@link TokenMix} instance of profile.
+     */
+    public TokenMix getTokenMix() {
+        return tokenMix;
+    }
+}
@@ -0,0 +1,41 @@
+package it.sevenbits.formatter.corpus;
+
+/**
+ * Enumeration of elements that {@link SourceGenerator} composes generated sources of.
+ */
+public enum SourceElement {
+    /**
+     * Statement that consists of identifiers and operators and ends with semicolon.
+     */
+    STATEMENT,
+
+    /**
+     * Block header followed by opening curly brace (nesting level is increased).
+     */
+    OPENING_BLOCK,
+
+    /**
+     * Closing curly brace (nesting level is decreased).
+     */
+    CLOSING_BLOCK,
+
+    /**
+     * Single line comment followed by newline.
+     */
+    SINGLE_LINE_COMMENT,
+
+    /**
+     * Multiline comment.
+     */
+    MULTILINE_COMMENT,
+
+    /**
+     * String literal.
+     */
+    STRING_LITERAL,
+
+    /**
+     * Character literal.
+     */
+    CHARACTER_LITERAL
+}
@@ -0,0 +1,252 @@
+package it.sevenbits.formatter.corpus;
+
+import java.util.Random;
+
+/**
+ * Class that generates synthetic Java-like sources of configurable length and {@link TokenMix}.
+ * <p>
+ * Generated source is fully determined by seed, token mix and length. Sources are lexically valid for lexers
+ * of this project: literals contain no quotes, backslashes and line terminators, multiline comments contain
+ * no comment terminator, and all opened blocks are closed at the end.
+ * <p>
+ * Instances are immutable, so single instance can be shared between threads.
+ */
+public class SourceGenerator {
+    private static final String[] IDENTIFIERS = {
+            "value", "count", "offset", "items", "name", "result", "index", "builder", "total", "size"
+    };
+    private static final String[] OPERATORS = {"=", "+", "*", "-", "<", "&&", "+=", "=="};
+    private static final String[] BLOCK_HEADERS = {
+            "if (count > 0)", "while (index < size)", "class Generated", "void run()", "try", "static",
+            "for (int i = 0; i < count; i++)", "else", "switch (value)", "do"
+    };
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "{", "}", ";", "*", "/", "value", "'", "return", "tab\tbed"
+    };
+    private static final String[] STRING_WORDS = {"lorem", "ipsum", "{", "}", ";", "//", "/*", "*/", "'", "x"};
+    private static final String[] NON_ASCII_WORDS = {
+            "\u00e9t\u00e9", "\u00fcber", "\u0416\u0443\u043a", "\u4e2d\u6587", "\u20ac", "\ud83d\ude00"
+    };
+    private static final String CHARACTERS = "abcxyz0{};/* \t";
+    private static final String WHITESPACES = " \t\n";
+    private static final int MAX_STATEMENT_OPERAND_COUNT = 5;
+
+    private final long seed;
+    private final TokenMix tokenMix;
+
+    /**
+     * Class constructor that initializes {@link #seed} and {@link #tokenMix} with passed values.
+     *
+     * @param seed     Seed of random generator.
+     * @param tokenMix {@link TokenMix} instance that describes generated sources.
+     */
+    public SourceGenerator(final long seed, final TokenMix tokenMix) {
+        this.seed = seed;
+        this.tokenMix = tokenMix;
+    }
+
+    /**
+     * Method that generates source of at least passed length.
+     * <p>
+     * Generation stops at the first element boundary after passed length is reached,
+     * and then all opened blocks are closed.
+     *
+     * @param length Minimal length of generated source in characters.
+     * @return Generated source.
+     */
+    public String generate(final int length) {
+        final Random random = new Random(seed);
+        final StringBuilder stringBuilder = new StringBuilder(length + length / 2);
+        int depth = 0;
+
+        while (stringBuilder.length() < length) {
+            switch (tokenMix.pick(random)) {
+                case OPENING_BLOCK:
+                    if (depth < tokenMix.getMaxNestingDepth()) {
+                        appendBlockHeader(stringBuilder, random);
+                        depth++;
+                    } else {
+                        appendStatement(stringBuilder, random);
+                    }
+
+                    break;
+                case CLOSING_BLOCK:
+                    if (depth > 0) {
+                        stringBuilder.append('}');
+                        depth--;
+                    } else {
+                        appendStatement(stringBuilder, random);
+                    }
+
+                    break;
+                case SINGLE_LINE_COMMENT:
+                    appendSingleLineComment(stringBuilder, random);
+                    break;
+                case MULTILINE_COMMENT:
+                    appendMultilineComment(stringBuilder, random);
+                    break;
+                case STRING_LITERAL:
+                    appendStringLiteral(stringBuilder, random);
+                    break;
+                case CHARACTER_LITERAL:
+                    appendCharacterLiteral(stringBuilder, random);
+                    break;
+                default:
+                    appendStatement(stringBuilder, random);
+                    break;
+            }
+
+            appendSeparator(stringBuilder, random);
+        }
+
+        for (; depth > 0; depth--) {
+            stringBuilder.append('}');
+            appendSeparator(stringBuilder, random);
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Private method that appends whitespace run between elements (nothing if sources are minified).
+     *
+     * @param stringBuilder {@link StringBuilder} instance to append to.
+     * @param random        {@link Random} instance that provides randomness.
+     */
+    private void appendSeparator(final StringBuilder stringBuilder, final Random random) {
+        if (tokenMix.isMinified()) {
+            return;
+        }
+
+        final int runLength = 1 + random.nextInt(tokenMix.getMaxWhitespaceRunLength());
+
+        for (int i = 0; i < runLength; i++) {
+            stringBuilder.append(WHITESPACES.charAt(random.nextInt(WHITESPACES.length())));
+        }
+    }
+
+    /**
+     * Private method that appends statement.
+     *
+     * @param stringBuilder {@link StringBuilder} instance to append to.
+     * @param random        {@link Random} instance that provides randomness.
+     */
+    private void appendStatement(final StringBuilder stringBuilder, final Random random) {
+        final String space = tokenMix.isMinified() ? "" : " ";
+        final int operandCount = 1 + random.nextInt(MAX_STATEMENT_OPERAND_COUNT);
+
+        stringBuilder.append(pick(IDENTIFIERS, random));
+
+        for (int i = 1; i < operandCount; i++) {
+            stringBuilder.append(space).append(pick(OPERATORS, random)).append(space).append(pick(IDENTIFIERS, random));
+        }
+
+        stringBuilder.append(';');
+    }
+
+    /**
+     * Private method that appends block header with opening curly brace.
+     *
+     * @param stringBuilder {@link StringBuilder} instance to append to.
+     * @param random        {@link Random} instance that provides randomness.
+     */
+    private void appendBlockHeader(final StringBuilder stringBuilder, final Random random) {
+        stringBuilder.append(pick(BLOCK_HEADERS, random));
+
+        if (!tokenMix.isMinified()) {
+            stringBuilder.append(' ');
+        }
+
+        stringBuilder.append('{');
+    }
+
+    /**
+     * Private method that appends single line comment followed by newline
+     * (or multiline comment if sources are minified).
+     *
+     * @param stringBuilder {@link StringBuilder} instance to append to.
+     * @param random        {@link Random} instance that provides randomness.
+     */
+    private void appendSingleLineComment(final StringBuilder stringBuilder, final Random random) {
+        if (tokenMix.isMinified()) {
+            appendMultilineComment(stringBuilder, random);
+            return;
+        }
+
+        stringBuilder.append("//");
+        appendText(stringBuilder, random, WORDS, tokenMix.getMaxCommentLength(), false);
+        stringBuilder.append('\n');
+    }
+
+    /**
+     * Private method that appends multiline comment.
+     *
+     * @param stringBuilder {@link StringBuilder} instance to append to.
+     * @param random        {@link Random} instance that provides randomness.
+     */
+    private void appendMultilineComment(final StringBuilder stringBuilder, final Random random) {
+        stringBuilder.append("/*");
+        appendText(stringBuilder, random, WORDS, tokenMix.getMaxCommentLength(), !tokenMix.isMinified());
+        stringBuilder.append(" */");
+    }
+
+    /**
+     * Private method that appends string literal.
+     *
+     * @param stringBuilder {@link StringBuilder} instance to append to.
+     * @param random        {@link Random} instance that provides randomness.
+     */
+    private void appendStringLiteral(final StringBuilder stringBuilder, final Random random) {
+        stringBuilder.append('"');
+        appendText(stringBuilder, random, STRING_WORDS, tokenMix.getMaxLiteralLength(), false);
+        stringBuilder.append('"');
+    }
+
+    /**
+     * Private method that appends character literal.
+     *
+     * @param stringBuilder {@link StringBuilder} instance to append to.
+     * @param random        {@link Random} instance that provides randomness.
+     */
+    private void appendCharacterLiteral(final StringBuilder stringBuilder, final Random random) {
+        stringBuilder.append('\'').append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length()))).append('\'');
+    }
+
+    /**
+     * Private method that appends random text that consists of words separated by spaces (or newlines).
+     * <p>
+     * Every word starts with space, so words never merge into comment terminator.
+     *
+     * @param stringBuilder  {@link StringBuilder} instance to append to.
+     * @param random         {@link Random} instance that provides randomness.
+     * @param words          Array of ASCII words to choose from.
+     * @param maxLength      Maximal length of text in characters.
+     * @param allowsNewlines Boolean value that indicates whether words can be separated by newlines.
+     */
+    private void appendText(
+            final StringBuilder stringBuilder,
+            final Random random,
+            final String[] words,
+            final int maxLength,
+            final boolean allowsNewlines
+    ) {
+        final int textLength = 1 + random.nextInt(maxLength);
+        final int textEnd = stringBuilder.length() + textLength;
+
+        while (stringBuilder.length() < textEnd) {
+            stringBuilder.append(allowsNewlines && random.nextInt(WORDS.length) == 0 ? '\n' : ' ');
+            stringBuilder.append(tokenMix.pickNonAscii(random) ? pick(NON_ASCII_WORDS, random) : pick(words, random));
+        }
+    }
+
+    /**
+     * Private static method that picks random element of passed array.
+     *
+     * @param values Array to pick element from.
+     * @param random {@link Random} instance that provides randomness.
+     * @return Picked element.
+     */
+    private static String pick(final String[] values, final Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
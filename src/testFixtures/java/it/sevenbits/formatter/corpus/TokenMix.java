@@ -0,0 +1,250 @@
+package it.sevenbits.formatter.corpus;
+
+import java.util.Random;
+
+/**
+ * Immutable description of token mix of generated sources: relative weights of {@link SourceElement} values,
+ * limits of nesting depth and of lengths of comments, literals and whitespace runs.
+ * <p>
+ * Instances are created using {@link Builder} class.
+ */
+public final class TokenMix {
+    private static final int PERCENT = 100;
+
+    private final int[] weights;
+    private final int totalWeight;
+    private final int maxNestingDepth;
+    private final int maxCommentLength;
+    private final int maxLiteralLength;
+    private final int maxWhitespaceRunLength;
+    private final int nonAsciiPercent;
+    private final boolean minified;
+
+    /**
+     * Class constructor that copies all values from passed {@link Builder} instance.
+     *
+     * @param builder {@link Builder} instance that holds values of token mix.
+     */
+    private TokenMix(final Builder builder) {
+        weights = builder.weights.clone();
+        maxNestingDepth = builder.maxNestingDepth;
+        maxCommentLength = builder.maxCommentLength;
+        maxLiteralLength = builder.maxLiteralLength;
+        maxWhitespaceRunLength = builder.maxWhitespaceRunLength;
+        nonAsciiPercent = builder.nonAsciiPercent;
+        minified = builder.minified;
+
+        int sum = 0;
+
+        for (final int weight : weights) {
+            sum += weight;
+        }
+
+        totalWeight = sum;
+    }
+
+    /**
+     * Static method that creates new {@link Builder} instance with all weights set to zero.
+     *
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Method that picks random {@link SourceElement} value in accordance with weights.
+     *
+     * @param random {@link Random} instance that provides randomness.
+     * @return Picked {@link SourceElement} value.
+     */
+    public SourceElement pick(final Random random) {
+        int value = random.nextInt(totalWeight);
+        final SourceElement[] elements = SourceElement.values();
+
+        for (int i = 0; i < elements.length; i++) {
+            value -= weights[i];
+
+            if (value < 0) {
+                return elements[i];
+            }
+        }
+
+        return SourceElement.STATEMENT;
+    }
+
+    /**
+     * Method that reports whether non-ASCII word must be used, in accordance with percent of non-ASCII words.
+     *
+     * @param random {@link Random} instance that provides randomness.
+     * @return Boolean value that indicates whether non-ASCII word must be used.
+     */
+    public boolean pickNonAscii(final Random random) {
+        return random.nextInt(PERCENT) < nonAsciiPercent;
+    }
+
+    /**
+     * Method that returns maximal nesting depth of curly braces.
+     *
+     * @return Maximal nesting depth of curly braces.
+     */
+    public int getMaxNestingDepth() {
+        return maxNestingDepth;
+    }
+
+    /**
+     * Method that returns maximal length of comment text in characters.
+     *
+     * @return Maximal length of comment text in characters.
+     */
+    public int getMaxCommentLength() {
+        return maxCommentLength;
+    }
+
+    /**
+     * Method that returns maximal length of string literal text in characters.
+     *
+     * @return Maximal length of string literal text in characters.
+     */
+    public int getMaxLiteralLength() {
+        return maxLiteralLength;
+    }
+
+    /**
+     * Method that returns maximal length of whitespace run between elements.
+     *
+     * @return Maximal length of whitespace run between elements.
+     */
+    public int getMaxWhitespaceRunLength() {
+        return maxWhitespaceRunLength;
+    }
+
+    /**
+     * Method that reports whether sources are minified (no newlines and no optional whitespaces).
+     *
+     * @return Boolean value that indicates whether sources are minified.
+     */
+    public boolean isMinified() {
+        return minified;
+    }
+
+    /**
+     * Builder of {@link TokenMix} instances.
+     */
+    public static final class Builder {
+        private static final int DEFAULT_MAX_NESTING_DEPTH = 8;
+        private static final int DEFAULT_MAX_COMMENT_LENGTH = 80;
+        private static final int DEFAULT_MAX_LITERAL_LENGTH = 30;
+
+        private final int[] weights = new int[SourceElement.values().length];
+        private int maxNestingDepth = DEFAULT_MAX_NESTING_DEPTH;
+        private int maxCommentLength = DEFAULT_MAX_COMMENT_LENGTH;
+        private int maxLiteralLength = DEFAULT_MAX_LITERAL_LENGTH;
+        private int maxWhitespaceRunLength = 1;
+        private int nonAsciiPercent;
+        private boolean minified;
+
+        /**
+         * Class constructor that is hidden in favor of {@link TokenMix#builder()} method.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Method that sets relative weight of passed {@link SourceElement} value.
+         *
+         * @param element {@link SourceElement} value.
+         * @param weight  Non-negative relative weight.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setWeight(final SourceElement element, final int weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative");
+            }
+
+            weights[element.ordinal()] = weight;
+            return this;
+        }
+
+        /**
+         * Method that sets maximal nesting depth of curly braces.
+         *
+         * @param depth Maximal nesting depth of curly braces.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setMaxNestingDepth(final int depth) {
+            maxNestingDepth = depth;
+            return this;
+        }
+
+        /**
+         * Method that sets maximal length of comment text in characters.
+         *
+         * @param length Maximal length of comment text (at least 1).
+         * @return This {@link Builder} instance.
+         */
+        public Builder setMaxCommentLength(final int length) {
+            maxCommentLength = Math.max(length, 1);
+            return this;
+        }
+
+        /**
+         * Method that sets maximal length of string literal text in characters.
+         *
+         * @param length Maximal length of string literal text (at least 1).
+         * @return This {@link Builder} instance.
+         */
+        public Builder setMaxLiteralLength(final int length) {
+            maxLiteralLength = Math.max(length, 1);
+            return this;
+        }
+
+        /**
+         * Method that sets maximal length of whitespace run between elements.
+         *
+         * @param length Maximal length of whitespace run (at least 1).
+         * @return This {@link Builder} instance.
+         */
+        public Builder setMaxWhitespaceRunLength(final int length) {
+            maxWhitespaceRunLength = Math.max(length, 1);
+            return this;
+        }
+
+        /**
+         * Method that sets percent of non-ASCII words in comments and literals.
+         *
+         * @param percent Percent of non-ASCII words (from 0 to 100).
+         * @return This {@link Builder} instance.
+         */
+        public Builder setNonAsciiPercent(final int percent) {
+            nonAsciiPercent = percent;
+            return this;
+        }
+
+        /**
+         * Method that sets whether sources are minified (no newlines and no optional whitespaces).
+         *
+         * @param isMinified Boolean value that indicates whether sources are minified.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setMinified(final boolean isMinified) {
+            minified = isMinified;
+            return this;
+        }
+
+        /**
+         * Method that creates {@link TokenMix} instance with values of this {@link Builder} instance.
+         *
+         * @return New {@link TokenMix} instance.
+         */
+        public TokenMix build() {
+            for (final int weight : weights) {
+                if (weight > 0) {
+                    return new TokenMix(this);
+                }
+            }
+
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+    }
+}
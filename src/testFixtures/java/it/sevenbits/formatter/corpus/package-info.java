@@ -0,0 +1,10 @@
+/**
+ * This package contains seeded generator of synthetic Java-like sources that is shared by tests and benchmarks,
+ * as well as command-line entry point that writes generated corpus to disk.
+ * <p>
+ * Generated sources are fully determined by seed, {@link it.sevenbits.formatter.corpus.TokenMix} and length,
+ * so results of benchmarks and scaling tests are comparable across machines and runs.
+ *
+ * @author hu553in
+ */
+package it.sevenbits.formatter.corpus;
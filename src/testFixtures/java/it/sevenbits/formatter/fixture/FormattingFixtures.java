@@ -0,0 +1,32 @@
+package it.sevenbits.formatter.fixture;
+
+import it.sevenbits.formatter.formatter.FormatterException;
+import it.sevenbits.formatter.formatter.fsm.FSMFormatter;
+import it.sevenbits.formatter.io.reader.StringReader;
+import it.sevenbits.formatter.io.writer.StringWriter;
+
+/**
+ * Utility class that provides small unformatted source and reference formatting of sources in memory.
+ */
+public final class FormattingFixtures {
+    /**
+     * Small unformatted source that contains blocks and statements.
+     */
+    public static final String SOURCE = "class A{void a(){int x;}}";
+
+    private FormattingFixtures() {
+    }
+
+    /**
+     * Static method that formats passed source in memory by {@link FSMFormatter}.
+     *
+     * @param source {@link String} instance that presents source to format.
+     * @return {@link String} instance that presents formatted source.
+     * @throws FormatterException Exception that can be thrown during the method work.
+     */
+    public static String format(final String source) throws FormatterException {
+        final StringWriter writer = new StringWriter();
+        new FSMFormatter().format(new StringReader(source), writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * This package contains sources and helper methods that are shared by tests of different entry points
+ * (batch formatter, formatter server and formatter daemon), so all of them check the same expected output.
+ *
+ * @author hu553in
+ */
+package it.sevenbits.formatter.fixture;
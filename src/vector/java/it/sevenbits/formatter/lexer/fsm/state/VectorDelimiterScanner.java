@@ -0,0 +1,99 @@
+package it.sevenbits.formatter.lexer.fsm.state;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link IDelimiterScanner} interface implementation that compares many characters at once
+ * using Vector API (SIMD instructions).
+ * <p>
+ * Characters are loaded to vectors of the preferred size of the platform (e.g. 16 characters with AVX2
+ * and 32 characters with AVX-512) and each vector is compared with every delimiter. Short runs are common
+ * (e.g. identifiers), so characters of the first vector are checked one by one, and vectors are used
+ * only for longer runs (e.g. comments and literals). This class is loaded by {@link DelimiterScanners}.
+ */
+final class VectorDelimiterScanner implements IDelimiterScanner {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int ASCII_SIZE = 128;
+    private static final short NON_ASCII_BITS = (short) 0xFF80;
+
+    private final short[] delimiters;
+    private final boolean nonAsciiDelimiters;
+    private final boolean[] asciiDelimiters;
+
+    /**
+     * Class constructor that initializes all private fields using passed values.
+     *
+     * @param delimiters         Array of ASCII delimiters.
+     * @param nonAsciiDelimiters Boolean value that indicates whether all non-ASCII characters are delimiters too.
+     */
+    VectorDelimiterScanner(final char[] delimiters, final boolean nonAsciiDelimiters) {
+        this.delimiters = new short[delimiters.length];
+        this.nonAsciiDelimiters = nonAsciiDelimiters;
+        this.asciiDelimiters = new boolean[ASCII_SIZE];
+
+        for (int i = 0; i < delimiters.length; i++) {
+            this.delimiters[i] = (short) delimiters[i];
+            asciiDelimiters[delimiters[i]] = true;
+        }
+    }
+
+    /**
+     * Method that returns index of the first delimiter in passed part of an array of characters.
+     *
+     * @param characters Array of characters to be scanned.
+     * @param from       Index of the first character to be scanned (inclusive).
+     * @param to         Index of the last character to be scanned (exclusive).
+     * @return Index of the first delimiter (or passed end index if there are no delimiters).
+     */
+    @Override
+    public int indexOfDelimiter(final char[] characters, final int from, final int to) {
+        final int headEnd = Math.min(to, from + SPECIES.length());
+        int index = indexOfDelimiterOneByOne(characters, from, headEnd);
+
+        if (index < headEnd) {
+            return index;
+        }
+
+        final int vectorEnd = index + SPECIES.loopBound(to - index);
+
+        for (; index < vectorEnd; index += SPECIES.length()) {
+            final ShortVector vector = ShortVector.fromCharArray(SPECIES, characters, index);
+            VectorMask<Short> mask = nonAsciiDelimiters
+                    ? vector.lanewise(VectorOperators.AND, NON_ASCII_BITS).compare(VectorOperators.NE, (short) 0)
+                    : vector.compare(VectorOperators.EQ, delimiters[0]);
+
+            for (int i = nonAsciiDelimiters ? 0 : 1; i < delimiters.length; i++) {
+                mask = mask.or(vector.compare(VectorOperators.EQ, delimiters[i]));
+            }
+
+            if (mask.anyTrue()) {
+                return index + mask.firstTrue();
+            }
+        }
+
+        return indexOfDelimiterOneByOne(characters, index, to);
+    }
+
+    /**
+     * Private method that returns index of the first delimiter checking characters one by one.
+     *
+     * @param characters Array of characters to be scanned.
+     * @param from       Index of the first character to be scanned (inclusive).
+     * @param to         Index of the last character to be scanned (exclusive).
+     * @return Index of the first delimiter (or passed end index if there are no delimiters).
+     */
+    private int indexOfDelimiterOneByOne(final char[] characters, final int from, final int to) {
+        for (int index = from; index < to; index++) {
+            final char character = characters[index];
+
+            if (character < ASCII_SIZE ? asciiDelimiters[character] : nonAsciiDelimiters) {
+                return index;
+            }
+        }
+
+        return to;
+    }
+}